@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.api.model.subscription;
+
+/**
+ * Entity for representing a change of the subscription data recorded in the change log. The sequence of changes
+ * increases monotonically, so that gateways can load the changes since the last change they applied.
+ */
+public class SubscriptionDataChange {
+
+    private long sequence;
+    private String eventType;
+    private long timeStamp;
+    private String event;
+
+    public long getSequence() {
+
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+
+        this.sequence = sequence;
+    }
+
+    public String getEventType() {
+
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+
+        this.eventType = eventType;
+    }
+
+    public long getTimeStamp() {
+
+        return timeStamp;
+    }
+
+    public void setTimeStamp(long timeStamp) {
+
+        this.timeStamp = timeStamp;
+    }
+
+    public String getEvent() {
+
+        return event;
+    }
+
+    public void setEvent(String event) {
+
+        this.event = event;
+    }
+}
@@ -24,6 +24,8 @@ import graphql.GraphQLError;
 import graphql.analysis.FieldComplexityCalculator;
 import graphql.analysis.MaxQueryComplexityInstrumentation;
 import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,6 +54,19 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload) {
 
+        return analyseQueryDepth(maxQueryDepth, payload, null);
+    }
+
+    /**
+     * This method analyses the query depth of a payload which is already parsed.
+     *
+     * @param maxQueryDepth maximum query depth
+     * @param payload       payload of the request
+     * @param document      parsed and validated payload, or null if the payload has to be parsed
+     * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, String payload, Document document) {
+
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query depth for " + payload + " and max query depth:" + maxQueryDepth);
         }
@@ -61,7 +76,7 @@ public class QueryAnalyzer {
         if (maxQueryDepth > 0) {
             MaxQueryDepthInstrumentation maxQueryDepthInstrumentation =
                     new MaxQueryDepthInstrumentation(maxQueryDepth);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryDepthInstrumentation).build();
+            GraphQL runtime = newGraphQL(document).instrumentation(maxQueryDepthInstrumentation).build();
 
             ExecutionResult executionResult = runtime.execute(payload);
             List<GraphQLError> errors = executionResult.getErrors();
@@ -99,6 +114,21 @@ public class QueryAnalyzer {
     public QueryAnalyzerResponseDTO analyseQueryComplexity(int maxQueryComplexity, String payload,
                                                            FieldComplexityCalculator fieldComplexityCalculator) {
 
+        return analyseQueryComplexity(maxQueryComplexity, payload, null, fieldComplexityCalculator);
+    }
+
+    /**
+     * This method analyses the query complexity of a payload which is already parsed.
+     *
+     * @param maxQueryComplexity        Maximum query complexity value
+     * @param payload                   payload of the request
+     * @param document                  parsed and validated payload, or null if the payload has to be parsed
+     * @param fieldComplexityCalculator Field Complexity Calculator
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryComplexity(int maxQueryComplexity, String payload, Document document,
+                                                           FieldComplexityCalculator fieldComplexityCalculator) {
+
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
         }
@@ -109,7 +139,7 @@ public class QueryAnalyzer {
         if (maxQueryComplexity > 0) {
             MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation =
                     new MaxQueryComplexityInstrumentation(maxQueryComplexity, fieldComplexityCalculator);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryComplexityInstrumentation).build();
+            GraphQL runtime = newGraphQL(document).instrumentation(maxQueryComplexityInstrumentation).build();
 
             ExecutionResult executionResult = runtime.execute(payload);
             List<GraphQLError> errors = executionResult.getErrors();
@@ -147,9 +177,40 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, int maxQueryComplexity,
                                                                    String complexityInfoJson) throws ParseException {
+        return analyseQueryMutationComplexity(payload, null, maxQueryComplexity, complexityInfoJson);
+    }
+
+    /**
+     * This method analyses the query complexity of a payload which is already parsed.
+     *
+     * @param payload            payload of the request
+     * @param document           parsed and validated payload, or null if the payload has to be parsed
+     * @param complexityInfoJson gql complexity info in json string format
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, Document document,
+                                                                   int maxQueryComplexity, String complexityInfoJson)
+            throws ParseException {
         FieldComplexityCalculatorImpl fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
         fieldComplexityCalculator.parseAccessControlPolicy(complexityInfoJson);
-        return analyseQueryComplexity(maxQueryComplexity, payload, fieldComplexityCalculator);
+        return analyseQueryComplexity(maxQueryComplexity, payload, document, fieldComplexityCalculator);
+    }
+
+    /**
+     * Creates a GraphQL runtime builder for the schema. If the payload is already parsed, the runtime uses the given
+     * document instead of parsing and validating the payload again.
+     *
+     * @param document parsed and validated payload, or null
+     * @return GraphQL runtime builder
+     */
+    private GraphQL.Builder newGraphQL(Document document) {
+
+        GraphQL.Builder builder = GraphQL.newGraphQL(schema);
+        if (document != null) {
+            PreparsedDocumentEntry documentEntry = new PreparsedDocumentEntry(document);
+            builder.preparsedDocumentProvider((executionInput, parseAndValidateFunction) -> documentEntry);
+        }
+        return builder;
     }
 
     public GraphQLSchema getSchema() {
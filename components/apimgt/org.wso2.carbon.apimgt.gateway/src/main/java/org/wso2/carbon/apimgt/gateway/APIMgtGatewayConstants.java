@@ -220,6 +220,10 @@ public class APIMgtGatewayConstants {
     public static final String MCP_WELL_KNOWN_RESOURCE = "/.well-known/oauth-protected-resource";
     public static final String MCP_AUTH_CLAIM = "MCP_AUTHENTICATED";
     public static final Long MCP_AUTH_TOKEN_EXPIRATION_TIME = 6000L;
+    /**
+     * AI API related Constants
+     */
+    public static final String AI_API_STREAMED_USAGE = "AI_API_STREAMED_USAGE";
     /**
      * JWT Claim related Constants
      */
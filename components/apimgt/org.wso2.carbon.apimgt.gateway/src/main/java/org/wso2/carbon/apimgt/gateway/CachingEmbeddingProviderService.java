@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.EmbeddingProviderService;
+import org.wso2.carbon.apimgt.api.dto.EmbeddingProviderConfigurationDTO;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+/**
+ * Embedding provider service keeping the embeddings of recent prompts in the gateway, so that a repeated prompt is
+ * not sent to the embedding provider again. Prompts are matched after trimming them and collapsing their whitespace.
+ */
+public class CachingEmbeddingProviderService implements EmbeddingProviderService {
+
+    private static final Log log = LogFactory.getLog(CachingEmbeddingProviderService.class);
+    private static final String METRIC_NAME = "SemanticCache";
+
+    private final EmbeddingProviderService delegate;
+    private LRUCache<String, double[]> embeddings;
+
+    public CachingEmbeddingProviderService(EmbeddingProviderService delegate) {
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void init(EmbeddingProviderConfigurationDTO providerConfig) throws APIManagementException {
+
+        delegate.init(providerConfig);
+        int cacheSize;
+        try {
+            cacheSize = Integer.parseInt(providerConfig.getProperties().getOrDefault(
+                    APIConstants.AI.EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE,
+                    APIConstants.AI.EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid local embedding cache size, falling back to the default");
+            cacheSize = Integer.parseInt(APIConstants.AI.EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT);
+        }
+        embeddings = cacheSize > 0 ? new LRUCache<>(cacheSize) : null;
+    }
+
+    @Override
+    public String getType() {
+
+        return delegate.getType();
+    }
+
+    @Override
+    public int getEmbeddingDimension() throws APIManagementException {
+
+        return delegate.getEmbeddingDimension();
+    }
+
+    @Override
+    public double[] getEmbedding(String input) throws APIManagementException {
+
+        if (embeddings == null || input == null) {
+            return delegate.getEmbedding(input);
+        }
+        String prompt = normalize(input);
+        double[] embedding = embeddings.get(prompt);
+        if (embedding != null) {
+            MetricManager.meter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME,
+                    "embeddingHits")).mark();
+        } else {
+            embedding = delegate.getEmbedding(input);
+            embeddings.put(prompt, embedding);
+        }
+        return embedding.clone();
+    }
+
+    static String normalize(String prompt) {
+
+        StringBuilder normalized = new StringBuilder(prompt.length());
+        boolean whitespace = false;
+        for (int i = 0; i < prompt.length(); i++) {
+            char c = prompt.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = normalized.length() > 0;
+            } else {
+                if (whitespace) {
+                    normalized.append(' ');
+                    whitespace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import com.google.gson.Gson;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.VectorDBProviderService;
+import org.wso2.carbon.apimgt.api.dto.VectorDBProviderConfigurationDTO;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector database provider service keeping the recent embeddings of each API in the gateway, in front of the remote
+ * vector database. A lookup is first answered from the response cached for the same embedding, then from the response
+ * cached for the nearest embedding within the similarity threshold, and only then from the vector database. Since the
+ * embeddings of repeated prompts are cached by {@link CachingEmbeddingProviderService}, an exact repeat of a prompt
+ * is answered without a remote call.
+ * <p>
+ * Responses are kept as the JSON they are stored as in the vector database, for at most the time to live of the
+ * vector database, and up to the configured number of embeddings per API, replacing the least recently used
+ * embedding once an API has that many. The embeddings of an API are dropped as it is undeployed.
+ */
+public class CachingVectorDBProviderService implements VectorDBProviderService {
+
+    private static final Log log = LogFactory.getLog(CachingVectorDBProviderService.class);
+    private static final String METRIC_NAME = "SemanticCache";
+
+    private final VectorDBProviderService delegate;
+    private final Map<String, LocalVectorIndex> indexes = new ConcurrentHashMap<>();
+    private final Gson gson = new Gson();
+    private int capacity;
+    private long timeToLive;
+
+    public CachingVectorDBProviderService(VectorDBProviderService delegate) {
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void init(VectorDBProviderConfigurationDTO providerConfig) throws APIManagementException {
+
+        delegate.init(providerConfig);
+        Map<String, String> properties = providerConfig.getProperties();
+        try {
+            capacity = Integer.parseInt(properties.getOrDefault(APIConstants.AI.VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE,
+                    APIConstants.AI.VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT));
+            timeToLive = TimeUnit.SECONDS.toMillis(Long.parseLong(properties.getOrDefault(
+                    APIConstants.AI.VECTOR_DB_PROVIDER_TTL, APIConstants.AI.VECTOR_DB_PROVIDER_TTL_DEFAULT)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid local semantic cache configuration, falling back to defaults");
+            capacity = Integer.parseInt(APIConstants.AI.VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT);
+            timeToLive = TimeUnit.SECONDS.toMillis(Long.parseLong(APIConstants.AI.VECTOR_DB_PROVIDER_TTL_DEFAULT));
+        }
+    }
+
+    @Override
+    public String getType() {
+
+        return delegate.getType();
+    }
+
+    @Override
+    public void createIndex(Map<String, String> config) throws APIManagementException {
+
+        delegate.createIndex(config);
+    }
+
+    @Override
+    public <T extends Serializable> void store(double[] embeddings, T response, Map<String, String> filter)
+            throws APIManagementException {
+
+        delegate.store(embeddings, response, filter);
+        if (capacity > 0) {
+            String apiId = filter.get(APIConstants.AI.VECTOR_DB_PROVIDER_API_ID);
+            indexes.computeIfAbsent(apiId, id -> new LocalVectorIndex(capacity)).add(embeddings,
+                    LocalVectorIndex.hash(embeddings), gson.toJson(response), System.currentTimeMillis() + timeToLive);
+        }
+    }
+
+    @Override
+    public <T extends Serializable> T retrieve(double[] embeddings, Map<String, String> filter)
+            throws APIManagementException {
+
+        if (capacity <= 0 || embeddings == null || filter == null) {
+            return delegate.retrieve(embeddings, filter);
+        }
+        String apiId = filter.get(APIConstants.AI.VECTOR_DB_PROVIDER_API_ID);
+        String threshold = filter.get(APIConstants.AI.VECTOR_DB_PROVIDER_THRESHOLD);
+        if (apiId == null || threshold == null) {
+            return delegate.retrieve(embeddings, filter);
+        }
+        mark("lookups");
+        long now = System.currentTimeMillis();
+        long hash = LocalVectorIndex.hash(embeddings);
+        LocalVectorIndex index = indexes.get(apiId);
+        if (index != null) {
+            String response = index.findExact(embeddings, hash, now);
+            if (response != null) {
+                mark("exactHits");
+                return (T) response;
+            }
+            try {
+                response = index.findNearest(embeddings, Double.parseDouble(threshold), now);
+            } catch (NumberFormatException e) {
+                return delegate.retrieve(embeddings, filter);
+            }
+            if (response != null) {
+                mark("similarHits");
+                if (log.isDebugEnabled()) {
+                    log.debug("Answered semantic cache lookup of API " + apiId + " from the local index");
+                }
+                return (T) response;
+            }
+        }
+        T response = delegate.retrieve(embeddings, filter);
+        if (response instanceof String) {
+            mark("remoteHits");
+            indexes.computeIfAbsent(apiId, id -> new LocalVectorIndex(capacity)).add(embeddings, hash,
+                    (String) response, now + timeToLive);
+        }
+        return response;
+    }
+
+    /**
+     * Drops the embeddings kept for an API as it is undeployed.
+     *
+     * @param apiId UUID of the API
+     */
+    public void apiUndeployed(String apiId) {
+
+        if (apiId != null) {
+            indexes.remove(apiId);
+        }
+    }
+
+    private static void mark(String name) {
+
+        MetricManager.meter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name)).mark();
+    }
+}
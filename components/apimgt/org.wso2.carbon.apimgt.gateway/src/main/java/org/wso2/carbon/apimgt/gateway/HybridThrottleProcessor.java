@@ -24,6 +24,7 @@ import org.apache.synapse.commons.throttle.core.*;
 import org.apache.synapse.commons.throttle.core.internal.DistributedThrottleProcessor;
 import org.apache.synapse.commons.throttle.core.internal.ThrottleServiceDataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.util.StripedLock;
 import org.wso2.carbon.apimgt.gateway.throttling.util.ThrottleUtils;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
@@ -32,6 +33,8 @@ import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPubSub;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -54,18 +57,56 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
     private ThrottleDataHolder dataHolder;
     private String gatewayId;
     private static final String SYNC_MODE_MSG_PART_DELIMITER = "___";
+    private static final int CALLER_CONTEXT_LOCK_STRIPES = 1024;
+    private final StripedLock callerContextLocks = new StripedLock(CALLER_CONTEXT_LOCK_STRIPES);
+    private HybridThrottleSyncBatcher syncBatcher;
+    private final ScheduledExecutorService syncModeInitChannelSubscriptionExecutor;
+    private final ScheduledExecutorService channelSubscriptionCounterExecutor;
+    /**
+     * Adds the local unpublished request counts of a batch of caller contexts to their distributed counters, and
+     * returns the shared timestamp and the distributed counter of each. KEYS holds the shared timestamp key and the
+     * distributed counter key of each caller context, and ARGV its local first access time, next time window and local
+     * request count. If the shared time window of a caller context has not started or is over, a new one is started at
+     * its local first access time, as {@link #syncThrottleWindowParams(CallerContext, boolean)} does. The script runs
+     * atomically, so the shared keys need not be locked.
+     */
+    private static final String BATCH_SYNC_SCRIPT = "local result = {}\n"
+            + "for i = 1, #KEYS / 2 do\n"
+            + "  local timestampKey, counterKey = KEYS[2 * i - 1], KEYS[2 * i]\n"
+            + "  local firstAccessTime, nextTimeWindow = tonumber(ARGV[3 * i - 2]), tonumber(ARGV[3 * i - 1])\n"
+            + "  local localCounter = tonumber(ARGV[3 * i])\n"
+            + "  local sharedTimestamp = tonumber(redis.call('GET', timestampKey) or '0')\n"
+            + "  local distributedCounter\n"
+            + "  if firstAccessTime >= sharedTimestamp + (nextTimeWindow - firstAccessTime) then\n"
+            + "    redis.call('SET', timestampKey, ARGV[3 * i - 2])\n"
+            + "    redis.call('PEXPIREAT', timestampKey, ARGV[3 * i - 1])\n"
+            + "    redis.call('SET', counterKey, ARGV[3 * i])\n"
+            + "    redis.call('PEXPIREAT', counterKey, ARGV[3 * i - 1])\n"
+            + "    sharedTimestamp, distributedCounter = firstAccessTime, localCounter\n"
+            + "  elseif localCounter > 0 then\n"
+            + "    distributedCounter = redis.call('INCRBY', counterKey, localCounter)\n"
+            + "  else\n"
+            + "    distributedCounter = tonumber(redis.call('GET', counterKey) or '0')\n"
+            + "  end\n"
+            + "  result[2 * i - 1], result[2 * i] = sharedTimestamp, distributedCounter\n"
+            + "end\n"
+            + "return result";
 
     public HybridThrottleProcessor() {
         redisPool = ServiceReferenceHolder.getInstance().getRedisPool();
         RedisConfig redisConfig = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
                 .getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig();
         gatewayId = redisConfig.getGatewayId();
+        if (redisConfig.getSyncBatchInterval() > 0) {
+            syncBatcher = new HybridThrottleSyncBatcher(
+                    this::forceSyncThrottleParams, redisConfig.getSyncBatchInterval());
+        }
 
-        ScheduledExecutorService syncModeInitChannelSubscriptionExecutor = Executors.newScheduledThreadPool(1);
+        syncModeInitChannelSubscriptionExecutor = Executors.newScheduledThreadPool(1);
         syncModeInitChannelSubscriptionExecutor.scheduleAtFixedRate(new SyncModeInitChannelSubscription(), 0, 1,
                 TimeUnit.MILLISECONDS);
 
-        ScheduledExecutorService channelSubscriptionCounterExecutor = Executors.newScheduledThreadPool(1);
+        channelSubscriptionCounterExecutor = Executors.newScheduledThreadPool(1);
         int gatewayCountCheckingFrequency = 10000;
         channelSubscriptionCounterExecutor.scheduleAtFixedRate(new ChannelSubscriptionCounterTask(), 15000,
                 gatewayCountCheckingFrequency, TimeUnit.MILLISECONDS);
@@ -127,52 +168,10 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                         log.trace("Caller " + callerContextId + " SWITCHED TO SYNC MODE by message received ! :");
                     }
                     // sync throttle params to redis to consider local unpublished request counts in distributed counters
-                    if (dataHolder != null) {
-                        if (log.isTraceEnabled()) {
-                            log.trace(
-                                    "DataHolder is not null so running syncing tasks." + " message:" + syncModeInitMsg);
-                        }
-
-                        CallerContext callerContext = dataHolder.getCallerContext(callerContextId);
-                        if (callerContext != null) {
-                            if (log.isTraceEnabled()) {
-                                log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
-                                        + " message:" + syncModeInitMsg);
-                            }
-                            synchronized (callerContext.getId().intern()) {
-                                if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
-                                    long syncingStartTime = System.currentTimeMillis();
-                                    syncThrottleWindowParams(callerContext, false);
-                                    syncThrottleCounterParams(callerContext, false,
-                                            new RequestContext(System.currentTimeMillis()));
-                                    SharedParamManager.releaseSharedKeys(callerContext.getId());
-                                    long timeNow = System.currentTimeMillis();
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Current time:" + timeNow
-                                                + "In force syncing process, Lock released in " + (timeNow
-                                                - syncingStartTime) + " ms for callerContext: "
-                                                + callerContext.getId());
-                                    }
-
-                                } else {
-                                    if (log.isTraceEnabled()) {
-                                        log.trace("Current time:" + System.currentTimeMillis()
-                                                + " Failed to acquire lock for callerContext: " + callerContext.getId()
-                                                + " message:" + syncModeInitMsg);
-                                    }
-                                }
-                            }
-                        } else {
-                            if (log.isTraceEnabled()) {
-                                log.trace("CallerContext is null so not running syncing tasks. message:"
-                                        + syncModeInitMsg);
-                            }
-                        }
+                    if (syncBatcher != null) {
+                        syncBatcher.markDirty(callerContextId);
                     } else {
-                        if (log.isTraceEnabled()) {
-                            log.trace(
-                                    "DataHolder is null so not running syncing tasks. message:" + syncModeInitMsg);
-                        }
+                        forceSyncThrottleParams(callerContextId, syncModeInitMsg);
                     }
                 }
             };
@@ -204,6 +203,143 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
         }
     }
 
+    /**
+     * Syncs the throttle window and counter params of the given caller context with the distributed counters, so that
+     * the local unpublished request counts are considered after another node switched the caller context to sync mode.
+     *
+     * @param callerContextId ID of the caller context to sync
+     * @param syncModeInitMsg sync mode message that triggered the sync, used for logging
+     */
+    private void forceSyncThrottleParams(String callerContextId, String syncModeInitMsg) {
+        if (dataHolder != null) {
+            if (log.isTraceEnabled()) {
+                log.trace(
+                        "DataHolder is not null so running syncing tasks." + " message:" + syncModeInitMsg);
+            }
+
+            CallerContext callerContext = dataHolder.getCallerContext(callerContextId);
+            if (callerContext != null) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
+                            + " message:" + syncModeInitMsg);
+                }
+                synchronized (callerContextLocks.getLock(callerContext.getId())) {
+                    if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
+                        long syncingStartTime = System.currentTimeMillis();
+                        syncThrottleWindowParams(callerContext, false);
+                        syncThrottleCounterParams(callerContext, false,
+                                new RequestContext(System.currentTimeMillis()));
+                        SharedParamManager.releaseSharedKeys(callerContext.getId());
+                        long timeNow = System.currentTimeMillis();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Current time:" + timeNow
+                                    + "In force syncing process, Lock released in " + (timeNow
+                                    - syncingStartTime) + " ms for callerContext: "
+                                    + callerContext.getId());
+                        }
+
+                    } else {
+                        if (log.isTraceEnabled()) {
+                            log.trace("Current time:" + System.currentTimeMillis()
+                                    + " Failed to acquire lock for callerContext: " + callerContext.getId()
+                                    + " message:" + syncModeInitMsg);
+                        }
+                    }
+                }
+            } else {
+                if (log.isTraceEnabled()) {
+                    log.trace("CallerContext is null so not running syncing tasks. message:"
+                            + syncModeInitMsg);
+                }
+            }
+        } else {
+            if (log.isTraceEnabled()) {
+                log.trace(
+                        "DataHolder is null so not running syncing tasks. message:" + syncModeInitMsg);
+            }
+        }
+    }
+
+    /**
+     * Syncs the throttle params of a batch of caller contexts with the distributed counters in a single Redis call.
+     * This has the same effect as {@link #forceSyncThrottleParams(String, String)} for each caller context.
+     *
+     * @param callerContextIds IDs of the caller contexts to sync
+     */
+    private void forceSyncThrottleParams(List<String> callerContextIds) {
+        if (dataHolder == null) {
+            if (log.isTraceEnabled()) {
+                log.trace("DataHolder is null so not running syncing tasks of " + callerContextIds.size()
+                        + " caller contexts");
+            }
+            return;
+        }
+        long syncingStartTime = System.currentTimeMillis();
+        List<CallerContext> callerContexts = new ArrayList<>(callerContextIds.size());
+        List<String> keys = new ArrayList<>(callerContextIds.size() * 2);
+        List<String> args = new ArrayList<>(callerContextIds.size() * 3);
+        for (String callerContextId : callerContextIds) {
+            CallerContext callerContext = dataHolder.getCallerContext(callerContextId);
+            if (callerContext == null) {
+                continue;
+            }
+            synchronized (callerContextLocks.getLock(callerContextId)) {
+                long localCounter = 0;
+                // as in syncThrottleCounterParams, the local count of a time window that is over is not added
+                if (callerContext.getNextTimeWindow() > syncingStartTime) {
+                    localCounter = callerContext.getLocalCounter();
+                    callerContext.resetLocalCounter();
+                }
+                callerContexts.add(callerContext);
+                keys.add(ThrottleConstants.THROTTLE_TIMESTAMP_KEY + callerContextId);
+                keys.add(ThrottleConstants.THROTTLE_SHARED_COUNTER_KEY + callerContextId);
+                args.add(String.valueOf(callerContext.getFirstAccessTime()));
+                args.add(String.valueOf(callerContext.getFirstAccessTime() + callerContext.getUnitTime()));
+                args.add(String.valueOf(localCounter));
+            }
+        }
+        if (callerContexts.isEmpty()) {
+            return;
+        }
+        List<?> result;
+        try (Jedis jedis = redisPool.getResource()) {
+            result = (List<?>) jedis.eval(BATCH_SYNC_SCRIPT, keys, args);
+        }
+        for (int i = 0; i < callerContexts.size(); i++) {
+            CallerContext callerContext = callerContexts.get(i);
+            long sharedTimestamp = (Long) result.get(2 * i);
+            long distributedCounter = (Long) result.get(2 * i + 1);
+            long sharedNextWindow = sharedTimestamp + callerContext.getUnitTime();
+            synchronized (callerContextLocks.getLock(callerContext.getId())) {
+                long localFirstAccessTime = callerContext.getFirstAccessTime();
+                if (localFirstAccessTime < sharedTimestamp) {
+                    callerContext.setFirstAccessTime(sharedTimestamp);
+                    callerContext.setNextTimeWindow(sharedNextWindow);
+                    callerContext.setLocalHits(0);
+                } else if (localFirstAccessTime > sharedTimestamp && localFirstAccessTime < sharedNextWindow) {
+                    callerContext.setFirstAccessTime(sharedTimestamp);
+                    callerContext.setNextTimeWindow(sharedNextWindow);
+                }
+                callerContext.setGlobalCounter(distributedCounter);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Latency for force syncing throttle params of " + callerContexts.size() + " caller contexts: "
+                    + (System.currentTimeMillis() - syncingStartTime) + " ms");
+        }
+    }
+
+    /**
+     * Stops the sync batcher and the Redis channel subscription tasks of this processor.
+     */
+    public void destroy() {
+        if (syncBatcher != null) {
+            syncBatcher.shutdown();
+        }
+        syncModeInitChannelSubscriptionExecutor.shutdownNow();
+        channelSubscriptionCounterExecutor.shutdownNow();
+    }
+
     /**
      * This task is used to count the number of gateways subscribed to the channel in Redis.
      */
@@ -283,7 +419,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("DataHolder is not null so running syncing tasks");
                 }
-                synchronized (callerContext.getId().intern()) {
+                synchronized (callerContextLocks.getLock(callerContext.getId())) {
                     if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                         long syncingStartTime = System.currentTimeMillis();
                         syncThrottleWindowParams(callerContext, true);
@@ -344,7 +480,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                 if (log.isTraceEnabled()) {
                     log.trace("Going to run throttle param syncing in sync mode");
                 }
-                synchronized (callerContext.getId().intern()) {
+                synchronized (callerContextLocks.getLock(callerContext.getId())) {
                     if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                         long syncingStartTime = System.currentTimeMillis();
                         syncThrottleWindowParams(callerContext, true);
@@ -559,7 +695,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
             if (log.isTraceEnabled()) {
                 log.trace("Going to run throttle param syncing");
             }
-            synchronized (callerContext.getId().intern()) {
+            synchronized (callerContextLocks.getLock(callerContext.getId())) {
                 if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
                     long syncingStartTime = System.currentTimeMillis();
                     syncThrottleWindowParams(callerContext, true);
@@ -746,7 +882,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
         if (log.isTraceEnabled()) {
             log.trace("When running syncing throttle counter params: isInvocationFlow = " + isInvocationFlow);
         }
-        synchronized (callerContext.getId().intern()) {
+        synchronized (callerContextLocks.getLock(callerContext.getId())) {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle counter params: next time window = "
@@ -806,7 +942,7 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
      */
     @Override
     public void syncThrottleWindowParams(CallerContext callerContext, boolean isInvocationFlow) {
-        synchronized (callerContext.getId().intern()) {
+        synchronized (callerContextLocks.getLock(callerContext.getId())) {
             long syncingStartTime = System.currentTimeMillis();
             if (log.isTraceEnabled()) {
                 log.trace("When running syncing throttle window params: isInvocationFlow = " + isInvocationFlow);
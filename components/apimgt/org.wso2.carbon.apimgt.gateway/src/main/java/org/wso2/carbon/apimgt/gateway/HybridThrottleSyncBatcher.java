@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces the forced throttle param sync requests of caller contexts. Instead of syncing a caller context with Redis
+ * each time a sync mode message is received for it, the caller context is marked dirty and all dirty caller contexts
+ * are synced together once per batch interval, so that the sync task can send them to Redis in a single pipeline.
+ * Any number of messages received for the same caller context within an interval result in a single sync.
+ * <p>
+ * The batch size, the flush latency and the lag between a caller context being marked dirty and getting synced are
+ * published as metrics.
+ */
+public class HybridThrottleSyncBatcher {
+
+    private static final Log log = LogFactory.getLog(HybridThrottleSyncBatcher.class);
+    private static final String METRIC_NAME = "HybridThrottleSync";
+
+    /**
+     * callerContextId to the time it was marked dirty
+     */
+    private final Map<String, Long> dirtyCallerContexts = new ConcurrentHashMap<>();
+    private final Consumer<List<String>> syncTask;
+    private final ScheduledExecutorService flushExecutor;
+
+    /**
+     * @param syncTask            task that syncs the caller contexts with the given IDs
+     * @param batchIntervalMillis interval between two flushes
+     */
+    public HybridThrottleSyncBatcher(Consumer<List<String>> syncTask, long batchIntervalMillis) {
+
+        this.syncTask = syncTask;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HybridThrottleSyncBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, batchIntervalMillis, batchIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Marks the caller context with the given ID to be synced in the next flush.
+     *
+     * @param callerContextId caller context ID
+     */
+    public void markDirty(String callerContextId) {
+
+        dirtyCallerContexts.putIfAbsent(callerContextId, System.currentTimeMillis());
+    }
+
+    /**
+     * Syncs all caller contexts that were marked dirty since the last flush.
+     */
+    void flush() {
+
+        if (dirtyCallerContexts.isEmpty()) {
+            return;
+        }
+        Timer.Context flushTimerContext = MetricManager.timer(Level.INFO,
+                MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, "flushLatency")).start();
+        long flushStartTime = System.currentTimeMillis();
+        long maxLag = 0;
+        List<String> batch = new ArrayList<>(dirtyCallerContexts.size());
+        Iterator<Map.Entry<String, Long>> iterator = dirtyCallerContexts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            maxLag = Math.max(maxLag, flushStartTime - entry.getValue());
+            batch.add(entry.getKey());
+            iterator.remove();
+        }
+        try {
+            syncTask.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Error while syncing throttle params of " + batch.size() + " caller contexts", e);
+        }
+        flushTimerContext.stop();
+        getHistogram("batchSize").update(batch.size());
+        getHistogram("lag").update(maxLag);
+        if (log.isDebugEnabled()) {
+            log.debug("Synced " + batch.size() + " caller contexts in " + (System.currentTimeMillis()
+                    - flushStartTime) + " ms. Max lag: " + maxLag + " ms");
+        }
+    }
+
+    private Histogram getHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name));
+    }
+
+    public void shutdown() {
+
+        flushExecutor.shutdown();
+    }
+}
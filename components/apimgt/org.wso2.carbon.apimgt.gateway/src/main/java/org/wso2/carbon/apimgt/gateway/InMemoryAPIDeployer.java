@@ -19,6 +19,7 @@
 package org.wso2.carbon.apimgt.gateway;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
@@ -33,6 +34,7 @@ import org.apache.synapse.SynapseConstants;
 import org.apache.synapse.transport.dynamicconfigurations.DynamicProfileReloaderHolder;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
+import org.wso2.carbon.apimgt.api.VectorDBProviderService;
 import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
 import org.wso2.carbon.apimgt.api.gateway.GatewayContentDTO;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
@@ -42,9 +44,17 @@ import org.wso2.carbon.apimgt.api.model.APIProductIdentifier;
 import org.wso2.carbon.apimgt.common.gateway.constants.HealthCheckConstants;
 import org.wso2.carbon.apimgt.common.gateway.constants.JWTConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
+import org.wso2.carbon.apimgt.gateway.handlers.common.OpenAPIRegistry;
+import org.wso2.carbon.apimgt.gateway.mcp.McpToolRegistry;
+import org.wso2.carbon.apimgt.gateway.handlers.security.OpenAPIValidatorCache;
+import org.wso2.carbon.apimgt.gateway.handlers.security.ResourceRouteIndex;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.listeners.CoalescingEventExecutor;
+import org.wso2.carbon.apimgt.gateway.listeners.GatewayJMSMessageListener;
 import org.wso2.carbon.apimgt.gateway.service.APIGatewayAdmin;
+import org.wso2.carbon.apimgt.gateway.snapshot.GatewaySnapshotStore;
+import org.wso2.carbon.apimgt.gateway.snapshot.SnapshotFile;
 import org.wso2.carbon.apimgt.gateway.notifiers.DeploymentStatusNotifier;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
@@ -59,6 +69,10 @@ import org.wso2.carbon.apimgt.impl.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
 
 import java.io.File;
 import java.io.IOException;
@@ -69,6 +83,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -76,9 +98,12 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final String STARTUP_DEPLOYMENT_METRIC = "GatewayStartupDeployment";
+    private static final String RECONCILIATION_KEY_PREFIX = "reconcile:";
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     DeploymentStatusNotifier deploymentStatusNotifier;
+    GatewaySnapshotStore snapshotStore;
 
     public InMemoryAPIDeployer() {
 
@@ -86,6 +111,7 @@ public class InMemoryAPIDeployer {
         this.gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
                 .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
         this.deploymentStatusNotifier = DeploymentStatusNotifier.getInstance();
+        this.snapshotStore = GatewaySnapshotStore.fromConfiguration(gatewayArtifactSynchronizerProperties);
     }
 
     /**
@@ -109,6 +135,10 @@ public class InMemoryAPIDeployer {
                 apiGatewayAdmin.deployAPI(gatewayAPIDTO);
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+                OpenAPIValidatorCache.getInstance().apiDeployed(apiId, gatewayAPIDTO.getRevision());
+                OpenAPIRegistry.getInstance().apiDeployed(gatewayAPIDTO);
+                McpToolRegistry.getInstance().apiDeployed(gatewayAPIDTO.getApiId());
+                ResourceRouteIndex.apiDeployed(gatewayAPIDTO.getApiId());
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().addAPIMetaData(gatewayEvent);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
@@ -147,6 +177,10 @@ public class InMemoryAPIDeployer {
                 apiGatewayAdmin.deployAPI(gatewayAPIDTO);
                 addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+                OpenAPIValidatorCache.getInstance().apiDeployed(apiId, gatewayAPIDTO.getRevision());
+                OpenAPIRegistry.getInstance().apiDeployed(gatewayAPIDTO);
+                McpToolRegistry.getInstance().apiDeployed(gatewayAPIDTO.getApiId());
+                ResourceRouteIndex.apiDeployed(gatewayAPIDTO.getApiId());
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
                 syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
@@ -232,48 +266,34 @@ public class InMemoryAPIDeployer {
         if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
             if (artifactRetriever != null) {
                 try {
-                    int errorCount = 0;
                     String labelString = String.join("|", assignedGatewayLabels);
-                    String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
 
-                    APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
                     MessageContext.setCurrentMessageContext(
                                     org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
                     PrivilegedCarbonContext.startTenantFlow();
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .setTenantDomain(tenantDomain, true);
-                    if (log.isDebugEnabled()) {
-                        log.debug("Retrieving all artifacts for the gateway with the labels: " + labelString +
-                                " for tenant: " + tenantDomain);
-                    }
-                    List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
-                            .retrieveAllArtifacts(encodedString, tenantDomain);
-                    log.info("Retrieved " + gatewayRuntimeArtifacts.size() + " artifacts for deployment");
-                    if (gatewayRuntimeArtifacts.isEmpty()) {
-                        log.warn("No artifacts found for gateway labels: " + labelString +
-                                " in tenant: " + tenantDomain);
-                        return true;
-                    }
                     if (redeployChangedAPIs) {
                         DataHolder dataHolder = DataHolder.getInstance();
                         apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
-                        try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
-                                if (redeployChangedAPIs && apiMap != null) {
-                                    reDeployAPIs(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
-                                } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                    syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
-                                }
-                            }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
+                    DeploymentSummary deploymentSummary = null;
+                    if (!redeployChangedAPIs && snapshotStore != null && snapshotStore.hasArtifacts(tenantDomain)) {
+                        deploymentSummary = deployFromSnapshot(assignedGatewayLabels, tenantDomain);
+                    }
+                    if (deploymentSummary == null) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Retrieving all artifacts for the gateway with the labels: " + labelString +
+                                    " for tenant: " + tenantDomain);
                         }
+                        deploymentSummary = deployFromControlPlane(assignedGatewayLabels, tenantDomain, apiMap,
+                                gatewayAPIDTO -> true);
+                    }
+                    log.info("Retrieved " + deploymentSummary.artifactCount + " artifacts for deployment");
+                    if (deploymentSummary.artifactCount == 0) {
+                        log.warn("No artifacts found for gateway labels: " + labelString +
+                                " in tenant: " + tenantDomain);
+                        return true;
                     }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
@@ -283,7 +303,7 @@ public class InMemoryAPIDeployer {
                     }
                     result = true;
                     //Setting the result to false only if all the API deployments are failed
-                    if (gatewayRuntimeArtifacts.size() == errorCount) {
+                    if (deploymentSummary.artifactCount == deploymentSummary.errorCount) {
                         return false;
                     }
                 } catch (AxisFault e) {
@@ -303,6 +323,432 @@ public class InMemoryAPIDeployer {
         return result;
     }
 
+    /**
+     * Deploys the APIs in the local snapshot of the tenant and reconciles them with the control plane in the
+     * background.
+     *
+     * @return summary of the deployment, or null if the snapshot cannot be used
+     */
+    private DeploymentSummary deployFromSnapshot(Set<String> assignedGatewayLabels, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        Map<String, GatewayAPIDTO> snapshotAPIs = new ConcurrentHashMap<>();
+        DeploymentSummary deploymentSummary;
+        try {
+            deploymentSummary = deployRuntimeArtifacts(artifactConsumer -> {
+                try {
+                    return snapshotStore.readArtifacts(tenantDomain, artifactConsumer);
+                } catch (IOException e) {
+                    throw new ArtifactSynchronizerException("Error while reading the artifact snapshot of tenant "
+                            + tenantDomain, e);
+                }
+            }, "snapshot", assignedGatewayLabels, tenantDomain, null, gatewayAPIDTO -> {
+                snapshotAPIs.put(gatewayAPIDTO.getApiId(), getDeployedAPIInfo(gatewayAPIDTO));
+                return true;
+            });
+        } catch (ArtifactSynchronizerException e) {
+            if (!snapshotAPIs.isEmpty()) {
+                throw e;
+            }
+            log.warn("Retrieving the artifacts of tenant " + tenantDomain + " from the control plane as the "
+                    + "snapshot cannot be used", e);
+            return null;
+        }
+        if (deploymentSummary.artifactCount > 0 && deploymentSummary.artifactCount == deploymentSummary.errorCount) {
+            log.warn("Retrieving the artifacts of tenant " + tenantDomain + " from the control plane as none of the "
+                    + "APIs in the snapshot could be deployed");
+            return null;
+        }
+        // APIs which could not be deployed from the snapshot are reconciled as if they were not in it
+        snapshotAPIs.values().removeIf(snapshotAPI -> !StringUtils.defaultString(snapshotAPI.getRevision()).equals(
+                DataHolder.getInstance().getDeployedRevision(tenantDomain, snapshotAPI.getApiId())));
+        Thread reconciler = new Thread(() -> reconcileWithControlPlane(assignedGatewayLabels, tenantDomain,
+                snapshotAPIs), "GatewaySnapshotReconciler-" + tenantDomain);
+        reconciler.setDaemon(true);
+        reconciler.start();
+        return deploymentSummary;
+    }
+
+    /**
+     * Brings the APIs deployed from the snapshot of the tenant up to date with the control plane, and replaces the
+     * snapshot with the artifacts retrieved from the control plane. Each API is reconciled on the lane of the API in
+     * the deployment executor the deployment events are applied on, against the revision deployed in the gateway when
+     * it is reconciled, so a deployment event received while reconciling is never overridden by the older state of
+     * the control plane.
+     */
+    private void reconcileWithControlPlane(Set<String> assignedGatewayLabels, String tenantDomain,
+                                           Map<String, GatewayAPIDTO> snapshotAPIs) {
+
+        CoalescingEventExecutor deploymentExecutor = GatewayJMSMessageListener.getDeploymentExecutor();
+        APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
+        Set<String> controlPlaneAPIs = ConcurrentHashMap.newKeySet();
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            deployFromControlPlane(assignedGatewayLabels, tenantDomain, null, gatewayAPIDTO -> {
+                controlPlaneAPIs.add(gatewayAPIDTO.getApiId());
+                submitReconciliation(deploymentExecutor, snapshotAPIs.get(gatewayAPIDTO.getApiId()), gatewayAPIDTO,
+                        assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+                return false;
+            });
+            int removedCount = 0;
+            for (GatewayAPIDTO snapshotAPI : snapshotAPIs.values()) {
+                if (!controlPlaneAPIs.contains(snapshotAPI.getApiId())) {
+                    submitReconciliation(deploymentExecutor, snapshotAPI, null, assignedGatewayLabels, tenantDomain,
+                            apiGatewayAdmin);
+                    removedCount++;
+                }
+            }
+            log.info("Reconciling the APIs deployed from the snapshot of tenant " + tenantDomain + " with the "
+                    + controlPlaneAPIs.size() + " APIs deployed in the control plane and the " + removedCount
+                    + " APIs no longer deployed in it");
+        } catch (ArtifactSynchronizerException e) {
+            log.error("Error while reconciling the APIs deployed from the snapshot of tenant " + tenantDomain
+                    + " with the control plane", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void submitReconciliation(CoalescingEventExecutor deploymentExecutor, GatewayAPIDTO snapshotAPI,
+                                      GatewayAPIDTO controlPlaneAPI, Set<String> assignedGatewayLabels,
+                                      String tenantDomain, APIGatewayAdmin apiGatewayAdmin) {
+
+        String apiId = controlPlaneAPI != null ? controlPlaneAPI.getApiId() : snapshotAPI.getApiId();
+        // never coalesced with a deployment event of the API, which has a different key
+        deploymentExecutor.submit(apiId, RECONCILIATION_KEY_PREFIX + apiId, 0, () -> reconcileAPI(snapshotAPI,
+                controlPlaneAPI, assignedGatewayLabels, tenantDomain, apiGatewayAdmin));
+    }
+
+    /**
+     * Reconciles an API deployed from the snapshot of the tenant, or deployed in the control plane, with the control
+     * plane. Runs on the lane of the API in the deployment executor.
+     *
+     * @param snapshotAPI     API deployed from the snapshot, or null if it was not deployed from the snapshot
+     * @param controlPlaneAPI API retrieved from the control plane, or null if it is no longer deployed in it
+     */
+    private void reconcileAPI(GatewayAPIDTO snapshotAPI, GatewayAPIDTO controlPlaneAPI,
+                              Set<String> assignedGatewayLabels, String tenantDomain,
+                              APIGatewayAdmin apiGatewayAdmin) {
+
+        String apiId = controlPlaneAPI != null ? controlPlaneAPI.getApiId() : snapshotAPI.getApiId();
+        ReconcileAction action = getReconcileAction(snapshotAPI, controlPlaneAPI,
+                DataHolder.getInstance().getDeployedRevision(tenantDomain, apiId));
+        if (action == ReconcileAction.NONE) {
+            if (log.isDebugEnabled()) {
+                log.debug("API " + apiId + " deployed from the snapshot of tenant " + tenantDomain
+                        + " is up to date with the control plane");
+            }
+            return;
+        }
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            MessageContext.setCurrentMessageContext(
+                    org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+            if (snapshotAPI != null) {
+                unDeployAPI(apiGatewayAdmin, getRemoveEvent(snapshotAPI, assignedGatewayLabels, tenantDomain));
+            }
+            if (action == ReconcileAction.DEPLOY) {
+                deployAPIFromDTO(controlPlaneAPI, apiGatewayAdmin);
+                syncAPIPropertiesAcrossComponents(controlPlaneAPI);
+            } else {
+                log.info("Undeployed API " + apiId + " of tenant " + tenantDomain + " deployed from the snapshot, "
+                        + "as it is no longer deployed in the control plane");
+            }
+        } catch (AxisFault axisFault) {
+            log.error("Error while reconciling API " + apiId + " of tenant " + tenantDomain
+                    + " with the control plane", axisFault);
+        } finally {
+            MessageContext.destroyCurrentMessageContext();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Decides how to reconcile an API with the control plane. An API whose deployment in the gateway has changed since
+     * the snapshot was deployed is left as it is, as the change was made by a deployment event which is not older
+     * than the state retrieved from the control plane.
+     *
+     * @param snapshotAPI      API deployed from the snapshot, or null if it was not deployed from the snapshot
+     * @param controlPlaneAPI  API retrieved from the control plane, or null if it is no longer deployed in it
+     * @param deployedRevision revision of the API deployed in the gateway, as returned by
+     *                         {@link DataHolder#getDeployedRevision(String, String)}
+     * @return how to reconcile the API
+     */
+    static ReconcileAction getReconcileAction(GatewayAPIDTO snapshotAPI, GatewayAPIDTO controlPlaneAPI,
+                                              String deployedRevision) {
+
+        String snapshotRevision = snapshotAPI != null ? StringUtils.defaultString(snapshotAPI.getRevision()) : null;
+        if (!Objects.equals(snapshotRevision, deployedRevision)) {
+            return ReconcileAction.NONE;
+        }
+        if (controlPlaneAPI == null) {
+            return deployedRevision != null ? ReconcileAction.UNDEPLOY : ReconcileAction.NONE;
+        }
+        if (controlPlaneAPI.getRevision() != null && controlPlaneAPI.getRevision().equals(deployedRevision)) {
+            return ReconcileAction.NONE;
+        }
+        return ReconcileAction.DEPLOY;
+    }
+
+    /**
+     * Creates the event to undeploy an API deployed from the snapshot of the tenant.
+     */
+    private DeployAPIInGatewayEvent getRemoveEvent(GatewayAPIDTO snapshotAPI, Set<String> assignedGatewayLabels,
+                                                   String tenantDomain) {
+
+        int apiId = 0;
+        String apiType = null;
+        SubscriptionDataStore tenantSubscriptionStore =
+                SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+        if (tenantSubscriptionStore != null) {
+            org.wso2.carbon.apimgt.keymgt.model.entity.API api =
+                    tenantSubscriptionStore.getAPIByUUID(snapshotAPI.getApiId());
+            if (api != null) {
+                apiId = api.getApiId();
+                apiType = api.getApiType();
+            }
+        }
+        return new DeployAPIInGatewayEvent(UUID.randomUUID().toString(), System.currentTimeMillis(),
+                APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(), tenantDomain, apiId, snapshotAPI.getApiId(),
+                assignedGatewayLabels, snapshotAPI.getName(), snapshotAPI.getVersion(), snapshotAPI.getProvider(),
+                apiType, snapshotAPI.getApiContext());
+    }
+
+    /**
+     * Keeps what is needed to compare an API deployed from the snapshot with the control plane and to undeploy it.
+     */
+    private static GatewayAPIDTO getDeployedAPIInfo(GatewayAPIDTO gatewayAPIDTO) {
+
+        GatewayAPIDTO deployedAPIInfo = new GatewayAPIDTO();
+        deployedAPIInfo.setApiId(gatewayAPIDTO.getApiId());
+        deployedAPIInfo.setRevision(gatewayAPIDTO.getRevision());
+        deployedAPIInfo.setName(gatewayAPIDTO.getName());
+        deployedAPIInfo.setVersion(gatewayAPIDTO.getVersion());
+        deployedAPIInfo.setProvider(gatewayAPIDTO.getProvider());
+        deployedAPIInfo.setApiContext(gatewayAPIDTO.getApiContext());
+        return deployedAPIInfo;
+    }
+
+    /**
+     * Deploys the APIs retrieved from the control plane. If snapshots are enabled, the artifacts retrieved are kept
+     * in the snapshot of the tenant as well.
+     */
+    private DeploymentSummary deployFromControlPlane(Set<String> assignedGatewayLabels, String tenantDomain,
+                                                     Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                                     Predicate<GatewayAPIDTO> deploymentFilter)
+            throws ArtifactSynchronizerException {
+
+        String encodedString = Base64.encodeBase64URLSafeString(String.join("|", assignedGatewayLabels).getBytes());
+        SnapshotFile.Writer snapshotWriter = createArtifactSnapshot(tenantDomain);
+        AtomicBoolean snapshotFailed = new AtomicBoolean(snapshotWriter == null);
+        try {
+            DeploymentSummary deploymentSummary = deployRuntimeArtifacts(artifactConsumer ->
+                    artifactRetriever.retrieveAllArtifacts(encodedString, tenantDomain, runtimeArtifact -> {
+                        if (!snapshotFailed.get()) {
+                            try {
+                                snapshotWriter.add(runtimeArtifact);
+                            } catch (IOException e) {
+                                log.error("Error while writing the artifact snapshot of tenant " + tenantDomain, e);
+                                snapshotFailed.set(true);
+                            }
+                        }
+                        artifactConsumer.accept(runtimeArtifact);
+                    }), "control plane", assignedGatewayLabels, tenantDomain, apiMap, deploymentFilter);
+            if (!snapshotFailed.get()) {
+                try {
+                    snapshotWriter.commit();
+                } catch (IOException e) {
+                    log.error("Error while saving the artifact snapshot of tenant " + tenantDomain, e);
+                }
+            }
+            return deploymentSummary;
+        } finally {
+            if (snapshotWriter != null) {
+                try {
+                    snapshotWriter.close();
+                } catch (IOException e) {
+                    log.error("Error while discarding the artifact snapshot of tenant " + tenantDomain, e);
+                }
+            }
+        }
+    }
+
+    private SnapshotFile.Writer createArtifactSnapshot(String tenantDomain) {
+
+        if (snapshotStore == null) {
+            return null;
+        }
+        try {
+            return snapshotStore.writeArtifacts(tenantDomain);
+        } catch (IOException e) {
+            log.error("Error while creating the artifact snapshot of tenant " + tenantDomain, e);
+            return null;
+        }
+    }
+
+    /**
+     * Parses and deploys the runtime artifacts handed over by the given source as they are handed over. Artifacts
+     * are deployed on the calling thread, or on deployment lanes if the deployment parallelism is more than one.
+     *
+     * @param artifactSource        source of the runtime artifacts
+     * @param sourceName            name of the source to log
+     * @param assignedGatewayLabels gateway labels assigned to this instance
+     * @param tenantDomain          tenant domain
+     * @param apiMap                APIs known to the gateway if the changed APIs are redeployed, null otherwise
+     * @param deploymentFilter      decides whether an API has to be deployed
+     * @return summary of the deployment
+     */
+    private DeploymentSummary deployRuntimeArtifacts(RuntimeArtifactSource artifactSource, String sourceName,
+                                                     Set<String> assignedGatewayLabels, String tenantDomain,
+                                                     Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                                     Predicate<GatewayAPIDTO> deploymentFilter)
+            throws ArtifactSynchronizerException {
+
+        APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
+        int parallelism = gatewayArtifactSynchronizerProperties.getDeploymentParallelism();
+        KeyedDeploymentExecutor deploymentExecutor =
+                new KeyedDeploymentExecutor(parallelism, "APIDeployer-" + tenantDomain);
+        AtomicInteger errorCount = new AtomicInteger();
+        AtomicInteger deployedCount = new AtomicInteger();
+        AtomicLong parseTime = new AtomicLong();
+        AtomicLong submitTime = new AtomicLong();
+        AtomicLong deployTime = new AtomicLong();
+        AtomicReference<ArtifactSynchronizerException> deploymentError = new AtomicReference<>();
+        long startTime = System.nanoTime();
+        long fetchTime;
+        int artifactCount;
+        // artifacts are deployed while the rest of them are being read
+        try {
+            artifactCount = artifactSource.forEach(runtimeArtifact -> {
+                if (StringUtils.isEmpty(runtimeArtifact)) {
+                    return;
+                }
+                long parseStartTime = System.nanoTime();
+                GatewayAPIDTO gatewayAPIDTO;
+                try {
+                    gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
+                } catch (JsonSyntaxException e) {
+                    log.error("Error while parsing a runtime artifact of tenant " + tenantDomain, e);
+                    errorCount.incrementAndGet();
+                    return;
+                } finally {
+                    parseTime.addAndGet(System.nanoTime() - parseStartTime);
+                }
+                if (!deploymentFilter.test(gatewayAPIDTO)) {
+                    return;
+                }
+                Runnable deployment = () -> {
+                    long deployStartTime = System.nanoTime();
+                    deployRuntimeArtifact(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain,
+                            apiGatewayAdmin, parallelism > 1, errorCount, deploymentError);
+                    deployTime.addAndGet(System.nanoTime() - deployStartTime);
+                };
+                long submitStartTime = System.nanoTime();
+                try {
+                    deploymentExecutor.submit(gatewayAPIDTO.getApiId(), deployment);
+                    deployedCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    // the remaining artifacts are skipped as the thread stays interrupted
+                    Thread.currentThread().interrupt();
+                    errorCount.incrementAndGet();
+                } finally {
+                    submitTime.addAndGet(System.nanoTime() - submitStartTime);
+                }
+            });
+            fetchTime = System.nanoTime() - startTime;
+            deploymentExecutor.awaitCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtifactSynchronizerException("Interrupted while deploying the APIs of tenant "
+                    + tenantDomain, e);
+        } finally {
+            deploymentExecutor.shutdownNow();
+        }
+        if (deploymentError.get() != null) {
+            throw deploymentError.get();
+        }
+        if (artifactCount > 0) {
+            reportDeploymentTimes(tenantDomain, sourceName, artifactCount, System.nanoTime() - startTime,
+                    fetchTime - parseTime.get() - submitTime.get(), parseTime.get(), deployTime.get());
+        }
+        return new DeploymentSummary(artifactCount, deployedCount.get(), errorCount.get());
+    }
+
+    /**
+     * Deploys an API retrieved while deploying all the APIs of a tenant. Errors are recorded instead of being thrown,
+     * as the API may be deployed on a deployment lane.
+     *
+     * @param gatewayAPIDTO         API to deploy
+     * @param apiMap                APIs known to the gateway if the changed APIs are redeployed, null otherwise
+     * @param assignedGatewayLabels gateway labels assigned to this instance
+     * @param tenantDomain          tenant domain
+     * @param apiGatewayAdmin       API gateway admin instance
+     * @param inTenantFlow          whether the message context and the tenant flow have to be started
+     * @param errorCount            number of APIs failed to deploy
+     * @param deploymentError       first error which has to fail deploying all the APIs
+     */
+    private void deployRuntimeArtifact(GatewayAPIDTO gatewayAPIDTO,
+                                       Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                       Set<String> assignedGatewayLabels,
+                                       String tenantDomain, APIGatewayAdmin apiGatewayAdmin, boolean inTenantFlow,
+                                       AtomicInteger errorCount,
+                                       AtomicReference<ArtifactSynchronizerException> deploymentError) {
+
+        Timer.Context deployTimerContext = MetricManager.timer(Level.INFO,
+                MetricManager.name(APIConstants.METRICS_PREFIX, STARTUP_DEPLOYMENT_METRIC, "deployLatency")).start();
+        try {
+            if (inTenantFlow) {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                MessageContext.setCurrentMessageContext(
+                        org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
+            }
+            if (apiMap != null) {
+                reDeployAPIs(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+            } else {
+                deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
+            }
+        } catch (AxisFault axisFault) {
+            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
+            errorCount.incrementAndGet();
+        } catch (ArtifactSynchronizerException e) {
+            deploymentError.compareAndSet(null, e);
+            errorCount.incrementAndGet();
+        } finally {
+            if (inTenantFlow) {
+                MessageContext.destroyCurrentMessageContext();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+            deployTimerContext.stop();
+        }
+    }
+
+    /**
+     * Publishes the time taken for each phase of deploying all the APIs of a tenant. Artifacts are parsed and deployed
+     * while they are being fetched, hence the parse and deploy times are the total time spent on them by all threads.
+     */
+    private void reportDeploymentTimes(String tenantDomain, String sourceName, int artifactCount, long totalTime,
+                                       long fetchTime, long parseTime, long deployTime) {
+
+        getStartupDeploymentHistogram("totalTime").update(TimeUnit.NANOSECONDS.toMillis(totalTime));
+        getStartupDeploymentHistogram("fetchTime").update(TimeUnit.NANOSECONDS.toMillis(fetchTime));
+        getStartupDeploymentHistogram("parseTime").update(TimeUnit.NANOSECONDS.toMillis(parseTime));
+        getStartupDeploymentHistogram("deployTime").update(TimeUnit.NANOSECONDS.toMillis(deployTime));
+        log.info("Deployed " + artifactCount + " artifacts of tenant " + tenantDomain + " from the " + sourceName
+                + " in " + TimeUnit.NANOSECONDS.toMillis(totalTime) + " ms (fetch: "
+                + TimeUnit.NANOSECONDS.toMillis(fetchTime) + " ms, parse: " + TimeUnit.NANOSECONDS.toMillis(parseTime)
+                + " ms, deploy: " + TimeUnit.NANOSECONDS.toMillis(deployTime) + " ms)");
+    }
+
+    private Histogram getStartupDeploymentHistogram(String name) {
+
+        return MetricManager.histogram(Level.INFO,
+                MetricManager.name(APIConstants.METRICS_PREFIX, STARTUP_DEPLOYMENT_METRIC, name));
+    }
+
     /**
      * Redeploy an API if there is a new revision deployed in the Control Plane
      * and not synced with the gateway due to connection issues.
@@ -357,6 +803,10 @@ public class InMemoryAPIDeployer {
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
         addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
         addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        OpenAPIValidatorCache.getInstance().apiDeployed(gatewayAPIDTO.getApiId(), gatewayAPIDTO.getRevision());
+        OpenAPIRegistry.getInstance().apiDeployed(gatewayAPIDTO);
+        McpToolRegistry.getInstance().apiDeployed(gatewayAPIDTO.getApiId());
+        ResourceRouteIndex.apiDeployed(gatewayAPIDTO.getApiId());
         DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
                 gatewayAPIDTO.getKeyManagers());
         DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
@@ -411,7 +861,17 @@ public class InMemoryAPIDeployer {
                         GatewayUtils
                                 .addStringToList(gatewayEvent.getUuid(), gatewayAPIDTO.getLocalEntriesToBeRemove()));
                 apiGatewayAdmin.unDeployAPI(gatewayAPIDTO);
+                DataHolder.getInstance().markAPIAsUndeployed(gatewayEvent.getTenantDomain(), gatewayEvent.getUuid());
                 DataHolder.getInstance().getApiToCertificatesMap().remove(gatewayEvent.getUuid());
+                OpenAPIValidatorCache.getInstance().apiUndeployed(gatewayEvent.getUuid());
+                OpenAPIRegistry.getInstance().apiUndeployed(gatewayEvent.getUuid());
+                McpToolRegistry.getInstance().apiUndeployed(gatewayEvent.getUuid());
+                VectorDBProviderService vectorDBProviderService =
+                        ServiceReferenceHolder.getInstance().getVectorDBProviderService();
+                if (vectorDBProviderService instanceof CachingVectorDBProviderService) {
+                    ((CachingVectorDBProviderService) vectorDBProviderService).apiUndeployed(gatewayEvent.getUuid());
+                }
+                ResourceRouteIndex.apiUndeployed(gatewayEvent.getUuid());
                 DataHolder.getInstance().removeKeyManagerToAPIMapping(gatewayAPIDTO.getApiId());
                 DataHolder.getInstance().releaseCache(generateAPIKeyForEndpoints(gatewayAPIDTO));
                 if (isAPIResourceValidationEnabled()) {
@@ -711,4 +1171,36 @@ public class InMemoryAPIDeployer {
             }
         }
     }
+
+    /**
+     * Source of runtime artifacts, which hands each of them over to the given consumer.
+     */
+    private interface RuntimeArtifactSource {
+
+        /**
+         * @return number of runtime artifacts handed over
+         */
+        int forEach(Consumer<String> artifactConsumer) throws ArtifactSynchronizerException;
+    }
+
+    /**
+     * Change made to an API deployed in the gateway to reconcile it with the control plane.
+     */
+    enum ReconcileAction {
+        NONE, DEPLOY, UNDEPLOY
+    }
+
+    private static class DeploymentSummary {
+
+        private final int artifactCount;
+        private final int deployedCount;
+        private final int errorCount;
+
+        DeploymentSummary(int artifactCount, int deployedCount, int errorCount) {
+
+            this.artifactCount = artifactCount;
+            this.deployedCount = deployedCount;
+            this.errorCount = errorCount;
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs deployment tasks on a fixed number of lanes. Tasks submitted with the same key always run on the same lane,
+ * one after the other in the order they were submitted, while tasks of different keys may run concurrently. The number
+ * of tasks waiting to be run is bounded, so that a producer submitting tasks faster than they are run is blocked
+ * instead of buffering all of them.
+ * <p>
+ * If the parallelism is one, tasks are run on the thread that submits them.
+ */
+public class KeyedDeploymentExecutor {
+
+    private static final Log log = LogFactory.getLog(KeyedDeploymentExecutor.class);
+    private static final int PENDING_TASKS_PER_LANE = 16;
+
+    private final ExecutorService[] lanes;
+    private final Semaphore pendingTasks;
+
+    /**
+     * @param parallelism maximum number of tasks run concurrently
+     * @param name        prefix of the names of the lane threads
+     */
+    public KeyedDeploymentExecutor(int parallelism, String name) {
+
+        if (parallelism <= 1) {
+            lanes = new ExecutorService[0];
+            pendingTasks = null;
+            return;
+        }
+        lanes = new ExecutorService[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            String threadName = name + "-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        pendingTasks = new Semaphore(parallelism * PENDING_TASKS_PER_LANE);
+    }
+
+    /**
+     * Submits a task to the lane of the given key. Blocks while the maximum number of tasks are waiting to be run.
+     *
+     * @param key  key deciding the lane, such as the UUID of the API deployed by the task
+     * @param task task to run
+     * @throws InterruptedException if interrupted while waiting to submit the task
+     */
+    public void submit(String key, Runnable task) throws InterruptedException {
+
+        if (lanes.length == 0) {
+            task.run();
+            return;
+        }
+        pendingTasks.acquire();
+        int lane = Math.floorMod(key != null ? key.hashCode() : 0, lanes.length);
+        try {
+            lanes[lane].execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Error while running deployment task of " + key, e);
+                } finally {
+                    pendingTasks.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingTasks.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until all the submitted tasks are run and stops the lanes. No tasks can be submitted afterwards.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitCompletion() throws InterruptedException {
+
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            while (!lane.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Waiting for the deployment of APIs to complete");
+            }
+        }
+    }
+
+    /**
+     * Stops the lanes without running the tasks which are yet to be run.
+     */
+    public void shutdownNow() {
+
+        for (ExecutorService lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+}
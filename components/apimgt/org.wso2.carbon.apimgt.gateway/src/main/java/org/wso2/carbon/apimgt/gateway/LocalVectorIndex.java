@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded in memory index of the recent embeddings of an API along with the responses cached for them. Embeddings are
+ * kept as floats in a single flat array, one after the other, and searched exhaustively, which for the few hundred
+ * embeddings kept is cheaper than a graph index and lets the distance loop run over contiguous memory. Once the index
+ * is full, the least recently used embedding is replaced, and embeddings are not returned once they expire.
+ * <p>
+ * Distances are squared euclidean distances, which is what an L2 index of the vector database compares against the
+ * similarity threshold.
+ */
+class LocalVectorIndex {
+
+    private final int capacity;
+    private final long[] hashes;
+    private final long[] expiryTimes;
+    private final long[] lastUsedTimes;
+    private final String[] responses;
+    private final Map<Long, Integer> slotsByHash = new HashMap<>();
+    private int dimension;
+    private float[] vectors;
+    private int size;
+    private long clock;
+
+    LocalVectorIndex(int capacity) {
+
+        this.capacity = capacity;
+        this.hashes = new long[capacity];
+        this.expiryTimes = new long[capacity];
+        this.lastUsedTimes = new long[capacity];
+        this.responses = new String[capacity];
+    }
+
+    /**
+     * @param embedding  embedding to look up
+     * @param hash       hash of the embedding
+     * @param now        current time in milliseconds
+     * @return the response cached for the same embedding, or null if there is none
+     */
+    synchronized String findExact(double[] embedding, long hash, long now) {
+
+        Integer slot = slotsByHash.get(hash);
+        if (slot == null || expiryTimes[slot] <= now || embedding.length != dimension) {
+            return null;
+        }
+        int offset = slot * dimension;
+        for (int i = 0; i < dimension; i++) {
+            if (vectors[offset + i] != (float) embedding[i]) {
+                return null;
+            }
+        }
+        lastUsedTimes[slot] = ++clock;
+        return responses[slot];
+    }
+
+    /**
+     * @param embedding   embedding to look up
+     * @param maxDistance distance the nearest embedding must be closer than
+     * @param now         current time in milliseconds
+     * @return the response cached for the nearest embedding, or null if no embedding is close enough
+     */
+    synchronized String findNearest(double[] embedding, double maxDistance, long now) {
+
+        if (embedding.length != dimension) {
+            return null;
+        }
+        float[] query = toFloats(embedding);
+        int nearest = -1;
+        double nearestDistance = maxDistance;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (responses[slot] == null || expiryTimes[slot] <= now) {
+                continue;
+            }
+            float distance = 0;
+            int offset = slot * dimension;
+            for (int i = 0; i < dimension; i++) {
+                float difference = vectors[offset + i] - query[i];
+                distance += difference * difference;
+            }
+            if (distance < nearestDistance) {
+                nearest = slot;
+                nearestDistance = distance;
+            }
+        }
+        if (nearest < 0) {
+            return null;
+        }
+        lastUsedTimes[nearest] = ++clock;
+        return responses[nearest];
+    }
+
+    /**
+     * Adds an embedding along with its response, replacing the least recently used embedding once the index is
+     * full. The index is cleared if the embedding is of a different dimension than those already added, as when the
+     * embedding model is changed.
+     */
+    synchronized void add(double[] embedding, long hash, String response, long expiryTime) {
+
+        if (embedding.length != dimension) {
+            dimension = embedding.length;
+            vectors = new float[capacity * dimension];
+            Arrays.fill(responses, null);
+            slotsByHash.clear();
+            size = 0;
+        }
+        Integer existing = slotsByHash.get(hash);
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else if (size < capacity) {
+            slot = size++;
+            slotsByHash.put(hash, slot);
+        } else {
+            slot = getLeastRecentlyUsedSlot();
+            slotsByHash.remove(hashes[slot]);
+            slotsByHash.put(hash, slot);
+        }
+        int offset = slot * dimension;
+        for (int i = 0; i < dimension; i++) {
+            vectors[offset + i] = (float) embedding[i];
+        }
+        hashes[slot] = hash;
+        expiryTimes[slot] = expiryTime;
+        lastUsedTimes[slot] = ++clock;
+        responses[slot] = response;
+    }
+
+    private int getLeastRecentlyUsedSlot() {
+
+        int leastRecentlyUsed = 0;
+        for (int slot = 1; slot < capacity; slot++) {
+            if (lastUsedTimes[slot] < lastUsedTimes[leastRecentlyUsed]) {
+                leastRecentlyUsed = slot;
+            }
+        }
+        return leastRecentlyUsed;
+    }
+
+    static long hash(double[] embedding) {
+
+        long hash = 1125899906842597L;
+        for (double value : embedding) {
+            hash = 31 * hash + Float.floatToIntBits((float) value);
+        }
+        return hash;
+    }
+
+    private static float[] toFloats(double[] embedding) {
+
+        float[] floats = new float[embedding.length];
+        for (int i = 0; i < embedding.length; i++) {
+            floats[i] = (float) embedding[i];
+        }
+        return floats;
+    }
+}
@@ -52,13 +52,8 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             String count = null;
             startTime = System.currentTimeMillis();
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                Response<String> response = transaction.get(key);
-                transaction.exec();
-
-                if (response != null && response.get() != null) {
-                    count = response.get();
-                }
+                // single commands are atomic on their own, so they are sent without a transaction
+                count = jedis.get(key);
                 if (count != null) {
                     long l = Long.parseLong(count);
                     if (log.isTraceEnabled()) {
@@ -113,13 +108,10 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
             try (Jedis jedis = redisPool.getResource()) {
 
-                Transaction transaction = jedis.multi();
-                Response<String> previousResponse = transaction.get(key);
-                Response<Long> incrementedValueResponse = transaction.incrBy(key, value);
-                transaction.exec();
-                Long incrementedValue = incrementedValueResponse.get();
+                // INCRBY is atomic on its own, so it is sent without a transaction in a single round trip
+                long incrementedValue = jedis.incrBy(key, value);
                 if (log.isTraceEnabled()) {
-                    log.trace(String.format("Key %s is increased from %s to %s", key, previousResponse.get(),
+                    log.trace(String.format("Key %s is increased from %s to %s", key, incrementedValue - value,
                             incrementedValue));
                 }
                 return incrementedValue;
@@ -140,9 +132,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
 
             try (Jedis jedis = redisPool.getResource()) {
 
-                Transaction transaction = jedis.multi();
-                transaction.del(key);
-                transaction.exec();
+                jedis.del(key);
             }
         } finally {
             if (log.isTraceEnabled()) {
@@ -159,17 +149,11 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
-                long current = 0;
-                Transaction transaction = jedis.multi();
-                Response<String> currentValue = transaction.get(key);
-
-                Response<Long> incrementedValue = transaction.incrBy(key, value);
-                transaction.exec();
-                if (currentValue != null && currentValue.get() != null) {
-                    current = Long.parseLong(currentValue.get());
-                }
+                // the value before INCRBY is derived from its result, instead of reading it in a transaction
+                long incrementedValue = jedis.incrBy(key, value);
+                long current = incrementedValue - value;
                 if (log.isTraceEnabled()) {
-                    log.trace(String.format("Key %s increased from %s to %s", key, current, incrementedValue.get()));
+                    log.trace(String.format("Key %s increased from %s to %s", key, current, incrementedValue));
                 }
                 return current;
             }
@@ -188,14 +172,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
-                long incrementedValue = 0;
-                Transaction transaction = jedis.multi();
-
-                Response<Long> responseValue = transaction.incrBy(key, value);
-                transaction.exec();
-                if (responseValue != null && responseValue.get() != null) {
-                    incrementedValue = responseValue.get();
-                }
+                long incrementedValue = jedis.incrBy(key, value);
                 if (log.isTraceEnabled()) {
                     log.trace(String.format("Key %s increased from %s to %s", key, incrementedValue - value,
                             incrementedValue));
@@ -219,18 +196,15 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
 
             try (Jedis jedis = redisPool.getResource()) {
 
+                // GETSET replaces the value and clears the expiry time of the key in a single command, as the
+                // GET, DEL and INCRBY did
                 long current = 0;
-                Transaction transaction = jedis.multi();
-                Response<String> currentValue = transaction.get(key);
-                transaction.del(key);
-                Response<Long> incrementedValue = transaction.incrBy(key, value);
-                transaction.exec();
-
-                if (currentValue != null && currentValue.get() != null) {
-                    current = Long.parseLong(currentValue.get());
+                String currentValue = jedis.getSet(key, String.valueOf(value));
+                if (currentValue != null) {
+                    current = Long.parseLong(currentValue);
                 }
                 if (log.isTraceEnabled()) {
-                    log.trace(String.format("Key %s increased from %s to %s", key, current, incrementedValue.get()));
+                    log.trace(String.format("Key %s increased from %s to %s", key, current, value));
                 }
                 return current;
             }
@@ -289,13 +263,10 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
             startTime = System.currentTimeMillis();
 
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                Response<String> response = transaction.get(key);
-                transaction.exec();
-
-                if (response != null && response.get() != null) {
-                    log.trace("Getting timestamp of key:" + key + ". Timestamp not null. Value:" + response.get());
-                    return Long.parseLong(response.get());
+                String timestamp = jedis.get(key);
+                if (timestamp != null) {
+                    log.trace("Getting timestamp of key:" + key + ". Timestamp not null. Value:" + timestamp);
+                    return Long.parseLong(timestamp);
                 } else {
                     log.trace("Timestamp key doesn't exist !!!. key: " + key + "  So returning 0");
                 }
@@ -316,9 +287,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
 
             try (Jedis jedis = redisPool.getResource()) {
 
-                Transaction transaction = jedis.multi();
-                transaction.set(key, String.valueOf(timeStamp));
-                transaction.exec();
+                jedis.set(key, String.valueOf(timeStamp));
             }
         } finally {
             if (log.isTraceEnabled()) {
@@ -365,9 +334,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
 
             try (Jedis jedis = redisPool.getResource()) {
 
-                Transaction transaction = jedis.multi();
-                transaction.del(key);
-                transaction.exec();
+                jedis.del(key);
             }
         } finally {
             if (log.isTraceEnabled()) {
@@ -386,13 +353,11 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         try {
             startTime = System.currentTimeMillis();
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                Response<Long> expireSetResponse = transaction.pexpireAt(key, expiryTimeStamp);
-                transaction.exec();
-                if (expireSetResponse.get() == 1) {
-                    log.trace("Expire timeout was set of key:" + key +  " status:" + expireSetResponse.get());
-                } else if (expireSetResponse.get() == 0) {
-                    log.trace("Expire timeout was not set of key:" + key + " status:" +  expireSetResponse.get() +
+                long expireSetResponse = jedis.pexpireAt(key, expiryTimeStamp);
+                if (expireSetResponse == 1) {
+                    log.trace("Expire timeout was set of key:" + key +  " status:" + expireSetResponse);
+                } else if (expireSetResponse == 0) {
+                    log.trace("Expire timeout was not set of key:" + key + " status:" +  expireSetResponse +
                             " e.g. key doesn't exist, or operation skipped due to the provided arguments.");
                 } else {
                     log.trace("Expire timeout was not set");
@@ -411,10 +376,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         long ttl;
         try {
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                Response<Long> pttl = transaction.pttl(key);
-                transaction.exec();
-                ttl = pttl.get();
+                ttl = jedis.pttl(key);
                 if (ttl == -2) {
                     log.trace("TTL of key :" + key + " : " + ttl + " (Key does not exists)");
                 } else if (ttl == -1) {
@@ -435,10 +397,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
         try {
             startTime = System.currentTimeMillis();
             try (Jedis jedis = redisPool.getResource()) {
-                Transaction transaction = jedis.multi();
-                Response<Long> response = transaction.setnx(key, value);
-                transaction.exec();
-                long responseCode = response.get();
+                long responseCode = jedis.setnx(key, value);
                 if (responseCode == 1) {
                     log.trace("Key was set");
                 } else if (responseCode == 0) {
@@ -516,9 +475,7 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
 
             try (Jedis jedis = redisPool.getResource()) {
 
-                Transaction transaction = jedis.multi();
-                transaction.del(key);
-                transaction.exec();
+                jedis.del(key);
             }
         } finally {
             if (log.isTraceEnabled()) {
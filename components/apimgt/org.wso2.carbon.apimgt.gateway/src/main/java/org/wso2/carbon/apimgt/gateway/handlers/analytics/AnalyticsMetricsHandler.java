@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDat
 import org.wso2.carbon.apimgt.gateway.handlers.DataPublisherUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.AsyncAnalyticsDataProvider;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.mediators.AIAPIStreamedUsage;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.inbound.endpoint.protocol.websocket.InboundWebsocketConstants;
@@ -102,12 +103,23 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
                     ServiceReferenceHolder.getInstance().getAnalyticsCustomDataProvider());
         }
         GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
+        AIAPIStreamedUsage streamedUsage = AIAPIStreamedUsage.get(messageContext);
+        if (streamedUsage != null) {
+            // the token usage of an event stream is known only once the stream is relayed
+            streamedUsage.onComplete(() -> collectData(dataCollector));
+        } else {
+            collectData(dataCollector);
+        }
+        return true;
+    }
+
+    private void collectData(GenericRequestDataCollector dataCollector) {
+
         try {
             dataCollector.collectData();
         } catch (Exception e) {
             log.error("Error Occurred when collecting data", e);
         }
-        return true;
     }
 
     @Override
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.common;
+
+import com.atlassian.oai.validator.model.Headers;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.axiom.om.util.AXIOMUtil;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.api.gateway.GatewayContentDTO;
+import org.wso2.carbon.apimgt.gateway.handlers.security.OpenAPIValidatorCache;
+import org.wso2.carbon.apimgt.gateway.handlers.security.SchemaValidator;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Keeps the OpenAPI definitions of the deployed APIs, resolved and post processed for the gateway handlers. A
+ * definition is resolved in the background when its API is deployed, instead of by the first request to the API, and
+ * a single copy of it is shared by all the handlers of the API.
+ * <p>
+ * The time taken to resolve the definition of each API and the size of the definition are published as metrics,
+ * which are removed as the API is undeployed.
+ */
+public class OpenAPIRegistry {
+
+    private static final Log log = LogFactory.getLog(OpenAPIRegistry.class);
+    private static final String METRIC_NAME = "OpenAPIRegistry";
+    private static final String PARSE_TIME = "parseTime";
+    private static final String DEFINITION_SIZE = "definitionSize";
+    private static final OpenAPIRegistry instance = new OpenAPIRegistry();
+
+    private final Map<String, CompletableFuture<ResolvedOpenAPI>> definitions = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    private OpenAPIRegistry() {
+
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "OpenAPIRegistry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static OpenAPIRegistry getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Starts resolving the OpenAPI definition of a deployed API in the background, if the API is deployed with the
+     * handlers which need it. The definition of the previous revision of the API is dropped.
+     *
+     * @param gatewayAPIDTO runtime artifact of the API deployed
+     */
+    public void apiDeployed(GatewayAPIDTO gatewayAPIDTO) {
+
+        String apiUUID = gatewayAPIDTO.getApiId();
+        if (apiUUID == null) {
+            return;
+        }
+        String apiDefinition = gatewayAPIDTO.getApiDefinition();
+        String definition = null;
+        if (apiDefinition != null && apiDefinition.contains(APIMgtLatencyStatsHandler.class.getName())) {
+            definition = getOpenAPIDefinition(gatewayAPIDTO);
+        }
+        if (definition == null) {
+            apiUndeployed(apiUUID);
+            return;
+        }
+        boolean schemaValidationEnabled = apiDefinition.contains(SchemaValidator.class.getName());
+        String openAPIDefinition = definition;
+        CompletableFuture<ResolvedOpenAPI> resolvedOpenAPI = CompletableFuture.supplyAsync(() -> {
+            ResolvedOpenAPI openAPI = resolve(openAPIDefinition);
+            if (schemaValidationEnabled && openAPI.getOpenAPI() != null) {
+                OpenAPIValidatorCache.getInstance().precompile(apiUUID, openAPI.getOpenAPI());
+            }
+            return openAPI;
+        }, executor);
+        CompletableFuture<ResolvedOpenAPI> previous = definitions.put(apiUUID, resolvedOpenAPI);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        // published under the lock of the entry, so that the metrics are not registered again after the API is
+        // undeployed
+        resolvedOpenAPI.thenAccept(openAPI -> definitions.computeIfPresent(apiUUID, (uuid, current) -> {
+            if (current == resolvedOpenAPI) {
+                publishMetrics(uuid, openAPI);
+            }
+            return current;
+        }));
+    }
+
+    /**
+     * Drops the OpenAPI definition of an API and its metrics as it is undeployed.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public void apiUndeployed(String apiUUID) {
+
+        CompletableFuture<ResolvedOpenAPI> previous = definitions.remove(apiUUID);
+        if (previous != null) {
+            previous.cancel(false);
+            MetricManager.remove(getMetricName(apiUUID, PARSE_TIME));
+            MetricManager.remove(getMetricName(apiUUID, DEFINITION_SIZE));
+        }
+    }
+
+    /**
+     * Returns the resolved OpenAPI definition of an API, waiting for it if it is still being resolved.
+     *
+     * @param apiUUID UUID of the API
+     * @return the resolved definition, or null if the API is not deployed with one or it cannot be resolved
+     */
+    public ResolvedOpenAPI get(String apiUUID) {
+
+        CompletableFuture<ResolvedOpenAPI> resolvedOpenAPI = definitions.get(apiUUID);
+        while (resolvedOpenAPI != null) {
+            try {
+                return resolvedOpenAPI.join();
+            } catch (CancellationException e) {
+                // another revision of the API was deployed meanwhile
+                CompletableFuture<ResolvedOpenAPI> next = definitions.get(apiUUID);
+                resolvedOpenAPI = next != resolvedOpenAPI ? next : null;
+            } catch (CompletionException e) {
+                log.error("Error while resolving the OpenAPI definition of API " + apiUUID, e.getCause());
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves an OpenAPI definition fully and converts its header parameter names to lowercase.
+     *
+     * @param definition OpenAPI definition
+     * @return resolved definition
+     */
+    static ResolvedOpenAPI resolve(String definition) {
+
+        long startTime = System.nanoTime();
+        OpenAPIParser parser = new OpenAPIParser();
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(false);
+        OpenAPI openAPI = parser.readContents(definition, null, parseOptions).getOpenAPI();
+        if (openAPI != null && openAPI.getPaths() != null) {
+            // HTTP headers should be case insensitive as for HTTP 1.1 RFC
+            // Thus converting headers to lowercase for schema validation.
+            convertHeadersToLowercase(openAPI);
+        }
+        return new ResolvedOpenAPI(definition, openAPI, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private static void publishMetrics(String apiUUID, ResolvedOpenAPI openAPI) {
+
+        MetricManager.histogram(Level.INFO, getMetricName(apiUUID, PARSE_TIME)).update(openAPI.getParseTime());
+        MetricManager.histogram(Level.INFO, getMetricName(apiUUID, DEFINITION_SIZE))
+                .update(openAPI.getDefinitionSize());
+        if (log.isDebugEnabled()) {
+            log.debug("Time to parse the swagger of API " + apiUUID + " (ms) : " + openAPI.getParseTime());
+        }
+    }
+
+    private static String getMetricName(String apiUUID, String metric) {
+
+        return MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, apiUUID, metric);
+    }
+
+    /**
+     * @return the OpenAPI definition kept in the local entry named after the API, or null if there is none
+     */
+    private static String getOpenAPIDefinition(GatewayAPIDTO gatewayAPIDTO) {
+
+        if (gatewayAPIDTO.getLocalEntriesToBeAdd() == null) {
+            return null;
+        }
+        for (GatewayContentDTO localEntry : gatewayAPIDTO.getLocalEntriesToBeAdd()) {
+            if (gatewayAPIDTO.getApiId().equals(localEntry.getName()) && localEntry.getContent() != null) {
+                try {
+                    return AXIOMUtil.stringToOM(localEntry.getContent()).getText();
+                } catch (XMLStreamException e) {
+                    log.error("Error while reading the OpenAPI definition of API " + gatewayAPIDTO.getApiId(), e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method iterate through openAPI paths and convert header parameter names to lowercase for each operation
+     *
+     * @param openAPI openAPI object
+     */
+    private static void convertHeadersToLowercase(OpenAPI openAPI) {
+
+        // Iterate each path
+        for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+            // Iterate each operation
+            PathItem pathItem = entry.getValue();
+            if (pathItem != null) {
+                List<Operation> operations = pathItem.readOperations();
+                for (Operation operation : operations) {
+                    if (operation.getParameters() != null) {
+                        operation.setParameters(getLowercaseHeaderParameters(operation.getParameters()));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * This method read the parameter list and convert header parameter's name to lowercase
+     * @param parameters list of params
+     * @return
+     */
+    private static List<Parameter> getLowercaseHeaderParameters(List<Parameter> parameters) {
+
+        List<Parameter> headerParameters = parameters.stream()
+                .filter(param -> param.getIn().equalsIgnoreCase("header"))
+                .filter(param -> !param.getName().equalsIgnoreCase(Headers.CONTENT_TYPE)) // Ignore content-type header
+                .filter(param -> !param.getName().equalsIgnoreCase(Headers.ACCEPT)) // Ignore accept header
+                .collect(Collectors.toList());
+        List<Parameter> modifiedHeaderParameters = headerParameters.stream()
+                .map(OpenAPIRegistry::replaceLowerCaseHeaderName).collect(Collectors.toList());
+        List<Parameter> nonHeaderParameters = parameters.stream()
+                .filter(param -> !(param instanceof HeaderParameter)).collect(Collectors.toList());
+        nonHeaderParameters.addAll(modifiedHeaderParameters);
+        return nonHeaderParameters;
+    }
+
+    /**
+     * This method convert parameter name to lowercase.
+     * @param parameter param
+     * @return
+     */
+    private static Parameter replaceLowerCaseHeaderName(Parameter parameter) {
+
+        parameter.setName(parameter.getName().toLowerCase(Locale.ROOT));
+        return parameter;
+    }
+
+    /**
+     * OpenAPI definition of an API along with the model resolved from it.
+     */
+    public static class ResolvedOpenAPI {
+
+        private final String definition;
+        private final OpenAPI openAPI;
+        private final long parseTime;
+
+        ResolvedOpenAPI(String definition, OpenAPI openAPI, long parseTime) {
+
+            this.definition = definition;
+            this.openAPI = openAPI;
+            this.parseTime = parseTime;
+        }
+
+        public String getDefinition() {
+
+            return definition;
+        }
+
+        /**
+         * @return the resolved model, or null if the definition is not a valid OpenAPI definition
+         */
+        public OpenAPI getOpenAPI() {
+
+            return openAPI;
+        }
+
+        /**
+         * @return time taken to resolve the definition in milliseconds
+         */
+        public long getParseTime() {
+
+            return parseTime;
+        }
+
+        /**
+         * @return size of the definition kept in memory, in bytes
+         */
+        public long getDefinitionSize() {
+
+            return (long) definition.length() * Character.BYTES;
+        }
+    }
+}
@@ -67,6 +67,8 @@ public class GraphQLAPIHandler extends AbstractHandler {
     private GraphQLSchemaDTO graphQLSchemaDTO;
     private String apiUUID;
     private QueryValidator queryValidator;
+    private volatile GraphQLQueryCache queryCache;
+    private int maxCachedQueries = GraphQLQueryCache.DEFAULT_MAX_QUERIES;
 
     public GraphQLAPIHandler() {
 
@@ -83,6 +85,20 @@ public class GraphQLAPIHandler extends AbstractHandler {
         this.apiUUID = apiUUID;
     }
 
+    public int getMaxCachedQueries() {
+
+        return maxCachedQueries;
+    }
+
+    /**
+     * @param maxCachedQueries maximum number of parsed payloads cached for the API. Payloads are not cached if it is
+     *                         not positive
+     */
+    public void setMaxCachedQueries(int maxCachedQueries) {
+
+        this.maxCachedQueries = maxCachedQueries;
+    }
+
     public boolean handleRequest(MessageContext messageContext) {
         try {
             if (Utils.isGraphQLSubscriptionRequest(messageContext)) {
@@ -92,7 +108,6 @@ public class GraphQLAPIHandler extends AbstractHandler {
                 return true;
             }
             String payload;
-            Parser parser = new Parser();
             org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
                     getAxis2MessageContext();
             String requestPath = messageContext.getProperty(REST_SUB_REQUEST_PATH).toString();
@@ -121,37 +136,32 @@ public class GraphQLAPIHandler extends AbstractHandler {
             }
 
             // Validate payload with graphQLSchema
-            Document document = parser.parseDocument(payload);
-
-            if (validatePayloadWithSchema(messageContext, document)) {
-                supportForBasicAndAuthentication(messageContext);
+            ParsedGraphQLQuery parsedQuery = getParsedQuery(payload);
+            messageContext.setProperty(APIConstants.GRAPHQL_PARSED_QUERY, parsedQuery);
+            if (parsedQuery.getValidationErrorMessage() != null) {
+                handleFailure(messageContext, parsedQuery.getValidationErrorMessage());
+                return false;
+            }
+            supportForBasicAndAuthentication(messageContext);
 
-                // Extract the operation type and operations from the payload
-                for (Definition definition : document.getDefinitions()) {
-                    if (definition instanceof OperationDefinition) {
-                        OperationDefinition operation = (OperationDefinition) definition;
-                        if (operation.getOperation() != null) {
-                            String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
-                                    getProperty(HTTP_METHOD).toString();
-                            messageContext.setProperty(HTTP_VERB, httpVerb);
-                            ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
-                                    operation.getOperation().toString());
-                            String operationList = GraphQLProcessorUtil.getOperationListAsString(operation,
-                                    graphQLSchemaDTO.getTypeDefinitionRegistry());
-                            messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, operationList);
-                            if (log.isDebugEnabled()) {
-                                log.debug("Operation list has been successfully added to elected property");
-                            }
-                            return true;
-                        }
-                    } else {
-                        handleFailure(messageContext, "Operation definition cannot be empty");
-                        return false;
-                    }
-                }
-            } else {
+            // Extract the operation type and operations from the payload
+            if (parsedQuery.isOperationDefinitionMissing()) {
+                handleFailure(messageContext, "Operation definition cannot be empty");
                 return false;
             }
+            OperationDefinition operation = parsedQuery.getOperation();
+            if (operation != null) {
+                String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
+                        getProperty(HTTP_METHOD).toString();
+                messageContext.setProperty(HTTP_VERB, httpVerb);
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
+                        operation.getOperation().toString());
+                messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, parsedQuery.getOperationList());
+                if (log.isDebugEnabled()) {
+                    log.debug("Operation list has been successfully added to elected property");
+                }
+                return true;
+            }
         } catch (IOException | XMLStreamException | InvalidSyntaxException e) {
             log.error(e.getMessage());
             handleFailure(messageContext, e.getMessage());
@@ -257,23 +267,51 @@ public class GraphQLAPIHandler extends AbstractHandler {
     }
 
     /**
-     * This method validate the payload
+     * Parses and validates the payload against the schema of the API, unless the payload is already in the cache of
+     * the API.
      *
-     * @param messageContext message context of the request
-     * @param document       graphQL schema of the request
-     * @return true or false
+     * @param payload payload of the request
+     * @return parsed payload
      */
-    private boolean validatePayloadWithSchema(MessageContext messageContext, Document document) {
+    private ParsedGraphQLQuery getParsedQuery(String payload) {
 
-        String validationErrorMessage;
         // Get GraphQL schema data from gateway internal data holder
         graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
-        validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(), document);
-        if (validationErrorMessage != null) {
-            handleFailure(messageContext, validationErrorMessage);
-            return false;
+        GraphQLQueryCache cache = queryCache;
+        if (cache == null || cache.getGraphQLSchemaDTO() != graphQLSchemaDTO) {
+            cache = new GraphQLQueryCache(graphQLSchemaDTO, maxCachedQueries);
+            queryCache = cache;
         }
-        return true;
+        String key = GraphQLQueryCache.getKey(payload);
+        ParsedGraphQLQuery parsedQuery = cache.get(key);
+        if (parsedQuery != null) {
+            return parsedQuery;
+        }
+
+        Document document = new Parser().parseDocument(payload);
+        String validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(),
+                document);
+        boolean operationDefinitionMissing = false;
+        OperationDefinition operation = null;
+        String operationList = null;
+        if (validationErrorMessage == null) {
+            for (Definition definition : document.getDefinitions()) {
+                if (!(definition instanceof OperationDefinition)) {
+                    operationDefinitionMissing = true;
+                    break;
+                }
+                if (((OperationDefinition) definition).getOperation() != null) {
+                    operation = (OperationDefinition) definition;
+                    operationList = GraphQLProcessorUtil.getOperationListAsString(operation,
+                            graphQLSchemaDTO.getTypeDefinitionRegistry());
+                    break;
+                }
+            }
+        }
+        parsedQuery = new ParsedGraphQLQuery(document, validationErrorMessage, operationDefinitionMissing, operation,
+                operationList);
+        cache.put(key, parsedQuery);
+        return parsedQuery;
     }
 
     /**
@@ -17,6 +17,7 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +41,8 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 public class GraphQLQueryAnalysisHandler extends AbstractHandler {
 
     private static final Log log = LogFactory.getLog(GraphQLQueryAnalysisHandler.class);
+    private static final String DEPTH_ANALYSIS = "depth:";
+    private static final String COMPLEXITY_ANALYSIS = "complexity:";
     private QueryAnalyzer queryAnalyzer;
 
     public boolean handleRequest(MessageContext messageContext) {
@@ -50,11 +53,14 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
             return true;
         }
         GraphQLSchema schema = (GraphQLSchema) messageContext.getProperty(APIConstants.GRAPHQL_SCHEMA);
-        if (queryAnalyzer == null) {
+        if (queryAnalyzer == null || queryAnalyzer.getSchema() != schema) {
             queryAnalyzer = new QueryAnalyzer(schema);
         }
         String payload = messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD).toString();
-        if (!isDepthAndComplexityValid(messageContext, payload)) {
+        // the payload is already parsed and validated by the GraphQLAPIHandler
+        ParsedGraphQLQuery parsedQuery = (ParsedGraphQLQuery) messageContext
+                .getProperty(APIConstants.GRAPHQL_PARSED_QUERY);
+        if (!isDepthAndComplexityValid(messageContext, payload, parsedQuery)) {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
@@ -66,11 +72,14 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
      *
      * @param messageContext message context of the request
      * @param payload        payload of the request
+     * @param parsedQuery    parsed payload of the request, or null if the payload is not parsed yet
      * @return true, if the query is not blocked or false, if the query is blocked
      */
-    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload,
+                                              ParsedGraphQLQuery parsedQuery) {
         try {
-            return isDepthValid(messageContext, payload) && isComplexityValid(messageContext, payload);
+            return isDepthValid(messageContext, payload, parsedQuery)
+                    && isComplexityValid(messageContext, payload, parsedQuery);
         } catch (Exception e) {
             String errorMessage = "Policy definition parsing failed. ";
             log.error(errorMessage, e);
@@ -79,12 +88,19 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         }
     }
 
-    private boolean isDepthValid(MessageContext messageContext, String payload) {
+    private boolean isDepthValid(MessageContext messageContext, String payload, ParsedGraphQLQuery parsedQuery) {
         int maxQueryDepth = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        String analysis = DEPTH_ANALYSIS + maxQueryDepth;
+        QueryAnalyzerResponseDTO responseDTO = parsedQuery != null ? parsedQuery.getAnalysisResult(analysis) : null;
+        if (responseDTO == null) {
+            responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload, getDocument(parsedQuery));
+            if (parsedQuery != null) {
+                parsedQuery.addAnalysisResult(analysis, responseDTO);
+            }
+        }
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -94,16 +110,24 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
-    private boolean isComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isComplexityValid(MessageContext messageContext, String payload, ParsedGraphQLQuery parsedQuery) {
         int queryComplexity = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
             queryComplexity = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
         }
         String complexityInfoJson = (String) messageContext
                 .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
-        QueryAnalyzerResponseDTO responseDTO = null;
+        // the access control policy is derived from the schema, which the cached payloads are bound to
+        String analysis = COMPLEXITY_ANALYSIS + queryComplexity;
+        QueryAnalyzerResponseDTO responseDTO = parsedQuery != null ? parsedQuery.getAnalysisResult(analysis) : null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
+            if (responseDTO == null) {
+                responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, getDocument(parsedQuery),
+                        queryComplexity, complexityInfoJson);
+                if (parsedQuery != null) {
+                    parsedQuery.addAnalysisResult(analysis, responseDTO);
+                }
+            }
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
@@ -117,6 +141,10 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
+    private Document getDocument(ParsedGraphQLQuery parsedQuery) {
+        return parsedQuery != null ? parsedQuery.getDocument() : null;
+    }
+
     /**
      * This method handle the failure.
      *
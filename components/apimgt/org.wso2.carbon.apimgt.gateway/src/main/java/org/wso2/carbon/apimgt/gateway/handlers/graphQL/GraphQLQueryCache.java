@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Bounded cache of the GraphQL payloads parsed for an API, keyed by a hash of the normalized payload. The cache is
+ * bound to the schema the payloads were validated against, and has to be replaced when the schema of the API changes.
+ */
+public class GraphQLQueryCache {
+
+    public static final int DEFAULT_MAX_QUERIES = 1000;
+
+    private final GraphQLSchemaDTO graphQLSchemaDTO;
+    private final LRUCache<String, ParsedGraphQLQuery> parsedQueries;
+
+    /**
+     * @param graphQLSchemaDTO schema the cached payloads are validated against
+     * @param maxQueries       maximum number of payloads cached. Nothing is cached if it is not positive
+     */
+    public GraphQLQueryCache(GraphQLSchemaDTO graphQLSchemaDTO, int maxQueries) {
+
+        this.graphQLSchemaDTO = graphQLSchemaDTO;
+        this.parsedQueries = maxQueries > 0 ? new LRUCache<>(maxQueries) : null;
+    }
+
+    public GraphQLSchemaDTO getGraphQLSchemaDTO() {
+
+        return graphQLSchemaDTO;
+    }
+
+    /**
+     * @param key key of the payload, as returned by {@link #getKey(String)}
+     * @return the parsed payload, or null if it is not cached
+     */
+    public ParsedGraphQLQuery get(String key) {
+
+        return parsedQueries != null ? parsedQueries.get(key) : null;
+    }
+
+    public void put(String key, ParsedGraphQLQuery parsedQuery) {
+
+        if (parsedQueries != null) {
+            parsedQueries.put(key, parsedQuery);
+        }
+    }
+
+    /**
+     * Computes the cache key of a payload. Payloads which differ only in insignificant white space have the same key.
+     *
+     * @param payload GraphQL payload
+     * @return cache key of the payload
+     */
+    public static String getKey(String payload) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(normalize(payload).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Trims a payload and removes the white space and commas outside string values and comments, keeping a single
+     * line terminator after a comment, since it ends the comment, and a single space between two names or values.
+     *
+     * @param payload GraphQL payload
+     * @return normalized payload
+     */
+    static String normalize(String payload) {
+
+        StringBuilder normalized = new StringBuilder(payload.length());
+        int length = payload.length();
+        boolean afterComment = false;
+        int i = 0;
+        while (i < length) {
+            char c = payload.charAt(i);
+            if (isIgnored(c)) {
+                while (i < length && isIgnored(payload.charAt(i))) {
+                    i++;
+                }
+                if (normalized.length() > 0 && i < length) {
+                    if (afterComment) {
+                        normalized.append('\n');
+                    } else if (!isPunctuator(normalized.charAt(normalized.length() - 1))
+                            && !isPunctuator(payload.charAt(i))) {
+                        normalized.append(' ');
+                    }
+                }
+                afterComment = false;
+            } else if (c == '#') {
+                int end = endOfComment(payload, i + 1);
+                normalized.append(payload, i, end);
+                afterComment = true;
+                i = end;
+            } else if (c == '"') {
+                int end = payload.startsWith("\"\"\"", i) ? endOfBlockString(payload, i + 3)
+                        : endOfString(payload, i + 1);
+                normalized.append(payload, i, end);
+                i = end;
+            } else {
+                normalized.append(c);
+                i++;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isPunctuator(char c) {
+
+        return "!$&().:=@[]{}|".indexOf(c) >= 0;
+    }
+
+    private static boolean isIgnored(char c) {
+
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '\uFEFF';
+    }
+
+    private static int endOfComment(String payload, int start) {
+
+        int i = start;
+        while (i < payload.length() && payload.charAt(i) != '\n' && payload.charAt(i) != '\r') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int endOfString(String payload, int start) {
+
+        int i = start;
+        while (i < payload.length()) {
+            char c = payload.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"' || c == '\n' || c == '\r') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return payload.length();
+    }
+
+    private static int endOfBlockString(String payload, int start) {
+
+        int i = start;
+        while (i < payload.length()) {
+            if (payload.startsWith("\\\"\"\"", i)) {
+                i += 4;
+            } else if (payload.startsWith("\"\"\"", i)) {
+                return i + 3;
+            } else {
+                i++;
+            }
+        }
+        return payload.length();
+    }
+}
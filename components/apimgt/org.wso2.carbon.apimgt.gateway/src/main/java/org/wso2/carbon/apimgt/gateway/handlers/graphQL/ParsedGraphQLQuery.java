@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome of parsing and validating a GraphQL payload against the schema of an API. It is shared by the GraphQL
+ * handlers of a request through the message context, and by the requests having the same payload through the
+ * {@link GraphQLQueryCache} of the API, hence it must not be modified once created other than by adding analysis
+ * results.
+ */
+public class ParsedGraphQLQuery {
+
+    private static final int MAX_ANALYSIS_RESULTS = 32;
+
+    private final Document document;
+    private final String validationErrorMessage;
+    private final boolean operationDefinitionMissing;
+    private final OperationDefinition operation;
+    private final String operationList;
+    private final Map<String, QueryAnalyzerResponseDTO> analysisResults = new ConcurrentHashMap<>();
+
+    /**
+     * @param document                   parsed payload
+     * @param validationErrorMessage     validation errors of the payload, or null if the payload is valid
+     * @param operationDefinitionMissing whether the payload has a definition which is not an operation definition
+     *                                   before its first operation
+     * @param operation                  operation of the payload, or null if there is none
+     * @param operationList              operations of the payload as a comma separated string, or null if there is
+     *                                   no operation
+     */
+    public ParsedGraphQLQuery(Document document, String validationErrorMessage, boolean operationDefinitionMissing,
+                              OperationDefinition operation, String operationList) {
+
+        this.document = document;
+        this.validationErrorMessage = validationErrorMessage;
+        this.operationDefinitionMissing = operationDefinitionMissing;
+        this.operation = operation;
+        this.operationList = operationList;
+    }
+
+    public Document getDocument() {
+
+        return document;
+    }
+
+    public String getValidationErrorMessage() {
+
+        return validationErrorMessage;
+    }
+
+    public boolean isOperationDefinitionMissing() {
+
+        return operationDefinitionMissing;
+    }
+
+    public OperationDefinition getOperation() {
+
+        return operation;
+    }
+
+    public String getOperationList() {
+
+        return operationList;
+    }
+
+    /**
+     * @param analysis analysis and the limit it is run with, such as the maximum query depth
+     * @return result of the analysis, or null if the analysis is yet to be run on this payload
+     */
+    public QueryAnalyzerResponseDTO getAnalysisResult(String analysis) {
+
+        return analysisResults.get(analysis);
+    }
+
+    /**
+     * Keeps the result of an analysis, unless the results of too many analyses are already kept, since the limits
+     * come from the subscription policies and are not bounded.
+     *
+     * @param analysis analysis and the limit it is run with, such as the maximum query depth
+     * @param result   result of the analysis
+     */
+    public void addAnalysisResult(String analysis, QueryAnalyzerResponseDTO result) {
+
+        if (analysisResults.size() < MAX_ANALYSIS_RESULTS) {
+            analysisResults.put(analysis, result);
+        }
+    }
+}
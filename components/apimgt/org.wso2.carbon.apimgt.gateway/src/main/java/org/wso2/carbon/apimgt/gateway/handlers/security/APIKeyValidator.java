@@ -89,6 +89,8 @@ public class APIKeyValidator {
 
     private ArrayList<URITemplate> uriTemplates = null;
 
+    private volatile ResourceRouteIndex routeIndex;
+
     public APIKeyValidator() {
 
         this.dataStore = new WSAPIKeyDataStore();
@@ -437,9 +439,21 @@ public class APIKeyValidator {
             }
         } else {
             // This block won't get executed for MCP Servers and GraphQL APIs
-            API selectedApi = Utils.getSelectedAPI(synCtx);
             Resource selectedResource = null;
-            String resourceString;
+            String resourceString = null;
+            API selectedApi = null;
+            ResourceRouteIndex.Route matchedRoute = null;
+
+            if (!RESTConstants.METHOD_OPTIONS.equals(httpMethod)) {
+                ResourceRouteIndex index = getRouteIndex(synCtx, apiContext, apiVersion);
+                matchedRoute = index != null ? index.match(requestPath, httpMethod) : null;
+                if (matchedRoute != null) {
+                    resourceString = matchedRoute.getTemplate();
+                }
+            }
+            if (resourceString == null) {
+                selectedApi = Utils.getSelectedAPI(synCtx);
+            }
 
             if (selectedApi != null) {
                 Resource[] selectedAPIResources = selectedApi.getResources();
@@ -474,16 +488,22 @@ public class APIKeyValidator {
                 }
             }
 
-            if (selectedResource == null) {
+            if (selectedResource != null) {
+                resourceString = selectedResource.getDispatcherHelper().getString();
+            } else if (resourceString == null) {
                 //No matching resource found.
                 String msg = "Could not find matching resource for " + requestPath;
                 log.error(msg);
                 throw new ResourceNotFoundException(msg);
             }
 
-            resourceString = selectedResource.getDispatcherHelper().getString();
             resourceArray = new ArrayList<>(Arrays.asList(resourceString));
-            resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion, resourceString, httpMethod);
+            if (matchedRoute != null) {
+                resourceCacheKey = matchedRoute.getRequestKey();
+            } else {
+                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion, resourceString,
+                        httpMethod);
+            }
             synCtx.setProperty(APIConstants.API_ELECTED_RESOURCE, resourceString);
             synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
             synCtx.setProperty(APIConstants.REST_METHOD, httpMethod);
@@ -534,7 +554,23 @@ public class APIKeyValidator {
                 getResourceCache().put(apiCacheKey, apiInfoDTO);
             }
         }
-        if (apiInfoDTO.getResources() != null) {
+        ResourceRouteIndex index = getRouteIndex(synCtx, apiContext, apiVersion);
+        if (index != null) {
+            for (String resourceString : resourceArray) {
+                ResourceRouteIndex.Route route = index.getRoute(resourceString, httpMethod);
+                if (route != null) {
+                    resourceCacheKey = route.getRequestKey();
+                    verbInfoList.add(route.getVerbInfo());
+                    if (isGatewayAPIResourceValidationEnabled) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Putting resource object in cache with key: " + resourceCacheKey);
+                        }
+                        getResourceCache().put(resourceCacheKey, route.getVerbInfo());
+                        synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
+                    }
+                }
+            }
+        } else if (apiInfoDTO.getResources() != null) {
             for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
                 Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
                 for (VerbInfoDTO verb : verbDTOList) {
@@ -574,6 +610,38 @@ public class APIKeyValidator {
         return verbInfoList;
     }
 
+    /**
+     * Returns the resources of the API compiled into a route index. The index is compiled once from the URI templates
+     * of the API, which are retrieved once per deployment of the API as well.
+     *
+     * @param synCtx     message context
+     * @param apiContext context of the API
+     * @param apiVersion version of the API
+     * @return the route index, or null if the index was compiled for another API
+     */
+    private ResourceRouteIndex getRouteIndex(MessageContext synCtx, String apiContext, String apiVersion)
+            throws APISecurityException {
+
+        ResourceRouteIndex index = routeIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = routeIndex;
+                if (index == null) {
+                    String apiType = (String) synCtx.getProperty(APIMgtGatewayConstants.API_TYPE);
+                    APIInfoDTO apiInfoDTO;
+                    if (APIConstants.ApiTypes.PRODUCT_API.name().equalsIgnoreCase(apiType)) {
+                        apiInfoDTO = doGetAPIProductInfo(synCtx, apiContext, apiVersion);
+                    } else {
+                        apiInfoDTO = doGetAPIInfo(synCtx, apiContext, apiVersion);
+                    }
+                    index = ResourceRouteIndex.compile(apiContext, apiVersion, apiInfoDTO.getResources());
+                    routeIndex = index;
+                }
+            }
+        }
+        return index.isCompiledFor(apiContext, apiVersion) ? index : null;
+    }
+
     private String getRequestPath(MessageContext synCtx, String apiContext, String apiVersion, String fullRequestPath) {
         String requestPath;
         String versionStrategy = (String) synCtx.getProperty(RESTConstants.SYNAPSE_REST_API_VERSION_STRATEGY);
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the OpenAPI validator built for the deployed revision of each API, since building a validator indexes every
+ * path and schema of the OpenAPI definition. A validator is bound to the API UUID, the revision deployed and the
+ * OpenAPI definition it is built from, and is dropped when another revision of the API is deployed or the API is
+ * undeployed.
+ */
+public class OpenAPIValidatorCache {
+
+    private static final Log log = LogFactory.getLog(OpenAPIValidatorCache.class);
+    private static final OpenAPIValidatorCache instance = new OpenAPIValidatorCache();
+
+    private final Map<String, String> deployedRevisions = new ConcurrentHashMap<>();
+    private final Map<String, CachedValidator> validators = new ConcurrentHashMap<>();
+
+    OpenAPIValidatorCache() {
+
+    }
+
+    public static OpenAPIValidatorCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the validator of the deployed revision of an API, building it if there is none or if the one cached
+     * was built from another OpenAPI definition. Requests to an API wait while its validator is being built.
+     *
+     * @param apiUUID          UUID of the API
+     * @param openAPI          OpenAPI definition of the API
+     * @param validatorBuilder builds a validator for an OpenAPI definition
+     * @return validator of the API
+     */
+    public OpenApiInteractionValidator getValidator(String apiUUID, OpenAPI openAPI,
+                                                    Function<OpenAPI, OpenApiInteractionValidator> validatorBuilder) {
+
+        if (apiUUID == null) {
+            return validatorBuilder.apply(openAPI);
+        }
+        CachedValidator cachedValidator = validators.get(apiUUID);
+        String revision = deployedRevisions.get(apiUUID);
+        if (cachedValidator != null && cachedValidator.isBuiltFor(openAPI, revision)) {
+            return cachedValidator.validator;
+        }
+        return validators.compute(apiUUID, (uuid, validator) -> {
+            if (validator != null && validator.isBuiltFor(openAPI, revision)) {
+                return validator;
+            }
+            long startTime = System.currentTimeMillis();
+            validator = new CachedValidator(openAPI, revision, validatorBuilder.apply(openAPI));
+            if (log.isDebugEnabled()) {
+                log.debug("Time to build the OpenAPI validator of API " + uuid + " revision " + revision + " (ms) : "
+                        + (System.currentTimeMillis() - startTime));
+            }
+            return validator;
+        }).validator;
+    }
+
+    /**
+     * Builds the validator of the deployed revision of an API ahead of the requests to the API.
+     *
+     * @param apiUUID UUID of the API
+     * @param openAPI OpenAPI definition of the API
+     */
+    public void precompile(String apiUUID, OpenAPI openAPI) {
+
+        getValidator(apiUUID, openAPI, SchemaValidator::getOpenAPIValidator);
+    }
+
+    /**
+     * Drops the validator of an API as another revision of it is deployed.
+     *
+     * @param apiUUID  UUID of the API
+     * @param revision revision deployed
+     */
+    public void apiDeployed(String apiUUID, String revision) {
+
+        if (apiUUID == null) {
+            return;
+        }
+        if (revision != null) {
+            deployedRevisions.put(apiUUID, revision);
+        } else {
+            deployedRevisions.remove(apiUUID);
+        }
+        validators.remove(apiUUID);
+    }
+
+    /**
+     * Drops the validator of an API as it is undeployed.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public void apiUndeployed(String apiUUID) {
+
+        if (apiUUID == null) {
+            return;
+        }
+        deployedRevisions.remove(apiUUID);
+        validators.remove(apiUUID);
+    }
+
+    private static class CachedValidator {
+
+        private final OpenAPI openAPI;
+        private final String revision;
+        private final OpenApiInteractionValidator validator;
+
+        CachedValidator(OpenAPI openAPI, String revision, OpenApiInteractionValidator validator) {
+
+            this.openAPI = openAPI;
+            this.revision = revision;
+            this.validator = validator;
+        }
+
+        boolean isBuiltFor(OpenAPI openAPI, String revision) {
+
+            return this.openAPI == openAPI && Objects.equals(this.revision, revision);
+        }
+    }
+}
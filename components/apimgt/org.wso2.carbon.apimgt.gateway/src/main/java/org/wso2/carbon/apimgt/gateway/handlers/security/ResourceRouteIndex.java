@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resources of a deployed API compiled into a segment trie of literal, path parameter and wildcard nodes, with the
+ * verbs of each resource kept per HTTP method. The index is compiled once per deployed API and matches a request
+ * path by walking it in place, so that neither matching nor looking up a resource creates objects per request.
+ * Templates with expressions other than whole segment path parameters and a trailing wildcard are kept for the
+ * lookup by resource, while matching request paths is left to the Synapse dispatchers for such APIs.
+ */
+public class ResourceRouteIndex {
+
+    private static final Log log = LogFactory.getLog(ResourceRouteIndex.class);
+    private static final Map<String, ResourceRouteIndex> indexesByApi = new ConcurrentHashMap<>();
+    private static final String WILDCARD = "*";
+
+    private final String context;
+    private final String version;
+    private final API api;
+    private final Node root = new Node();
+    private final Map<String, Map<String, Route>> routesByTemplate = new HashMap<>();
+    private final Map<String, Map<String, Route>> routesByTemplateIgnoreCase =
+            new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private boolean pathMatchingSupported = true;
+    private int routeCount;
+
+    private ResourceRouteIndex(String context, String version, API api) {
+
+        this.context = context;
+        this.version = version;
+        this.api = api;
+    }
+
+    /**
+     * Compiles the resources of an API.
+     *
+     * @param context   context of the API
+     * @param version   version of the API
+     * @param resources resources of the API along with their verbs
+     * @return the compiled index
+     */
+    public static ResourceRouteIndex compile(String context, String version, Collection<ResourceInfoDTO> resources) {
+
+        return compile(context, version, resources, null);
+    }
+
+    /**
+     * Returns the index of a deployed API, compiled from its URL mappings on the first call after the API is
+     * deployed. Used where resources are matched against the API entity, as for WebSocket and GraphQL subscription
+     * APIs.
+     *
+     * @param api     deployed API
+     * @param context context of the API the request is made to
+     * @param version version of the API the request is made to
+     * @return the compiled index
+     */
+    public static ResourceRouteIndex forAPI(API api, String context, String version) {
+
+        ResourceRouteIndex index = indexesByApi.get(api.getUuid());
+        if (index == null || index.api != api || !index.isCompiledFor(context, version)) {
+            index = compile(context, version, toResources(api.getResources()), api);
+            indexesByApi.put(api.getUuid(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Drops the index of an API as it is redeployed, to be compiled again from the deployed API.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public static void apiDeployed(String apiUUID) {
+
+        if (apiUUID != null) {
+            indexesByApi.remove(apiUUID);
+        }
+    }
+
+    /**
+     * @param apiUUID UUID of the undeployed API
+     */
+    public static void apiUndeployed(String apiUUID) {
+
+        apiDeployed(apiUUID);
+    }
+
+    private static ResourceRouteIndex compile(String context, String version, Collection<ResourceInfoDTO> resources,
+                                              API api) {
+
+        ResourceRouteIndex index = new ResourceRouteIndex(context, version, api);
+        if (resources != null) {
+            for (ResourceInfoDTO resource : resources) {
+                index.add(resource);
+            }
+        }
+        index.root.freeze();
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled " + index.routeCount + " routes of API " + context + ":" + version
+                    + (index.pathMatchingSupported ? "" : " without request path matching"));
+        }
+        return index;
+    }
+
+    private static List<ResourceInfoDTO> toResources(List<URLMapping> urlMappings) {
+
+        Map<String, ResourceInfoDTO> resources = new LinkedHashMap<>();
+        if (urlMappings != null) {
+            for (URLMapping urlMapping : urlMappings) {
+                ResourceInfoDTO resourceInfoDTO = resources.get(urlMapping.getUrlPattern());
+                if (resourceInfoDTO == null) {
+                    resourceInfoDTO = new ResourceInfoDTO();
+                    resourceInfoDTO.setUrlPattern(urlMapping.getUrlPattern());
+                    resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>());
+                    resources.put(urlMapping.getUrlPattern(), resourceInfoDTO);
+                }
+                VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+                verbInfoDTO.setHttpVerb(urlMapping.getHttpMethod());
+                verbInfoDTO.setAuthType(urlMapping.getAuthScheme());
+                verbInfoDTO.setThrottling(urlMapping.getThrottlingPolicy());
+                resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+            }
+        }
+        return new ArrayList<>(resources.values());
+    }
+
+    /**
+     * @param context context of an API
+     * @param version version of an API
+     * @return whether the index was compiled for the given API context and version
+     */
+    public boolean isCompiledFor(String context, String version) {
+
+        return this.context != null && this.context.equals(context) && this.version != null
+                && this.version.equals(version);
+    }
+
+    /**
+     * @return whether request paths of the API can be matched with the index
+     */
+    public boolean isPathMatchingSupported() {
+
+        return pathMatchingSupported;
+    }
+
+    /**
+     * Matches a request path to a resource of the API. Literal segments take precedence over path parameters, which
+     * take precedence over wildcards, and the most specific wildcard is picked when only wildcards match.
+     *
+     * @param requestPath request path relative to the API, which may carry a query string
+     * @param httpMethod  HTTP method of the request
+     * @return the matching route, or null if the path matches no resource of the API or is not matched by the index
+     */
+    public Route match(String requestPath, String httpMethod) {
+
+        if (!pathMatchingSupported || requestPath == null || httpMethod == null) {
+            return null;
+        }
+        int end = requestPath.length();
+        for (int i = 0; i < end; i++) {
+            char c = requestPath.charAt(i);
+            if (c == '?' || c == '#') {
+                end = i;
+                break;
+            }
+        }
+        int start = end > 0 && requestPath.charAt(0) == '/' ? 1 : 0;
+        return match(root, requestPath, start, end, httpMethod);
+    }
+
+    /**
+     * Looks up the route of a resource, ignoring the case and a trailing '/' of the resource template.
+     *
+     * @param resource   URL template of the resource, or the operation for GraphQL APIs
+     * @param httpMethod HTTP method, or the operation type for GraphQL APIs
+     * @return the route of the resource, or null if the API has no such resource
+     */
+    public Route getRoute(String resource, String httpMethod) {
+
+        if (resource == null || httpMethod == null) {
+            return null;
+        }
+        Map<String, Route> routes = routesByTemplate.get(resource);
+        if (routes == null) {
+            routes = routesByTemplateIgnoreCase.get(resource.trim());
+        }
+        return routes != null ? routes.get(httpMethod) : null;
+    }
+
+    private Route match(Node node, String path, int start, int end, String httpMethod) {
+
+        if (start >= end) {
+            Route route = node.getRoute(httpMethod);
+            return route != null ? route : node.getWildcardRoute(httpMethod);
+        }
+        int segmentEnd = path.indexOf('/', start);
+        if (segmentEnd < 0 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+        int next = segmentEnd < end ? segmentEnd + 1 : end;
+        Node literal = node.getLiteral(path, start, segmentEnd);
+        if (literal != null) {
+            Route route = match(literal, path, next, end, httpMethod);
+            if (route != null) {
+                return route;
+            }
+        }
+        if (node.param != null && segmentEnd > start) {
+            Route route = match(node.param, path, next, end, httpMethod);
+            if (route != null) {
+                return route;
+            }
+        }
+        return node.getWildcardRoute(httpMethod);
+    }
+
+    private void add(ResourceInfoDTO resource) {
+
+        if (resource.getUrlPattern() == null || resource.getHttpVerbs() == null) {
+            return;
+        }
+        String template = resource.getUrlPattern().trim();
+        boolean firstVerb = true;
+        for (VerbInfoDTO verb : resource.getHttpVerbs()) {
+            String httpMethod = verb.getHttpVerb();
+            BackendOperationMapping backendOperationMapping = verb.getBackendAPIOperationMapping();
+            if (backendOperationMapping != null && backendOperationMapping.getBackendOperation() != null) {
+                // MCP servers with a direct backend are matched on the backend operation of their tools
+                BackendOperation backendOperation = backendOperationMapping.getBackendOperation();
+                httpMethod = backendOperation.getVerb().toString();
+                if (firstVerb && backendOperation.getTarget() != null) {
+                    template = backendOperation.getTarget().trim();
+                }
+            }
+            firstVerb = false;
+            if (httpMethod == null) {
+                continue;
+            }
+            Route route = new Route(template, httpMethod, verb,
+                    APIUtil.getResourceInfoDTOCacheKey(context, version, template, httpMethod));
+            if (routesByTemplate.computeIfAbsent(template, key -> new HashMap<>()).putIfAbsent(httpMethod, route)
+                    != null) {
+                continue;
+            }
+            verb.setRequestKey(route.requestKey);
+            routeCount++;
+            routesByTemplateIgnoreCase.computeIfAbsent(template, key -> new HashMap<>())
+                    .putIfAbsent(httpMethod, route);
+            if (template.length() > 1 && template.endsWith("/")) {
+                routesByTemplateIgnoreCase.computeIfAbsent(template.substring(0, template.length() - 1),
+                        key -> new HashMap<>()).putIfAbsent(httpMethod, route);
+            }
+            addPath(template, route);
+        }
+    }
+
+    private void addPath(String template, Route route) {
+
+        Node node = root;
+        String[] segments = (template.startsWith("/") ? template.substring(1) : template).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            boolean last = i == segments.length - 1;
+            if (last && segment.isEmpty()) {
+                break;
+            }
+            if (last && WILDCARD.equals(segment)) {
+                node.addWildcardRoute(route);
+                return;
+            }
+            if (isPathParameter(segment)) {
+                if (node.param == null) {
+                    node.param = new Node();
+                }
+                node = node.param;
+            } else if (isLiteral(segment)) {
+                node = node.addLiteral(segment);
+            } else {
+                if (pathMatchingSupported && log.isDebugEnabled()) {
+                    log.debug("Resource " + template + " of API " + context + ":" + version
+                            + " is not matched with the route index");
+                }
+                pathMatchingSupported = false;
+                return;
+            }
+        }
+        node.addRoute(route);
+    }
+
+    private static boolean isPathParameter(String segment) {
+
+        if (segment.length() < 3 || segment.charAt(0) != '{' || segment.charAt(segment.length() - 1) != '}') {
+            return false;
+        }
+        for (int i = 1; i < segment.length() - 1; i++) {
+            char c = segment.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLiteral(String segment) {
+
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '{' || c == '}' || c == '*' || c == '?' || c == '#') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A resource of the API along with its verb for an HTTP method.
+     */
+    public static class Route {
+
+        private final String template;
+        private final String httpMethod;
+        private final VerbInfoDTO verbInfo;
+        private final String requestKey;
+
+        Route(String template, String httpMethod, VerbInfoDTO verbInfo, String requestKey) {
+
+            this.template = template;
+            this.httpMethod = httpMethod;
+            this.verbInfo = verbInfo;
+            this.requestKey = requestKey;
+        }
+
+        public String getTemplate() {
+
+            return template;
+        }
+
+        public String getHttpMethod() {
+
+            return httpMethod;
+        }
+
+        public VerbInfoDTO getVerbInfo() {
+
+            return verbInfo;
+        }
+
+        /**
+         * @return the resource cache key of the route
+         */
+        public String getRequestKey() {
+
+            return requestKey;
+        }
+    }
+
+    /**
+     * A path segment of the trie. Literal children are kept in sorted arrays once compiled, so that a segment of the
+     * request path is looked up by comparing it in place.
+     */
+    private static class Node {
+
+        private static final String[] NO_KEYS = new String[0];
+        private static final Node[] NO_NODES = new Node[0];
+
+        private Map<String, Node> literalMap = new TreeMap<>();
+        private String[] literalKeys = NO_KEYS;
+        private Node[] literals = NO_NODES;
+        private Node param;
+        private Map<String, Route> routes;
+        private Map<String, Route> wildcardRoutes;
+
+        Node addLiteral(String segment) {
+
+            return literalMap.computeIfAbsent(segment, key -> new Node());
+        }
+
+        void addRoute(Route route) {
+
+            if (routes == null) {
+                routes = new HashMap<>();
+            }
+            routes.putIfAbsent(route.httpMethod, route);
+        }
+
+        void addWildcardRoute(Route route) {
+
+            if (wildcardRoutes == null) {
+                wildcardRoutes = new HashMap<>();
+            }
+            wildcardRoutes.putIfAbsent(route.httpMethod, route);
+        }
+
+        Route getRoute(String httpMethod) {
+
+            return routes != null ? routes.get(httpMethod) : null;
+        }
+
+        Route getWildcardRoute(String httpMethod) {
+
+            return wildcardRoutes != null ? wildcardRoutes.get(httpMethod) : null;
+        }
+
+        void freeze() {
+
+            if (!literalMap.isEmpty()) {
+                literalKeys = literalMap.keySet().toArray(NO_KEYS);
+                literals = literalMap.values().toArray(NO_NODES);
+            }
+            literalMap = null;
+            for (Node literal : literals) {
+                literal.freeze();
+            }
+            if (param != null) {
+                param.freeze();
+            }
+        }
+
+        Node getLiteral(String path, int start, int end) {
+
+            int low = 0;
+            int high = literalKeys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = compare(literalKeys[mid], path, start, end);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    return literals[mid];
+                }
+            }
+            return null;
+        }
+
+        private static int compare(String key, String path, int start, int end) {
+
+            int length = end - start;
+            int limit = Math.min(key.length(), length);
+            for (int i = 0; i < limit; i++) {
+                char keyChar = key.charAt(i);
+                char pathChar = path.charAt(start + i);
+                if (keyChar != pathChar) {
+                    return keyChar - pathChar;
+                }
+            }
+            return key.length() - length;
+        }
+    }
+}
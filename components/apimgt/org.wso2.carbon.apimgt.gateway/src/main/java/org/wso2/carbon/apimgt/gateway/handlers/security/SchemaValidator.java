@@ -47,7 +47,7 @@ public class SchemaValidator extends AbstractHandler {
      * @param openAPI openAPI
      * @return OpenApiInteractionValidator object for the provided swagger.
      */
-    private static OpenApiInteractionValidator getOpenAPIValidator(OpenAPI openAPI) {
+    static OpenApiInteractionValidator getOpenAPIValidator(OpenAPI openAPI) {
 
         return OpenApiInteractionValidator
                 .createFor(openAPI)
@@ -60,6 +60,20 @@ public class SchemaValidator extends AbstractHandler {
                 .build();
     }
 
+    /**
+     * Method to get the OpenApiInteractionValidator of the API the message belongs to, which is built once for each
+     * revision of the API deployed.
+     *
+     * @param messageContext message context
+     * @param openAPI        openAPI
+     * @return OpenApiInteractionValidator object for the provided swagger.
+     */
+    private static OpenApiInteractionValidator getOpenAPIValidator(MessageContext messageContext, OpenAPI openAPI) {
+
+        String apiUUID = (String) messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY);
+        return OpenAPIValidatorCache.getInstance().getValidator(apiUUID, openAPI, SchemaValidator::getOpenAPIValidator);
+    }
+
     @Override
     public boolean handleRequest(MessageContext messageContext) {
 
@@ -70,7 +84,7 @@ public class SchemaValidator extends AbstractHandler {
         logger.debug("Validating the API request Body content..");
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIRequest request = new OpenAPIRequest(messageContext);
 
             ValidationReport validationReport = validator.validateRequest(request);
@@ -97,7 +111,7 @@ public class SchemaValidator extends AbstractHandler {
 
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIResponse response = new OpenAPIResponse(messageContext);
 
             ValidationReport validationReport = validator.validateResponse(response.getPath(), response.getMethod(),
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+/**
+ * Segment boundaries of a compact serialized JWS, in the form header.payload.signature, found by scanning the token
+ * once without splitting or copying it.
+ */
+public final class JWTEnvelope {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String token;
+    private final int headerEnd;
+    private final int payloadEnd;
+
+    private JWTEnvelope(String token, int headerEnd, int payloadEnd) {
+
+        this.token = token;
+        this.headerEnd = headerEnd;
+        this.payloadEnd = payloadEnd;
+    }
+
+    /**
+     * @param token access token
+     * @return the envelope of the token, or null if the token does not have exactly three segments or if its signature
+     * is empty
+     */
+    public static JWTEnvelope scan(String token) {
+
+        int headerEnd = token.indexOf('.');
+        if (headerEnd < 0) {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || payloadEnd == token.length() - 1 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+        return new JWTEnvelope(token, headerEnd, payloadEnd);
+    }
+
+    public String getToken() {
+
+        return token;
+    }
+
+    /**
+     * @return index of the dot ending the header
+     */
+    public int getHeaderEnd() {
+
+        return headerEnd;
+    }
+
+    /**
+     * @return index of the dot ending the payload
+     */
+    public int getPayloadEnd() {
+
+        return payloadEnd;
+    }
+
+    /**
+     * Computes a 64 bit FNV-1a hash of the signature segment. Tokens with different signatures may have the same hash,
+     * hence the hash identifies a token only along with a comparison of the whole token.
+     *
+     * @return hash of the signature
+     */
+    public long getSignatureHash() {
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = payloadEnd + 1; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
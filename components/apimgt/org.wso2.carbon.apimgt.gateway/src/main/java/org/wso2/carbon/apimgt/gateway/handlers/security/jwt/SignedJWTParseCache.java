@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+import com.nimbusds.jwt.SignedJWT;
+import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.text.ParseException;
+
+/**
+ * Bounded in process cache of the JWT access tokens parsed by the gateway authenticators, keyed by the hash of the
+ * token signature. A cached token is returned only if it is the same as the token looked up, so tokens having the
+ * same signature hash do not get each other's claims.
+ */
+public class SignedJWTParseCache {
+
+    static final int DEFAULT_MAX_TOKENS = 10000;
+    private static final SignedJWTParseCache instance = new SignedJWTParseCache(DEFAULT_MAX_TOKENS);
+
+    private final LRUCache<Long, SignedJWTInfo> parsedTokens;
+
+    SignedJWTParseCache(int maxTokens) {
+
+        this.parsedTokens = new LRUCache<>(maxTokens);
+    }
+
+    public static SignedJWTParseCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the parsed form of a token, parsing it if it is not cached.
+     *
+     * @param envelope envelope of the token
+     * @return the parsed token
+     * @throws ParseException if the token is not a valid signed JWT
+     */
+    public SignedJWTInfo getSignedJWTInfo(JWTEnvelope envelope) throws ParseException {
+
+        String token = envelope.getToken();
+        Long signatureHash = envelope.getSignatureHash();
+        SignedJWTInfo signedJWTInfo = parsedTokens.get(signatureHash);
+        if (signedJWTInfo == null || !token.equals(signedJWTInfo.getToken())) {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            signedJWTInfo = new SignedJWTInfo(token, signedJWT, signedJWT.getJWTClaimsSet());
+            parsedTokens.put(signatureHash, signedJWTInfo);
+        }
+        return signedJWTInfo;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.interceptors;
+
+import org.apache.axis2.context.MessageContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.transport.passthru.DefaultStreamInterceptor;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.mediators.AIAPIStreamedUsage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scans the event streams of AI API responses for their token usage as the events are relayed to the client, so that
+ * a streamed completion is accounted for without buffering it. The throttling and analytics events of the response
+ * are published once the usage is scanned, see {@link AIAPIStreamedUsage}, which is set to the message context by the
+ * AI API mediator.
+ */
+public class AIAPIResponseStreamInterceptor extends DefaultStreamInterceptor {
+
+    private static final Log log = LogFactory.getLog(AIAPIResponseStreamInterceptor.class);
+
+    @Override
+    public boolean interceptTargetResponse(MessageContext axisCtx) {
+        return axisCtx.getProperty(APIMgtGatewayConstants.AI_API_STREAMED_USAGE) != null;
+    }
+
+    @Override
+    public boolean targetResponse(ByteBuffer buffer, MessageContext axis2Ctx) {
+        Object usage = axis2Ctx.getProperty(APIMgtGatewayConstants.AI_API_STREAMED_USAGE);
+        if (usage instanceof AIAPIStreamedUsage) {
+            AIAPIStreamedUsage streamedUsage = (AIAPIStreamedUsage) usage;
+            try {
+                streamedUsage.scan(buffer);
+            } catch (RuntimeException e) {
+                // token accounting must not interrupt the stream, so the usage picked so far is published
+                log.error("Error while scanning the AI API response stream", e);
+                streamedUsage.complete();
+            }
+        }
+        return true;
+    }
+}
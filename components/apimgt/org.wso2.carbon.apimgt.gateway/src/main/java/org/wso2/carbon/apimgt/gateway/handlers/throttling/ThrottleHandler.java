@@ -59,6 +59,7 @@ import org.wso2.carbon.apimgt.gateway.handlers.ext.listener.ExtensionListenerUti
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityUtils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.mediators.AIAPIStreamedUsage;
 import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -312,14 +313,14 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                         log.debug("Checking condition : " + combinedResourceLevelThrottleKey);
                                     }
 
-                                    if (getThrottleDataHolder().isThrottled(combinedResourceLevelThrottleKey)) {
+                                    long timestamp = getThrottleDataHolder().
+                                            getThrottledUntil(combinedResourceLevelThrottleKey);
+                                    if (timestamp > 0) {
                                         if (!apiLevelThrottledTriggered) {
                                             isResourceLevelThrottled = isThrottled = true;
                                         } else {
                                             isApiLevelThrottled = isThrottled = true;
                                         }
-                                        long timestamp = getThrottleDataHolder().
-                                                getThrottleNextAccessTimestamp(combinedResourceLevelThrottleKey);
                                         synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
                                                 timestamp);
                                     }
@@ -340,15 +341,14 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                             log.debug("Checking condition : " + combinedResourceLevelThrottleKey);
                                         }
 
-                                        if (getThrottleDataHolder().
-                                                isThrottled(combinedResourceLevelThrottleKey)) {
+                                        long timestamp = getThrottleDataHolder().
+                                                getThrottledUntil(combinedResourceLevelThrottleKey);
+                                        if (timestamp > 0) {
                                             if (!apiLevelThrottledTriggered) {
                                                 isResourceLevelThrottled = isThrottled = true;
                                             } else {
                                                 isApiLevelThrottled = isThrottled = true;
                                             }
-                                            long timestamp = getThrottleDataHolder().
-                                                    getThrottleNextAccessTimestamp(combinedResourceLevelThrottleKey);
                                             synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
                                                     timestamp);
                                             break;
@@ -381,8 +381,9 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                         //Subscription Level Throttling
                         subscriptionLevelThrottleKey = getSubscriptionLevelThrottleKey(subscriptionLevelTier,
                                 authContext, apiContext, apiVersion);
-                        isSubscriptionLevelThrottled = getThrottleDataHolder().
-                                isThrottled(subscriptionLevelThrottleKey);
+                        long subscriptionThrottledUntil = getThrottleDataHolder().
+                                getThrottledUntil(subscriptionLevelThrottleKey);
+                        isSubscriptionLevelThrottled = subscriptionThrottledUntil > 0;
                         if (!isSubscriptionLevelThrottled && authContext.getSpikeArrestLimit() > 0) {
                             isSubscriptionLevelSpikeThrottled = isSubscriptionLevelSpike(synCtx, subscriptionLevelThrottleKey);
                         }
@@ -391,8 +392,9 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                         if (!isSubscriptionLevelThrottled && !isSubscriptionLevelSpikeThrottled) {
                             boolean isApplicationLevelSpikeThrottled = false;
                             //Application Level Throttling
-                            isApplicationLevelThrottled = getThrottleDataHolder().
-                                    isThrottled(applicationLevelThrottleKey);
+                            long applicationThrottledUntil = getThrottleDataHolder().
+                                    getThrottledUntil(applicationLevelThrottleKey);
+                            isApplicationLevelThrottled = applicationThrottledUntil > 0;
                             //if application level not throttled means it does not throttled at any level.
                             if (!isApplicationLevelThrottled) {
                                 if (authenticationContext.getApplicationSpikesArrestLimit() > 0) {
@@ -448,9 +450,8 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                 }
                                 synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON,
                                                    APIThrottleConstants.APPLICATION_LIMIT_EXCEEDED);
-                                long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(
-                                        applicationLevelThrottleKey);
-                                synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP, timestamp);
+                                synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
+                                        applicationThrottledUntil);
                                 isThrottled = isApplicationLevelThrottled = true;
                             }
                         } else {
@@ -472,8 +473,8 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                               subscriptionLevelThrottleKey);
                                 }
                                 if (!isSubscriptionLevelSpikeThrottled) {
-                                    long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(subscriptionLevelThrottleKey);
-                                    synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP, timestamp);
+                                    synCtx.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP,
+                                            subscriptionThrottledUntil);
                                     synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON, APIThrottleConstants.API_LIMIT_EXCEEDED);
                                     synCtx.setProperty(APIThrottleConstants.THROTTLED_OUT_REASON,
                                                        APIThrottleConstants.SUBSCRIPTION_LIMIT_EXCEEDED);
@@ -726,7 +727,13 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                 return false;
             }
             try {
-                sendNonThrottleEventToThrottlingEngine(messageContext);
+                AIAPIStreamedUsage streamedUsage = AIAPIStreamedUsage.get(messageContext);
+                if (streamedUsage != null) {
+                    // the token usage of an event stream is known only once the stream is relayed
+                    streamedUsage.onComplete(() -> sendNonThrottleEventToThrottlingEngine(messageContext));
+                } else {
+                    sendNonThrottleEventToThrottlingEngine(messageContext);
+                }
                 return ExtensionListenerUtil.postProcessResponse(messageContext, type);
             } catch (Exception e) {
                 if (TelemetryUtil.telemetryEnabled()) {
@@ -1304,8 +1311,8 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                         key = key.replaceAll(customKey, customValue);
                     }
                 }
-                if (getThrottleDataHolder().isThrottled(key)) {
-                    long timestamp = getThrottleDataHolder().getThrottleNextAccessTimestamp(key);
+                long timestamp = getThrottleDataHolder().getThrottledUntil(key);
+                if (timestamp > 0) {
                     messageContext.setProperty(APIThrottleConstants.THROTTLED_NEXT_ACCESS_TIMESTAMP, timestamp);
                     return true;
                 }
@@ -34,6 +34,7 @@ import org.wso2.carbon.apimgt.gateway.handlers.WebsocketUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityException;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.handlers.security.ResourceRouteIndex;
 import org.wso2.carbon.apimgt.gateway.handlers.security.jwt.JWTValidator;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiException;
@@ -140,6 +141,14 @@ public class InboundWebsocketProcessorUtil {
     public static VerbInfoDTO findMatchingVerb(String operation, InboundMessageContext inboundMessageContext) {
         String resourceCacheKey;
         VerbInfoDTO verbInfoDTO = null;
+        if (inboundMessageContext.getElectedAPI() != null) {
+            ResourceRouteIndex.Route route = ResourceRouteIndex.forAPI(inboundMessageContext.getElectedAPI(),
+                    inboundMessageContext.getApiContext(), inboundMessageContext.getVersion())
+                    .getRoute(operation, GraphQLConstants.SubscriptionConstants.HTTP_METHOD_NAME);
+            if (route != null) {
+                return route.getVerbInfo();
+            }
+        }
         if (inboundMessageContext.getResourcesMap() != null) {
             ResourceInfoDTO resourceInfoDTO = inboundMessageContext.getResourcesMap().get(operation);
             Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
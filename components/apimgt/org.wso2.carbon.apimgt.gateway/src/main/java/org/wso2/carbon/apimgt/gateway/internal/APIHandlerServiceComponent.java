@@ -44,6 +44,8 @@ import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJ
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.AWSBedrockGuardrailProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.AzureOpenAIEmbeddingProviderServiceImpl;
+import org.wso2.carbon.apimgt.gateway.CachingEmbeddingProviderService;
+import org.wso2.carbon.apimgt.gateway.CachingVectorDBProviderService;
 import org.wso2.carbon.apimgt.gateway.HybridThrottleProcessor;
 import org.wso2.carbon.apimgt.gateway.MistralEmbeddingProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.OpenAIEmbeddingProviderServiceImpl;
@@ -99,6 +101,7 @@ public class APIHandlerServiceComponent {
 
     private APIKeyValidatorClientPool clientPool;
     private ServiceRegistration registration;
+    private HybridThrottleProcessor hybridThrottleProcessor;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -157,10 +160,9 @@ public class APIHandlerServiceComponent {
             String hybridThrottleProcessorWindowType =
                     ThrottleServiceDataHolder.getInstance().getThrottleProperties().getHybridThrottleProcessorWindowType();
             if (APIConstants.HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED.equals(hybridThrottleProcessorWindowType)) {
-                HybridThrottleProcessor hybridDistributedThrottleProcessor =
-                        new HybridThrottleProcessor();
+                hybridThrottleProcessor = new HybridThrottleProcessor();
                 context.getBundleContext().registerService(DistributedThrottleProcessor.class,
-                        hybridDistributedThrottleProcessor, null);
+                        hybridThrottleProcessor, null);
             }
         }
 
@@ -213,13 +215,16 @@ public class APIHandlerServiceComponent {
                 EmbeddingProviderService embeddingProviderService;
                 switch (embeddingProviderType) {
                     case APIConstants.AI.OPENAI_EMBEDDING_PROVIDER_TYPE:
-                        embeddingProviderService = new OpenAIEmbeddingProviderServiceImpl();
+                        embeddingProviderService =
+                                new CachingEmbeddingProviderService(new OpenAIEmbeddingProviderServiceImpl());
                         break;
                     case APIConstants.AI.MISTRAL_EMBEDDING_PROVIDER_TYPE:
-                        embeddingProviderService = new MistralEmbeddingProviderServiceImpl();
+                        embeddingProviderService =
+                                new CachingEmbeddingProviderService(new MistralEmbeddingProviderServiceImpl());
                         break;
                     case APIConstants.AI.AZURE_OPENAI_EMBEDDING_PROVIDER_TYPE:
-                        embeddingProviderService = new AzureOpenAIEmbeddingProviderServiceImpl();
+                        embeddingProviderService =
+                                new CachingEmbeddingProviderService(new AzureOpenAIEmbeddingProviderServiceImpl());
                         break;
                     default:
                         throw new APIManagementException("Unsupported embedding provider type: "
@@ -246,13 +251,15 @@ public class APIHandlerServiceComponent {
                 VectorDBProviderService vectorDBProviderService;
                 switch (vectorDBProviderType) {
                     case APIConstants.AI.VECTOR_DB_PROVIDER_ZILLIZ_TYPE:
-                        vectorDBProviderService = new ZillizVectorDBProviderServiceImpl();
+                        vectorDBProviderService =
+                                new CachingVectorDBProviderService(new ZillizVectorDBProviderServiceImpl());
                         break;
                     default:
                         throw new APIManagementException("Unsupported vector DB provider type: "
                                 + vectorDBProviderType);
                 }
                 vectorDBProviderService.init(vectorDBProviderConfigurationDTO);
+                ServiceReferenceHolder.getInstance().setVectorDBProviderService(vectorDBProviderService);
                 context.getBundleContext().registerService(
                         VectorDBProviderService.class.getName(),
                         vectorDBProviderService,
@@ -276,7 +283,6 @@ public class APIHandlerServiceComponent {
         CacheProvider.createGatewayApiKeyCache();
         CacheProvider.createGatewayApiKeyDataCache();
         CacheProvider.createInvalidGatewayApiKeyCache();
-        CacheProvider.createParsedSignJWTCache();
         CacheProvider.createGatewayInternalKeyCache();
         CacheProvider.createGatewayInternalKeyDataCache();
         CacheProvider.createInvalidInternalKeyCache();
@@ -295,6 +301,9 @@ public class APIHandlerServiceComponent {
             log.debug("Unregistering ThrottleDataService...");
             registration.unregister();
         }
+        if (hybridThrottleProcessor != null) {
+            hybridThrottleProcessor.destroy();
+        }
         if (ServiceReferenceHolder.getInstance().getRedisPool() != null &&
                 !ServiceReferenceHolder.getInstance().getRedisPool().isClosed()) {
             ServiceReferenceHolder.getInstance().getRedisPool().destroy();
@@ -56,6 +56,8 @@ public class DataHolder {
     private final Map<String, Cache<String, Long>> apiSuspendedEndpoints = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, AbstractAPIMgtGatewayJWTGenerator> jwtGeneratorTenantMap =
             new ConcurrentHashMap<>();
+    // revisions of the APIs deployed in the gateway by tenant and API UUID, whether the API metadata is known or not
+    private final Map<String, Map<String, String>> deployedAPIRevisions = new ConcurrentHashMap<>();
 
     private boolean isAllGatewayPoliciesDeployed = false;
     private boolean tenantsProvisioned = false;
@@ -251,6 +253,10 @@ public class DataHolder {
     }
 
     public void markAPIAsDeployed(GatewayAPIDTO gatewayAPIDTO) {
+        if (gatewayAPIDTO.getTenantDomain() != null && gatewayAPIDTO.getApiId() != null) {
+            deployedAPIRevisions.computeIfAbsent(gatewayAPIDTO.getTenantDomain(), tenant -> new ConcurrentHashMap<>())
+                    .put(gatewayAPIDTO.getApiId(), StringUtils.defaultString(gatewayAPIDTO.getRevision()));
+        }
         Map<String, API> apiMap = tenantAPIMap.get(gatewayAPIDTO.getTenantDomain());
         if (apiMap != null) {
             API api = apiMap.get(gatewayAPIDTO.getApiContext());
@@ -264,6 +270,32 @@ public class DataHolder {
         }
     }
 
+    /**
+     * Marks an API as no longer deployed in the gateway.
+     *
+     * @param tenantDomain tenant domain of the API
+     * @param apiId        UUID of the API
+     */
+    public void markAPIAsUndeployed(String tenantDomain, String apiId) {
+
+        Map<String, String> revisions = deployedAPIRevisions.get(tenantDomain);
+        if (revisions != null && apiId != null) {
+            revisions.remove(apiId);
+        }
+    }
+
+    /**
+     * @param tenantDomain tenant domain of the API
+     * @param apiId        UUID of the API
+     * @return revision of the API deployed in the gateway, an empty string if the revision of the deployed API is not
+     * known, or null if the API is not deployed
+     */
+    public String getDeployedRevision(String tenantDomain, String apiId) {
+
+        Map<String, String> revisions = deployedAPIRevisions.get(tenantDomain);
+        return revisions != null && apiId != null ? revisions.get(apiId) : null;
+    }
+
     public Map<String, Map<String, API>> getTenantAPIMap() {
         return tenantAPIMap;
     }
@@ -315,6 +347,7 @@ public class DataHolder {
             Map<String, API> apiMap = tenantAPIMap.get(tenantDomain);
             apiMap.values().forEach(api -> api.setDeployed(false));
         }
+        deployedAPIRevisions.remove(tenantDomain);
     }
 
     private void initializeTenantDeploymentStatusMap() {
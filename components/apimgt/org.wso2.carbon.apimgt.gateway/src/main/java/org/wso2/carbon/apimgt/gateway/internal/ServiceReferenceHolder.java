@@ -30,6 +30,7 @@ import org.wso2.carbon.apimgt.impl.APIManagerAnalyticsConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.api.LLMProviderService;
+import org.wso2.carbon.apimgt.api.VectorDBProviderService;
 import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationService;
 import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
@@ -89,6 +90,7 @@ public class ServiceReferenceHolder {
     private ThrottleDataPublisher throttleDataPublisher;
     private Map<String,AbstractAPIMgtGatewayJWTGenerator> apiMgtGatewayJWTGenerators  = new HashMap<>();
     private Map<String, LLMProviderService> llmProviderServiceMap = new HashMap();
+    private VectorDBProviderService vectorDBProviderService;
     private TracingTracer tracer;
     private TelemetryTracer telemetryTracer;
     private CacheInvalidationService cacheInvalidationService;
@@ -484,6 +486,16 @@ public class ServiceReferenceHolder {
         return llmProviderServiceMap.get(type);
     }
 
+    public VectorDBProviderService getVectorDBProviderService() {
+
+        return vectorDBProviderService;
+    }
+
+    public void setVectorDBProviderService(VectorDBProviderService vectorDBProviderService) {
+
+        this.vectorDBProviderService = vectorDBProviderService;
+    }
+
     public void setWebsocketProcessor(WebSocketProcessor websocketprocessor) {
         this.websocketprocessor = websocketprocessor;
     }
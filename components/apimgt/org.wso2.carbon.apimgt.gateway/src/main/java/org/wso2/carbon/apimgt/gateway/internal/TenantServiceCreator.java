@@ -196,7 +196,6 @@ public class TenantServiceCreator extends AbstractAxis2ConfigurationContextObser
         CacheProvider.createGatewayJWTTokenCache();
         CacheProvider.createTenantConfigCache();
         CacheProvider.createRecommendationsCache();
-        CacheProvider.createParsedSignJWTCache();
         CacheProvider.createJWTClaimCache();
         CacheProvider.createInvalidGatewayApiKeyCache();
         CacheProvider.createGatewayInternalKeyCache();
@@ -30,7 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RevokedJWTDataHolder {
 
     private static final Log log = LogFactory.getLog(RevokedJWTDataHolder.class);
-    private static Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final RevokedTokenIndex revokedJWTIndex = new RevokedTokenIndex();
     private static final Map<String, Long> revokedConsumerKeyMap = new ConcurrentHashMap<>();
     private static final Map<String, Long> revokedSubjectEntityAppMap = new ConcurrentHashMap<>();
     // User UUID (jwt claim) -> revoked timestamp
@@ -45,7 +45,7 @@ public class RevokedJWTDataHolder {
     public void addRevokedJWTToMap(String key, Long value) {
         if (key != null && value != null) {
             log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
-            revokedJWTMap.put(key, value);
+            revokedJWTIndex.add(key, value);
         }
     }
 
@@ -55,7 +55,7 @@ public class RevokedJWTDataHolder {
      * @return true if it exists and false otherwise.
      */
     public static boolean isJWTTokenSignatureExistsInRevokedMap(String jwtSignature) {
-        return revokedJWTMap.containsKey(jwtSignature);
+        return revokedJWTIndex.contains(jwtSignature);
     }
 
     private RevokedJWTDataHolder() {
@@ -63,11 +63,12 @@ public class RevokedJWTDataHolder {
     }
 
     /**
-     * Fetches the revoke map.
-     * @return
+     * Removes the revoked JWTs which are expired from the revoke map.
+     * @param currentTimestamp current time in milliseconds.
+     * @return number of JWTs removed.
      */
-    Map<String, Long> getRevokedJWTMap() {
-        return revokedJWTMap;
+    int removeExpiredRevokedJWTs(long currentTimestamp) {
+        return revokedJWTIndex.removeExpired(currentTimestamp);
     }
 
     /**
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compact index of revoked tokens along with their expiry times. A token is kept as a 64 bit hash of it in an open
+ * addressing table of primitives, instead of as a string in a map, and a bloom filter in front of the table answers
+ * most lookups of tokens which are not revoked without probing the table. Tokens are also grouped by the minute they
+ * expire in, so removing the expired tokens costs in proportion to the number of tokens expired.
+ * <p>
+ * Two tokens may have the same hash, in which case revoking one of them revokes the other as well. With 64 bit hashes
+ * this is unlikely enough to be ignored, as it can only reject a token, never accept a revoked one.
+ * <p>
+ * Lookups do not block unless the index is being updated.
+ */
+class RevokedTokenIndex {
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final int BLOOM_BITS_PER_SLOT = 8;
+    private static final int BLOOM_HASHES = 3;
+    private static final long EXPIRY_BUCKET_WIDTH = TimeUnit.MINUTES.toMillis(1);
+
+    private final StampedLock lock = new StampedLock();
+    private final TreeMap<Long, LongList> expiryBuckets = new TreeMap<>();
+    private volatile Table table = new Table(MIN_CAPACITY);
+    // guarded by lock
+    private int size;
+    // guarded by lock
+    private int removedSinceBloomBuilt;
+
+    /**
+     * Adds a revoked token, or extends the expiry time of a token already added.
+     *
+     * @param token      signature or identifier of the token
+     * @param expiryTime time the token expires at, in milliseconds
+     */
+    void add(String token, long expiryTime) {
+
+        long hash = hash(token);
+        long stamp = lock.writeLock();
+        try {
+            Table current = table;
+            int slot = current.find(hash);
+            if (slot >= 0) {
+                if (current.expiryTimes[slot] >= expiryTime) {
+                    return;
+                }
+                current.expiryTimes[slot] = expiryTime;
+            } else {
+                if ((size + 1) * 2 > current.hashes.length) {
+                    current = resize(current.hashes.length * 2);
+                }
+                current.insert(hash, expiryTime);
+                size++;
+            }
+            expiryBuckets.computeIfAbsent(expiryTime / EXPIRY_BUCKET_WIDTH, bucket -> new LongList()).add(hash);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @param token signature or identifier of a token
+     * @return whether the token is revoked and is not yet removed as expired
+     */
+    boolean contains(String token) {
+
+        long hash = hash(token);
+        long stamp = lock.tryOptimisticRead();
+        boolean found = table.contains(hash);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = table.contains(hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Removes the tokens which expired in the minutes elapsed before a given time. Readers are blocked only while the
+     * tokens expired in one minute are removed.
+     *
+     * @param currentTime current time in milliseconds
+     * @return number of tokens removed
+     */
+    int removeExpired(long currentTime) {
+
+        int removed = 0;
+        long currentBucket = currentTime / EXPIRY_BUCKET_WIDTH;
+        while (true) {
+            long stamp = lock.writeLock();
+            try {
+                Map.Entry<Long, LongList> bucket = expiryBuckets.firstEntry();
+                if (bucket == null || bucket.getKey() >= currentBucket) {
+                    compact();
+                    return removed;
+                }
+                expiryBuckets.remove(bucket.getKey());
+                Table current = table;
+                LongList hashes = bucket.getValue();
+                for (int i = 0; i < hashes.size; i++) {
+                    int slot = current.find(hashes.values[i]);
+                    // the token may have been added again with a later expiry time
+                    if (slot >= 0 && current.expiryTimes[slot] <= currentTime) {
+                        current.delete(slot);
+                        size--;
+                        removedSinceBloomBuilt++;
+                        removed++;
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    int size() {
+
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Shrinks the table once most of its tokens are removed, and otherwise rebuilds the bloom filter once as many
+     * tokens are removed as there are left, since tokens cannot be removed from a bloom filter.
+     */
+    private void compact() {
+
+        int capacity = table.hashes.length;
+        if (capacity > MIN_CAPACITY && size * 8 < capacity) {
+            int newCapacity = MIN_CAPACITY;
+            while (size * 2 > newCapacity / 2) {
+                newCapacity *= 2;
+            }
+            resize(newCapacity);
+        } else if (removedSinceBloomBuilt > 0 && removedSinceBloomBuilt >= size) {
+            resize(capacity);
+        }
+    }
+
+    private Table resize(int capacity) {
+
+        Table current = table;
+        Table resized = new Table(capacity);
+        for (int i = 0; i < current.hashes.length; i++) {
+            if (current.hashes[i] != 0) {
+                resized.insert(current.hashes[i], current.expiryTimes[i]);
+            }
+        }
+        table = resized;
+        removedSinceBloomBuilt = 0;
+        return resized;
+    }
+
+    /**
+     * Computes a well mixed 64 bit hash of a token. The hash is never 0, which marks empty slots.
+     */
+    static long hash(String token) {
+
+        long hash = 0;
+        for (int i = 0; i < token.length(); i++) {
+            hash = (hash + token.charAt(i)) * 0x9e3779b97f4a7c15L;
+        }
+        // finalizer of MurmurHash3
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Linear probing table of token hashes and expiry times, with the bloom filter of the hashes. The capacity is a
+     * power of two and the table is kept at most half full.
+     */
+    private static class Table {
+
+        private final long[] hashes;
+        private final long[] expiryTimes;
+        private final long[] bloom;
+
+        Table(int capacity) {
+
+            hashes = new long[capacity];
+            expiryTimes = new long[capacity];
+            bloom = new long[capacity * BLOOM_BITS_PER_SLOT / Long.SIZE];
+        }
+
+        boolean contains(long hash) {
+
+            return mightContain(hash) && find(hash) >= 0;
+        }
+
+        int find(long hash) {
+
+            int mask = hashes.length - 1;
+            int slot = (int) hash & mask;
+            // bounded, as an optimistic reader may see the table while it is being updated
+            for (int probes = 0; probes < hashes.length; probes++) {
+                long slotHash = hashes[slot];
+                if (slotHash == hash) {
+                    return slot;
+                } else if (slotHash == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        void insert(long hash, long expiryTime) {
+
+            int mask = hashes.length - 1;
+            int slot = (int) hash & mask;
+            while (hashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            expiryTimes[slot] = expiryTime;
+            int bits = bloom.length * Long.SIZE;
+            int h1 = (int) (hash >>> 32);
+            int h2 = (int) hash | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & (bits - 1);
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+
+        /**
+         * Empties a slot and shifts back the entries following it which would otherwise not be found.
+         */
+        void delete(int slot) {
+
+            int mask = hashes.length - 1;
+            int empty = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (hashes[next] == 0) {
+                    break;
+                }
+                int home = (int) hashes[next] & mask;
+                boolean reachable = empty <= next ? empty < home && home <= next : empty < home || home <= next;
+                if (!reachable) {
+                    hashes[empty] = hashes[next];
+                    expiryTimes[empty] = expiryTimes[next];
+                    empty = next;
+                }
+            }
+            hashes[empty] = 0;
+            expiryTimes[empty] = 0;
+        }
+
+        private boolean mightContain(long hash) {
+
+            int bits = bloom.length * Long.SIZE;
+            int h1 = (int) (hash >>> 32);
+            int h2 = (int) hash | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = (h1 + i * h2) & (bits - 1);
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class LongList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies control plane events on a fixed number of lanes, coalescing the events of the same entity. Each event has a
+ * lane key, such as the UUID of the API it is about, and the events of a lane key are always applied on the same lane
+ * in the order they were received, while events of different lane keys may be applied concurrently. An event is
+ * applied once the coalescing window has passed since it was received, and an event received while the last pending
+ * event of its lane key is about the same entity supersedes that event, which is dropped. Events are never coalesced
+ * across other events of their lane key, so coalescing does not change the order the events of a lane key are applied.
+ * <p>
+ * The number of pending events, the time taken from publishing an event to applying it and the number of received and
+ * coalesced events are reported as metrics.
+ */
+public class CoalescingEventExecutor {
+
+    private static final Log log = LogFactory.getLog(CoalescingEventExecutor.class);
+    private static final String METRIC_NAME = "CoalescingEventExecutor";
+
+    // pending events of each lane key, in the order they were received
+    private final Map<String, Deque<PendingEvent>> pendingEvents = new HashMap<>();
+    private final ScheduledExecutorService[] lanes;
+    private final long windowMillis;
+    private final String name;
+
+    /**
+     * @param parallelism  number of lanes events are applied on
+     * @param windowMillis time in milliseconds an event is held for later events of the same entity to supersede it
+     * @param name         name of the executor, used as the prefix of the names of the lane threads and the metrics
+     */
+    public CoalescingEventExecutor(int parallelism, long windowMillis, String name) {
+
+        this.lanes = new ScheduledExecutorService[Math.max(parallelism, 1)];
+        this.windowMillis = Math.max(windowMillis, 0);
+        this.name = name;
+        for (int i = 0; i < lanes.length; i++) {
+            String threadName = lanes.length == 1 ? name : name + "-" + i;
+            lanes[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Submits an event to be applied, superseding the pending event of the same entity if there is one.
+     *
+     * @param key           key of the entity the event is about, such as the UUID of an API
+     * @param publishedTime time in milliseconds the event was published by the control plane, or 0 if not known
+     * @param task          task applying the event
+     */
+    public void submit(String key, long publishedTime, Runnable task) {
+
+        submit(key, key, publishedTime, task);
+    }
+
+    /**
+     * Submits an event to be applied after the pending events of its lane key, superseding the last of them if it is
+     * about the same entity.
+     *
+     * @param laneKey       key the order of the event is kept within, such as the UUID of an API
+     * @param key           key of the entity the event is about, such as the UUID of an API and the labels it is
+     *                      deployed to
+     * @param publishedTime time in milliseconds the event was published by the control plane, or 0 if not known
+     * @param task          task applying the event
+     */
+    public void submit(String laneKey, String key, long publishedTime, Runnable task) {
+
+        mark("received");
+        synchronized (pendingEvents) {
+            Deque<PendingEvent> laneEvents = pendingEvents.get(laneKey);
+            if (laneEvents != null && laneEvents.peekLast().key.equals(key)) {
+                // the event is applied in place of the superseded one, which keeps its position
+                PendingEvent superseded = laneEvents.pollLast();
+                laneEvents.addLast(new PendingEvent(key, task, publishedTime, superseded.dueTime));
+                mark("coalesced");
+                if (log.isDebugEnabled()) {
+                    log.debug("Event of " + key + " superseded a pending event of the same entity in " + name);
+                }
+                return;
+            }
+            PendingEvent event = new PendingEvent(key, task, publishedTime, System.currentTimeMillis() + windowMillis);
+            if (laneEvents != null) {
+                // applied by the task already scheduled for the lane key
+                laneEvents.addLast(event);
+                update("queueDepth", countPendingEvents());
+                return;
+            }
+            laneEvents = new ArrayDeque<>();
+            laneEvents.addLast(event);
+            pendingEvents.put(laneKey, laneEvents);
+            update("queueDepth", countPendingEvents());
+        }
+        schedule(laneKey, windowMillis);
+    }
+
+    /**
+     * @return number of events yet to be applied
+     */
+    public int getQueueDepth() {
+
+        synchronized (pendingEvents) {
+            return countPendingEvents();
+        }
+    }
+
+    /**
+     * Counts the pending events of all lane keys. The caller has to hold the lock of the pending events.
+     */
+    private int countPendingEvents() {
+
+        int count = 0;
+        for (Deque<PendingEvent> laneEvents : pendingEvents.values()) {
+            count += laneEvents.size();
+        }
+        return count;
+    }
+
+    /**
+     * Stops the lanes without applying the pending events.
+     */
+    public void shutdownNow() {
+
+        for (ScheduledExecutorService lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+
+    private void schedule(String laneKey, long delayMillis) {
+
+        lanes[Math.floorMod(laneKey.hashCode(), lanes.length)].schedule(() -> apply(laneKey), delayMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies the due events of a lane key in order, scheduling itself again for the first event not yet due.
+     */
+    private void apply(String laneKey) {
+
+        boolean more = true;
+        while (more) {
+            PendingEvent pendingEvent;
+            synchronized (pendingEvents) {
+                Deque<PendingEvent> laneEvents = pendingEvents.get(laneKey);
+                if (laneEvents == null) {
+                    return;
+                }
+                pendingEvent = laneEvents.peekFirst();
+                long delay = pendingEvent.dueTime - System.currentTimeMillis();
+                if (delay > 0) {
+                    schedule(laneKey, delay);
+                    return;
+                }
+                laneEvents.pollFirst();
+                if (laneEvents.isEmpty()) {
+                    // a later event of the lane key is scheduled again, on the same lane
+                    pendingEvents.remove(laneKey);
+                    more = false;
+                }
+                update("queueDepth", countPendingEvents());
+            }
+            try {
+                pendingEvent.task.run();
+            } catch (RuntimeException e) {
+                log.error("Error while applying the event of " + pendingEvent.key + " in " + name, e);
+            }
+            if (pendingEvent.publishedTime > 0) {
+                update("propagationLag", System.currentTimeMillis() - pendingEvent.publishedTime);
+            }
+        }
+    }
+
+    protected void mark(String metric) {
+
+        MetricManager.meter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name, metric))
+                .mark();
+    }
+
+    protected void update(String metric, long value) {
+
+        MetricManager.histogram(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX, METRIC_NAME, name,
+                metric)).update(value);
+    }
+
+    private static class PendingEvent {
+
+        private final String key;
+        private final Runnable task;
+        private final long publishedTime;
+        private final long dueTime;
+
+        PendingEvent(String key, Runnable task, long publishedTime, long dueTime) {
+
+            this.key = key;
+            this.task = task;
+            this.publishedTime = publishedTime;
+            this.dueTime = dueTime;
+        }
+    }
+}
@@ -57,8 +57,7 @@ import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.TreeSet;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -75,8 +74,11 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             .getAPIManagerConfiguration().getEventHubConfigurationDto();
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
-    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
+    private static volatile CoalescingEventExecutor sharedDeploymentExecutor;
+    private CoalescingEventExecutor deploymentExecutor = getDeploymentExecutor();
     private static GatewayNotifier gatewayNotifier = GatewayNotifier.getInstance();
+    private static final Gson gson = new Gson();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     public GatewayJMSMessageListener() {
     }
@@ -85,6 +87,28 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         this.refreshOnReconnect = refreshOnReconnect;
     }
 
+    /**
+     * Returns the executor the deployment events of APIs are applied on. Any change to the APIs deployed in the
+     * gateway which has to be ordered with these events, such as reconciling the APIs deployed from a snapshot, has to
+     * be submitted to this executor with the UUID of the API as the lane key.
+     *
+     * @return the deployment executor shared by the listeners
+     */
+    public static CoalescingEventExecutor getDeploymentExecutor() {
+
+        if (sharedDeploymentExecutor == null) {
+            synchronized (GatewayJMSMessageListener.class) {
+                if (sharedDeploymentExecutor == null) {
+                    GatewayArtifactSynchronizerProperties properties = ServiceReferenceHolder.getInstance()
+                            .getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
+                    sharedDeploymentExecutor = new CoalescingEventExecutor(properties.getDeploymentParallelism(),
+                            properties.getDeploymentEventCoalescingWindow(), "DeploymentThread");
+                }
+            }
+        }
+        return sharedDeploymentExecutor;
+    }
+
     public void onMessage(Message message) {
 
         try {
@@ -105,7 +129,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData = new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
+                    JsonNode payloadData = objectMapper.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
                             path(APIConstants.EVENT_PAYLOAD_DATA);
 
                     if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
@@ -153,12 +177,19 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
 
         if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
                 || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
+            DeployAPIInGatewayEvent gatewayEvent = gson.fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            // the events of an API are applied in order, and a later deployment event of the API to the same labels
+            // of this gateway supersedes a pending one right before it, as the API is deployed from its latest artifact
+            Set<String> eventGatewayLabels = new TreeSet<>();
+            if (gatewayEvent.getGatewayLabels() != null) {
+                eventGatewayLabels.addAll(gatewayEvent.getGatewayLabels());
+                eventGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+            }
+            String deploymentKey = gatewayEvent.getUuid() + ":" + String.join(",", eventGatewayLabels);
+            deploymentExecutor.submit(gatewayEvent.getUuid(), deploymentKey, timestamp, new Runnable() {
                 @Override
                 public void run() {
 
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
                     String tenantDomain = gatewayEvent.getTenantDomain();
                     if (!TenantUtils.isTenantAvailable(tenantDomain)){
                         return;
@@ -222,27 +253,27 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         }
         if (EventType.APPLICATION_CREATE.toString().equals(eventType)
                 || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
         } else if (EventType.SUBSCRIPTIONS_CREATE.toString().equals(eventType)
                 || EventType.SUBSCRIPTIONS_UPDATE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())) {
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
         } else if (EventType.API_UPDATE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             DataHolder.getInstance().addAPIMetaData(event);
         } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -253,31 +284,31 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             }
         } else if (EventType.APPLICATION_REGISTRATION_CREATE.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
         } else if (EventType.SUBSCRIPTIONS_DELETE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
+            SubscriptionEvent event = gson.fromJson(eventJson, SubscriptionEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
         } else if (EventType.APPLICATION_DELETE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
+            ApplicationEvent event = gson.fromJson(eventJson, ApplicationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
         } else if (EventType.REMOVE_APPLICATION_KEYMAPPING.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
+            ApplicationRegistrationEvent event = gson.fromJson(eventJson, ApplicationRegistrationEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplicationKeyMapping(event);
         } else if (EventType.SCOPES_UPDATE.toString().equals(eventType)) {
-            ScopesEvent event = new Gson().fromJson(eventJson, ScopesEvent.class);
+            ScopesEvent event = gson.fromJson(eventJson, ScopesEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -286,7 +317,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.SCOPE_CREATE.toString().equals(eventType) ||
                 EventType.SCOPE_UPDATE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -295,7 +326,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     APIConstants.AuditLogConstants.DEPLOYED,
                     APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
         } else if (EventType.SCOPE_DELETE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            ScopeEvent event = gson.fromJson(eventJson, ScopeEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -307,7 +338,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 EventType.POLICY_DELETE.toString().equals(eventType) ||
                 EventType.POLICY_UPDATE.toString().equals(eventType)) {
             String policyName = null;
-            PolicyEvent event = new Gson().fromJson(eventJson, PolicyEvent.class);
+            PolicyEvent event = gson.fromJson(eventJson, PolicyEvent.class);
             if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
                 return;
             }
@@ -320,7 +351,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 deletePolicy = true;
             }
             if (event.getPolicyType() == PolicyType.API) {
-                APIPolicyEvent policyEvent = new Gson().fromJson(eventJson, APIPolicyEvent.class);
+                APIPolicyEvent policyEvent = gson.fromJson(eventJson, APIPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateAPIPolicy(policyEvent);
@@ -330,7 +361,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 }
                 policyName = policyEvent.getPolicyName();
             } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
-                SubscriptionPolicyEvent policyEvent = new Gson().fromJson(eventJson, SubscriptionPolicyEvent.class);
+                SubscriptionPolicyEvent policyEvent = gson.fromJson(eventJson, SubscriptionPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateSubscriptionPolicy(policyEvent);
@@ -340,7 +371,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 }
                 policyName = policyEvent.getPolicyName();
             } else if (event.getPolicyType() == PolicyType.APPLICATION) {
-                ApplicationPolicyEvent policyEvent = new Gson().fromJson(eventJson, ApplicationPolicyEvent.class);
+                ApplicationPolicyEvent policyEvent = gson.fromJson(eventJson, ApplicationPolicyEvent.class);
                 if (updatePolicy) {
                     ServiceReferenceHolder.getInstance().getKeyManagerDataService()
                             .addOrUpdateApplicationPolicy(policyEvent);
@@ -355,7 +386,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
         } else if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType) ||
                 EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-            CertificateEvent certificateEvent = new Gson().fromJson(eventJson, CertificateEvent.class);
+            CertificateEvent certificateEvent = gson.fromJson(eventJson, CertificateEvent.class);
             if (!TenantUtils.isTenantAvailable(certificateEvent.getTenantDomain())){
                 return;
             }
@@ -382,7 +413,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.GA_CONFIG_UPDATE.toString().equals(eventType)) {
             GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
-                    new Gson().fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
+                    gson.fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
             if (!TenantUtils.isTenantAvailable(googleAnalyticsConfigEvent.getTenantDomain())){
                 return;
             }
@@ -392,14 +423,14 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 log.error(e);
             }
         } else if (EventType.UDATE_API_LOG_LEVEL.toString().equals(eventType)) {
-            APIEvent apiEvent = new Gson().fromJson(eventJson, APIEvent.class);
+            APIEvent apiEvent = gson.fromJson(eventJson, APIEvent.class);
             if (!TenantUtils.isTenantAvailable(apiEvent.getTenantDomain())){
                 return;
             }
             APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
                     apiEvent.getResourceMethod(), apiEvent.getResourcePath());
         } else if (EventType.CUSTOM_POLICY_ADD.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -408,7 +439,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(key, keyTemplateValue);
         } else if (EventType.CUSTOM_POLICY_DELETE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -416,7 +447,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .removeKeyTemplate(key);
         } else if (EventType.CUSTOM_POLICY_UPDATE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+            KeyTemplateEvent keyTemplateEvent = gson.fromJson(eventJson, KeyTemplateEvent.class);
             if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
                 return;
             }
@@ -429,7 +460,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     .addKeyTemplate(newKey, newTemplateValue);
         } else if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)
                 || EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-            GatewayPolicyEvent gatewayPolicyEvent = new Gson().fromJson(eventJson, GatewayPolicyEvent.class);
+            GatewayPolicyEvent gatewayPolicyEvent = gson.fromJson(eventJson, GatewayPolicyEvent.class);
             if (!TenantUtils.isTenantAvailable(gatewayPolicyEvent.getTenantDomain())) {
                 return;
             }
@@ -475,7 +506,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_CREATE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -485,7 +516,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_DELETE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -495,7 +526,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             }
         } else if (EventType.LLM_PROVIDER_UPDATE.toString().equals(eventType)) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
+                LLMProviderEvent providerEvent = gson.fromJson(eventJson, LLMProviderEvent.class);
                 if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
                     return;
                 }
@@ -509,7 +540,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 EventType.TENANT_DEACTIVATION.toString().equals(eventType)) {
             if (GatewayUtils.isTenantLoadingEnable()) {
                 try {
-                    TenantEvent tenantEvent = new Gson().fromJson(eventJson, TenantEvent.class);
+                    TenantEvent tenantEvent = gson.fromJson(eventJson, TenantEvent.class);
                     if (!TenantUtils.isTenantAvailable(tenantEvent.getTenantDomain())){
                         return;
                     }
@@ -567,7 +598,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         providerInfo.setId(providerEvent.getId());
         providerInfo.setName(providerEvent.getName());
         providerInfo.setApiVersion(providerEvent.getApiVersion());
-        LLMProviderConfiguration configurations = new Gson().fromJson(providerEvent.getConfiguration(),
+        LLMProviderConfiguration configurations = gson.fromJson(providerEvent.getConfiguration(),
                 LLMProviderConfiguration.class);
         providerInfo.setConfigurations(configurations);
 
@@ -37,6 +37,7 @@ import org.wso2.carbon.apimgt.gateway.notifiers.GatewayNotifier;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTTokensRetriever;
+import org.wso2.carbon.apimgt.gateway.snapshot.GatewaySnapshotStore;
 import org.wso2.carbon.apimgt.gateway.throttling.util.BlockingConditionRetriever;
 import org.wso2.carbon.apimgt.gateway.throttling.util.KeyTemplateRetriever;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
@@ -54,9 +55,11 @@ import org.wso2.carbon.apimgt.impl.jms.listener.JMSListenerShutDownService;
 import org.wso2.carbon.apimgt.impl.utils.CertificateMgtUtils;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataLoader;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.apimgt.keymgt.model.entity.API;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
+import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreImpl;
 import org.wso2.carbon.base.CarbonBaseUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.ServerShutdownHandler;
@@ -144,8 +147,16 @@ public class GatewayStartupListener extends AbstractAxis2ConfigurationContextObs
                     .registerTenantSubscriptionStore(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
             log.debug("Registered ServerStartupListener for SubscriptionStore for the tenant domain : " +
                     MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
-            SubscriptionDataHolder.getInstance()
-                    .initializeSubscriptionStore(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            GatewaySnapshotStore snapshotStore =
+                    GatewaySnapshotStore.fromConfiguration(gatewayArtifactSynchronizerProperties);
+            if (snapshotStore != null) {
+                SubscriptionDataHolder.getInstance().initializeSubscriptionStore(
+                        MultitenantConstants.SUPER_TENANT_DOMAIN_NAME,
+                        snapshotStore.readSubscriptionData(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+            } else {
+                SubscriptionDataHolder.getInstance()
+                        .initializeSubscriptionStore(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            }
             cleanDeployment(CarbonUtils.getCarbonRepository());
         } else {
             log.info("Running on migration enabled mode: Stopped at gateway startup listener completing");
@@ -398,7 +409,27 @@ public class GatewayStartupListener extends AbstractAxis2ConfigurationContextObs
         if (deploymentStatusNotifier != null) {
             deploymentStatusNotifier.shutdown();
         }
+        saveSubscriptionDataSnapshot(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+
+    }
 
+    /**
+     * Keeps the subscription data of the tenant in the local snapshot, to be served from when the gateway restarts.
+     */
+    private void saveSubscriptionDataSnapshot(String tenantDomain) {
+
+        GatewaySnapshotStore snapshotStore =
+                GatewaySnapshotStore.fromConfiguration(gatewayArtifactSynchronizerProperties);
+        SubscriptionDataStore tenantStore =
+                SubscriptionDataHolder.getInstance().getTenantSubscriptionStore(tenantDomain);
+        if (snapshotStore == null || !(tenantStore instanceof SubscriptionDataStoreImpl)) {
+            return;
+        }
+        try {
+            snapshotStore.writeSubscriptionData(tenantDomain, ((SubscriptionDataStoreImpl) tenantStore).toSnapshot());
+        } catch (IOException e) {
+            log.error("Error while saving the subscription data snapshot of tenant " + tenantDomain, e);
+        }
     }
 
     public void deployAPIsInAsyncMode(String tenantDomain) {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mcp;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.gateway.utils.MCPPayloadGenerator;
+import org.wso2.carbon.apimgt.gateway.utils.MCPUtils;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the tools of the deployed MCP servers, prepared once per deployment instead of on each MCP request. The tools
+ * of an MCP server are bound to the API entity they are prepared from, which is replaced when the API is redeployed,
+ * hence they are prepared again on the first request after a redeployment.
+ */
+public class McpToolRegistry {
+
+    private static final Log log = LogFactory.getLog(McpToolRegistry.class);
+    private static final McpToolRegistry instance = new McpToolRegistry();
+
+    private final Map<String, McpTools> toolsByApi = new ConcurrentHashMap<>();
+
+    private McpToolRegistry() {
+
+    }
+
+    public static McpToolRegistry getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * @param api matched MCP server
+     * @return the tools of the MCP server
+     */
+    public McpTools getTools(API api) {
+
+        McpTools tools = toolsByApi.get(api.getUuid());
+        if (tools == null || tools.api != api) {
+            tools = new McpTools(api);
+            toolsByApi.put(api.getUuid(), tools);
+            if (log.isDebugEnabled()) {
+                log.debug("Prepared " + tools.operations.size() + " tools of MCP server " + api.getUuid());
+            }
+        }
+        return tools;
+    }
+
+    /**
+     * Drops the tools of an MCP server as it is redeployed, to be prepared again from the deployed API.
+     *
+     * @param apiUUID UUID of the MCP server
+     */
+    public void apiDeployed(String apiUUID) {
+
+        if (apiUUID != null) {
+            toolsByApi.remove(apiUUID);
+        }
+    }
+
+    /**
+     * @param apiUUID UUID of the undeployed MCP server
+     */
+    public void apiUndeployed(String apiUUID) {
+
+        apiDeployed(apiUUID);
+    }
+
+    /**
+     * Tools of an MCP server, looked up by name, along with their schema mappings and the tool list payload.
+     */
+    public static class McpTools {
+
+        private static final String ID_PLACEHOLDER = "$MCP_REQUEST_ID$";
+        private static final String QUOTED_ID_PLACEHOLDER = MCPPayloadGenerator.toJson(ID_PLACEHOLDER);
+
+        private final API api;
+        private final Map<String, URLMapping> operations = new HashMap<>();
+        private final Map<String, SchemaMapping> schemaMappings = new HashMap<>();
+        private final String toolListPayloadPrefix;
+        private final String toolListPayloadSuffix;
+
+        McpTools(API api) {
+
+            this.api = api;
+            for (URLMapping operation : api.getUrlMappings()) {
+                String toolName = operation.getUrlPattern();
+                if (toolName == null || operations.putIfAbsent(toolName, operation) != null) {
+                    continue;
+                }
+                if (operation.getSchemaDefinition() != null) {
+                    try {
+                        schemaMappings.put(toolName, MCPUtils.processMcpSchema(operation.getSchemaDefinition()));
+                    } catch (RuntimeException e) {
+                        log.error("Error while processing the schema of tool " + toolName + " of MCP server "
+                                + api.getUuid(), e);
+                    }
+                }
+            }
+            String prefix = null;
+            String suffix = null;
+            try {
+                String payload = MCPPayloadGenerator.generateToolListPayload(ID_PLACEHOLDER, api.getUrlMappings(),
+                        false);
+                int idIndex = payload.indexOf(QUOTED_ID_PLACEHOLDER);
+                if (idIndex >= 0) {
+                    prefix = payload.substring(0, idIndex);
+                    suffix = payload.substring(idIndex + QUOTED_ID_PLACEHOLDER.length());
+                }
+            } catch (RuntimeException e) {
+                log.error("Error while generating the tool list of MCP server " + api.getUuid(), e);
+            }
+            toolListPayloadPrefix = prefix;
+            toolListPayloadSuffix = suffix;
+        }
+
+        /**
+         * @param toolName name of a tool
+         * @return the operation of the tool, or null if there is no tool with the name
+         */
+        public URLMapping getOperation(String toolName) {
+
+            return operations.get(toolName);
+        }
+
+        /**
+         * @param toolName name of a tool
+         * @return the schema mapping of the tool
+         */
+        public SchemaMapping getSchemaMapping(String toolName) {
+
+            SchemaMapping schemaMapping = schemaMappings.get(toolName);
+            if (schemaMapping == null) {
+                // processed again to report the error of the schema to the client
+                schemaMapping = MCPUtils.processMcpSchema(operations.get(toolName).getSchemaDefinition());
+            }
+            return schemaMapping;
+        }
+
+        /**
+         * @param id request id
+         * @return the tool list payload of the MCP server for a request
+         */
+        public String getToolListPayload(Object id) {
+
+            if (toolListPayloadPrefix != null && (id == null || id instanceof String || id instanceof Number)) {
+                return toolListPayloadPrefix + MCPPayloadGenerator.toJson(id) + toolListPayloadSuffix;
+            }
+            return MCPPayloadGenerator.generateToolListPayload(id, api.getUrlMappings(), false);
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.synapse.transport.passthru.PassThroughConstants;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
 import org.wso2.carbon.apimgt.api.APIConstants;
 import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.BuiltInLLMProviderService;
 import org.wso2.carbon.apimgt.api.LLMProviderConfiguration;
 import org.wso2.carbon.apimgt.api.LLMProviderMetadata;
 import org.wso2.carbon.apimgt.api.LLMProviderService;
@@ -52,11 +53,13 @@ import org.wso2.carbon.apimgt.api.gateway.ModelEndpointDTO;
 import org.wso2.carbon.apimgt.api.model.LLMProviderInfo;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+import org.wso2.carbon.apimgt.gateway.handlers.streaming.sse.SseApiConstants;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -73,6 +76,7 @@ public class AIAPIMediator extends AbstractMediator implements ManagedLifecycle
     private static final Log log = LogFactory.getLog(AIAPIMediator.class);
     private String llmProviderId;
     private String direction;
+    private volatile LLMMetadataExtractor metadataExtractor;
 
     /**
      * Initializes the AIAPIMediator.
@@ -512,12 +516,17 @@ public class AIAPIMediator extends AbstractMediator implements ManagedLifecycle
                                          String providerName)
             throws APIManagementException, XMLStreamException, IOException {
 
-        String payload = extractPayloadFromContext(messageContext, providerConfigs);
-        Map<String, String> queryParams = extractQueryParamsFromContext(messageContext);
-        Map<String, String> headers = extractHeadersFromContext(messageContext);
-        String requestPath = (String) messageContext.getProperty(RESTConstants.REST_FULL_REQUEST_PATH);
-        LLMResponseMetaData llmResponseMetaData = new LLMResponseMetaData(payload, headers, queryParams, requestPath);
-        llmProviderService.getResponseMetadata(llmResponseMetaData, providerConfigs.getMetadata(), metadataMap);
+        LLMMetadataExtractor extractor = getMetadataExtractor(providerConfigs);
+        if (!(llmProviderService instanceof BuiltInLLMProviderService) || !extractor.isScannable()
+                || !scanResponseMetadata(messageContext, extractor, metadataMap)) {
+            String payload = extractPayloadFromContext(messageContext, providerConfigs);
+            Map<String, String> queryParams = extractQueryParamsFromContext(messageContext);
+            Map<String, String> headers = extractHeadersFromContext(messageContext);
+            String requestPath = (String) messageContext.getProperty(RESTConstants.REST_FULL_REQUEST_PATH);
+            LLMResponseMetaData llmResponseMetaData =
+                    new LLMResponseMetaData(payload, headers, queryParams, requestPath);
+            llmProviderService.getResponseMetadata(llmResponseMetaData, providerConfigs.getMetadata(), metadataMap);
+        }
         messageContext.setProperty(APIConstants.AIAPIConstants.AI_API_RESPONSE_METADATA, metadataMap);
 
         Map<String, Object> roundRobinConfigs = null;
@@ -566,6 +575,56 @@ public class AIAPIMediator extends AbstractMediator implements ManagedLifecycle
                 APIConstants.AIAPIConstants.EXIT_ENDPOINT);
     }
 
+    /**
+     * Extracts the response metadata with the compiled extraction rules of the provider, which the built-in provider
+     * services would otherwise extract from the stringified payload. A JSON payload is scanned from the stream it is
+     * built into, without stringifying it. An event stream is not built at all; its events are scanned as they are
+     * relayed to the client by the AI API response stream interceptor, and the token counts are put to the metadata
+     * once the stream is ended, see {@link AIAPIStreamedUsage}.
+     *
+     * @param messageContext The message context of the response.
+     * @param extractor      The compiled extraction rules of the provider.
+     * @param metadataMap    The map the metadata is put to.
+     * @return {@code true} if the metadata is extracted, {@code false} if the payload is of a content type which is
+     * not scanned.
+     * @throws XMLStreamException If an error occurs while building the payload.
+     * @throws IOException        If an I/O error occurs.
+     */
+    private boolean scanResponseMetadata(MessageContext messageContext, LLMMetadataExtractor extractor,
+                                         Map<String, String> metadataMap) throws XMLStreamException, IOException {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        String requestPath = (String) messageContext.getProperty(RESTConstants.REST_FULL_REQUEST_PATH);
+        if (extractor.hasPayloadMetadata()) {
+            String contentType = (String) axis2MessageContext.getProperty(APIMgtGatewayConstants.REST_CONTENT_TYPE);
+            String normalizedContentType = contentType != null ? contentType.toLowerCase() : StringUtils.EMPTY;
+            if (normalizedContentType.contains(SseApiConstants.SSE_CONTENT_TYPE)) {
+                // the metadata is not changed here once the stream is handed to the interceptor
+                extractor.extractPathMetadata(requestPath, metadataMap);
+                AIAPIStreamedUsage streamedUsage = new AIAPIStreamedUsage(extractor, metadataMap);
+                Object requestTimeout = messageContext.getProperty(APIConstants.AIAPIConstants.REQUEST_TIMEOUT);
+                if (requestTimeout instanceof Long) {
+                    streamedUsage.completeAfterIdle((Long) requestTimeout);
+                }
+                axis2MessageContext.setProperty(APIMgtGatewayConstants.AI_API_STREAMED_USAGE, streamedUsage);
+                return true;
+            } else if (normalizedContentType.contains(MediaType.APPLICATION_JSON)) {
+                RelayUtils.buildMessage(axis2MessageContext);
+                if (JsonUtil.hasAJsonPayload(axis2MessageContext)) {
+                    InputStream payload = JsonUtil.getJsonPayload(axis2MessageContext);
+                    if (payload != null) {
+                        extractor.newResponseScanner(metadataMap, false).scan(payload);
+                    }
+                }
+            } else {
+                return false;
+            }
+        }
+        extractor.extractPathMetadata(requestPath, metadataMap);
+        return true;
+    }
+
     /**
      * Handles the successful response by checking the status code and processing token count headers.
      * If the remaining token count is zero or below, it triggers the suspension of the target endpoint
@@ -590,11 +649,8 @@ public class AIAPIMediator extends AbstractMediator implements ManagedLifecycle
                     .getAxis2MessageContext().getProperty(
                             org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
 
-            String remainingTokenCountHeader = null;
-            LLMProviderMetadata remainingTokenCountMetadata = getRemainingTokenCountMetadata(providerConfiguration);
-            if (remainingTokenCountMetadata != null){
-                remainingTokenCountHeader = remainingTokenCountMetadata.getAttributeIdentifier();
-            }
+            String remainingTokenCountHeader =
+                    getMetadataExtractor(providerConfiguration).getRemainingTokenCountHeader();
             if (remainingTokenCountHeader != null && transportHeaders.containsKey(remainingTokenCountHeader)) {
                 long remainingTokenCount = Long.parseLong((String) transportHeaders.get(remainingTokenCountHeader));
                 if (remainingTokenCount <= 0) {
@@ -817,15 +873,20 @@ public class AIAPIMediator extends AbstractMediator implements ManagedLifecycle
     }
 
     /**
-     * Retrieves the metadata for the remaining token count of the LLM provider.
+     * Returns the compiled metadata extraction rules of the LLM provider, compiling them again once the provider
+     * configuration is updated.
      *
      * @param providerConfiguration The LLM provider configuration.
-     * @return The metadata containing the remaining token count.
+     * @return The compiled metadata extraction rules.
      */
-    private LLMProviderMetadata getRemainingTokenCountMetadata(LLMProviderConfiguration providerConfiguration) {
+    private LLMMetadataExtractor getMetadataExtractor(LLMProviderConfiguration providerConfiguration) {
 
-        return findMetadataByAttributeName(providerConfiguration.getMetadata(),
-                APIConstants.AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REMAINING_TOKEN_COUNT);
+        LLMMetadataExtractor extractor = metadataExtractor;
+        if (extractor == null || extractor.getConfiguration() != providerConfiguration) {
+            extractor = new LLMMetadataExtractor(providerConfiguration);
+            metadataExtractor = extractor;
+        }
+        return extractor;
     }
 
     /**
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token usage of an AI API response relayed as an event stream. The usage is known only once the events carrying it
+ * are relayed, which is after the response has gone through the handlers, so the throttling and analytics events of
+ * the response are handed to {@link #onComplete(Runnable)} and published once the stream is ended.
+ * <p>
+ * The events are scanned on the transport thread relaying them, into a map of their own. The picked metadata is put
+ * to the response metadata only as the usage is completed, after which the response metadata is not changed, so the
+ * publishers read it without racing the scan. A stream which ends without the scanner noticing it is completed once
+ * no events are relayed for the request timeout, with the metadata picked until then.
+ */
+public class AIAPIStreamedUsage {
+
+    private static final Log log = LogFactory.getLog(AIAPIStreamedUsage.class);
+    private static final ScheduledExecutorService timeoutExecutor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AIAPIStreamedUsageTimeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Map<String, String> metadataMap;
+    private final Map<String, String> scannedMetadata = new ConcurrentHashMap<>();
+    private final JsonFieldScanner scanner;
+    private final List<Runnable> publishers = new ArrayList<>();
+    private volatile boolean complete;
+    private volatile long lastScanTime = System.currentTimeMillis();
+
+    /**
+     * @param extractor   compiled metadata extraction rules of the provider
+     * @param metadataMap response metadata the picked metadata is put to
+     */
+    public AIAPIStreamedUsage(LLMMetadataExtractor extractor, Map<String, String> metadataMap) {
+
+        this.metadataMap = metadataMap;
+        this.scanner = extractor.newResponseScanner(scannedMetadata, true);
+    }
+
+    /**
+     * @param messageContext message context of a response
+     * @return the usage of the response, or null if the response is not an event stream scanned for its usage
+     */
+    public static AIAPIStreamedUsage get(MessageContext messageContext) {
+
+        if (!(messageContext instanceof Axis2MessageContext)) {
+            return null;
+        }
+        Object usage = ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                .getProperty(APIMgtGatewayConstants.AI_API_STREAMED_USAGE);
+        return usage instanceof AIAPIStreamedUsage ? (AIAPIStreamedUsage) usage : null;
+    }
+
+    /**
+     * Scans the next part of the stream, completing the usage once the stream is ended.
+     *
+     * @param buffer buffer holding the next part of the stream, whose position is not changed
+     */
+    public void scan(ByteBuffer buffer) {
+
+        if (complete) {
+            return;
+        }
+        lastScanTime = System.currentTimeMillis();
+        scanner.scan(buffer);
+        if (scanner.isStreamEnded()) {
+            complete();
+        }
+    }
+
+    /**
+     * Completes the usage once no part of the stream is scanned for the given time.
+     *
+     * @param timeout idle time in milliseconds
+     */
+    public void completeAfterIdle(long timeout) {
+
+        timeoutExecutor.schedule(() -> {
+            long idleTime = System.currentTimeMillis() - lastScanTime;
+            if (complete) {
+                return;
+            }
+            if (idleTime >= timeout) {
+                complete();
+            } else {
+                completeAfterIdle(timeout - idleTime);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the given publisher once the usage is completed, or right away if it is already.
+     *
+     * @param publisher publisher of an event reading the response metadata
+     */
+    public void onComplete(Runnable publisher) {
+
+        synchronized (this) {
+            if (!complete) {
+                publishers.add(publisher);
+                return;
+            }
+        }
+        publish(publisher);
+    }
+
+    /**
+     * Puts the metadata picked from the stream to the response metadata and runs the publishers waiting for it.
+     */
+    public void complete() {
+
+        List<Runnable> waiting;
+        synchronized (this) {
+            if (complete) {
+                return;
+            }
+            metadataMap.putAll(scannedMetadata);
+            complete = true;
+            waiting = new ArrayList<>(publishers);
+            publishers.clear();
+        }
+        for (Runnable publisher : waiting) {
+            publish(publisher);
+        }
+    }
+
+    /**
+     * @return whether the usage is completed
+     */
+    public boolean isComplete() {
+
+        return complete;
+    }
+
+    private void publish(Runnable publisher) {
+
+        try {
+            publisher.run();
+        } catch (RuntimeException e) {
+            log.error("Error while publishing the usage of an AI API response stream", e);
+        }
+    }
+}
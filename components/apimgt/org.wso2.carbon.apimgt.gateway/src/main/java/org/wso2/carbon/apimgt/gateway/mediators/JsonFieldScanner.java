@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Picks the scalar values of a few fields out of UTF-8 encoded JSON fed to it byte by byte, without building or
+ * buffering the document. Fields are given as the keys leading to them from the root object, as in the JSON path
+ * {@code $.usage.prompt_tokens}, and fields inside arrays are not picked. Only the key being read and the value of a
+ * picked field are held, each up to a bounded length, so the memory used does not grow with the document.
+ * <p>
+ * In event stream mode the input is a server sent event stream, and the data of each event is scanned as a separate
+ * document. The values picked from an event replace those picked from the earlier events. The stream is taken to be
+ * ended once each field has been picked from one of its events, as the token usage of a completion is sent with its
+ * last events, or once the closing {@code [DONE]} event of the stream is seen.
+ * <p>
+ * Picked values are put to the given metadata map, against the attribute name of their field, as each document ends.
+ * A scanner is not thread safe and is meant to scan a single message.
+ */
+public class JsonFieldScanner {
+
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_VALUE_LENGTH = 256;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] DATA_FIELD = "data:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DONE_DATA = "[DONE]".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_KEY = 1;
+    private static final int AFTER_VALUE = 2;
+    private static final int IN_KEY = 3;
+    private static final int IN_STRING = 4;
+    private static final int IN_LITERAL = 5;
+
+    private static final int LINE_START = 0;
+    private static final int LINE_DATA = 1;
+    private static final int LINE_SKIP = 2;
+
+    private final String[][] fields;
+    private final String[] attributeNames;
+    private final Map<String, String> metadataMap;
+    private final boolean eventStream;
+    private final String[] values;
+    private final boolean[] picked;
+    private int pickedCount;
+    private boolean ended;
+
+    private final String[] keys = new String[MAX_DEPTH];
+    private final boolean[] arrays = new boolean[MAX_DEPTH];
+    private int depth;
+    private int state = EXPECT_VALUE;
+
+    private final byte[] text = new byte[MAX_VALUE_LENGTH];
+    private int textLength;
+    private boolean textOverflow;
+    private boolean picking;
+    private boolean escaped;
+    private int unicodeDigits;
+    private int unicodeValue;
+
+    private int lineState = LINE_START;
+    private int lineLength;
+    private int doneLength;
+
+    /**
+     * @param fields         keys leading to each field picked
+     * @param attributeNames attribute names the values of the fields are put against
+     * @param metadataMap    map the picked values are put to
+     * @param eventStream    whether the input is a server sent event stream
+     */
+    public JsonFieldScanner(String[][] fields, String[] attributeNames, Map<String, String> metadataMap,
+                            boolean eventStream) {
+
+        this.fields = fields;
+        this.attributeNames = attributeNames;
+        this.metadataMap = metadataMap;
+        this.eventStream = eventStream;
+        this.values = new String[fields.length];
+        this.picked = new boolean[fields.length];
+    }
+
+    /**
+     * Scans the whole of a JSON document.
+     *
+     * @param inputStream stream of the document, which is left open
+     * @throws IOException if the stream cannot be read
+     */
+    public void scan(InputStream inputStream) throws IOException {
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            for (int i = 0; i < length; i++) {
+                scan(buffer[i]);
+            }
+        }
+        endDocument();
+    }
+
+    /**
+     * Scans the remaining bytes of a buffer, without changing its position.
+     *
+     * @param buffer buffer holding the next part of the input
+     */
+    public void scan(ByteBuffer buffer) {
+
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            scan(buffer.get(i));
+        }
+    }
+
+    /**
+     * Scans the next byte of the input.
+     *
+     * @param b next byte
+     */
+    public void scan(byte b) {
+
+        if (!eventStream) {
+            scanJson(b);
+            return;
+        }
+        if (b == '\n') {
+            if (lineLength == 0) {
+                // a blank line dispatches the event
+                endDocument();
+            } else if (lineState == LINE_DATA) {
+                scanJson(b);
+            }
+            lineState = LINE_START;
+            lineLength = 0;
+            return;
+        }
+        if (b == '\r') {
+            return;
+        }
+        if (lineState == LINE_START) {
+            if (b == DATA_FIELD[lineLength]) {
+                if (lineLength == DATA_FIELD.length - 1) {
+                    lineState = LINE_DATA;
+                }
+            } else {
+                lineState = LINE_SKIP;
+            }
+        } else if (lineState == LINE_DATA) {
+            matchDone(b);
+            scanJson(b);
+        }
+        lineLength++;
+    }
+
+    /**
+     * @return whether an event stream is ended, with each field picked from one of its events or its closing
+     * {@code [DONE]} event seen
+     */
+    public boolean isStreamEnded() {
+
+        return ended || pickedCount == fields.length;
+    }
+
+    /**
+     * Ends the document being scanned, putting the values picked from it to the metadata map.
+     */
+    public void endDocument() {
+
+        if (state == IN_LITERAL) {
+            endValue();
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                metadataMap.put(attributeNames[i], values[i]);
+                values[i] = null;
+                if (!picked[i]) {
+                    picked[i] = true;
+                    pickedCount++;
+                }
+            }
+        }
+        if (doneLength == DONE_DATA.length) {
+            ended = true;
+        }
+        doneLength = 0;
+        depth = 0;
+        state = EXPECT_VALUE;
+        picking = false;
+    }
+
+    /**
+     * Matches the data of the event being scanned against the data of the closing event of a stream.
+     */
+    private void matchDone(byte b) {
+
+        if (doneLength < 0 || b == ' ' && doneLength == 0) {
+            return;
+        }
+        doneLength = doneLength < DONE_DATA.length && b == DONE_DATA[doneLength] ? doneLength + 1 : -1;
+    }
+
+    private void scanJson(byte b) {
+
+        if (state == IN_KEY || state == IN_STRING) {
+            scanString(b);
+            return;
+        }
+        if (state == IN_LITERAL) {
+            if (b != ',' && b != '}' && b != ']' && b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                append(b);
+                return;
+            }
+            endValue();
+        }
+        switch (b) {
+            case ' ':
+            case '\t':
+            case '\r':
+            case '\n':
+                return;
+            case '{':
+                startContainer(false);
+                state = EXPECT_KEY;
+                return;
+            case '[':
+                startContainer(true);
+                state = EXPECT_VALUE;
+                return;
+            case '}':
+            case ']':
+                if (depth > 0) {
+                    depth--;
+                }
+                state = AFTER_VALUE;
+                return;
+            case ',':
+                state = depth > 0 && depth <= MAX_DEPTH && !arrays[depth - 1] ? EXPECT_KEY : EXPECT_VALUE;
+                return;
+            case ':':
+                state = EXPECT_VALUE;
+                return;
+            case '"':
+                startText();
+                if (state == EXPECT_KEY) {
+                    state = IN_KEY;
+                } else {
+                    picking = isPicked();
+                    state = IN_STRING;
+                }
+                return;
+            default:
+                if (state == EXPECT_VALUE) {
+                    startText();
+                    picking = isPicked();
+                    state = IN_LITERAL;
+                    append(b);
+                }
+        }
+    }
+
+    private void scanString(byte b) {
+
+        if (unicodeDigits > 0) {
+            unicodeValue = (unicodeValue << 4) + Character.digit(b, 16);
+            if (--unicodeDigits == 0) {
+                appendChar((char) unicodeValue);
+            }
+        } else if (escaped) {
+            escaped = false;
+            switch (b) {
+                case 'b':
+                    append((byte) '\b');
+                    break;
+                case 'f':
+                    append((byte) '\f');
+                    break;
+                case 'n':
+                    append((byte) '\n');
+                    break;
+                case 'r':
+                    append((byte) '\r');
+                    break;
+                case 't':
+                    append((byte) '\t');
+                    break;
+                case 'u':
+                    unicodeDigits = 4;
+                    unicodeValue = 0;
+                    break;
+                default:
+                    append(b);
+            }
+        } else if (b == '\\') {
+            escaped = true;
+        } else if (b == '"') {
+            if (state == IN_KEY) {
+                if (depth > 0 && depth <= MAX_DEPTH) {
+                    keys[depth - 1] = textOverflow || textLength > MAX_KEY_LENGTH ? null
+                            : new String(text, 0, textLength, StandardCharsets.UTF_8);
+                }
+                state = AFTER_VALUE;
+            } else {
+                endValue();
+            }
+        } else {
+            append(b);
+        }
+    }
+
+    private void startContainer(boolean array) {
+
+        if (depth < MAX_DEPTH) {
+            arrays[depth] = array;
+            keys[depth] = null;
+        }
+        depth++;
+    }
+
+    private void startText() {
+
+        textLength = 0;
+        textOverflow = false;
+        escaped = false;
+        unicodeDigits = 0;
+    }
+
+    /**
+     * Keys are always read, since they make up the position of the values, whereas values are read only if they are
+     * picked.
+     */
+    private void append(byte b) {
+
+        if (state != IN_KEY && !picking) {
+            return;
+        }
+        if (textLength < text.length) {
+            text[textLength++] = b;
+        } else {
+            textOverflow = true;
+        }
+    }
+
+    private void appendChar(char c) {
+
+        if (c < 0x80) {
+            append((byte) c);
+        } else if (c < 0x800) {
+            append((byte) (0xc0 | c >> 6));
+            append((byte) (0x80 | c & 0x3f));
+        } else {
+            append((byte) (0xe0 | c >> 12));
+            append((byte) (0x80 | c >> 6 & 0x3f));
+            append((byte) (0x80 | c & 0x3f));
+        }
+    }
+
+    private void endValue() {
+
+        boolean literal = state == IN_LITERAL;
+        state = AFTER_VALUE;
+        if (!picking || textOverflow) {
+            return;
+        }
+        picking = false;
+        String value = new String(text, 0, textLength, StandardCharsets.UTF_8);
+        if (literal && "null".equals(value)) {
+            return;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (matches(fields[i])) {
+                values[i] = value;
+            }
+        }
+    }
+
+    private boolean isPicked() {
+
+        for (String[] field : fields) {
+            if (matches(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the value at the current position is the given field
+     */
+    private boolean matches(String[] field) {
+
+        if (field.length != depth || depth > MAX_DEPTH) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            if (arrays[i] || !field[i].equals(keys[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
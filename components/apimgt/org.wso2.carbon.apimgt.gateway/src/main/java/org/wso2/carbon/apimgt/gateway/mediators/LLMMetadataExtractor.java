@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.commons.lang3.StringUtils;
+import org.wso2.carbon.apimgt.api.APIConstants;
+import org.wso2.carbon.apimgt.api.LLMProviderConfiguration;
+import org.wso2.carbon.apimgt.api.LLMProviderMetadata;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Metadata extraction rules of an LLM provider, compiled once from its configuration. The JSON paths of the payload
+ * metadata are turned into the keys picked by a {@link JsonFieldScanner}, the path metadata patterns are compiled, and
+ * the header carrying the remaining token count is resolved.
+ * <p>
+ * Payload metadata can be scanned only if all of its JSON paths are plain chains of keys, such as
+ * {@code $.usage.total_tokens}. Otherwise the payload is left to be read by the provider service.
+ */
+public class LLMMetadataExtractor {
+
+    private static final Pattern KEY_CHAIN = Pattern.compile("\\$(\\.[^.\\[\\]*@?()'\" ]+)+");
+
+    private final LLMProviderConfiguration configuration;
+    private final String[] payloadAttributeNames;
+    private final String[][] payloadFields;
+    private final String[] pathAttributeNames;
+    private final Pattern[] pathPatterns;
+    private final boolean scannable;
+    private final String remainingTokenCountHeader;
+
+    public LLMMetadataExtractor(LLMProviderConfiguration configuration) {
+
+        this.configuration = configuration;
+        List<LLMProviderMetadata> metadataList = configuration.getMetadata() != null ? configuration.getMetadata()
+                : new ArrayList<>();
+        List<String> payloadNames = new ArrayList<>();
+        List<String[]> fields = new ArrayList<>();
+        List<String> pathNames = new ArrayList<>();
+        List<Pattern> patterns = new ArrayList<>();
+        boolean allScannable = true;
+        for (LLMProviderMetadata metadata : metadataList) {
+            if (APIConstants.AIAPIConstants.INPUT_SOURCE_PAYLOAD.equalsIgnoreCase(metadata.getInputSource())) {
+                String[] field = toField(metadata.getAttributeIdentifier());
+                if (field == null) {
+                    allScannable = false;
+                } else {
+                    payloadNames.add(metadata.getAttributeName());
+                    fields.add(field);
+                }
+            } else if (APIConstants.AIAPIConstants.INPUT_SOURCE_PATH.equalsIgnoreCase(metadata.getInputSource())) {
+                try {
+                    patterns.add(Pattern.compile(metadata.getAttributeIdentifier()));
+                    pathNames.add(metadata.getAttributeName());
+                } catch (PatternSyntaxException e) {
+                    allScannable = false;
+                }
+            }
+        }
+        this.payloadAttributeNames = payloadNames.toArray(new String[0]);
+        this.payloadFields = fields.toArray(new String[0][]);
+        this.pathAttributeNames = pathNames.toArray(new String[0]);
+        this.pathPatterns = patterns.toArray(new Pattern[0]);
+        this.scannable = allScannable;
+
+        String header = null;
+        for (LLMProviderMetadata metadata : metadataList) {
+            if (APIConstants.AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REMAINING_TOKEN_COUNT
+                    .equals(metadata.getAttributeName())) {
+                header = metadata.getAttributeIdentifier();
+                break;
+            }
+        }
+        this.remainingTokenCountHeader = header;
+    }
+
+    /**
+     * @return the provider configuration the rules are compiled from
+     */
+    public LLMProviderConfiguration getConfiguration() {
+
+        return configuration;
+    }
+
+    /**
+     * @return whether the response metadata can be extracted with the compiled rules
+     */
+    public boolean isScannable() {
+
+        return scannable;
+    }
+
+    /**
+     * @return whether any of the response metadata is read from the payload
+     */
+    public boolean hasPayloadMetadata() {
+
+        return payloadFields.length > 0;
+    }
+
+    /**
+     * @return name of the header carrying the remaining token count, or null if the provider does not have one
+     */
+    public String getRemainingTokenCountHeader() {
+
+        return remainingTokenCountHeader;
+    }
+
+    /**
+     * Creates a scanner putting the payload metadata of a response to the given map as the payload is scanned.
+     *
+     * @param metadataMap map the metadata is put to
+     * @param eventStream whether the payload is a server sent event stream
+     * @return the scanner
+     */
+    public JsonFieldScanner newResponseScanner(Map<String, String> metadataMap, boolean eventStream) {
+
+        return new JsonFieldScanner(payloadFields, payloadAttributeNames, metadataMap, eventStream);
+    }
+
+    /**
+     * Extracts the metadata matched from the request path of a response.
+     *
+     * @param requestPath full request path
+     * @param metadataMap map the metadata is put to
+     */
+    public void extractPathMetadata(String requestPath, Map<String, String> metadataMap) {
+
+        if (pathPatterns.length == 0 || StringUtils.isEmpty(requestPath)) {
+            return;
+        }
+        String decodedPath = URLDecoder.decode(requestPath, StandardCharsets.UTF_8);
+        for (int i = 0; i < pathPatterns.length; i++) {
+            Matcher matcher = pathPatterns[i].matcher(decodedPath);
+            if (matcher.find()) {
+                metadataMap.put(pathAttributeNames[i], matcher.group(0));
+            }
+        }
+    }
+
+    /**
+     * @param identifier JSON path
+     * @return the keys leading to the field the path refers to, or null if the path is not a plain chain of keys
+     */
+    private static String[] toField(String identifier) {
+
+        if (identifier == null || !KEY_CHAIN.matcher(identifier).matches()) {
+            return null;
+        }
+        return identifier.substring(2).split("\\.");
+    }
+}
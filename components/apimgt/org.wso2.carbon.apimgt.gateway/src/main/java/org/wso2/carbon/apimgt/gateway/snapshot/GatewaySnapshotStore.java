@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.snapshot;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataSnapshot;
+import org.wso2.carbon.base.CarbonBaseUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the runtime artifacts deployed in the gateway and the subscription data of each tenant in local snapshot
+ * files, so that a restarted gateway can serve traffic from the snapshots before it reaches the control plane.
+ * Snapshots are only a head start: the gateway still reconciles with the control plane in the background.
+ */
+public class GatewaySnapshotStore {
+
+    private static final Log log = LogFactory.getLog(GatewaySnapshotStore.class);
+    private static final String ARTIFACTS = "artifacts";
+    private static final String SUBSCRIPTION_DATA = "subscription-data";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    private final Path directory;
+    private final boolean memoryMapped;
+
+    public GatewaySnapshotStore(Path directory, boolean memoryMapped) {
+
+        this.directory = directory;
+        this.memoryMapped = memoryMapped;
+    }
+
+    /**
+     * @param properties gateway artifact synchronizer configuration
+     * @return the snapshot store configured, or null if snapshots are disabled
+     */
+    public static GatewaySnapshotStore fromConfiguration(GatewayArtifactSynchronizerProperties properties) {
+
+        if (properties == null || !properties.isSnapshotEnabled()) {
+            return null;
+        }
+        Path directory = StringUtils.isNotEmpty(properties.getSnapshotDirectory())
+                ? Paths.get(properties.getSnapshotDirectory())
+                : Paths.get(CarbonBaseUtils.getCarbonHome(), "repository", "data", "gateway-snapshots");
+        return new GatewaySnapshotStore(directory, properties.isSnapshotMemoryMapped());
+    }
+
+    public boolean hasArtifacts(String tenantDomain) {
+
+        return Files.isRegularFile(getSnapshotFile(tenantDomain, ARTIFACTS));
+    }
+
+    /**
+     * Hands each runtime artifact in the snapshot of the tenant to the given consumer.
+     *
+     * @param tenantDomain     tenant domain
+     * @param artifactConsumer consumer of the runtime artifacts
+     * @return number of runtime artifacts
+     * @throws IOException if the snapshot cannot be read or is corrupted, in which case no artifacts are handed over
+     */
+    public int readArtifacts(String tenantDomain, Consumer<String> artifactConsumer) throws IOException {
+
+        return SnapshotFile.read(getSnapshotFile(tenantDomain, ARTIFACTS), memoryMapped, artifactConsumer);
+    }
+
+    /**
+     * Starts a new snapshot of the runtime artifacts of the tenant, which replaces the current one once committed.
+     *
+     * @param tenantDomain tenant domain
+     * @return writer of the snapshot
+     * @throws IOException if the snapshot cannot be created
+     */
+    public SnapshotFile.Writer writeArtifacts(String tenantDomain) throws IOException {
+
+        return SnapshotFile.write(getSnapshotFile(tenantDomain, ARTIFACTS));
+    }
+
+    /**
+     * @param tenantDomain tenant domain
+     * @return snapshot of the subscription data of the tenant, or null if there is no usable snapshot
+     */
+    public SubscriptionDataSnapshot readSubscriptionData(String tenantDomain) {
+
+        Path file = getSnapshotFile(tenantDomain, SUBSCRIPTION_DATA);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        AtomicReference<String> content = new AtomicReference<>();
+        try {
+            SnapshotFile.read(file, memoryMapped, content::set);
+            return content.get() != null ? new Gson().fromJson(content.get(), SubscriptionDataSnapshot.class) : null;
+        } catch (IOException | JsonSyntaxException e) {
+            log.warn("Ignoring the subscription data snapshot of tenant " + tenantDomain + " as it cannot be read", e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the snapshot of the subscription data of the tenant.
+     *
+     * @param tenantDomain tenant domain
+     * @param snapshot     subscription data of the tenant
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeSubscriptionData(String tenantDomain, SubscriptionDataSnapshot snapshot) throws IOException {
+
+        try (SnapshotFile.Writer writer = SnapshotFile.write(getSnapshotFile(tenantDomain, SUBSCRIPTION_DATA))) {
+            writer.add(new Gson().toJson(snapshot));
+            writer.commit();
+        }
+    }
+
+    private Path getSnapshotFile(String tenantDomain, String type) {
+
+        return directory.resolve(tenantDomain + "-" + type + SNAPSHOT_EXTENSION);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes snapshot files. A snapshot file holds a sequence of string entries in the following layout, where
+ * all numbers are big endian.
+ * <pre>
+ * magic (int) | version (int) | { length (int) | UTF-8 bytes }* | -1 (int) | entry count (int) | CRC32 (long)
+ * </pre>
+ * The checksum covers every byte before it. A snapshot is written to a temporary file which replaces the previous
+ * snapshot only once it is complete, hence a snapshot file is either complete or fails the checksum.
+ */
+public final class SnapshotFile {
+
+    static final int MAGIC = 0x41504d53;
+    static final int VERSION = 1;
+    private static final int END_OF_ENTRIES = -1;
+    private static final int HEADER_LENGTH = 8;
+    private static final int TRAILER_LENGTH = 16;
+
+    private SnapshotFile() {
+
+    }
+
+    /**
+     * Starts writing a snapshot which replaces the given file when committed.
+     *
+     * @param file snapshot file
+     * @return writer of the snapshot
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer write(Path file) throws IOException {
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        return new Writer(file, temporaryFile);
+    }
+
+    /**
+     * Verifies the checksum of a snapshot and hands each of its entries to the given consumer. No entries are handed
+     * over if the snapshot is corrupted.
+     *
+     * @param file          snapshot file
+     * @param memoryMapped  whether the file is memory mapped instead of being read through a stream
+     * @param entryConsumer consumer of the entries
+     * @return number of entries
+     * @throws IOException if the file cannot be read or is corrupted
+     */
+    public static int read(Path file, boolean memoryMapped, Consumer<String> entryConsumer) throws IOException {
+
+        long size = Files.size(file);
+        if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+            throw new IOException("Snapshot " + file + " is truncated");
+        }
+        if (memoryMapped) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return readEntries(file, buffer, entryConsumer);
+            }
+        }
+        long expectedChecksum = readChecksum(file, size);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            CRC32 crc32 = new CRC32();
+            byte[] chunk = new byte[8192];
+            long remaining = size - Long.BYTES;
+            while (remaining > 0) {
+                int read = inputStream.read(chunk, 0, (int) Math.min(chunk.length, remaining));
+                if (read < 0) {
+                    throw new EOFException("Snapshot " + file + " is truncated");
+                }
+                crc32.update(chunk, 0, read);
+                remaining -= read;
+            }
+            if (crc32.getValue() != expectedChecksum) {
+                throw new IOException("Checksum of snapshot " + file + " does not match");
+            }
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            checkHeader(file, inputStream.readInt(), inputStream.readInt());
+            int count = 0;
+            int length;
+            while ((length = inputStream.readInt()) != END_OF_ENTRIES) {
+                byte[] entry = new byte[length];
+                inputStream.readFully(entry);
+                entryConsumer.accept(new String(entry, StandardCharsets.UTF_8));
+                count++;
+            }
+            checkCount(file, inputStream.readInt(), count);
+            return count;
+        }
+    }
+
+    private static int readEntries(Path file, ByteBuffer buffer, Consumer<String> entryConsumer) throws IOException {
+
+        ByteBuffer content = buffer.duplicate();
+        content.limit(buffer.capacity() - Long.BYTES);
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        if (crc32.getValue() != buffer.getLong(buffer.capacity() - Long.BYTES)) {
+            throw new IOException("Checksum of snapshot " + file + " does not match");
+        }
+        checkHeader(file, buffer.getInt(), buffer.getInt());
+        int count = 0;
+        int length;
+        while ((length = buffer.getInt()) != END_OF_ENTRIES) {
+            byte[] entry = new byte[length];
+            buffer.get(entry);
+            entryConsumer.accept(new String(entry, StandardCharsets.UTF_8));
+            count++;
+        }
+        checkCount(file, buffer.getInt(), count);
+        return count;
+    }
+
+    private static long readChecksum(Path file, long size) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer checksum = ByteBuffer.allocate(Long.BYTES);
+            while (checksum.hasRemaining()) {
+                if (channel.read(checksum, size - Long.BYTES + checksum.position()) < 0) {
+                    throw new EOFException("Snapshot " + file + " is truncated");
+                }
+            }
+            checksum.flip();
+            return checksum.getLong();
+        }
+    }
+
+    private static void checkHeader(Path file, int magic, int version) throws IOException {
+
+        if (magic != MAGIC) {
+            throw new IOException(file + " is not a snapshot");
+        }
+        if (version != VERSION) {
+            throw new IOException("Version " + version + " of snapshot " + file + " is not supported");
+        }
+    }
+
+    private static void checkCount(Path file, int expectedCount, int count) throws IOException {
+
+        if (expectedCount != count) {
+            throw new IOException("Snapshot " + file + " has " + count + " entries instead of " + expectedCount);
+        }
+    }
+
+    /**
+     * Writes the entries of a snapshot. The snapshot replaces the previous one only if it is committed.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path file;
+        private final Path temporaryFile;
+        private final CRC32 crc32 = new CRC32();
+        private final DataOutputStream outputStream;
+        private int count;
+        private boolean committed;
+
+        private Writer(Path file, Path temporaryFile) throws IOException {
+
+            this.file = file;
+            this.temporaryFile = temporaryFile;
+            this.outputStream = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)), crc32));
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+        }
+
+        public void add(String entry) throws IOException {
+
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            outputStream.writeInt(bytes.length);
+            outputStream.write(bytes);
+            count++;
+        }
+
+        /**
+         * Completes the snapshot and replaces the previous snapshot with it.
+         */
+        public void commit() throws IOException {
+
+            outputStream.writeInt(END_OF_ENTRIES);
+            outputStream.writeInt(count);
+            // the checksum is not part of what it covers
+            long checksum = crc32.getValue();
+            outputStream.writeLong(checksum);
+            outputStream.close();
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            committed = true;
+        }
+
+        /**
+         * Discards the snapshot unless it is committed.
+         */
+        @Override
+        public void close() throws IOException {
+
+            if (!committed) {
+                outputStream.close();
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, compiled form of the IP blocking conditions of a tenant. Blocking IP ranges are merged into a sorted
+ * array of disjoint intervals searched with a binary search, inverted ranges are reduced to their intersection and
+ * inverted fixed IPs to a single value, so a lookup does not depend on the number of conditions.
+ * <p>
+ * IP addresses are handled as unsigned 128 bit values split into a high and a low long, which gives the same ordering
+ * as {@link APIUtil#ipToBigInteger(String)}. Literal IPv4 and IPv6 addresses are parsed without allocating; anything
+ * else falls back to {@link APIUtil#ipToBigInteger(String)}. As in the previous implementation, range bounds are
+ * exclusive.
+ */
+public final class IpBlockingConditionMatcher {
+
+    private static final ThreadLocal<long[]> ADDRESS_BUFFER = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final Set<String> blockedIps;
+    private final String allowedIp;
+    private final boolean blockAllButAllowedIp;
+    private final boolean blockAll;
+    private final long[] rangeStartHigh;
+    private final long[] rangeStartLow;
+    private final long[] rangeEndHigh;
+    private final long[] rangeEndLow;
+    private final boolean hasInvertedRange;
+    private final long allowedRangeStartHigh;
+    private final long allowedRangeStartLow;
+    private final long allowedRangeEndHigh;
+    private final long allowedRangeEndLow;
+
+    private IpBlockingConditionMatcher(Set<String> blockedIps, Set<String> invertedIps, List<long[]> ranges,
+                                       long[] allowedRange) {
+
+        this.blockedIps = blockedIps;
+        this.blockAll = invertedIps.size() > 1;
+        this.blockAllButAllowedIp = invertedIps.size() == 1;
+        this.allowedIp = blockAllButAllowedIp ? invertedIps.iterator().next() : null;
+        int size = ranges.size();
+        this.rangeStartHigh = new long[size];
+        this.rangeStartLow = new long[size];
+        this.rangeEndHigh = new long[size];
+        this.rangeEndLow = new long[size];
+        for (int i = 0; i < size; i++) {
+            long[] range = ranges.get(i);
+            rangeStartHigh[i] = range[0];
+            rangeStartLow[i] = range[1];
+            rangeEndHigh[i] = range[2];
+            rangeEndLow[i] = range[3];
+        }
+        this.hasInvertedRange = allowedRange != null;
+        this.allowedRangeStartHigh = hasInvertedRange ? allowedRange[0] : 0;
+        this.allowedRangeStartLow = hasInvertedRange ? allowedRange[1] : 0;
+        this.allowedRangeEndHigh = hasInvertedRange ? allowedRange[2] : 0;
+        this.allowedRangeEndLow = hasInvertedRange ? allowedRange[3] : 0;
+    }
+
+    /**
+     * Compiles the given IP blocking conditions.
+     *
+     * @param ipRanges IP blocking conditions of a tenant
+     * @return compiled matcher
+     */
+    public static IpBlockingConditionMatcher compile(Collection<IPRange> ipRanges) {
+
+        Set<String> blockedIps = new HashSet<>();
+        Set<String> invertedIps = new HashSet<>();
+        List<long[]> ranges = new ArrayList<>();
+        long[] allowedRange = null;
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ipRange.isInvert()) {
+                    invertedIps.add(ipRange.getFixedIp());
+                } else if (ipRange.getFixedIp() != null) {
+                    blockedIps.add(ipRange.getFixedIp());
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                if (ipRange.getStartingIpBigIntValue() == null || ipRange.getEndingIpBigIntValue() == null) {
+                    continue;
+                }
+                long[] range = new long[]{high(ipRange.getStartingIpBigIntValue()),
+                        ipRange.getStartingIpBigIntValue().longValue(), high(ipRange.getEndingIpBigIntValue()),
+                        ipRange.getEndingIpBigIntValue().longValue()};
+                if (!ipRange.isInvert()) {
+                    ranges.add(range);
+                } else if (allowedRange == null) {
+                    allowedRange = range;
+                } else {
+                    // An IP is blocked by an inverted range when it is outside of it, so only the intersection
+                    // of all inverted ranges is allowed.
+                    if (compare(range[0], range[1], allowedRange[0], allowedRange[1]) > 0) {
+                        allowedRange[0] = range[0];
+                        allowedRange[1] = range[1];
+                    }
+                    if (compare(range[2], range[3], allowedRange[2], allowedRange[3]) < 0) {
+                        allowedRange[2] = range[2];
+                        allowedRange[3] = range[3];
+                    }
+                }
+            }
+        }
+        return new IpBlockingConditionMatcher(blockedIps, invertedIps, mergeRanges(ranges), allowedRange);
+    }
+
+    /**
+     * Checks whether the given client IP is blocked by the compiled conditions.
+     *
+     * @param ip client IP
+     * @return true if the IP is blocked
+     */
+    public boolean isBlocked(String ip) {
+
+        if (blockAll) {
+            return true;
+        }
+        if (ip != null && blockedIps.contains(ip)) {
+            return true;
+        }
+        if (blockAllButAllowedIp && (ip == null || !ip.equals(allowedIp))) {
+            return true;
+        }
+        if (rangeStartHigh.length == 0 && !hasInvertedRange) {
+            return false;
+        }
+        long[] address = ADDRESS_BUFFER.get();
+        toUnsigned128(ip, address);
+        long high = address[0];
+        long low = address[1];
+        if (hasInvertedRange && !(compare(high, low, allowedRangeStartHigh, allowedRangeStartLow) > 0
+                && compare(high, low, allowedRangeEndHigh, allowedRangeEndLow) < 0)) {
+            return true;
+        }
+        int index = findLastRangeStartingBefore(high, low);
+        return index >= 0 && compare(high, low, rangeEndHigh[index], rangeEndLow[index]) < 0;
+    }
+
+    private int findLastRangeStartingBefore(long high, long low) {
+
+        int from = 0;
+        int to = rangeStartHigh.length - 1;
+        int result = -1;
+        while (from <= to) {
+            int mid = (from + to) >>> 1;
+            if (compare(rangeStartHigh[mid], rangeStartLow[mid], high, low) < 0) {
+                result = mid;
+                from = mid + 1;
+            } else {
+                to = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private static List<long[]> mergeRanges(List<long[]> ranges) {
+
+        ranges.sort((first, second) -> compare(first[0], first[1], second[0], second[1]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            // Bounds are exclusive, so two ranges cover a contiguous set of addresses when the start of the second
+            // is below the end of the first.
+            if (last != null && compare(range[0], range[1], last[2], last[3]) < 0) {
+                if (compare(range[2], range[3], last[2], last[3]) > 0) {
+                    last[2] = range[2];
+                    last[3] = range[3];
+                }
+            } else {
+                merged.add(range.clone());
+            }
+        }
+        return merged;
+    }
+
+    private static int compare(long firstHigh, long firstLow, long secondHigh, long secondLow) {
+
+        int result = Long.compareUnsigned(firstHigh, secondHigh);
+        return result != 0 ? result : Long.compareUnsigned(firstLow, secondLow);
+    }
+
+    private static long high(BigInteger value) {
+
+        return value.shiftRight(64).longValue();
+    }
+
+    static void toUnsigned128(String ip, long[] address) {
+
+        if (ip != null && (parseIPv4(ip, address) || parseIPv6(ip, address))) {
+            return;
+        }
+        BigInteger value = APIUtil.ipToBigInteger(ip);
+        address[0] = high(value);
+        address[1] = value.longValue();
+    }
+
+    private static boolean parseIPv4(String ip, long[] address) {
+
+        int length = ip.length();
+        long value = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0; i < length; i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return false;
+                }
+            } else if (c == '.' && octet >= 0 && octets < 3) {
+                value = (value << 8) | octet;
+                octet = -1;
+                octets++;
+            } else {
+                return false;
+            }
+        }
+        if (octet < 0 || octets != 3) {
+            return false;
+        }
+        address[0] = 0;
+        address[1] = (value << 8) | octet;
+        return true;
+    }
+
+    private static boolean parseIPv6(String ip, long[] address) {
+
+        int length = ip.length();
+        if (length < 2 || ip.indexOf(':') < 0) {
+            return false;
+        }
+        // Groups before a "::" are accumulated in the head and groups after it in the tail.
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int headGroups = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+        int i = 0;
+        if (ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i = 2;
+        }
+        while (i < length) {
+            int group = 0;
+            int digits = 0;
+            while (i < length && digits < 5) {
+                int digit = Character.digit(ip.charAt(i), 16);
+                if (digit < 0) {
+                    break;
+                }
+                group = (group << 4) | digit;
+                digits++;
+                i++;
+            }
+            if (digits == 0 || digits > 4 || headGroups + tailGroups == 8) {
+                return false;
+            }
+            if (compressed) {
+                tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+                tailLow = (tailLow << 16) | group;
+                tailGroups++;
+            } else {
+                headHigh = (headHigh << 16) | (headLow >>> 48);
+                headLow = (headLow << 16) | group;
+                headGroups++;
+            }
+            if (i == length) {
+                break;
+            }
+            if (ip.charAt(i) != ':') {
+                // Zone IDs and embedded IPv4 notations are left to the fallback.
+                return false;
+            }
+            i++;
+            if (i < length && ip.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                i++;
+            } else if (i == length) {
+                return false;
+            }
+        }
+        if (compressed ? headGroups + tailGroups == 8 : headGroups != 8) {
+            return false;
+        }
+        int shift = (8 - headGroups) * 16;
+        long high;
+        long low;
+        if (shift == 0) {
+            high = headHigh;
+            low = headLow;
+        } else if (shift >= 128) {
+            high = 0;
+            low = 0;
+        } else if (shift >= 64) {
+            high = headLow << (shift - 64);
+            low = 0;
+        } else {
+            high = (headHigh << shift) | (headLow >>> (64 - shift));
+            low = headLow << shift;
+        }
+        high |= tailHigh;
+        low |= tailLow;
+        if (high == 0 && (low >>> 32) == 0xFFFFL) {
+            // IPv4 mapped addresses are resolved to IPv4 addresses by InetAddress.
+            low &= 0xFFFFFFFFL;
+        }
+        address[0] = high;
+        address[1] = low;
+        return true;
+    }
+}
@@ -30,7 +30,6 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -51,19 +50,20 @@ public class ThrottleDataHolder {
     private Map<String, String> blockedApplicationConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedUserConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, Set<IPRange>> blockedIpConditionsMap = new ConcurrentHashMap<>();
+    private Map<String, IpBlockingConditionMatcher> ipBlockingConditionMatcherMap = new ConcurrentHashMap<>();
     private Map<String, String> keyTemplateMap = new ConcurrentHashMap<String, String>();
     private boolean isBlockingConditionsPresent = true;
     private boolean isKeyTemplatesPresent = false;
-    private Map<String, Long> throttleDataMap = new ConcurrentHashMap<String, Long>();
+    private ThrottleDecisionTable throttleDecisionTable = new ThrottleDecisionTable();
     private Map<String,Long> throttledAPIKeysMap = new ConcurrentHashMap<String, Long>();
     private Map<String, Map<String, List<ConditionDto>>> conditionDtoMap = new ConcurrentHashMap<>();
     public void addThrottleData(String key, Long value) {
-        throttleDataMap.put(key, value);
+        throttleDecisionTable.put(key, value);
     }
     private Map<String, String> blockedSubscriptionConditionsMap = new ConcurrentHashMap<String, String>();
 
     public void addThrottleDataFromMap(Map<String, Long> data) {
-        throttleDataMap.putAll(data);
+        throttleDecisionTable.putAll(data);
     }
 
     public void addThrottledAPIKey(String key, Long value){
@@ -147,7 +147,7 @@ public class ThrottleDataHolder {
     }
 
     public void removeThrottleData(String key) {
-        throttleDataMap.remove(key);
+        throttleDecisionTable.remove(key);
     }
 
     public void addAPIBlockingCondition(String name, String value) {
@@ -163,7 +163,8 @@ public class ThrottleDataHolder {
         blockedUserConditionsMap.put(name, value);
     }
 
-    public void addIpBlockingCondition(String tenantDomain, int conditionId, String value, String type) {
+    public synchronized void addIpBlockingCondition(String tenantDomain, int conditionId, String value,
+                                                    String type) {
 
         Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
         if (ipRanges == null){
@@ -172,6 +173,23 @@ public class ThrottleDataHolder {
 
         ipRanges.add(convertValueToIPRange(tenantDomain, conditionId, value, type));
         blockedIpConditionsMap.put(tenantDomain, ipRanges);
+        compileIpBlockingConditions(tenantDomain);
+    }
+
+    /**
+     * Rebuilds the compiled IP blocking condition matcher of the given tenant. This has to be called whenever the
+     * IP blocking conditions of the tenant change.
+     *
+     * @param tenantDomain tenant domain
+     */
+    private void compileIpBlockingConditions(String tenantDomain) {
+
+        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
+        if (ipRanges == null || ipRanges.isEmpty()) {
+            ipBlockingConditionMatcherMap.remove(tenantDomain);
+        } else {
+            ipBlockingConditionMatcherMap.put(tenantDomain, IpBlockingConditionMatcher.compile(ipRanges));
+        }
     }
 
     private IPRange convertValueToIPRange(String tenantDomain, int conditionId, String value, String type) {
@@ -227,9 +245,12 @@ public class ThrottleDataHolder {
         }
     }
 
-    public void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
+    public synchronized void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
         if(data.size() > 0) {
             blockedIpConditionsMap.putAll(data);
+            for (String tenantDomain : data.keySet()) {
+                compileIpBlockingConditions(tenantDomain);
+            }
         }
     }
 
@@ -258,7 +279,7 @@ public class ThrottleDataHolder {
         blockedUserConditionsMap.remove(name);
     }
 
-    public void removeIpBlockingCondition(String tenantDomain, int conditionId) {
+    public synchronized void removeIpBlockingCondition(String tenantDomain, int conditionId) {
 
         Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
         if (ipRanges != null) {
@@ -270,6 +291,7 @@ public class ThrottleDataHolder {
                     break;
                 }
             }
+            compileIpBlockingConditions(tenantDomain);
         }
     }
 
@@ -309,39 +331,12 @@ public class ThrottleDataHolder {
 
     private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(apiTenantDomain);
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant " + apiTenantDomain + " contains block conditions");
-            for (IPRange ipRange : ipRanges) {
-                if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    }
-                } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    }
-                }
+        IpBlockingConditionMatcher matcher = ipBlockingConditionMatcherMap.get(apiTenantDomain);
+        if (matcher != null && matcher.isBlocked(ip)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Block IP selected for Blocked in tenant " + apiTenantDomain);
             }
+            return true;
         }
         return false;
     }
@@ -356,19 +351,7 @@ public class ThrottleDataHolder {
      * false if key is not there in throttle map(that means its not throttled).
      */
     public boolean isThrottled(String key) {
-        boolean isThrottled = this.throttleDataMap.containsKey(key);
-        if(isThrottled) {
-            long currentTime = System.currentTimeMillis();
-            long timestamp = this.throttleDataMap.get(key);
-            if(timestamp >= currentTime) {
-                return isThrottled;
-            } else {
-                this.throttleDataMap.remove(key);
-                return false;
-            }
-        } else {
-            return isThrottled;
-        }
+        return throttleDecisionTable.getNextAccessTimestamp(key) > 0;
     }
 
     /**
@@ -378,7 +361,18 @@ public class ThrottleDataHolder {
      * @return throttle next access timestamp
      */
     public long getThrottleNextAccessTimestamp(String key) {
-        return this.throttleDataMap.get(key);
+        return throttleDecisionTable.getNextAccessTimestamp(key);
+    }
+
+    /**
+     * This method checks whether the given key is throttled and returns its next access timestamp with a single
+     * lookup in the throttle decision table.
+     *
+     * @param key String unique key of throttle event.
+     * @return throttle next access timestamp if the key is throttled, 0 otherwise
+     */
+    public long getThrottledUntil(String key) {
+        return throttleDecisionTable.getNextAccessTimestamp(key);
     }
 
     public boolean isBlockingConditionsPresent() {
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the throttle decisions received from the global policy engine, keyed by throttle key and valued by the
+ * timestamp until which the key is throttled. Lookups are a single hash probe that return the next access timestamp,
+ * or 0 when the key is not throttled. Every decision is also registered in an expiry index bucketed by time slot, so
+ * a background task can evict expired decisions by visiting only the elapsed slots, instead of relying on the key
+ * being looked up again.
+ */
+public class ThrottleDecisionTable {
+
+    private static final Log log = LogFactory.getLog(ThrottleDecisionTable.class);
+    private static final long DEFAULT_SLOT_MILLIS = 1000L;
+
+    private final Map<String, Long> decisions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryIndex = new ConcurrentSkipListMap<>();
+    private final long slotMillis;
+    private final AtomicBoolean evictionStarted = new AtomicBoolean(false);
+    private ScheduledExecutorService evictionExecutor;
+
+    public ThrottleDecisionTable() {
+        this(DEFAULT_SLOT_MILLIS);
+    }
+
+    public ThrottleDecisionTable(long slotMillis) {
+        this.slotMillis = slotMillis;
+    }
+
+    /**
+     * Records a throttle decision for the given key.
+     *
+     * @param key                 throttle key
+     * @param nextAccessTimestamp timestamp until which the key is throttled
+     */
+    public void put(String key, long nextAccessTimestamp) {
+        decisions.put(key, nextAccessTimestamp);
+        expiryIndex.computeIfAbsent(nextAccessTimestamp / slotMillis, slot -> ConcurrentHashMap.newKeySet()).add(key);
+        startEviction();
+    }
+
+    public void putAll(Map<String, Long> data) {
+        for (Map.Entry<String, Long> entry : data.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void remove(String key) {
+        // The expiry index entry is left behind and discarded when its slot elapses.
+        decisions.remove(key);
+    }
+
+    /**
+     * Returns the next access timestamp of the given key if it is currently throttled.
+     *
+     * @param key throttle key
+     * @return next access timestamp, or 0 if the key is not throttled
+     */
+    public long getNextAccessTimestamp(String key) {
+        Long timestamp = decisions.get(key);
+        if (timestamp == null) {
+            return 0;
+        }
+        if (timestamp >= System.currentTimeMillis()) {
+            return timestamp;
+        }
+        decisions.remove(key, timestamp);
+        return 0;
+    }
+
+    public int size() {
+        return decisions.size();
+    }
+
+    /**
+     * Removes all decisions that expired before the given time. Only the slots that elapsed are visited and keys
+     * that were re-throttled with a later timestamp in the meantime are kept.
+     *
+     * @param currentTime current time in milliseconds
+     * @return number of evicted decisions
+     */
+    public int evictExpired(long currentTime) {
+        int count = 0;
+        ConcurrentNavigableMap<Long, Set<String>> elapsedSlots = expiryIndex.headMap(currentTime / slotMillis);
+        Iterator<Map.Entry<Long, Set<String>>> iterator = elapsedSlots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Set<String> keys = iterator.next().getValue();
+            iterator.remove();
+            for (String key : keys) {
+                Long timestamp = decisions.get(key);
+                if (timestamp != null && timestamp < currentTime && decisions.remove(key, timestamp)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void startEviction() {
+        if (evictionStarted.get() || !evictionStarted.compareAndSet(false, true)) {
+            return;
+        }
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ThrottleDecisionTableEvictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                int count = evictExpired(System.currentTimeMillis());
+                if (log.isDebugEnabled() && count > 0) {
+                    log.debug("Evicted " + count + " expired throttle decisions");
+                }
+            } catch (RuntimeException e) {
+                log.error("Error while evicting expired throttle decisions", e);
+            }
+        }, slotMillis, slotMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background eviction task, if it was started.
+     */
+    public void shutdown() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+    }
+}
@@ -25,7 +25,6 @@ import org.wso2.carbon.databridge.agent.DataPublisher;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import javax.xml.stream.XMLStreamException;
@@ -37,37 +36,16 @@ import static org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants.*;
  * need to execute using thread pool executor. Primary task of this class it is accept message context as parameter
  * and perform time consuming data extraction and publish event to data publisher. Having data extraction and
  * transformation logic in this class will help to reduce overhead added to main message flow.
+ * <p>
+ * The data needed from the message context is copied into a {@link ThrottleEvent} by
+ * {@link #createEvent}, and {@link #publish(ThrottleEvent)} builds and publishes the event from it. Neither keeps
+ * state in the agent, so a single agent can create events on request threads and publish them on other threads.
  */
 public class DataProcessAndPublishingAgent implements Runnable {
     private static final Log log = LogFactory.getLog(DataProcessAndPublishingAgent.class);
-    private static String streamID = "org.wso2.throttle.request.stream:1.0.0";
-    private MessageContext messageContext;
+    static final String STREAM_ID = "org.wso2.throttle.request.stream:1.0.0";
     private DataPublisher dataPublisher;
-
-    String applicationLevelThrottleKey;
-    String applicationLevelTier;
-    String apiLevelThrottleKey;
-    String apiLevelTier;
-    String subscriptionLevelThrottleKey;
-    String subscriptionLevelTier;
-    String resourceLevelThrottleKey;
-    String authorizedUser;
-    String resourceLevelTier;
-    String apiContext;
-    String apiVersion;
-    String appTenant;
-    String apiTenant;
-    String apiName;
-    String appId;
-    String ipAddress;
-    Long totalTokens = 0L;
-    Long promptTokens = 0L;
-    Long completionTokens = 0L;
-    Map<String, String> headersMap;
-    Map<String, Object> customPropertyMap;
-    private AuthenticationContext authenticationContext;
-
-    private long messageSizeInBytes = 0L;
+    private ThrottleEvent event;
 
     public DataProcessAndPublishingAgent() {
 
@@ -76,33 +54,10 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
     /**
      * This method will clean data references. This method should call whenever we return data process and publish
-     * agent back to pool. Every time when we add new property we need to implement cleaning logic as well.
+     * agent back to pool.
      */
     public void clearDataReference() {
-        this.authenticationContext = null;
-        this.messageContext = null;
-        this.applicationLevelThrottleKey = null;
-        this.applicationLevelTier = null;
-        this.apiLevelThrottleKey = null;
-        this.applicationLevelTier = null;
-        this.subscriptionLevelThrottleKey = null;
-        this.subscriptionLevelTier = null;
-        this.resourceLevelThrottleKey = null;
-        this.resourceLevelTier = null;
-        this.authorizedUser = null;
-        this.apiContext = null;
-        this.apiVersion = null;
-        this.appTenant = null;
-        this.apiTenant = null;
-        this.appId = null;
-        this.apiName = null;
-        this.ipAddress = null;
-        this.headersMap = null;
-        this.totalTokens = 0L;
-        this.promptTokens = 0L;
-        this.completionTokens = 0L;
-        this.messageSizeInBytes = 0L;
-        this.customPropertyMap = Collections.emptyMap();
+        this.event = null;
     }
 
     /**
@@ -115,30 +70,45 @@ public class DataProcessAndPublishingAgent implements Runnable {
                                  String authorizedUser, String apiContext, String apiVersion, String appTenant,
                                  String apiTenant, String appId, MessageContext messageContext,
                                  AuthenticationContext authenticationContext) {
+        this.event = createEvent(applicationLevelThrottleKey, applicationLevelTier, apiLevelThrottleKey,
+                apiLevelTier, subscriptionLevelThrottleKey, subscriptionLevelTier, resourceLevelThrottleKey,
+                resourceLevelTier, authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId,
+                messageContext, authenticationContext);
+    }
+
+    /**
+     * Copies the data of a non throttled request from the message context. This has to be called on the request
+     * thread, as the message context is not used after the request moves on.
+     *
+     * @return the data of the request to publish
+     */
+    public ThrottleEvent createEvent(String applicationLevelThrottleKey, String applicationLevelTier,
+                                     String apiLevelThrottleKey, String apiLevelTier,
+                                     String subscriptionLevelThrottleKey, String subscriptionLevelTier,
+                                     String resourceLevelThrottleKey, String resourceLevelTier,
+                                     String authorizedUser, String apiContext, String apiVersion, String appTenant,
+                                     String apiTenant, String appId, MessageContext messageContext,
+                                     AuthenticationContext authenticationContext) {
         if (!StringUtils.isEmpty(apiLevelTier)) {
             resourceLevelTier = apiLevelTier;
             resourceLevelThrottleKey = apiLevelThrottleKey;
         }
-        this.authenticationContext = authenticationContext;
-        this.messageContext = messageContext;
-        this.applicationLevelThrottleKey = applicationLevelThrottleKey;
-        this.applicationLevelTier = applicationLevelTier;
-        this.apiLevelThrottleKey = apiLevelThrottleKey;
-        this.subscriptionLevelThrottleKey = subscriptionLevelThrottleKey;
-        this.subscriptionLevelTier = subscriptionLevelTier;
-        this.resourceLevelThrottleKey = resourceLevelThrottleKey;
-        this.resourceLevelTier = resourceLevelTier;
-        this.authorizedUser = authorizedUser;
-        this.apiContext = apiContext;
-        this.apiVersion = apiVersion;
-        this.appTenant = appTenant;
-        this.apiTenant = apiTenant;
-        this.appId = appId;
-        this.apiName = GatewayUtils.getAPINameFromContextAndVersion(messageContext);
-        this.messageSizeInBytes = 0;
-        this.totalTokens = 0L;
-        this.promptTokens = 0L;
-        this.completionTokens = 0L;
+        ThrottleEvent event = new ThrottleEvent();
+        event.messageId = messageContext.getMessageID();
+        event.applicationLevelThrottleKey = applicationLevelThrottleKey;
+        event.applicationLevelTier = applicationLevelTier;
+        event.apiLevelThrottleKey = apiLevelThrottleKey;
+        event.subscriptionLevelThrottleKey = subscriptionLevelThrottleKey;
+        event.subscriptionLevelTier = subscriptionLevelTier;
+        event.resourceLevelThrottleKey = resourceLevelThrottleKey;
+        event.resourceLevelTier = resourceLevelTier;
+        event.authorizedUser = authorizedUser;
+        event.apiContext = apiContext;
+        event.apiVersion = apiVersion;
+        event.appTenant = appTenant;
+        event.apiTenant = apiTenant;
+        event.appId = appId;
+        event.apiName = GatewayUtils.getAPINameFromContextAndVersion(messageContext);
 
         ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
         boolean isVerbInfoContentAware = false;
@@ -159,7 +129,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
             for (Map.Entry<String, String> entry : transportHeaderMap.entrySet()) {
                 lowerCaseTransportHeaderMap.put(entry.getKey().toLowerCase(), String.valueOf(entry.getValue()));
             }
-            this.headersMap = new HashMap<>(lowerCaseTransportHeaderMap);
+            event.headersMap = lowerCaseTransportHeaderMap;
         }
 
         if (messageContext.getProperty(APIThrottleConstants.CUSTOM_PROPERTY) != null) {
@@ -167,23 +137,36 @@ public class DataProcessAndPublishingAgent implements Runnable {
                     APIThrottleConstants.CUSTOM_PROPERTY);
 
             if (propertyFromMsgCtx != null) {
-                this.customPropertyMap = (Map<String, Object>) propertyFromMsgCtx.clone();
+                event.customPropertyMap = (Map<String, Object>) propertyFromMsgCtx.clone();
             }
         }
 
-        this.ipAddress = GatewayUtils.getIp(axis2MessageContext);
+        event.ipAddress = GatewayUtils.getIp(axis2MessageContext);
         if (log.isDebugEnabled()) {
-            log.debug("Remote IP address : " + ipAddress);
+            log.debug("Remote IP address : " + event.ipAddress);
+        }
+
+        //Setting query parameters
+        if (getThrottleProperties().isEnableQueryParamConditions()) {
+            event.queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
+        }
+        //the JWT claims are extracted on the publishing thread
+        if (getThrottleProperties().isEnableJwtConditions()) {
+            event.callerToken = authenticationContext.getCallerToken();
         }
 
         if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
+            event.contentAware = true;
+            event.applicationName = authenticationContext.getApplicationName();
+            event.productSubscription = !StringUtils.isEmpty(authenticationContext.getProductName())
+                    && !StringUtils.isEmpty(authenticationContext.getProductProvider());
             Object contentLength = null;
             if (transportHeaderMap != null) {
                 contentLength = transportHeaderMap.get(APIThrottleConstants.CONTENT_LENGTH);
             }
             if (contentLength != null) {
                 log.debug("Content lenght found in the request. Using it as the message size..");
-                messageSizeInBytes  = Long.parseLong(contentLength.toString());
+                event.messageSizeInBytes = Long.parseLong(contentLength.toString());
             } else {
                 log.debug("Building the message to get the message size..");
                 try {
@@ -197,7 +180,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
                     SOAPBody soapbody = env.getBody();
                     if (soapbody != null) {
                         byte[] size = soapbody.toString().getBytes(Charset.defaultCharset());
-                        messageSizeInBytes = size.length;
+                        event.messageSizeInBytes = size.length;
                     }
                 } 
             }
@@ -208,25 +191,34 @@ public class DataProcessAndPublishingAgent implements Runnable {
                     .getProperty(AI_API_RESPONSE_METADATA);
             if (responseMetadata != null) {
                 if (null != responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT)) {
-                    totalTokens =
+                    event.totalTokens =
                             Long.parseLong(responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT));
                 }
                 if (null != responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT)) {
-                    promptTokens =
+                    event.promptTokens =
                             Long.parseLong(responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT));
                 }
                 if (null != responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_COMPLETION_TOKEN_COUNT)) {
-                    completionTokens =
+                    event.completionTokens =
                             Long.parseLong(responseMetadata.get(LLM_PROVIDER_SERVICE_METADATA_COMPLETION_TOKEN_COUNT));
                 }
             }
         }
+        return event;
     }
 
     public void run() {
+        publish(event);
+    }
+
+    /**
+     * Builds the throttle event from the given request data and publishes it.
+     *
+     * @param event data of the request copied by {@link #createEvent}
+     */
+    public void publish(ThrottleEvent event) {
         JSONObject jsonObMap = new JSONObject();
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
-                .getAxis2MessageContext();
+        String ipAddress = event.ipAddress;
 
         if (ipAddress != null && ipAddress.length() > 0) {
             if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
@@ -249,53 +241,38 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
         //HeaderMap will only be set if the Header Publishing has been enabled.
         if (getThrottleProperties().isEnableHeaderConditions()) {
-            if (this.headersMap != null) {
-                jsonObMap.putAll(this.headersMap);
+            if (event.headersMap != null) {
+                jsonObMap.putAll(event.headersMap);
             }
         }
         //adding any custom property if available to stream's property map
-        if (this.customPropertyMap != null) {
-            jsonObMap.putAll(this.customPropertyMap);
+        if (event.customPropertyMap != null) {
+            jsonObMap.putAll(event.customPropertyMap);
         }
 
         //Setting query parameters
-        if (getThrottleProperties().isEnableQueryParamConditions()) {
-            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
-            if (queryParams != null) {
-                jsonObMap.putAll(queryParams);
-            }
-
+        if (event.queryParams != null) {
+            jsonObMap.putAll(event.queryParams);
         }
 
         //Publish jwt claims
-        if (getThrottleProperties().isEnableJwtConditions()) {
-            if (authenticationContext.getCallerToken() != null) {
-                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-                if (assertions != null) {
-                    jsonObMap.putAll(assertions);
-                }
+        if (event.callerToken != null) {
+            Map<String, String> assertions = JWTUtil.getJWTClaims(event.callerToken);
+            if (assertions != null) {
+                jsonObMap.putAll(assertions);
             }
         }
 
         //this parameter will be used to capture message size and pass it to calculation logic
-        
-        ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
-        boolean isVerbInfoContentAware = false;
-        if (list != null && !list.isEmpty()) {
-            VerbInfoDTO verbInfoDTO = list.get(0);
-            isVerbInfoContentAware = verbInfoDTO.isContentAware();
-        }
-
-        if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
+        if (event.contentAware) {
             if (log.isDebugEnabled()) {
-                log.debug("Message size: " + messageSizeInBytes + "B");
+                log.debug("Message size: " + event.messageSizeInBytes + "B");
             }
-            jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
-            if (!StringUtils.isEmpty(authenticationContext.getApplicationName())) {
-                jsonObMap.put(APIThrottleConstants.APPLICATION_NAME, authenticationContext.getApplicationName());
+            jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, event.messageSizeInBytes);
+            if (!StringUtils.isEmpty(event.applicationName)) {
+                jsonObMap.put(APIThrottleConstants.APPLICATION_NAME, event.applicationName);
             }
-            if (!StringUtils.isEmpty(authenticationContext.getProductName()) && !StringUtils
-                    .isEmpty(authenticationContext.getProductProvider())) {
+            if (event.productSubscription) {
                 jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
             } else {
                 jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
@@ -303,26 +280,31 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
         }
 
-        if (totalTokens != null) {
-            jsonObMap.put(APIThrottleConstants.TOTAL_TOKENS, totalTokens);
+        if (event.totalTokens != null) {
+            jsonObMap.put(APIThrottleConstants.TOTAL_TOKENS, event.totalTokens);
         }
-        if (promptTokens != null) {
-            jsonObMap.put(APIThrottleConstants.PROMPT_TOKENS, promptTokens);
+        if (event.promptTokens != null) {
+            jsonObMap.put(APIThrottleConstants.PROMPT_TOKENS, event.promptTokens);
         }
-        if (completionTokens != null) {
-            jsonObMap.put(APIThrottleConstants.COMPLETION_TOKENS, completionTokens);
+        if (event.completionTokens != null) {
+            jsonObMap.put(APIThrottleConstants.COMPLETION_TOKENS, event.completionTokens);
         }
 
-        Object[] objects = new Object[]{messageContext.getMessageID(),
-                                        this.applicationLevelThrottleKey, this.applicationLevelTier,
-                                        this.apiLevelThrottleKey, this.apiLevelTier,
-                                        this.subscriptionLevelThrottleKey, this.subscriptionLevelTier,
-                                        this.resourceLevelThrottleKey, this.resourceLevelTier,
-                                        this.authorizedUser, this.apiContext, this.apiVersion,
-                                        this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
-        org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
-                                                                                                      System.currentTimeMillis(), null, null, objects);
-        dataPublisher.tryPublish(event);
+        ThrottleEventAggregator eventAggregator = getEventAggregator();
+        Object[] objects = new Object[]{event.messageId,
+                                        event.applicationLevelThrottleKey, event.applicationLevelTier,
+                                        event.apiLevelThrottleKey, event.apiLevelTier,
+                                        event.subscriptionLevelThrottleKey, event.subscriptionLevelTier,
+                                        event.resourceLevelThrottleKey, event.resourceLevelTier,
+                                        event.authorizedUser, event.apiContext, event.apiVersion,
+                                        event.appTenant, event.apiTenant, event.appId, event.apiName,
+                                        eventAggregator != null ? null : jsonObMap.toString()};
+        if (eventAggregator != null) {
+            eventAggregator.add(objects, jsonObMap);
+            return;
+        }
+        dataPublisher.tryPublish(new org.wso2.carbon.databridge.commons.Event(STREAM_ID, System.currentTimeMillis(),
+                null, null, objects));
     }
 
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
@@ -336,4 +318,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
     protected DataPublisher getDataPublisher() {
         return ThrottleDataPublisher.getDataPublisher();
     }
+
+    protected ThrottleEventAggregator getEventAggregator() {
+        return ThrottleDataPublisher.getEventAggregator();
+    }
 }
@@ -34,6 +34,7 @@ import org.wso2.carbon.databridge.commons.exception.TransportException;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -55,8 +56,19 @@ public class ThrottleDataPublisher {
 
     private static volatile DataPublisher dataPublisher = null;
 
+    public static ThrottleEventAggregator getEventAggregator() {
+        return eventAggregator;
+    }
+
+    private static volatile ThrottleEventAggregator eventAggregator = null;
+
     Executor executor;
 
+    ThrottleEventPipeline<ThrottleEvent> eventPipeline;
+
+    // copies the request data on request threads and publishes it on the pipeline's threads
+    DataProcessAndPublishingAgent eventPipelineAgent;
+
     /**
      * This method will initialize throttle data publisher. Inside this we will start executor and initialize data
      * publisher which we used to publish throttle data.
@@ -71,6 +83,12 @@ public class ThrottleDataPublisher {
                 ThrottleProperties.DataPublisherThreadPool dataPublisherThreadPoolConfiguration = ServiceReferenceHolder
                         .getInstance().getThrottleProperties().getDataPublisherThreadPool();
 
+                ThrottleProperties.DataPublisherEventBuffer eventBufferConfiguration = ServiceReferenceHolder
+                        .getInstance().getThrottleProperties().getDataPublisherEventBuffer();
+                ThrottleProperties.DataPublisherEventAggregation eventAggregationConfiguration =
+                        ServiceReferenceHolder.getInstance().getThrottleProperties()
+                                .getDataPublisherEventAggregation();
+
                 try {
                     executor = new DataPublisherThreadPoolExecutor(dataPublisherThreadPoolConfiguration.getCorePoolSize(),
                             dataPublisherThreadPoolConfiguration.getMaximumPoolSize(), dataPublisherThreadPoolConfiguration
@@ -83,6 +101,14 @@ public class ThrottleDataPublisher {
                             .getReceiverUrlGroup(), dataPublisherConfiguration.getAuthUrlGroup(), dataPublisherConfiguration
                             .getUsername(),
                             dataPublisherConfiguration.getPassword());
+                    if (eventAggregationConfiguration != null && eventAggregationConfiguration.isEnabled()) {
+                        eventAggregator = new ThrottleEventAggregator(eventAggregationConfiguration.getInterval(),
+                                eventAggregationConfiguration.getMaxKeys(), ThrottleDataPublisher::publishAggregatedEvent);
+                    }
+                    if (eventBufferConfiguration != null && eventBufferConfiguration.isEnabled()) {
+                        eventPipelineAgent = new DataProcessAndPublishingAgent();
+                        eventPipeline = createEventPipeline(eventBufferConfiguration);
+                    }
 
                 } catch (DataEndpointAgentConfigurationException e) {
                     log.error("Error in initializing binary data-publisher to send requests to global throttling engine " +
@@ -104,6 +130,30 @@ public class ThrottleDataPublisher {
         }
     }
 
+    private ThrottleEventPipeline<ThrottleEvent> createEventPipeline(
+            ThrottleProperties.DataPublisherEventBuffer eventBufferConfiguration) {
+
+        ThrottleEventPipeline.BackpressurePolicy backpressurePolicy;
+        try {
+            backpressurePolicy = ThrottleEventPipeline.BackpressurePolicy.valueOf(
+                    eventBufferConfiguration.getBackpressurePolicy().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid throttle event backpressure policy " + eventBufferConfiguration
+                    .getBackpressurePolicy() + ". Using " + ThrottleEventPipeline.BackpressurePolicy.DROP_OLDEST);
+            backpressurePolicy = ThrottleEventPipeline.BackpressurePolicy.DROP_OLDEST;
+        }
+        return new ThrottleEventPipeline<>("ThrottleEventPublisher", eventBufferConfiguration.getSize(),
+                eventBufferConfiguration.getDrainerCount(), eventBufferConfiguration.getBatchSize(),
+                backpressurePolicy, eventBufferConfiguration.getSampleRate(), eventPipelineAgent::publish, event -> {
+                });
+    }
+
+    private static void publishAggregatedEvent(Object[] payload) {
+
+        dataPublisher.tryPublish(new org.wso2.carbon.databridge.commons.Event(DataProcessAndPublishingAgent.STREAM_ID,
+                System.currentTimeMillis(), null, null, payload));
+    }
+
     /**
      * This method used to pass message context and let it run within separate thread.
      *
@@ -119,19 +169,29 @@ public class ThrottleDataPublisher {
             AuthenticationContext authenticationContext) {
         try {
             if (dataPublisherPool != null) {
-                DataProcessAndPublishingAgent agent = dataPublisherPool.get();
-                agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
-                        apiLevelThrottleKey, apiLevelTier,
-                        subscriptionLevelThrottleKey, subscriptionLevelTier,
-                        resourceLevelThrottleKey, resourceLevelTier,
-                        authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
-                        authenticationContext);
                 if (log.isDebugEnabled()) {
                     log.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
                             + " with ID: " + messageContext.getMessageID() + " started" + " at "
                             + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
                 }
-                executor.execute(agent);
+                if (eventPipeline != null) {
+                    // the event is built on the pipeline's threads from a copy of the request data, so request
+                    // threads do not take an agent from the pool
+                    eventPipeline.publish(eventPipelineAgent.createEvent(applicationLevelThrottleKey,
+                            applicationLevelTier, apiLevelThrottleKey, apiLevelTier, subscriptionLevelThrottleKey,
+                            subscriptionLevelTier, resourceLevelThrottleKey, resourceLevelTier, authorizedUser,
+                            apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
+                            authenticationContext));
+                } else {
+                    DataProcessAndPublishingAgent agent = dataPublisherPool.get();
+                    agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
+                            apiLevelThrottleKey, apiLevelTier,
+                            subscriptionLevelThrottleKey, subscriptionLevelTier,
+                            resourceLevelThrottleKey, resourceLevelTier,
+                            authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
+                            authenticationContext);
+                    executor.execute(agent);
+                }
                 if (log.isDebugEnabled()) {
                     log.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
                             + " with ID: " + messageContext.getMessageID() + " ended" + " at "
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import java.util.Map;
+
+/**
+ * Data of a non throttled request which is published to the traffic manager. The data is copied from the message
+ * context on the request thread, so that the event can be built and published on another thread without touching
+ * the message context.
+ */
+public class ThrottleEvent {
+
+    String messageId;
+    String applicationLevelThrottleKey;
+    String applicationLevelTier;
+    String apiLevelThrottleKey;
+    String apiLevelTier;
+    String subscriptionLevelThrottleKey;
+    String subscriptionLevelTier;
+    String resourceLevelThrottleKey;
+    String resourceLevelTier;
+    String authorizedUser;
+    String apiContext;
+    String apiVersion;
+    String appTenant;
+    String apiTenant;
+    String apiName;
+    String appId;
+    String ipAddress;
+    Map<String, String> headersMap;
+    Map<String, Object> customPropertyMap;
+    Map<String, String> queryParams;
+    String callerToken;
+    boolean contentAware;
+    String applicationName;
+    boolean productSubscription;
+    long messageSizeInBytes;
+    Long totalTokens = 0L;
+    Long promptTokens = 0L;
+    Long completionTokens = 0L;
+}
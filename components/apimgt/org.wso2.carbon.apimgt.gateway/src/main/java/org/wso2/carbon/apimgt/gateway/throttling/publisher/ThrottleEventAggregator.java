@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONObject;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Aggregates throttle events on the gateway before they are sent to the traffic manager. Events which have the same
+ * throttle keys, tiers and properties are collapsed into a single event per flush interval. The message sizes and
+ * token counts of the collapsed events are summed, and the number of collapsed events is sent as the
+ * {@link APIThrottleConstants#EVENT_COUNT} property so that the policies on the traffic manager can count the
+ * aggregated event with the right weight.
+ * <p>
+ * The number of pending aggregates is bounded. Once the bound is reached, events of new keys are emitted as they
+ * arrive until the next flush.
+ */
+public class ThrottleEventAggregator {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventAggregator.class);
+
+    /**
+     * Properties summed across the aggregated events. They are excluded when comparing the properties of events.
+     */
+    private static final String[] COUNTER_PROPERTIES = {APIThrottleConstants.MESSAGE_SIZE,
+            APIThrottleConstants.TOTAL_TOKENS, APIThrottleConstants.PROMPT_TOKENS,
+            APIThrottleConstants.COMPLETION_TOKENS};
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, AggregatedEvent> aggregatedEvents = new ConcurrentHashMap<>();
+    private final Consumer<Object[]> emitter;
+    private final int maxKeys;
+    private final ScheduledExecutorService flushExecutor;
+
+    /**
+     * @param intervalMillis interval between two flushes
+     * @param maxKeys        maximum number of pending aggregates
+     * @param emitter        publishes the payload of an aggregated event
+     */
+    public ThrottleEventAggregator(long intervalMillis, int maxKeys, Consumer<Object[]> emitter) {
+
+        this.emitter = emitter;
+        this.maxKeys = maxKeys;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ThrottleEventAggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an event to the aggregate of its key.
+     *
+     * @param payload    payload of the event. The first element is the message ID and the last element is replaced
+     *                   with the JSON string of the properties when the event is emitted.
+     * @param properties properties of the event
+     */
+    public void add(Object[] payload, Map<String, Object> properties) {
+
+        Map<String, Object> sortedProperties = new TreeMap<>();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            if (property.getKey() != null) {
+                sortedProperties.put(property.getKey(), property.getValue());
+            }
+        }
+        long[] counters = new long[COUNTER_PROPERTIES.length];
+        int presentCounters = 0;
+        for (int i = 0; i < COUNTER_PROPERTIES.length; i++) {
+            Object value = sortedProperties.remove(COUNTER_PROPERTIES[i]);
+            if (value instanceof Number) {
+                counters[i] = ((Number) value).longValue();
+                presentCounters |= 1 << i;
+            }
+        }
+        String key = getKey(payload, sortedProperties, presentCounters);
+        int counterMask = presentCounters;
+        if (aggregatedEvents.size() >= maxKeys && !aggregatedEvents.containsKey(key)) {
+            AggregatedEvent event = new AggregatedEvent(payload, sortedProperties, counterMask);
+            event.add(counters);
+            emit(event);
+            return;
+        }
+        aggregatedEvents.compute(key, (k, aggregated) -> {
+            if (aggregated == null) {
+                aggregated = new AggregatedEvent(payload, sortedProperties, counterMask);
+            }
+            aggregated.add(counters);
+            return aggregated;
+        });
+    }
+
+    private static String getKey(Object[] payload, Map<String, Object> properties, int presentCounters) {
+
+        StringBuilder key = new StringBuilder(256);
+        // skip the message ID and the properties placeholder
+        for (int i = 1; i < payload.length - 1; i++) {
+            key.append(payload[i]).append(KEY_SEPARATOR);
+        }
+        key.append(presentCounters).append(KEY_SEPARATOR).append(JSONObject.toJSONString(properties));
+        return key.toString();
+    }
+
+    /**
+     * Emits all pending aggregates.
+     */
+    void flush() {
+
+        int flushedCount = 0;
+        for (String key : aggregatedEvents.keySet()) {
+            AggregatedEvent aggregated = aggregatedEvents.remove(key);
+            if (aggregated != null) {
+                emit(aggregated);
+                flushedCount++;
+            }
+        }
+        if (log.isDebugEnabled() && flushedCount > 0) {
+            log.debug("Published " + flushedCount + " aggregated throttle events");
+        }
+    }
+
+    private void emit(AggregatedEvent aggregated) {
+
+        try {
+            emitter.accept(aggregated.toPayload());
+        } catch (RuntimeException e) {
+            log.error("Error while publishing aggregated throttle event", e);
+        }
+    }
+
+    int getPendingEventCount() {
+
+        return aggregatedEvents.size();
+    }
+
+    /**
+     * Emits the pending aggregates and stops the flush thread.
+     */
+    public void shutdown() {
+
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * Sum of the events of a single key. This is only modified while holding the lock of its key in the map.
+     */
+    private static class AggregatedEvent {
+
+        private final Object[] payload;
+        private final Map<String, Object> properties;
+        private final int presentCounters;
+        private final long[] counters = new long[COUNTER_PROPERTIES.length];
+        private long eventCount;
+
+        AggregatedEvent(Object[] payload, Map<String, Object> properties, int presentCounters) {
+
+            this.payload = payload;
+            this.properties = properties;
+            this.presentCounters = presentCounters;
+        }
+
+        void add(long[] eventCounters) {
+
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += eventCounters[i];
+            }
+            eventCount++;
+        }
+
+        Object[] toPayload() {
+
+            JSONObject json = new JSONObject();
+            json.putAll(properties);
+            for (int i = 0; i < COUNTER_PROPERTIES.length; i++) {
+                if ((presentCounters & (1 << i)) != 0) {
+                    json.put(COUNTER_PROPERTIES[i], counters[i]);
+                }
+            }
+            json.put(APIThrottleConstants.EVENT_COUNT, eventCount);
+            Object[] aggregatedPayload = payload.clone();
+            aggregatedPayload[aggregatedPayload.length - 1] = json.toString();
+            return aggregatedPayload;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands throttle events over from request threads to a small, fixed number of drainer threads through a bounded
+ * {@link ThrottleEventRingBuffer}. Request threads only pay for a single offer to the buffer. Drainer threads take
+ * events in batches, publish them and release them, and park for a short time only when the buffer is empty.
+ * <p>
+ * When the buffer is full the configured {@link BackpressurePolicy} decides what happens to the new event.
+ *
+ * @param <E> type of the published events
+ */
+public class ThrottleEventPipeline<E> {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventPipeline.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Behaviour of the pipeline when events are published faster than they can be drained.
+     */
+    public enum BackpressurePolicy {
+        /**
+         * Discard the oldest buffered event to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Block the request thread until there is room for the new event.
+         */
+        BLOCK,
+        /**
+         * Once the buffer is three quarters full, accept only one out of every sample rate events. Events that do
+         * not fit into the buffer are discarded.
+         */
+        SAMPLE
+    }
+
+    private final ThrottleEventRingBuffer<E> buffer;
+    private final Consumer<E> publisher;
+    private final Consumer<E> releaser;
+    private final BackpressurePolicy backpressurePolicy;
+    private final int batchSize;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder publishedEvents = new LongAdder();
+    private final Thread[] drainers;
+    private volatile boolean running = true;
+
+    /**
+     * @param name               name used for the drainer threads
+     * @param capacity           capacity of the buffer
+     * @param drainerCount       number of drainer threads
+     * @param batchSize          maximum number of events a drainer takes from the buffer at once
+     * @param backpressurePolicy behaviour when the buffer is full
+     * @param sampleRate         one out of how many events are accepted with {@link BackpressurePolicy#SAMPLE}
+     * @param publisher          publishes an event. This is called on drainer threads.
+     * @param releaser           releases an event after it was published or dropped
+     */
+    public ThrottleEventPipeline(String name, int capacity, int drainerCount, int batchSize,
+                                 BackpressurePolicy backpressurePolicy, int sampleRate, Consumer<E> publisher,
+                                 Consumer<E> releaser) {
+
+        this.buffer = new ThrottleEventRingBuffer<>(capacity);
+        this.publisher = publisher;
+        this.releaser = releaser;
+        this.backpressurePolicy = backpressurePolicy;
+        this.batchSize = Math.max(1, batchSize);
+        this.sampleRate = Math.max(1, sampleRate);
+        this.sampleThreshold = buffer.capacity() - buffer.capacity() / 4;
+        this.drainers = new Thread[Math.max(1, drainerCount)];
+        for (int i = 0; i < drainers.length; i++) {
+            drainers[i] = new Thread(this::drain, name + "-" + i);
+            drainers[i].setDaemon(true);
+            drainers[i].start();
+        }
+    }
+
+    /**
+     * Publishes the given event asynchronously.
+     *
+     * @param event event to publish
+     * @return false if the event was dropped due to backpressure
+     */
+    public boolean publish(E event) {
+
+        switch (backpressurePolicy) {
+            case BLOCK:
+                while (!buffer.offer(event)) {
+                    if (!running) {
+                        return drop(event);
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                return true;
+            case SAMPLE:
+                if (buffer.size() >= sampleThreshold && sampleCounter.incrementAndGet() % sampleRate != 0) {
+                    return drop(event);
+                }
+                return buffer.offer(event) || drop(event);
+            case DROP_OLDEST:
+            default:
+                while (!buffer.offer(event)) {
+                    E oldest = buffer.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+                return true;
+        }
+    }
+
+    private boolean drop(E event) {
+
+        droppedEvents.increment();
+        release(event);
+        return false;
+    }
+
+    private void release(E event) {
+
+        try {
+            releaser.accept(event);
+        } catch (RuntimeException e) {
+            log.error("Error while releasing throttle event", e);
+        }
+    }
+
+    private void drain() {
+
+        while (running) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        while (drainBatch() > 0) {
+            // publish the events left in the buffer on shutdown
+        }
+    }
+
+    private int drainBatch() {
+
+        int count = 0;
+        E event;
+        while (count < batchSize && (event = buffer.poll()) != null) {
+            try {
+                publisher.accept(event);
+                publishedEvents.increment();
+            } catch (RuntimeException e) {
+                log.error("Error while publishing throttle event", e);
+            } finally {
+                release(event);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Stops the drainer threads after the buffered events are published.
+     */
+    public void shutdown() {
+
+        running = false;
+        for (Thread drainer : drainers) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    public int getBufferedEventCount() {
+
+        return buffer.size();
+    }
+
+    public long getDroppedEventCount() {
+
+        return droppedEvents.sum();
+    }
+
+    public long getPublishedEventCount() {
+
+        return publishedEvents.sum();
+    }
+}
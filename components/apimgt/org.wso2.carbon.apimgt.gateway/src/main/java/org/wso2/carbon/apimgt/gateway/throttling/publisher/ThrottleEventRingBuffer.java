@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer used to hand throttle events over from request threads to the publishing threads.
+ * Each slot carries a sequence number which tells producers and consumers whether the slot is free or filled for
+ * the current lap, so neither side takes a lock and offering to a full buffer fails immediately.
+ *
+ * @param <E> type of the buffered events
+ */
+public class ThrottleEventRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    /**
+     * @param capacity minimum capacity of the buffer. This is rounded up to the next power of two.
+     */
+    public ThrottleEventRingBuffer(int capacity) {
+
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mask = size - 1;
+        events = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given event to the buffer.
+     *
+     * @param event event to add
+     * @return false if the buffer is full
+     */
+    public boolean offer(E event) {
+
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    events.lazySet(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest event from the buffer.
+     *
+     * @return oldest event, or null if the buffer is empty
+     */
+    public E poll() {
+
+        long position = consumerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerPosition.compareAndSet(position, position + 1)) {
+                    E event = events.get(index);
+                    events.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return event;
+                }
+                position = consumerPosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = consumerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * @return approximate number of events in the buffer
+     */
+    public int size() {
+
+        long size = producerPosition.get() - consumerPosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+
+        return mask + 1;
+    }
+}
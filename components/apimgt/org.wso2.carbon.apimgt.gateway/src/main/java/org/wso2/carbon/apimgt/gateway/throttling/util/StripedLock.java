@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.util;
+
+/**
+ * A fixed set of monitor objects selected by the hash of a key. This is used instead of synchronizing on interned
+ * strings, which fills the string table with one entry per key and shares monitors with unrelated code.
+ */
+public class StripedLock {
+
+    private final Object[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes minimum number of stripes. This is rounded up to the next power of two.
+     */
+    public StripedLock(int stripes) {
+
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new Object();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the monitor of the given key. The same key always maps to the same monitor.
+     *
+     * @param key key to lock on
+     * @return monitor object to synchronize on
+     */
+    public Object getLock(String key) {
+
+        // keys differing only in a few trailing characters have close hash codes, which are mixed so that they do not
+        // pile up on a few stripes
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        return locks[hash & mask];
+    }
+}
@@ -127,6 +127,16 @@ public class MCPPayloadGenerator {
         return gson.toJson(toolListResponse);
     }
 
+    /**
+     * Serializes a value the same way it is serialized as a field of the payloads generated.
+     *
+     * @param value value such as a request id
+     * @return JSON representation of the value
+     */
+    public static String toJson(Object value) {
+        return gson.toJson(value);
+    }
+
     private static ToolListResult.JsonSchema sanitizeInputSchema(ToolListResult.JsonSchema inputSchema) {
         if (inputSchema == null) {
             // Return an empty object schema if the input schema is null
@@ -42,6 +42,7 @@ import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.exception.McpException;
 import org.wso2.carbon.apimgt.gateway.exception.McpExceptionWithId;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
+import org.wso2.carbon.apimgt.gateway.mcp.McpToolRegistry;
 import org.wso2.carbon.apimgt.gateway.mcp.Param;
 import org.wso2.carbon.apimgt.gateway.mcp.SchemaMapping;
 import org.wso2.carbon.apimgt.gateway.mcp.request.McpRequest;
@@ -172,9 +173,7 @@ public class MCPUtils {
     }
 
     private static boolean validateToolName(String toolName, API matchedApi) {
-        return matchedApi.getUrlMappings()
-                .stream()
-                .anyMatch(operation -> toolName.equals(operation.getUrlPattern()));
+        return McpToolRegistry.getInstance().getTools(matchedApi).getOperation(toolName) != null;
     }
 
 
@@ -188,6 +187,10 @@ public class MCPUtils {
     }
 
     public static McpResponseDto handleMcpToolList(Object id, API matchedApi, boolean isThirdParty) {
+        if (!isThirdParty) {
+            return new McpResponseDto(McpToolRegistry.getInstance().getTools(matchedApi).getToolListPayload(id),
+                    200, null);
+        }
         return new McpResponseDto(
                 MCPPayloadGenerator.generateToolListPayload(id, matchedApi.getUrlMappings(),
                         isThirdParty), 200, null);
@@ -199,13 +202,10 @@ public class MCPUtils {
         Params params = mcpRequest.getParams();
         if (params != null) {
             String toolName = params.getToolName();
-            URLMapping extendedOperation = matchedApi.getUrlMappings()
-                    .stream()
-                    .filter(operation -> operation.getUrlPattern().equals(toolName))
-                    .findFirst()
-                    .orElse(null);
+            McpToolRegistry.McpTools tools = McpToolRegistry.getInstance().getTools(matchedApi);
+            URLMapping extendedOperation = tools.getOperation(toolName);
             String subType = matchedApi.getSubtype();
-            transformMcpRequest(messageContext, id, extendedOperation, mcpRequest, subType);
+            transformMcpRequest(messageContext, id, extendedOperation, tools, mcpRequest, subType);
         }
 
         return new McpResponseDto("success", 200, null);
@@ -217,7 +217,8 @@ public class MCPUtils {
     }
 
     private static void transformMcpRequest(MessageContext messageContext, Object id, URLMapping extendedOperation,
-                                            McpRequest mcpRequest, String subType) throws McpException {
+                                            McpToolRegistry.McpTools tools, McpRequest mcpRequest, String subType)
+            throws McpException {
         if (extendedOperation != null) {
             BackendOperation backendOperation = null;
             if (APIConstants.API_SUBTYPE_EXISTING_API.equals(subType)) {
@@ -234,8 +235,7 @@ public class MCPUtils {
 
             if (backendOperation != null) {
                 //process schema
-                String schemaDefinition = extendedOperation.getSchemaDefinition();
-                SchemaMapping schemaMapping = processMcpSchema(schemaDefinition);
+                SchemaMapping schemaMapping = tools.getSchemaMapping(extendedOperation.getUrlPattern());
 
                 //process resource path including query and path params
                 processResource(messageContext, schemaMapping, mcpRequest, backendOperation);
@@ -255,7 +255,7 @@ public class MCPUtils {
         }
     }
 
-    private static SchemaMapping processMcpSchema(String schemaDefinition) {
+    public static SchemaMapping processMcpSchema(String schemaDefinition) {
         JsonObject schemaJson = JsonParser.parseString(schemaDefinition).getAsJsonObject();
 
         SchemaMapping schemaMapping = new SchemaMapping();
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.EmbeddingProviderService;
+import org.wso2.carbon.apimgt.api.dto.EmbeddingProviderConfigurationDTO;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.Meter;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.Collections;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({MetricManager.class})
+public class CachingEmbeddingProviderServiceTest {
+
+    private EmbeddingProviderService delegate;
+    private CachingEmbeddingProviderService embeddingProviderService;
+
+    @Before
+    public void setup() throws Exception {
+        PowerMockito.mockStatic(MetricManager.class);
+        Mockito.when(MetricManager.meter(Mockito.any(Level.class), Mockito.any()))
+                .thenReturn(Mockito.mock(Meter.class));
+        delegate = Mockito.mock(EmbeddingProviderService.class);
+        embeddingProviderService = new CachingEmbeddingProviderService(delegate);
+        EmbeddingProviderConfigurationDTO providerConfig = new EmbeddingProviderConfigurationDTO();
+        providerConfig.setProperties(Collections.singletonMap(APIConstants.AI.EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE,
+                "10"));
+        embeddingProviderService.init(providerConfig);
+    }
+
+    @Test
+    public void testNormalizePrompt() {
+        Assert.assertEquals("What is an API?",
+                CachingEmbeddingProviderService.normalize("  What is\n an\tAPI? \n"));
+    }
+
+    @Test
+    public void testRepeatedPromptIsNotSentAgain() throws Exception {
+        Mockito.when(delegate.getEmbedding("What is an API?")).thenReturn(new double[]{1.0, 0.0});
+
+        double[] embedding = embeddingProviderService.getEmbedding("What is an API?");
+        embedding[0] = 0.5;
+        Assert.assertArrayEquals(new double[]{1.0, 0.0},
+                embeddingProviderService.getEmbedding(" What is  an API?\n"), 0);
+        Mockito.verify(delegate, Mockito.times(1)).getEmbedding(Mockito.anyString());
+    }
+}
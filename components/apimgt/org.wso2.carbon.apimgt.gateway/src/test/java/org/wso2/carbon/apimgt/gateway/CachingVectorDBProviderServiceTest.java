@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.VectorDBProviderService;
+import org.wso2.carbon.apimgt.api.dto.VectorDBProviderConfigurationDTO;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.Meter;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({MetricManager.class})
+public class CachingVectorDBProviderServiceTest {
+
+    private static final String API_ID = "e0d1f4a2-6c1b-4c6e-8f3a-2b7d9e5c4a10";
+
+    private VectorDBProviderService delegate;
+    private CachingVectorDBProviderService vectorDBProviderService;
+    private Map<String, String> filter;
+
+    @Before
+    public void setup() throws Exception {
+        PowerMockito.mockStatic(MetricManager.class);
+        Mockito.when(MetricManager.meter(Mockito.any(Level.class), Mockito.any()))
+                .thenReturn(Mockito.mock(Meter.class));
+        delegate = Mockito.mock(VectorDBProviderService.class);
+        vectorDBProviderService = new CachingVectorDBProviderService(delegate);
+        Map<String, String> properties = new HashMap<>();
+        properties.put(APIConstants.AI.VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE, "10");
+        VectorDBProviderConfigurationDTO providerConfig = new VectorDBProviderConfigurationDTO();
+        providerConfig.setProperties(properties);
+        vectorDBProviderService.init(providerConfig);
+        filter = new HashMap<>();
+        filter.put(APIConstants.AI.VECTOR_DB_PROVIDER_API_ID, API_ID);
+        filter.put(APIConstants.AI.VECTOR_DB_PROVIDER_THRESHOLD, "0.05");
+    }
+
+    @Test
+    public void testStoredResponseIsAnsweredLocally() throws Exception {
+        vectorDBProviderService.store(new double[]{1.0, 0.0}, "response", filter);
+
+        Assert.assertEquals("\"response\"", vectorDBProviderService.retrieve(new double[]{1.0, 0.0}, filter));
+        Assert.assertEquals("\"response\"", vectorDBProviderService.retrieve(new double[]{0.9, 0.1}, filter));
+        Mockito.verify(delegate).store(new double[]{1.0, 0.0}, "response", filter);
+        Mockito.verify(delegate, Mockito.never()).retrieve(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testEmbeddingsAreDroppedOnUndeploy() throws Exception {
+        vectorDBProviderService.store(new double[]{1.0, 0.0}, "response", filter);
+
+        vectorDBProviderService.apiUndeployed(API_ID);
+
+        Assert.assertNull(vectorDBProviderService.retrieve(new double[]{1.0, 0.0}, filter));
+        Mockito.verify(delegate).retrieve(new double[]{1.0, 0.0}, filter);
+    }
+}
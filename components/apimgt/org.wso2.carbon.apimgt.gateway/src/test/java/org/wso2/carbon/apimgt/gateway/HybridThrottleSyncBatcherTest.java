@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({MetricManager.class})
+public class HybridThrottleSyncBatcherTest {
+
+    private final List<List<String>> syncedBatches = new CopyOnWriteArrayList<>();
+    private HybridThrottleSyncBatcher batcher;
+    private Histogram histogram;
+
+    @Before
+    public void setup() {
+
+        PowerMockito.mockStatic(MetricManager.class);
+        Timer timer = Mockito.mock(Timer.class);
+        Mockito.when(timer.start()).thenReturn(Mockito.mock(Timer.Context.class));
+        histogram = Mockito.mock(Histogram.class);
+        Mockito.when(MetricManager.timer(Mockito.any(Level.class), Mockito.anyString())).thenReturn(timer);
+        Mockito.when(MetricManager.histogram(Mockito.any(Level.class), Mockito.anyString())).thenReturn(histogram);
+        // flushed by the tests only
+        batcher = new HybridThrottleSyncBatcher(syncedBatches::add, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @After
+    public void tearDown() {
+
+        batcher.shutdown();
+    }
+
+    @Test
+    public void testCallerContextMarkedDirtyRepeatedlyIsSyncedOnce() {
+
+        for (int i = 0; i < 10; i++) {
+            batcher.markDirty("context-1");
+        }
+        batcher.markDirty("context-2");
+
+        batcher.flush();
+
+        Assert.assertEquals(1, syncedBatches.size());
+        Assert.assertEquals(2, syncedBatches.get(0).size());
+        Assert.assertTrue(syncedBatches.get(0).containsAll(Arrays.asList("context-1", "context-2")));
+        Mockito.verify(histogram).update(2);
+    }
+
+    @Test
+    public void testCallerContextIsSyncedAgainOnlyIfMarkedDirtyAgain() {
+
+        batcher.markDirty("context-1");
+        batcher.flush();
+        batcher.flush();
+        Assert.assertEquals(Arrays.asList(Arrays.asList("context-1")), syncedBatches);
+
+        batcher.markDirty("context-1");
+        batcher.flush();
+        Assert.assertEquals(Arrays.asList(Arrays.asList("context-1"), Arrays.asList("context-1")), syncedBatches);
+    }
+
+    @Test
+    public void testFailedSyncDoesNotStopLaterFlushes() {
+
+        List<List<String>> synced = new CopyOnWriteArrayList<>();
+        HybridThrottleSyncBatcher failingBatcher = new HybridThrottleSyncBatcher(callerContextIds -> {
+            if (callerContextIds.contains("context-1")) {
+                throw new IllegalStateException("Redis is not reachable");
+            }
+            synced.add(callerContextIds);
+        }, TimeUnit.HOURS.toMillis(1));
+        try {
+            failingBatcher.markDirty("context-1");
+            failingBatcher.flush();
+            failingBatcher.markDirty("context-2");
+            failingBatcher.flush();
+            Assert.assertEquals(Arrays.asList(Arrays.asList("context-2")), synced);
+        } finally {
+            failingBatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testEmptyFlushSyncsNothing() {
+
+        batcher.flush();
+
+        Assert.assertTrue(syncedBatches.isEmpty());
+        Mockito.verifyZeroInteractions(histogram);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.gateway.InMemoryAPIDeployer.ReconcileAction;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+
+public class InMemoryAPIDeployerTest {
+
+    private static final String TENANT_DOMAIN = "reconcile.com";
+
+    @Test
+    public void testUnchangedAPIIsNotRedeployed() {
+
+        Assert.assertEquals(ReconcileAction.NONE,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), api("rev-1"), "rev-1"));
+    }
+
+    @Test
+    public void testAPIWithNewRevisionIsRedeployed() {
+
+        Assert.assertEquals(ReconcileAction.DEPLOY,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), api("rev-2"), "rev-1"));
+        Assert.assertEquals(ReconcileAction.DEPLOY,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), api(null), "rev-1"));
+    }
+
+    @Test
+    public void testAPINotInSnapshotIsDeployed() {
+
+        Assert.assertEquals(ReconcileAction.DEPLOY, InMemoryAPIDeployer.getReconcileAction(null, api("rev-1"), null));
+    }
+
+    @Test
+    public void testAPIRemovedFromControlPlaneIsUndeployed() {
+
+        Assert.assertEquals(ReconcileAction.UNDEPLOY, InMemoryAPIDeployer.getReconcileAction(api("rev-1"), null,
+                "rev-1"));
+        Assert.assertEquals(ReconcileAction.UNDEPLOY, InMemoryAPIDeployer.getReconcileAction(api(null), null, ""));
+    }
+
+    @Test
+    public void testAPIChangedByDeploymentEventIsLeftAsItIs() {
+
+        // redeployed by an event after the snapshot was deployed
+        Assert.assertEquals(ReconcileAction.NONE,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), api("rev-2"), "rev-3"));
+        Assert.assertEquals(ReconcileAction.NONE,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), null, "rev-3"));
+        // undeployed by an event after the snapshot was deployed
+        Assert.assertEquals(ReconcileAction.NONE,
+                InMemoryAPIDeployer.getReconcileAction(api("rev-1"), api("rev-2"), null));
+        // deployed by an event while the API was not in the snapshot
+        Assert.assertEquals(ReconcileAction.NONE,
+                InMemoryAPIDeployer.getReconcileAction(null, api("rev-1"), "rev-2"));
+        Assert.assertEquals(ReconcileAction.NONE, InMemoryAPIDeployer.getReconcileAction(null, null, "rev-2"));
+    }
+
+    @Test
+    public void testDeployedRevisionsAreTracked() {
+
+        DataHolder dataHolder = DataHolder.getInstance();
+        GatewayAPIDTO api = api("rev-1");
+        api.setTenantDomain(TENANT_DOMAIN);
+        Assert.assertNull(dataHolder.getDeployedRevision(TENANT_DOMAIN, "api-1"));
+
+        dataHolder.markAPIAsDeployed(api);
+        Assert.assertEquals("rev-1", dataHolder.getDeployedRevision(TENANT_DOMAIN, "api-1"));
+        api.setRevision(null);
+        dataHolder.markAPIAsDeployed(api);
+        Assert.assertEquals("", dataHolder.getDeployedRevision(TENANT_DOMAIN, "api-1"));
+
+        dataHolder.markAPIAsUndeployed(TENANT_DOMAIN, "api-1");
+        Assert.assertNull(dataHolder.getDeployedRevision(TENANT_DOMAIN, "api-1"));
+        dataHolder.markAPIAsDeployed(api);
+        dataHolder.markApisAsUnDeployedInTenant(TENANT_DOMAIN);
+        Assert.assertNull(dataHolder.getDeployedRevision(TENANT_DOMAIN, "api-1"));
+    }
+
+    private static GatewayAPIDTO api(String revision) {
+
+        GatewayAPIDTO api = new GatewayAPIDTO();
+        api.setApiId("api-1");
+        api.setRevision(revision);
+        return api;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeyedDeploymentExecutorTest {
+
+    @Test
+    public void testTasksOfSameKeyRunInSubmissionOrder() throws InterruptedException {
+        KeyedDeploymentExecutor executor = new KeyedDeploymentExecutor(4, "test");
+        Map<String, List<Integer>> runOrder = new ConcurrentHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            String key = "api-" + (i % 10);
+            int sequence = i;
+            executor.submit(key, () -> runOrder.computeIfAbsent(key,
+                    k -> Collections.synchronizedList(new ArrayList<>())).add(sequence));
+        }
+        executor.awaitCompletion();
+        Assert.assertEquals(10, runOrder.size());
+        for (List<Integer> sequences : runOrder.values()) {
+            Assert.assertEquals(100, sequences.size());
+            for (int i = 1; i < sequences.size(); i++) {
+                Assert.assertTrue(sequences.get(i - 1) < sequences.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testTasksRunOnCallingThreadWithoutParallelism() throws InterruptedException {
+        KeyedDeploymentExecutor executor = new KeyedDeploymentExecutor(1, "test");
+        Thread callingThread = Thread.currentThread();
+        AtomicInteger tasksOnCallingThread = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.submit("api-" + i, () -> {
+                if (Thread.currentThread() == callingThread) {
+                    tasksOnCallingThread.incrementAndGet();
+                }
+            });
+        }
+        executor.awaitCompletion();
+        Assert.assertEquals(10, tasksOnCallingThread.get());
+    }
+
+    @Test
+    public void testFailedTaskDoesNotStopLane() throws InterruptedException {
+        KeyedDeploymentExecutor executor = new KeyedDeploymentExecutor(2, "test");
+        AtomicInteger completedTasks = new AtomicInteger();
+        executor.submit("api", () -> {
+            throw new IllegalStateException("deployment failed");
+        });
+        executor.submit("api", completedTasks::incrementAndGet);
+        executor.awaitCompletion();
+        Assert.assertEquals(1, completedTasks.get());
+    }
+}
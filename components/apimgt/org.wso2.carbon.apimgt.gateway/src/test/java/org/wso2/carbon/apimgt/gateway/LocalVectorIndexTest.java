@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LocalVectorIndexTest {
+
+    @Test
+    public void testExactAndNearestLookups() {
+        LocalVectorIndex index = new LocalVectorIndex(2);
+        double[] first = {1.0, 0.0, 0.0};
+        double[] second = {0.0, 1.0, 0.0};
+        index.add(first, LocalVectorIndex.hash(first), "first", 2000);
+        index.add(second, LocalVectorIndex.hash(second), "second", 2000);
+
+        Assert.assertEquals("first", index.findExact(first, LocalVectorIndex.hash(first), 1000));
+        Assert.assertNull(index.findExact(first, LocalVectorIndex.hash(first), 2000));
+        double[] nearFirst = {0.9, 0.1, 0.0};
+        Assert.assertEquals("first", index.findNearest(nearFirst, 0.05, 1000));
+        Assert.assertNull(index.findNearest(nearFirst, 0.01, 1000));
+        Assert.assertNull(index.findNearest(new double[]{1.0, 0.0}, 10, 1000));
+
+        double[] third = {0.0, 0.0, 1.0};
+        index.add(third, LocalVectorIndex.hash(third), "third", 2000);
+        Assert.assertNull(index.findExact(second, LocalVectorIndex.hash(second), 1000));
+        Assert.assertEquals("first", index.findExact(first, LocalVectorIndex.hash(first), 1000));
+        Assert.assertEquals("third", index.findNearest(new double[]{0.0, 0.1, 0.9}, 2, 1000));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEmbeddingIsReplaced() {
+        LocalVectorIndex index = new LocalVectorIndex(2);
+        double[] first = {1.0, 0.0};
+        double[] second = {0.0, 1.0};
+        double[] third = {-1.0, 0.0};
+        index.add(first, LocalVectorIndex.hash(first), "first", 2000);
+        index.add(second, LocalVectorIndex.hash(second), "second", 2000);
+        Assert.assertEquals("first", index.findNearest(new double[]{0.9, 0.1}, 0.05, 1000));
+
+        index.add(third, LocalVectorIndex.hash(third), "third", 2000);
+        Assert.assertEquals("first", index.findExact(first, LocalVectorIndex.hash(first), 1000));
+        Assert.assertNull(index.findExact(second, LocalVectorIndex.hash(second), 1000));
+
+        index.add(second, LocalVectorIndex.hash(second), "second", 2000);
+        Assert.assertEquals("first", index.findExact(first, LocalVectorIndex.hash(first), 1000));
+        Assert.assertEquals("second", index.findExact(second, LocalVectorIndex.hash(second), 1000));
+        Assert.assertNull(index.findExact(third, LocalVectorIndex.hash(third), 1000));
+    }
+}
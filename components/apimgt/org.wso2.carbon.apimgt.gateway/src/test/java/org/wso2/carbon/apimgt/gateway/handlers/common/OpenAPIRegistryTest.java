@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.common;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.api.gateway.GatewayContentDTO;
+import org.wso2.carbon.metrics.manager.Histogram;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.io.File;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({MetricManager.class})
+public class OpenAPIRegistryTest {
+
+    @Test
+    public void testResolveConvertsHeadersToLowercase() throws Exception {
+        File swaggerFile = new File(Thread.currentThread().getContextClassLoader().
+                getResource("swaggerEntry/swagger.yaml").getFile());
+        String swagger = FileUtils.readFileToString(swaggerFile);
+        OpenAPIRegistry.ResolvedOpenAPI resolvedOpenAPI = OpenAPIRegistry.resolve(swagger);
+        OpenAPI openAPI = resolvedOpenAPI.getOpenAPI();
+        Assert.assertEquals(swagger, resolvedOpenAPI.getDefinition());
+        Assert.assertEquals("authorization",
+                openAPI.getPaths().get("/pet").getPost().getParameters().get(0).getName());
+    }
+
+    @Test
+    public void testAPIWithoutLatencyStatsHandlerIsNotRegistered() {
+        String apiUUID = "a2cc3f5e-1b3d-4d5c-9a8e-7f0d2f0c1b11";
+        GatewayAPIDTO gatewayAPIDTO = new GatewayAPIDTO();
+        gatewayAPIDTO.setApiId(apiUUID);
+        gatewayAPIDTO.setApiDefinition("<api name=\"PizzaShack\"><handlers/></api>");
+        GatewayContentDTO localEntry = new GatewayContentDTO();
+        localEntry.setName(apiUUID);
+        localEntry.setContent("<localEntry key=\"" + apiUUID + "\">{\"openapi\":\"3.0.1\"}</localEntry>");
+        gatewayAPIDTO.setLocalEntriesToBeAdd(new GatewayContentDTO[]{localEntry});
+        OpenAPIRegistry.getInstance().apiDeployed(gatewayAPIDTO);
+        Assert.assertNull(OpenAPIRegistry.getInstance().get(apiUUID));
+    }
+
+    @Test
+    public void testMetricsAreRemovedOnUndeploy() {
+        String apiUUID = "c4ee5f70-3d5f-4f7e-bc0a-9f2f4f2e3d33";
+        PowerMockito.mockStatic(MetricManager.class);
+        Histogram histogram = Mockito.mock(Histogram.class);
+        Mockito.when(MetricManager.histogram(Mockito.any(Level.class), Mockito.any())).thenReturn(histogram);
+        GatewayAPIDTO gatewayAPIDTO = new GatewayAPIDTO();
+        gatewayAPIDTO.setApiId(apiUUID);
+        gatewayAPIDTO.setApiDefinition("<api name=\"PizzaShack\"><handlers><handler class=\""
+                + APIMgtLatencyStatsHandler.class.getName() + "\"/></handlers></api>");
+        GatewayContentDTO localEntry = new GatewayContentDTO();
+        localEntry.setName(apiUUID);
+        localEntry.setContent("<localEntry key=\"" + apiUUID + "\">{\"openapi\":\"3.0.1\",\"paths\":{}}"
+                + "</localEntry>");
+        gatewayAPIDTO.setLocalEntriesToBeAdd(new GatewayContentDTO[]{localEntry});
+
+        OpenAPIRegistry.getInstance().apiDeployed(gatewayAPIDTO);
+        Assert.assertNotNull(OpenAPIRegistry.getInstance().get(apiUUID));
+        Mockito.verify(histogram, Mockito.timeout(5000).times(2)).update(Mockito.anyLong());
+        PowerMockito.verifyStatic(MetricManager.class, Mockito.never());
+        MetricManager.remove(Mockito.any());
+
+        OpenAPIRegistry.getInstance().apiUndeployed(apiUUID);
+        Assert.assertNull(OpenAPIRegistry.getInstance().get(apiUUID));
+        PowerMockito.verifyStatic(MetricManager.class, Mockito.times(2));
+        MetricManager.remove(Mockito.any());
+    }
+}
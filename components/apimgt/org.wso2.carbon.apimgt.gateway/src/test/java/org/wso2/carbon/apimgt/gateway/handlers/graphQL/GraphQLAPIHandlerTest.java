@@ -31,6 +31,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -128,4 +129,24 @@ public class GraphQLAPIHandlerTest {
         graphQLAPIHandler.setApiUUID("12345");
         Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
     }
+
+    /**
+     * This method will test that a repeated Graphql Query is parsed once and shared through the message context.
+     */
+    @Test
+    public void testHandleRequestForRepeatedGraphQLQueries() {
+        Mockito.when(messageContext.getProperty(APIConstants.GRAPHQL_SUBSCRIPTION_REQUEST)).thenReturn(false);
+        Mockito.when(axis2MessageContext.getProperty(HTTP_METHOD)).thenReturn("QUERY");
+        Mockito.when(omElement.getText()).thenReturn("{allLifts{name}}", "{\n  allLifts {\n    name\n  }\n}");
+        GraphQLAPIHandler graphQLAPIHandler = new GraphQLAPIHandler();
+        graphQLAPIHandler.setApiUUID("12345");
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+
+        ArgumentCaptor<Object> parsedQueries = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(messageContext, Mockito.times(2))
+                .setProperty(Mockito.eq(APIConstants.GRAPHQL_PARSED_QUERY), parsedQueries.capture());
+        Assert.assertNotNull(((ParsedGraphQLQuery) parsedQueries.getAllValues().get(0)).getDocument());
+        Assert.assertSame(parsedQueries.getAllValues().get(0), parsedQueries.getAllValues().get(1));
+    }
 }
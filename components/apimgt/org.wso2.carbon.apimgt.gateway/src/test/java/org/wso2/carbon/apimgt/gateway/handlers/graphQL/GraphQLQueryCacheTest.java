@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GraphQLQueryCacheTest {
+
+    @Test
+    public void testInsignificantWhiteSpaceIsNormalized() {
+        Assert.assertEquals("{allLifts{name}}",
+                GraphQLQueryCache.normalize("  {\tallLifts ,{ name }   }\n"));
+        Assert.assertEquals(GraphQLQueryCache.getKey("{allLifts{name}}"),
+                GraphQLQueryCache.getKey("{allLifts{name}}\n"));
+        Assert.assertEquals(GraphQLQueryCache.getKey("{allLifts{name}}"),
+                GraphQLQueryCache.getKey("{\n  allLifts {\n    name\n  }\n}"));
+        Assert.assertEquals("query Q($a:Int=1){lift(id:$a)@skip(if:false){...F id}}",
+                GraphQLQueryCache.normalize("query Q($a: Int = 1) {\n  lift(id: $a) @skip(if: false) {\n"
+                        + "    ... F\n    id\n  }\n}"));
+    }
+
+    @Test
+    public void testStringValuesAndCommentsAreKept() {
+        Assert.assertEquals("{lift(name:\"a  b, c\"){name}}",
+                GraphQLQueryCache.normalize("{ lift(name:   \"a  b, c\") { name } }"));
+        Assert.assertEquals("{lift(name:\"\"\"a\n   \\\"\"\" b\"\"\"){id}}",
+                GraphQLQueryCache.normalize("{ lift(name: \"\"\"a\n   \\\"\"\" b\"\"\")  { id } }"));
+        Assert.assertEquals("# a  comment\n{id}", GraphQLQueryCache.normalize("# a  comment\n  { id }"));
+        Assert.assertNotEquals(GraphQLQueryCache.getKey("{ lift(name: \"a b\") { id } }"),
+                GraphQLQueryCache.getKey("{ lift(name: \"a  b\") { id } }"));
+        Assert.assertNotEquals(GraphQLQueryCache.getKey("# comment\n{ id }"),
+                GraphQLQueryCache.getKey("# comment { id }"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test class for OpenAPIValidatorCache.
+ */
+public class OpenAPIValidatorCacheTestCase {
+
+    private final AtomicInteger builtValidators = new AtomicInteger();
+    private final Function<OpenAPI, OpenApiInteractionValidator> validatorBuilder = openAPI -> {
+        builtValidators.incrementAndGet();
+        return Mockito.mock(OpenApiInteractionValidator.class);
+    };
+
+    @Test
+    public void testValidatorIsBuiltOncePerRevision() {
+        OpenAPIValidatorCache cache = new OpenAPIValidatorCache();
+        OpenAPI openAPI = new OpenAPI();
+        cache.apiDeployed("api", "revision-1");
+        OpenApiInteractionValidator validator = cache.getValidator("api", openAPI, validatorBuilder);
+        Assert.assertSame(validator, cache.getValidator("api", openAPI, validatorBuilder));
+        Assert.assertEquals(1, builtValidators.get());
+
+        cache.apiDeployed("api", "revision-2");
+        Assert.assertNotSame(validator, cache.getValidator("api", openAPI, validatorBuilder));
+        Assert.assertEquals(2, builtValidators.get());
+    }
+
+    @Test
+    public void testValidatorIsRebuiltForAnotherDefinition() {
+        OpenAPIValidatorCache cache = new OpenAPIValidatorCache();
+        cache.apiDeployed("api", "revision-1");
+        OpenApiInteractionValidator validator = cache.getValidator("api", new OpenAPI(), validatorBuilder);
+        Assert.assertNotSame(validator, cache.getValidator("api", new OpenAPI(), validatorBuilder));
+        cache.apiUndeployed("api");
+        cache.getValidator("api", new OpenAPI(), validatorBuilder);
+        Assert.assertEquals(3, builtValidators.get());
+    }
+}
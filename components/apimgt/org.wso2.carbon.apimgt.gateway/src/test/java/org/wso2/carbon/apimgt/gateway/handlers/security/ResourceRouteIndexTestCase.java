@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public class ResourceRouteIndexTestCase {
+
+    private static final String CONTEXT = "/pets";
+    private static final String VERSION = "1.0.0";
+
+    @Test
+    public void testMatchPrefersLiteralsOverParametersAndWildcards() {
+
+        ResourceRouteIndex index = ResourceRouteIndex.compile(CONTEXT, VERSION, resources(
+                "/*:GET", "/pets:GET,POST", "/pets/{petId}:GET,DELETE", "/pets/mine:GET", "/pets/{petId}/*:GET"));
+
+        Assert.assertTrue(index.isPathMatchingSupported());
+        Assert.assertEquals("/pets", index.match("/pets", "GET").getTemplate());
+        Assert.assertEquals("/pets", index.match("/pets/?limit=10", "POST").getTemplate());
+        Assert.assertEquals("/pets/mine", index.match("/pets/mine", "GET").getTemplate());
+        Assert.assertEquals("/pets/{petId}", index.match("/pets/mine", "DELETE").getTemplate());
+        Assert.assertEquals("/pets/{petId}", index.match("/pets/12?fields=name", "GET").getTemplate());
+        Assert.assertEquals("/pets/{petId}/*", index.match("/pets/12/toys/3", "GET").getTemplate());
+        Assert.assertEquals("/*", index.match("/owners/1", "GET").getTemplate());
+        Assert.assertNull(index.match("/owners/1", "PUT"));
+    }
+
+    @Test
+    public void testGetRouteIgnoresCaseAndTrailingSlash() {
+
+        ResourceRouteIndex index = ResourceRouteIndex.compile(CONTEXT, VERSION, resources("/orders/:GET"));
+
+        ResourceRouteIndex.Route route = index.getRoute("/orders/", "GET");
+        Assert.assertNotNull(route);
+        Assert.assertSame(route, index.getRoute("/ORDERS", "GET"));
+        Assert.assertEquals("/pets/1.0.0/orders/:GET", route.getRequestKey());
+        Assert.assertEquals(route.getRequestKey(), route.getVerbInfo().getRequestKey());
+        Assert.assertNull(index.getRoute("/orders", "POST"));
+    }
+
+    @Test
+    public void testUnsupportedTemplatesAreLeftToDispatchers() {
+
+        ResourceRouteIndex index = ResourceRouteIndex.compile(CONTEXT, VERSION, resources("/pets/{petId}.json:GET"));
+
+        Assert.assertFalse(index.isPathMatchingSupported());
+        Assert.assertNull(index.match("/pets/1.json", "GET"));
+        Assert.assertNotNull(index.getRoute("/pets/{petId}.json", "GET"));
+    }
+
+    @Test
+    public void testMatchWithManyResources() {
+
+        String[] templates = new String[600];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = "/resource" + i + "/{id}/items:GET";
+        }
+        ResourceRouteIndex index = ResourceRouteIndex.compile(CONTEXT, VERSION, resources(templates));
+
+        Assert.assertEquals("/resource599/{id}/items", index.match("/resource599/7/items", "GET").getTemplate());
+        Assert.assertNull(index.match("/resource600/7/items", "GET"));
+        Assert.assertFalse(index.isCompiledFor(CONTEXT, "2.0.0"));
+    }
+
+    private static List<ResourceInfoDTO> resources(String... resources) {
+
+        List<ResourceInfoDTO> resourceInfoDTOs = new ArrayList<>();
+        for (String resource : resources) {
+            String[] parts = resource.split(":");
+            ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+            resourceInfoDTO.setUrlPattern(parts[0]);
+            resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>());
+            for (String httpMethod : parts[1].split(",")) {
+                VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+                verbInfoDTO.setHttpVerb(httpMethod);
+                resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+            }
+            resourceInfoDTOs.add(resourceInfoDTO);
+        }
+        return resourceInfoDTOs;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
+
+import java.text.ParseException;
+
+public class SignedJWTParseCacheTest {
+
+    private static final String HEADER = "eyJhbGciOiJSUzI1NiJ9";
+    private static final String ADMIN = "eyJzdWIiOiJhZG1pbiJ9";
+    private static final String ALICE = "eyJzdWIiOiJhbGljZSJ9";
+    private static final String BOB = "eyJzdWIiOiJib2IifQ";
+
+    @Test
+    public void testParsedTokenIsReused() throws Exception {
+        SignedJWTParseCache cache = new SignedJWTParseCache(SignedJWTParseCache.DEFAULT_MAX_TOKENS);
+        String token = HEADER + "." + ADMIN + ".c2lnbmF0dXJl";
+        SignedJWTInfo signedJWTInfo = cache.getSignedJWTInfo(JWTEnvelope.scan(token));
+        Assert.assertEquals(token, signedJWTInfo.getToken());
+        Assert.assertEquals("admin", signedJWTInfo.getJwtClaimsSet().getSubject());
+        Assert.assertSame(signedJWTInfo, cache.getSignedJWTInfo(JWTEnvelope.scan(token)));
+    }
+
+    @Test
+    public void testTokenWithSameSignatureIsNotMixedUp() throws Exception {
+        SignedJWTParseCache cache = new SignedJWTParseCache(SignedJWTParseCache.DEFAULT_MAX_TOKENS);
+        String adminToken = HEADER + "." + ADMIN + ".c2lnbmF0dXJl";
+        String aliceToken = HEADER + "." + ALICE + ".c2lnbmF0dXJl";
+        Assert.assertEquals("admin", cache.getSignedJWTInfo(JWTEnvelope.scan(adminToken)).getJwtClaimsSet()
+                .getSubject());
+        SignedJWTInfo aliceInfo = cache.getSignedJWTInfo(JWTEnvelope.scan(aliceToken));
+        Assert.assertEquals(aliceToken, aliceInfo.getToken());
+        Assert.assertEquals("alice", aliceInfo.getJwtClaimsSet().getSubject());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        SignedJWTParseCache cache = new SignedJWTParseCache(2);
+        String adminToken = HEADER + "." + ADMIN + ".c2lnbmF0dXJl";
+        SignedJWTInfo adminInfo = cache.getSignedJWTInfo(JWTEnvelope.scan(adminToken));
+        cache.getSignedJWTInfo(JWTEnvelope.scan(HEADER + "." + ALICE + ".c2lnbmF0dXJm"));
+        Assert.assertSame(adminInfo, cache.getSignedJWTInfo(JWTEnvelope.scan(adminToken)));
+        cache.getSignedJWTInfo(JWTEnvelope.scan(HEADER + "." + BOB + ".c2lnbmF0dXJn"));
+        SignedJWTInfo reparsed = cache.getSignedJWTInfo(JWTEnvelope.scan(adminToken));
+        Assert.assertNotSame(adminInfo, reparsed);
+        Assert.assertEquals("admin", reparsed.getJwtClaimsSet().getSubject());
+    }
+
+    @Test(expected = ParseException.class)
+    public void testInvalidTokenIsRejected() throws Exception {
+        new SignedJWTParseCache(SignedJWTParseCache.DEFAULT_MAX_TOKENS)
+                .getSignedJWTInfo(JWTEnvelope.scan("bm90IGpzb24.e30.c2lnbmF0dXJl"));
+    }
+}
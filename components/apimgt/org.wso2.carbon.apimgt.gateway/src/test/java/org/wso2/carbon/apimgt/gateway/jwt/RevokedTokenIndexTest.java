@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RevokedTokenIndexTest {
+
+    private static final long NOW = 1735689600000L;
+
+    @Test
+    public void testRevokedTokensAreFound() {
+        RevokedTokenIndex revokedTokenIndex = new RevokedTokenIndex();
+        for (int i = 0; i < 5000; i++) {
+            revokedTokenIndex.add("signature-" + i, NOW + TimeUnit.HOURS.toMillis(1));
+        }
+        Assert.assertEquals(5000, revokedTokenIndex.size());
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertTrue(revokedTokenIndex.contains("signature-" + i));
+        }
+        Assert.assertFalse(revokedTokenIndex.contains("signature-5000"));
+    }
+
+    @Test
+    public void testExpiredTokensAreRemoved() {
+        RevokedTokenIndex revokedTokenIndex = new RevokedTokenIndex();
+        for (int i = 0; i < 5000; i++) {
+            long expiryTime = i % 2 == 0 ? NOW - TimeUnit.MINUTES.toMillis(5) : NOW + TimeUnit.MINUTES.toMillis(5);
+            revokedTokenIndex.add("signature-" + i, expiryTime);
+        }
+        // extended by a later revocation event
+        revokedTokenIndex.add("signature-0", NOW + TimeUnit.MINUTES.toMillis(5));
+        Assert.assertEquals(2499, revokedTokenIndex.removeExpired(NOW));
+        Assert.assertEquals(2501, revokedTokenIndex.size());
+        Assert.assertTrue(revokedTokenIndex.contains("signature-0"));
+        for (int i = 1; i < 5000; i++) {
+            Assert.assertEquals(i % 2 == 1, revokedTokenIndex.contains("signature-" + i));
+        }
+        Assert.assertEquals(2501, revokedTokenIndex.removeExpired(NOW + TimeUnit.MINUTES.toMillis(10)));
+        Assert.assertEquals(0, revokedTokenIndex.size());
+        Assert.assertFalse(revokedTokenIndex.contains("signature-1"));
+    }
+}
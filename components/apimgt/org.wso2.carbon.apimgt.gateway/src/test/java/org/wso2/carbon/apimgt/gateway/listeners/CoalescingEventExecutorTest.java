@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CoalescingEventExecutorTest {
+
+    @Test
+    public void testSupersededEventsAreDropped() throws InterruptedException {
+
+        Map<String, AtomicLong> marks = new ConcurrentHashMap<>();
+        AtomicLong reportedQueueDepth = new AtomicLong(-1);
+        CoalescingEventExecutor executor = new CoalescingEventExecutor(2, 300, "test") {
+            @Override
+            protected void mark(String metric) {
+
+                marks.computeIfAbsent(metric, key -> new AtomicLong()).incrementAndGet();
+            }
+
+            @Override
+            protected void update(String metric, long value) {
+
+                if ("queueDepth".equals(metric)) {
+                    reportedQueueDepth.set(value);
+                }
+            }
+        };
+        List<String> applied = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        try {
+            for (int i = 1; i <= 3; i++) {
+                String event = "api1-" + i;
+                executor.submit("api1", System.currentTimeMillis(), () -> {
+                    applied.add(event);
+                    latch.countDown();
+                });
+            }
+            executor.submit("api2", 0, () -> {
+                applied.add("api2-1");
+                latch.countDown();
+            });
+            Assert.assertEquals(2, executor.getQueueDepth());
+            Assert.assertEquals(2, reportedQueueDepth.get());
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            Assert.assertEquals(2, applied.size());
+            Assert.assertTrue(applied.contains("api1-3"));
+            Assert.assertTrue(applied.contains("api2-1"));
+            Assert.assertEquals(0, executor.getQueueDepth());
+            // the reported depth goes down as the events are applied
+            Assert.assertEquals(0, reportedQueueDepth.get());
+            Assert.assertEquals(4, marks.get("received").get());
+            Assert.assertEquals(2, marks.get("coalesced").get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEventsOfAnEntityAreAppliedInOrderAcrossLabels() throws InterruptedException {
+
+        CoalescingEventExecutor executor = new CoalescingEventExecutor(4, 100, "test") {
+            @Override
+            protected void mark(String metric) {
+
+            }
+
+            @Override
+            protected void update(String metric, long value) {
+
+            }
+        };
+        List<String> applied = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(5);
+        try {
+            String[][] events = {{"api1", "api1:A", "deploy-A-1"}, {"api1", "api1:A", "deploy-A-2"},
+                    {"api2", "api2:A", "deploy-api2"}, {"api1", "api1:B", "remove-B"}, {"api1", "api1:A", "deploy-A-3"},
+                    {"api1", "api1:B", "deploy-B-1"}, {"api1", "api1:B", "deploy-B-2"}};
+            for (String[] event : events) {
+                executor.submit(event[0], event[1], 0, () -> {
+                    applied.add(event[2]);
+                    latch.countDown();
+                });
+            }
+            Assert.assertEquals(5, executor.getQueueDepth());
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            applied.remove("deploy-api2");
+            // the later deployment to labels A is not coalesced across the removal from labels B
+            Assert.assertEquals(Arrays.asList("deploy-A-2", "remove-B", "deploy-A-3", "deploy-B-2"), applied);
+            Assert.assertEquals(0, executor.getQueueDepth());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
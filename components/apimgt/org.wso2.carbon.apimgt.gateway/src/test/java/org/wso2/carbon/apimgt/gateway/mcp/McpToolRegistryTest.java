@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mcp;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.gateway.utils.MCPPayloadGenerator;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+import java.util.Collections;
+
+public class McpToolRegistryTest {
+
+    private static final String GET_PET_SCHEMA = "{\"type\":\"object\",\"properties\":{\"path_petId\":{\"type\":\"string\"},"
+            + "\"query_fields\":{\"type\":\"string\"},\"header_X-Trace\":{\"type\":\"string\"}},"
+            + "\"required\":[\"path_petId\"]}";
+
+    @Test
+    public void testToolsAreLookedUpByName() {
+
+        McpToolRegistry.McpTools tools = McpToolRegistry.getInstance().getTools(mcpServer("lookup-server"));
+
+        Assert.assertEquals("getPet", tools.getOperation("getPet").getUrlPattern());
+        Assert.assertEquals("listPets", tools.getOperation("listPets").getUrlPattern());
+        Assert.assertNull(tools.getOperation("deletePet"));
+        SchemaMapping schemaMapping = tools.getSchemaMapping("getPet");
+        Assert.assertEquals(Collections.singletonList("petId"), schemaMapping.getPathParams());
+        Assert.assertEquals("fields", schemaMapping.getQueryParams().get(0).getName());
+        Assert.assertFalse(schemaMapping.getQueryParams().get(0).isRequired());
+        Assert.assertEquals("X-Trace", schemaMapping.getHeaderParams().get(0).getName());
+    }
+
+    @Test
+    public void testToolsArePreparedOncePerDeployment() {
+
+        API api = mcpServer("deployed-server");
+        McpToolRegistry registry = McpToolRegistry.getInstance();
+        McpToolRegistry.McpTools tools = registry.getTools(api);
+        Assert.assertSame(tools, registry.getTools(api));
+
+        registry.apiDeployed("deployed-server");
+        McpToolRegistry.McpTools redeployedTools = registry.getTools(api);
+        Assert.assertNotSame(tools, redeployedTools);
+        Assert.assertSame(redeployedTools, registry.getTools(api));
+
+        registry.apiUndeployed("deployed-server");
+        Assert.assertNotSame(redeployedTools, registry.getTools(api));
+    }
+
+    @Test
+    public void testToolsArePreparedAgainForReplacedAPI() {
+
+        McpToolRegistry registry = McpToolRegistry.getInstance();
+        Assert.assertNull(registry.getTools(mcpServer("replaced-server")).getOperation("deletePet"));
+
+        // the API entity is replaced when the MCP server is redeployed with a new tool
+        API redeployed = mcpServer("replaced-server");
+        redeployed.getUrlMappings().add(tool("deletePet", null));
+
+        Assert.assertNotNull(registry.getTools(redeployed).getOperation("deletePet"));
+    }
+
+    @Test
+    public void testToolListPayloadMatchesGeneratedPayload() {
+
+        API api = mcpServer("listed-server");
+        McpToolRegistry.McpTools tools = McpToolRegistry.getInstance().getTools(api);
+
+        for (Object id : new Object[]{"request-1", 7, 2.5, null, Collections.singletonMap("key", "value")}) {
+            Assert.assertEquals(MCPPayloadGenerator.generateToolListPayload(id, api.getUrlMappings(), false),
+                    tools.getToolListPayload(id));
+        }
+    }
+
+    private static API mcpServer(String uuid) {
+
+        API api = new API();
+        api.setUuid(uuid);
+        api.getUrlMappings().add(tool("getPet", GET_PET_SCHEMA));
+        api.getUrlMappings().add(tool("listPets", "{\"type\":\"object\",\"properties\":{}}"));
+        return api;
+    }
+
+    private static URLMapping tool(String name, String schemaDefinition) {
+
+        URLMapping urlMapping = new URLMapping();
+        urlMapping.setUrlPattern(name);
+        urlMapping.setDescription("Tool " + name);
+        urlMapping.setHttpMethod("POST");
+        urlMapping.setSchemaDefinition(schemaDefinition);
+        return urlMapping;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.core.axis2.Axis2SynapseEnvironment;
+import org.apache.synapse.rest.RESTConstants;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
+import org.wso2.carbon.apimgt.api.BuiltInLLMProviderService;
+import org.wso2.carbon.apimgt.api.LLMProviderConfiguration;
+import org.wso2.carbon.apimgt.api.LLMProviderMetadata;
+import org.wso2.carbon.apimgt.api.LLMProviderService;
+import org.wso2.carbon.apimgt.api.LLMResponseMetaData;
+import org.wso2.carbon.apimgt.api.model.LLMProviderInfo;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({DataHolder.class, ServiceReferenceHolder.class, APIUtil.class})
+public class AIAPIMediatorTest {
+
+    private static final String PROVIDER_ID = "provider1";
+    private static final String CONNECTOR_TYPE = "connector1";
+    private static final String REQUEST_PATH = "/openai/1.0.0/models/gpt-4o/chat/completions";
+
+    private final LLMProviderConfiguration configuration = new LLMProviderConfiguration();
+    private ServiceReferenceHolder serviceReferenceHolder;
+
+    @Before
+    public void init() throws Exception {
+        configuration.setConnectorType(CONNECTOR_TYPE);
+        LLMProviderInfo provider = new LLMProviderInfo();
+        provider.setName("OpenAI");
+        provider.setApiVersion("1.0.0");
+        provider.setConfigurations(configuration);
+        DataHolder dataHolder = Mockito.mock(DataHolder.class);
+        serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(DataHolder.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(APIUtil.class);
+        Mockito.when(DataHolder.getInstance()).thenReturn(dataHolder);
+        Mockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        Mockito.when(dataHolder.getLLMProviderConfigurations(PROVIDER_ID)).thenReturn(provider);
+        PowerMockito.when(APIUtil.getDefaultRequestTimeoutsForAIAPIs()).thenReturn(60L);
+    }
+
+    @Test
+    public void testCustomProviderServiceExtractsTheMetadata() throws Exception {
+        configuration.setMetadata(Arrays.asList(pathMetadata()));
+        LLMProviderService providerService = Mockito.mock(LLMProviderService.class);
+        MessageContext messageContext = mediate(providerService, "application/json");
+
+        ArgumentCaptor<LLMResponseMetaData> captor = ArgumentCaptor.forClass(LLMResponseMetaData.class);
+        Mockito.verify(providerService).getResponseMetadata(captor.capture(), Mockito.eq(configuration.getMetadata()),
+                Mockito.anyMap());
+        Assert.assertEquals(REQUEST_PATH, captor.getValue().getRequestPath());
+        Assert.assertNull(captor.getValue().getPayload());
+        Assert.assertNotNull(messageContext.getProperty(AIAPIConstants.AI_API_RESPONSE_METADATA));
+        Assert.assertNull(AIAPIStreamedUsage.get(messageContext));
+    }
+
+    @Test
+    public void testUnscannableMetadataFallsBackToProviderService() throws Exception {
+        configuration.setMetadata(Arrays.asList(pathMetadata(), new LLMProviderMetadata(
+                AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT, AIAPIConstants.INPUT_SOURCE_PATH,
+                "models/([")));
+        BuiltInLLMProviderService providerService = Mockito.mock(BuiltInLLMProviderService.class);
+        MessageContext messageContext = mediate(providerService, "text/event-stream");
+
+        Mockito.verify(providerService).getResponseMetadata(Mockito.any(LLMResponseMetaData.class),
+                Mockito.eq(configuration.getMetadata()), Mockito.anyMap());
+        Assert.assertNull(AIAPIStreamedUsage.get(messageContext));
+    }
+
+    @Test
+    public void testEventStreamIsScannedAsItIsRelayed() throws Exception {
+        configuration.setMetadata(Arrays.asList(pathMetadata(), new LLMProviderMetadata(
+                AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT, AIAPIConstants.INPUT_SOURCE_PAYLOAD,
+                "$.usage.prompt_tokens", true)));
+        BuiltInLLMProviderService providerService = Mockito.mock(BuiltInLLMProviderService.class);
+        MessageContext messageContext = mediate(providerService, "text/event-stream; charset=utf-8");
+
+        Mockito.verify(providerService, Mockito.never()).getResponseMetadata(Mockito.any(), Mockito.any(),
+                Mockito.any());
+        Map<String, String> metadataMap =
+                (Map<String, String>) messageContext.getProperty(AIAPIConstants.AI_API_RESPONSE_METADATA);
+        Assert.assertEquals("gpt-4o", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REQUEST_MODEL));
+        AIAPIStreamedUsage usage = AIAPIStreamedUsage.get(messageContext);
+        Assert.assertNotNull(usage);
+        Assert.assertFalse(usage.isComplete());
+        Assert.assertEquals(AIAPIConstants.EXIT_ENDPOINT,
+                messageContext.getProperty(AIAPIConstants.TARGET_ENDPOINT));
+    }
+
+    private MessageContext mediate(LLMProviderService providerService, String contentType) {
+        Mockito.when(serviceReferenceHolder.getLLMProviderService(CONNECTOR_TYPE)).thenReturn(providerService);
+        SynapseConfiguration synapseConfiguration = new SynapseConfiguration();
+        org.apache.axis2.context.MessageContext axis2MessageContext = new org.apache.axis2.context.MessageContext();
+        axis2MessageContext.setProperty(APIMgtGatewayConstants.REST_CONTENT_TYPE, contentType);
+        axis2MessageContext.setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS, new HashMap<>());
+        MessageContext messageContext = new Axis2MessageContext(axis2MessageContext, synapseConfiguration,
+                new Axis2SynapseEnvironment(new ConfigurationContext(new AxisConfiguration()), synapseConfiguration));
+        messageContext.setProperty(RESTConstants.REST_FULL_REQUEST_PATH, REQUEST_PATH);
+
+        AIAPIMediator mediator = new AIAPIMediator();
+        mediator.setLlmProviderId(PROVIDER_ID);
+        mediator.setDirection(AIAPIConstants.TRAFFIC_FLOW_DIRECTION_OUT);
+        Assert.assertTrue(mediator.mediate(messageContext));
+        return messageContext;
+    }
+
+    private static LLMProviderMetadata pathMetadata() {
+        return new LLMProviderMetadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REQUEST_MODEL,
+                AIAPIConstants.INPUT_SOURCE_PATH, "(?<=models/)[a-zA-Z0-9.\\-]+", true);
+    }
+}
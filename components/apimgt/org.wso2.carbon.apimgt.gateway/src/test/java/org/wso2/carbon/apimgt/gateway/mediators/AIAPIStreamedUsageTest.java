@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
+import org.wso2.carbon.apimgt.api.LLMProviderConfiguration;
+import org.wso2.carbon.apimgt.api.LLMProviderMetadata;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AIAPIStreamedUsageTest {
+
+    private static final String FIRST_EVENT = "data: {\"model\":\"gpt-4o\",\"choices\":[{\"delta\":{"
+            + "\"content\":\"Hi\"}}],\"usage\":null}\n\n";
+    private static final String USAGE_EVENT = "data: {\"model\":\"gpt-4o\",\"choices\":[],\"usage\":{"
+            + "\"prompt_tokens\":7,\"completion_tokens\":2}}\n\n";
+
+    @Test
+    public void testPublishersWaitForTheUsage() {
+        Map<String, String> metadataMap = new HashMap<>();
+        AIAPIStreamedUsage usage = new AIAPIStreamedUsage(extractor(), metadataMap);
+        List<String> published = new ArrayList<>();
+        usage.onComplete(() -> published.add(
+                metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT)));
+
+        usage.scan(buffer(FIRST_EVENT));
+        Assert.assertFalse(usage.isComplete());
+        Assert.assertTrue(published.isEmpty());
+        Assert.assertTrue(metadataMap.isEmpty());
+
+        usage.scan(buffer(USAGE_EVENT));
+        Assert.assertTrue(usage.isComplete());
+        Assert.assertEquals(Arrays.asList("7"), published);
+        Assert.assertEquals("gpt-4o", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL));
+        Assert.assertEquals("2", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_COMPLETION_TOKEN_COUNT));
+
+        // the stream relayed before the handlers run
+        usage.onComplete(() -> published.add("late"));
+        Assert.assertEquals(Arrays.asList("7", "late"), published);
+    }
+
+    @Test
+    public void testStreamWithoutUsageIsCompletedByItsLastEvent() {
+        Map<String, String> metadataMap = new HashMap<>();
+        AIAPIStreamedUsage usage = new AIAPIStreamedUsage(extractor(), metadataMap);
+        usage.scan(buffer(FIRST_EVENT));
+        Assert.assertFalse(usage.isComplete());
+        usage.scan(buffer("data: [DONE]\n\n"));
+        Assert.assertTrue(usage.isComplete());
+        Assert.assertEquals("gpt-4o", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL));
+        Assert.assertNull(metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT));
+    }
+
+    @Test
+    public void testIdleStreamIsCompleted() throws Exception {
+        Map<String, String> metadataMap = new HashMap<>();
+        AIAPIStreamedUsage usage = new AIAPIStreamedUsage(extractor(), metadataMap);
+        List<String> published = new ArrayList<>();
+        usage.onComplete(() -> published.add("published"));
+        usage.scan(buffer(FIRST_EVENT));
+        usage.completeAfterIdle(50);
+        for (int i = 0; i < 100 && !usage.isComplete(); i++) {
+            Thread.sleep(20);
+        }
+        Assert.assertTrue(usage.isComplete());
+        Assert.assertEquals(Arrays.asList("published"), published);
+        Assert.assertEquals("gpt-4o", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL));
+
+        // events relayed after the usage is completed are not scanned
+        usage.scan(buffer(USAGE_EVENT));
+        Assert.assertNull(metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT));
+    }
+
+    @Test
+    public void testPublisherErrorDoesNotStopTheOthers() {
+        AIAPIStreamedUsage usage = new AIAPIStreamedUsage(extractor(), new HashMap<>());
+        List<String> published = new ArrayList<>();
+        usage.onComplete(() -> {
+            throw new IllegalStateException("publisher error");
+        });
+        usage.onComplete(() -> published.add("published"));
+        usage.complete();
+        usage.complete();
+        Assert.assertEquals(Arrays.asList("published"), published);
+    }
+
+    @Test
+    public void testGetFromMessageContext() {
+        org.apache.axis2.context.MessageContext axis2MessageContext = new org.apache.axis2.context.MessageContext();
+        Axis2MessageContext messageContext = Mockito.mock(Axis2MessageContext.class);
+        Mockito.when(messageContext.getAxis2MessageContext()).thenReturn(axis2MessageContext);
+        Assert.assertNull(AIAPIStreamedUsage.get(messageContext));
+
+        AIAPIStreamedUsage usage = new AIAPIStreamedUsage(extractor(), new HashMap<>());
+        axis2MessageContext.setProperty(APIMgtGatewayConstants.AI_API_STREAMED_USAGE, usage);
+        Assert.assertSame(usage, AIAPIStreamedUsage.get(messageContext));
+    }
+
+    private static LLMMetadataExtractor extractor() {
+        LLMProviderConfiguration configuration = new LLMProviderConfiguration();
+        configuration.setMetadata(Arrays.asList(
+                new LLMProviderMetadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$.model", true),
+                new LLMProviderMetadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_PROMPT_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$.usage.prompt_tokens", true),
+                new LLMProviderMetadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_COMPLETION_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$.usage.completion_tokens", true)));
+        return new LLMMetadataExtractor(configuration);
+    }
+
+    private static ByteBuffer buffer(String events) {
+        return ByteBuffer.wrap(events.getBytes(StandardCharsets.UTF_8));
+    }
+}
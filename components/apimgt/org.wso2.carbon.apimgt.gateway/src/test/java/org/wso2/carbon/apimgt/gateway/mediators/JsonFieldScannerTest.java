@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JsonFieldScannerTest {
+
+    private static final String[][] FIELDS = {{"model"}, {"usage", "prompt_tokens"}, {"usage", "completion_tokens"}};
+    private static final String[] ATTRIBUTE_NAMES = {"model", "promptTokenCount", "completionTokenCount"};
+
+    @Test
+    public void testScanCompletion() throws Exception {
+        String completion = "{\"id\":\"chatcmpl-1\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":\"{\\\"model\\\": \\\"x\\\"}\",\"usage\":{\"prompt_tokens\":99}}}],"
+                + "\"model\" : \"gpt-4o\\u002dmini\", \"usage\": {\"prompt_tokens\": 12, \"details\": {\"model\": "
+                + "\"y\"}, \"completion_tokens\":34}}";
+        Map<String, String> metadataMap = new HashMap<>();
+        new JsonFieldScanner(FIELDS, ATTRIBUTE_NAMES, metadataMap, false)
+                .scan(new ByteArrayInputStream(completion.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals("gpt-4o-mini", metadataMap.get("model"));
+        Assert.assertEquals("12", metadataMap.get("promptTokenCount"));
+        Assert.assertEquals("34", metadataMap.get("completionTokenCount"));
+    }
+
+    @Test
+    public void testScanEventStreamInChunks() {
+        String stream = "data: {\"model\":\"gpt-4o\",\"choices\":[{\"delta\":{\"content\":\"Hel\"}}],"
+                + "\"usage\":null}\n\n"
+                + ": keep-alive\r\n\r\n"
+                + "data: {\"model\":\"gpt-4o\",\"choices\":[{\"delta\":{\"content\":\"lo\"}}],\"usage\":null}\n\n"
+                + "data: {\"model\":\"gpt-4o\",\"choices\":[],\"usage\":{\"prompt_tokens\":7,"
+                + "\"completion_tokens\":2}}\n\n"
+                + "data: [DONE]\n\n";
+        byte[] bytes = stream.getBytes(StandardCharsets.UTF_8);
+        Map<String, String> metadataMap = new HashMap<>();
+        JsonFieldScanner scanner = new JsonFieldScanner(FIELDS, ATTRIBUTE_NAMES, metadataMap, true);
+        for (int offset = 0; offset < bytes.length; offset += 5) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, Math.min(5, bytes.length - offset));
+            scanner.scan(buffer);
+            Assert.assertEquals(offset, buffer.position());
+            if (offset == 0) {
+                Assert.assertTrue(metadataMap.isEmpty());
+            }
+        }
+        Assert.assertEquals("gpt-4o", metadataMap.get("model"));
+        Assert.assertEquals("7", metadataMap.get("promptTokenCount"));
+        Assert.assertEquals("2", metadataMap.get("completionTokenCount"));
+    }
+
+    @Test
+    public void testEventStreamEnd() {
+        Map<String, String> metadataMap = new HashMap<>();
+        JsonFieldScanner scanner = new JsonFieldScanner(FIELDS, ATTRIBUTE_NAMES, metadataMap, true);
+        scanner.scan(ByteBuffer.wrap(("data: {\"model\":\"gpt-4o\",\"usage\":{\"prompt_tokens\":7}}\n\n"
+                + "data: {\"done\":\"[DONE]\"}\n\n").getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(scanner.isStreamEnded());
+        scanner.scan(ByteBuffer.wrap("data: {\"usage\":{\"completion_tokens\":2}}\n\n"
+                .getBytes(StandardCharsets.UTF_8)));
+        Assert.assertTrue(scanner.isStreamEnded());
+
+        scanner = new JsonFieldScanner(FIELDS, ATTRIBUTE_NAMES, new HashMap<>(), true);
+        scanner.scan(ByteBuffer.wrap("data: [DONE]\r\n".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(scanner.isStreamEnded());
+        scanner.scan(ByteBuffer.wrap("\r\n".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertTrue(scanner.isStreamEnded());
+    }
+}
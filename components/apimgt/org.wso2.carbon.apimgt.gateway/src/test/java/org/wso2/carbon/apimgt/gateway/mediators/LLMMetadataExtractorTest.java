@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIConstants.AIAPIConstants;
+import org.wso2.carbon.apimgt.api.LLMProviderConfiguration;
+import org.wso2.carbon.apimgt.api.LLMProviderMetadata;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LLMMetadataExtractorTest {
+
+    @Test
+    public void testExtractMetadataWithCompiledRules() throws Exception {
+        LLMMetadataExtractor extractor = new LLMMetadataExtractor(configuration(
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL, AIAPIConstants.INPUT_SOURCE_PAYLOAD,
+                        "$.model"),
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$.usage.total_tokens"),
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REQUEST_MODEL, AIAPIConstants.INPUT_SOURCE_PATH,
+                        "(?<=models/)[a-zA-Z0-9.\\-]+"),
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REMAINING_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_HEADER, "x-ratelimit-remaining-tokens")));
+        Assert.assertTrue(extractor.isScannable());
+        Assert.assertTrue(extractor.hasPayloadMetadata());
+        Assert.assertEquals("x-ratelimit-remaining-tokens", extractor.getRemainingTokenCountHeader());
+
+        Map<String, String> metadataMap = new HashMap<>();
+        String payload = "{\"model\":\"gemini-2.0-flash\",\"usage\":{\"total_tokens\":42}}";
+        extractor.newResponseScanner(metadataMap, false)
+                .scan(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+        extractor.extractPathMetadata("/v1beta/models/gemini-2.0-flash%3AgenerateContent", metadataMap);
+        Assert.assertEquals("gemini-2.0-flash", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL));
+        Assert.assertEquals("42", metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT));
+        Assert.assertEquals("gemini-2.0-flash",
+                metadataMap.get(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REQUEST_MODEL));
+        Assert.assertEquals(3, metadataMap.size());
+    }
+
+    @Test
+    public void testPathsOtherThanKeyChainsAreNotScannable() {
+        Assert.assertFalse(new LLMMetadataExtractor(configuration(
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_MODEL, AIAPIConstants.INPUT_SOURCE_PAYLOAD,
+                        "$.model"),
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$.choices[0].usage.total_tokens"))).isScannable());
+        Assert.assertFalse(new LLMMetadataExtractor(configuration(
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_TOTAL_TOKEN_COUNT,
+                        AIAPIConstants.INPUT_SOURCE_PAYLOAD, "$..total_tokens"))).isScannable());
+        Assert.assertFalse(new LLMMetadataExtractor(configuration(
+                metadata(AIAPIConstants.LLM_PROVIDER_SERVICE_METADATA_REQUEST_MODEL, AIAPIConstants.INPUT_SOURCE_PATH,
+                        "models/(["))).isScannable());
+    }
+
+    @Test
+    public void testConfigurationWithoutPayloadMetadata() {
+        LLMProviderConfiguration configuration = new LLMProviderConfiguration();
+        LLMMetadataExtractor extractor = new LLMMetadataExtractor(configuration);
+        Assert.assertSame(configuration, extractor.getConfiguration());
+        Assert.assertTrue(extractor.isScannable());
+        Assert.assertFalse(extractor.hasPayloadMetadata());
+        Assert.assertNull(extractor.getRemainingTokenCountHeader());
+
+        Map<String, String> metadataMap = new HashMap<>();
+        extractor.extractPathMetadata("/v1/chat/completions", metadataMap);
+        Assert.assertTrue(metadataMap.isEmpty());
+    }
+
+    private static LLMProviderConfiguration configuration(LLMProviderMetadata... metadata) {
+        LLMProviderConfiguration configuration = new LLMProviderConfiguration();
+        configuration.setMetadata(Arrays.asList(metadata));
+        return configuration;
+    }
+
+    private static LLMProviderMetadata metadata(String attributeName, String inputSource, String identifier) {
+        return new LLMProviderMetadata(attributeName, inputSource, identifier, true);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.snapshot;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class SnapshotFileTest {
+
+    private Path directory;
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("snapshot");
+        file = directory.resolve("carbon.super-artifacts.snapshot");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Object path : files.toArray()) {
+                Files.delete((Path) path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testReadEntriesWritten() throws IOException {
+        List<String> entries = Arrays.asList("{\"apiId\":\"1\"}", "", "{\"name\":\"PizzaShack\u00e9\"}");
+        write(entries);
+        for (boolean memoryMapped : new boolean[]{false, true}) {
+            List<String> readEntries = new ArrayList<>();
+            Assert.assertEquals(3, SnapshotFile.read(file, memoryMapped, readEntries::add));
+            Assert.assertEquals(entries, readEntries);
+        }
+    }
+
+    @Test
+    public void testCorruptedSnapshotIsRejected() throws IOException {
+        write(Arrays.asList("{\"apiId\":\"1\"}", "{\"apiId\":\"2\"}"));
+        byte[] content = Files.readAllBytes(file);
+        content[12] ^= 1;
+        Files.write(file, content);
+        for (boolean memoryMapped : new boolean[]{false, true}) {
+            List<String> readEntries = new ArrayList<>();
+            try {
+                SnapshotFile.read(file, memoryMapped, readEntries::add);
+                Assert.fail("Corrupted snapshot is read");
+            } catch (IOException e) {
+                Assert.assertTrue(readEntries.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void testUncommittedSnapshotDoesNotReplacePrevious() throws IOException {
+        write(Arrays.asList("previous"));
+        try (SnapshotFile.Writer writer = SnapshotFile.write(file)) {
+            writer.add("next");
+        }
+        List<String> readEntries = new ArrayList<>();
+        SnapshotFile.read(file, false, readEntries::add);
+        Assert.assertEquals(Arrays.asList("previous"), readEntries);
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(1, files.count());
+        }
+    }
+
+    private void write(List<String> entries) throws IOException {
+        try (SnapshotFile.Writer writer = SnapshotFile.write(file)) {
+            for (String entry : entries) {
+                writer.add(entry);
+            }
+            writer.commit();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class IpBlockingConditionMatcherTest {
+
+    @Test
+    public void testFixedIp() {
+        IpBlockingConditionMatcher matcher = IpBlockingConditionMatcher.compile(
+                Collections.singletonList(fixedIp(1, "10.0.0.1", false)));
+        Assert.assertTrue(matcher.isBlocked("10.0.0.1"));
+        Assert.assertFalse(matcher.isBlocked("10.0.0.2"));
+    }
+
+    @Test
+    public void testInvertedFixedIp() {
+        IpBlockingConditionMatcher matcher = IpBlockingConditionMatcher.compile(
+                Collections.singletonList(fixedIp(1, "10.0.0.1", true)));
+        Assert.assertFalse(matcher.isBlocked("10.0.0.1"));
+        Assert.assertTrue(matcher.isBlocked("10.0.0.2"));
+    }
+
+    @Test
+    public void testOverlappingIpRanges() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(ipRange(1, "10.0.0.1", "10.0.0.10", false));
+        ipRanges.add(ipRange(2, "10.0.0.5", "10.0.0.20", false));
+        ipRanges.add(ipRange(3, "192.168.1.0", "192.168.2.0", false));
+        IpBlockingConditionMatcher matcher = IpBlockingConditionMatcher.compile(ipRanges);
+        Assert.assertFalse(matcher.isBlocked("10.0.0.1"));
+        Assert.assertTrue(matcher.isBlocked("10.0.0.2"));
+        Assert.assertTrue(matcher.isBlocked("10.0.0.15"));
+        Assert.assertFalse(matcher.isBlocked("10.0.0.20"));
+        Assert.assertTrue(matcher.isBlocked("192.168.1.200"));
+        Assert.assertFalse(matcher.isBlocked("172.16.0.1"));
+    }
+
+    @Test
+    public void testInvertedIpRanges() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(ipRange(1, "10.0.0.1", "10.0.0.100", true));
+        ipRanges.add(ipRange(2, "10.0.0.50", "10.0.0.200", true));
+        IpBlockingConditionMatcher matcher = IpBlockingConditionMatcher.compile(ipRanges);
+        Assert.assertTrue(matcher.isBlocked("10.0.0.20"));
+        Assert.assertFalse(matcher.isBlocked("10.0.0.60"));
+        Assert.assertTrue(matcher.isBlocked("10.0.0.150"));
+    }
+
+    @Test
+    public void testIPv6Range() {
+        IpBlockingConditionMatcher matcher = IpBlockingConditionMatcher.compile(
+                Collections.singletonList(ipRange(1, "2001:db8::", "2001:db8::ffff", false)));
+        Assert.assertTrue(matcher.isBlocked("2001:db8::1"));
+        Assert.assertTrue(matcher.isBlocked("2001:db8:0:0:0:0:0:abcd"));
+        Assert.assertFalse(matcher.isBlocked("2001:db9::1"));
+        Assert.assertFalse(matcher.isBlocked("10.0.0.1"));
+    }
+
+    @Test
+    public void testAddressConversionMatchesBigInteger() {
+        String[] ips = {"0.0.0.0", "127.0.0.1", "255.255.255.255", "::", "::1", "fe80::1", "2001:db8::8:800:200c:417a",
+                "1:2:3:4:5:6:7:8", "::ffff:10.0.0.1", "::ffff:a00:1"};
+        long[] address = new long[2];
+        for (String ip : ips) {
+            IpBlockingConditionMatcher.toUnsigned128(ip, address);
+            Assert.assertEquals(ip, APIUtil.ipToBigInteger(ip).shiftRight(64).longValue(), address[0]);
+            Assert.assertEquals(ip, APIUtil.ipToBigInteger(ip).longValue(), address[1]);
+        }
+    }
+
+    private IPRange fixedIp(int id, String ip, boolean invert) {
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCKING_CONDITIONS_IP);
+        ipRange.setFixedIp(ip);
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+
+    private IPRange ipRange(int id, String startingIp, String endingIp, boolean invert) {
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setStartingIpBigIntValue(APIUtil.ipToBigInteger(startingIp));
+        ipRange.setEndingIp(endingIp);
+        ipRange.setEndingIpBigIntValue(APIUtil.ipToBigInteger(endingIp));
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+}
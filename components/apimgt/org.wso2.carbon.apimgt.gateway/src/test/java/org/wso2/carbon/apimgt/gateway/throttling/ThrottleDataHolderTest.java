@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.gateway.throttling;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -118,10 +119,22 @@ public class ThrottleDataHolderTest {
 
     @Test
     public void isThrottled() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        throttleDataHolder.addThrottleData("/api2/1.0.0", System.currentTimeMillis() + 10000);
+        Assert.assertTrue(throttleDataHolder.isThrottled("/api2/1.0.0"));
+        throttleDataHolder.addThrottleData("/api2/1.0.0", System.currentTimeMillis() - 10000);
+        Assert.assertFalse(throttleDataHolder.isThrottled("/api2/1.0.0"));
+        Assert.assertFalse(throttleDataHolder.isThrottled("/api3/1.0.0"));
     }
 
     @Test
     public void getThrottleNextAccessTimestamp() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        long nextAccessTimestamp = System.currentTimeMillis() + 10000;
+        throttleDataHolder.addThrottleData("/api4/1.0.0", nextAccessTimestamp);
+        Assert.assertEquals(nextAccessTimestamp, throttleDataHolder.getThrottledUntil("/api4/1.0.0"));
+        throttleDataHolder.removeThrottleData("/api4/1.0.0");
+        Assert.assertEquals(0, throttleDataHolder.getThrottledUntil("/api4/1.0.0"));
     }
 
     @Test
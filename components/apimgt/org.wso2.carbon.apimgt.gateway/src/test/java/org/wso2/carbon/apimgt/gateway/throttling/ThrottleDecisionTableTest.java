@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ThrottleDecisionTableTest {
+
+    private ThrottleDecisionTable throttleDecisionTable;
+
+    @Before
+    public void setup() {
+        throttleDecisionTable = new ThrottleDecisionTable();
+    }
+
+    @After
+    public void cleanup() {
+        throttleDecisionTable.shutdown();
+    }
+
+    @Test
+    public void testGetNextAccessTimestampOfThrottledKey() {
+        long nextAccessTimestamp = System.currentTimeMillis() + 10000;
+        throttleDecisionTable.put("/api/1.0.0", nextAccessTimestamp);
+        Assert.assertEquals(nextAccessTimestamp, throttleDecisionTable.getNextAccessTimestamp("/api/1.0.0"));
+    }
+
+    @Test
+    public void testGetNextAccessTimestampOfUnknownKey() {
+        Assert.assertEquals(0, throttleDecisionTable.getNextAccessTimestamp("/api/1.0.0"));
+    }
+
+    @Test
+    public void testExpiredKeyIsRemovedOnLookup() {
+        throttleDecisionTable.put("/api/1.0.0", System.currentTimeMillis() - 10000);
+        Assert.assertEquals(0, throttleDecisionTable.getNextAccessTimestamp("/api/1.0.0"));
+        Assert.assertEquals(0, throttleDecisionTable.size());
+    }
+
+    @Test
+    public void testRemove() {
+        throttleDecisionTable.put("/api/1.0.0", System.currentTimeMillis() + 10000);
+        throttleDecisionTable.remove("/api/1.0.0");
+        Assert.assertEquals(0, throttleDecisionTable.getNextAccessTimestamp("/api/1.0.0"));
+    }
+
+    @Test
+    public void testEvictExpired() {
+        long currentTime = System.currentTimeMillis();
+        throttleDecisionTable.put("expired1", currentTime - 20000);
+        throttleDecisionTable.put("expired2", currentTime - 5000);
+        throttleDecisionTable.put("active", currentTime + 20000);
+        Assert.assertEquals(2, throttleDecisionTable.evictExpired(currentTime));
+        Assert.assertEquals(1, throttleDecisionTable.size());
+        Assert.assertEquals(currentTime + 20000, throttleDecisionTable.getNextAccessTimestamp("active"));
+    }
+
+    @Test
+    public void testEvictExpiredKeepsRethrottledKey() {
+        long currentTime = System.currentTimeMillis();
+        throttleDecisionTable.put("/api/1.0.0", currentTime - 5000);
+        throttleDecisionTable.put("/api/1.0.0", currentTime + 20000);
+        Assert.assertEquals(0, throttleDecisionTable.evictExpired(currentTime));
+        Assert.assertEquals(currentTime + 20000, throttleDecisionTable.getNextAccessTimestamp("/api/1.0.0"));
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.RESTConstants;
 import org.apache.synapse.transport.nhttp.NhttpConstants;
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -91,6 +92,44 @@ public class DataProcessAndPublishingAgentTest {
         dataProcessAndPublishingAgent.run();
     }
 
+    @Test
+    public void testCreatedEventIsPublishedWithoutMessageContext() throws Exception {
+        ThrottleProperties throttleProperties = new ThrottleProperties();
+        throttleProperties.setEnableHeaderConditions(true);
+        DataProcessAndPublishingAgent dataProcessAndPublishingAgent = new DataProcessAndPublishingAgentWrapper
+                (throttleProperties);
+        AuthenticationContext authenticationContext = new AuthenticationContext();
+        MessageContext messageContext = Mockito.mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MsgCntxt = Mockito.mock(org.apache.axis2.context.MessageContext
+                .class);
+        Mockito.when(((Axis2MessageContext) messageContext).getAxis2MessageContext()).thenReturn(axis2MsgCntxt);
+        Mockito.when(messageContext.getMessageID()).thenReturn("message-1");
+        API api = new API();
+        api.setUuid(UUID.randomUUID().toString());
+        api.setApiName(apiName);
+        api.setApiVersion(apiVersion);
+        api.setApiProvider("admin");
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.API_OBJECT)).thenReturn(api);
+        TreeMap<String, String> headers = new TreeMap<>();
+        headers.put("Content-Type", "application/json");
+        Mockito.when(axis2MsgCntxt.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS))
+                .thenReturn(headers);
+
+        ThrottleEvent event = dataProcessAndPublishingAgent.createEvent(applicationLevelThrottleKey,
+                applicationLevelTier, apiLevelThrottleKey, apiLevelTier, subscriptionLevelThrottleKey,
+                subscriptionLevelTier, resourceLevelThrottleKey, resourceLevelTier, authorizedUser, apiContext,
+                apiVersion, appTenant, apiTenant, appId, messageContext, authenticationContext);
+        Assert.assertEquals("message-1", event.messageId);
+        Assert.assertEquals(apiName, event.apiName);
+        Assert.assertEquals(apiContext, event.apiContext);
+        Assert.assertEquals("application/json", event.headersMap.get("content-type"));
+
+        // the event is published from the copied data, as the message context may be reused by then
+        Mockito.clearInvocations(messageContext, axis2MsgCntxt);
+        dataProcessAndPublishingAgent.publish(event);
+        Mockito.verifyZeroInteractions(messageContext, axis2MsgCntxt);
+    }
+
     @Test
     public void setDataReferenceWithoutApiLevelTier() throws Exception {
         ThrottleProperties throttleProperties = new ThrottleProperties();
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ThrottleEventAggregatorTest {
+
+    private static Object[] payload(String messageId, String appKey) {
+
+        return new Object[]{messageId, appKey, "Unlimited", null};
+    }
+
+    private static Map<String, Object> properties(String ip, long messageSize) {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(APIThrottleConstants.IP, ip);
+        properties.put(APIThrottleConstants.MESSAGE_SIZE, messageSize);
+        properties.put(APIThrottleConstants.TOTAL_TOKENS, 1L);
+        return properties;
+    }
+
+    @Test
+    public void testEventsOfSameKeyAreAggregated() throws Exception {
+
+        List<Object[]> emitted = new ArrayList<>();
+        ThrottleEventAggregator aggregator = new ThrottleEventAggregator(60000, 100, emitted::add);
+        aggregator.add(payload("1", "app1"), properties("10.0.0.1", 100));
+        aggregator.add(payload("2", "app1"), properties("10.0.0.1", 50));
+        aggregator.add(payload("3", "app1"), properties("10.0.0.1", 25));
+        aggregator.add(payload("4", "app1"), properties("10.0.0.2", 10));
+        aggregator.add(payload("5", "app2"), properties("10.0.0.1", 10));
+        Assert.assertEquals(3, aggregator.getPendingEventCount());
+        Assert.assertTrue(emitted.isEmpty());
+
+        aggregator.flush();
+        Assert.assertEquals(0, aggregator.getPendingEventCount());
+        Assert.assertEquals(3, emitted.size());
+        for (Object[] event : emitted) {
+            JSONObject properties = (JSONObject) new JSONParser().parse((String) event[3]);
+            if ("1".equals(event[0])) {
+                Assert.assertEquals("app1", event[1]);
+                Assert.assertEquals(3L, properties.get(APIThrottleConstants.EVENT_COUNT));
+                Assert.assertEquals(175L, properties.get(APIThrottleConstants.MESSAGE_SIZE));
+                Assert.assertEquals(3L, properties.get(APIThrottleConstants.TOTAL_TOKENS));
+                Assert.assertEquals("10.0.0.1", properties.get(APIThrottleConstants.IP));
+            } else {
+                Assert.assertEquals(1L, properties.get(APIThrottleConstants.EVENT_COUNT));
+                Assert.assertEquals(10L, properties.get(APIThrottleConstants.MESSAGE_SIZE));
+            }
+        }
+        aggregator.shutdown();
+    }
+
+    @Test
+    public void testEventsAreEmittedDirectlyWhenKeyLimitIsReached() {
+
+        List<Object[]> emitted = new ArrayList<>();
+        ThrottleEventAggregator aggregator = new ThrottleEventAggregator(60000, 1, emitted::add);
+        aggregator.add(payload("1", "app1"), properties("10.0.0.1", 1));
+        aggregator.add(payload("2", "app2"), properties("10.0.0.1", 1));
+        aggregator.add(payload("3", "app1"), properties("10.0.0.1", 1));
+        Assert.assertEquals(1, emitted.size());
+        Assert.assertEquals("2", emitted.get(0)[0]);
+        Assert.assertEquals(1, aggregator.getPendingEventCount());
+        aggregator.shutdown();
+        Assert.assertEquals(2, emitted.size());
+        Assert.assertEquals(0, aggregator.getPendingEventCount());
+    }
+}
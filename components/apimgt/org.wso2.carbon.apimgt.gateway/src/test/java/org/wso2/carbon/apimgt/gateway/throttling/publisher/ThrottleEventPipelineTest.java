@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThrottleEventPipelineTest {
+
+    @Test
+    public void testRingBufferOrderAndCapacity() {
+        ThrottleEventRingBuffer<Integer> buffer = new ThrottleEventRingBuffer<>(3);
+        Assert.assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertEquals(4, buffer.size());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        Assert.assertNull(buffer.poll());
+        Assert.assertTrue(buffer.offer(5));
+        Assert.assertEquals(Integer.valueOf(5), buffer.poll());
+    }
+
+    @Test
+    public void testAllEventsArePublishedAndReleased() throws Exception {
+        int producers = 4;
+        int eventsPerProducer = 10000;
+        Set<Integer> published = ConcurrentHashMap.newKeySet();
+        AtomicInteger released = new AtomicInteger();
+        ThrottleEventPipeline<Integer> pipeline = new ThrottleEventPipeline<>("test", 1024, 2, 64,
+                ThrottleEventPipeline.BackpressurePolicy.BLOCK, 1, published::add,
+                event -> released.incrementAndGet());
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int offset = p * eventsPerProducer;
+            new Thread(() -> {
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    pipeline.publish(offset + i);
+                }
+                latch.countDown();
+            }).start();
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 30000;
+        while (released.get() < producers * eventsPerProducer && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        pipeline.shutdown();
+        Assert.assertEquals(producers * eventsPerProducer, published.size());
+        Assert.assertEquals(producers * eventsPerProducer, released.get());
+        Assert.assertEquals(0, pipeline.getDroppedEventCount());
+    }
+
+    @Test
+    public void testDropOldestReleasesDroppedEvents() throws Exception {
+        CountDownLatch blockDrainer = new CountDownLatch(1);
+        AtomicInteger released = new AtomicInteger();
+        ThrottleEventPipeline<Integer> pipeline = new ThrottleEventPipeline<>("test", 4, 1, 1,
+                ThrottleEventPipeline.BackpressurePolicy.DROP_OLDEST, 1, event -> {
+                    try {
+                        blockDrainer.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }, event -> released.incrementAndGet());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(pipeline.publish(i));
+        }
+        Assert.assertTrue(pipeline.getDroppedEventCount() > 0);
+        blockDrainer.countDown();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (released.get() < 100 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        pipeline.shutdown();
+        Assert.assertEquals(100, released.get());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+public class StripedLockTest {
+
+    @Test
+    public void testSameKeyMapsToSameLock() {
+
+        StripedLock stripedLock = new StripedLock(16);
+
+        Assert.assertSame(stripedLock.getLock("caller-context-1"), stripedLock.getLock(new String("caller-context-1")));
+    }
+
+    @Test
+    public void testStripesAreRoundedUpToPowerOfTwo() {
+
+        Assert.assertEquals(16, countLocks(new StripedLock(16)));
+        Assert.assertEquals(32, countLocks(new StripedLock(17)));
+        Assert.assertEquals(2, countLocks(new StripedLock(0)));
+    }
+
+    @Test
+    public void testKeysAreSpreadAcrossStripes() {
+
+        StripedLock stripedLock = new StripedLock(1024);
+        Set<Object> locks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10000; i++) {
+            locks.add(stripedLock.getLock("/pizzashack/1.0.0:GET:" + i));
+        }
+        Assert.assertTrue("Only " + locks.size() + " stripes were used", locks.size() > 900);
+    }
+
+    private static int countLocks(StripedLock stripedLock) {
+
+        Set<Object> locks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 100000; i++) {
+            locks.add(stripedLock.getLock("key-" + i));
+        }
+        return locks.size();
+    }
+}
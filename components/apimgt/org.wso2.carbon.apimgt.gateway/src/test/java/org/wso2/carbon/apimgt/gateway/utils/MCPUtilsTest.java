@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
+import org.wso2.carbon.apimgt.gateway.mcp.McpToolRegistry;
+import org.wso2.carbon.apimgt.gateway.mcp.request.McpRequest;
+import org.wso2.carbon.apimgt.gateway.mcp.request.Params;
+import org.wso2.carbon.apimgt.gateway.mcp.response.McpResponseDto;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+
+public class MCPUtilsTest {
+
+    @Test
+    public void testToolListIsServedFromToolRegistry() {
+
+        API api = mcpServer("mcp-utils-list", "getPet");
+
+        McpResponseDto response = MCPUtils.processInternalRequest(null, api, request(1, null),
+                APIConstants.MCP.METHOD_TOOL_LIST);
+
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(MCPPayloadGenerator.generateToolListPayload(1, api.getUrlMappings(), false),
+                response.getResponse());
+        Assert.assertEquals(McpToolRegistry.getInstance().getTools(api).getToolListPayload(1), response.getResponse());
+    }
+
+    @Test
+    public void testToolListReflectsRedeployedServer() {
+
+        API api = mcpServer("mcp-utils-redeploy", "getPet");
+        MCPUtils.processInternalRequest(null, api, request(1, null), APIConstants.MCP.METHOD_TOOL_LIST);
+
+        api.getUrlMappings().add(tool("deletePet"));
+        McpToolRegistry.getInstance().apiDeployed("mcp-utils-redeploy");
+        McpResponseDto response = MCPUtils.processInternalRequest(null, api, request(2, null),
+                APIConstants.MCP.METHOD_TOOL_LIST);
+
+        Assert.assertTrue(response.getResponse().contains("deletePet"));
+    }
+
+    @Test
+    public void testUnknownToolIsRejected() {
+
+        API api = mcpServer("mcp-utils-call", "getPet");
+
+        McpResponseDto response = MCPUtils.processInternalRequest(null, api, request(3, "deletePet"),
+                APIConstants.MCP.METHOD_TOOL_CALL);
+
+        Assert.assertTrue(response.getResponse().contains("The requested tool does not exist"));
+    }
+
+    @Test
+    public void testToolAddedOnRedeploymentIsAccepted() {
+
+        API api = mcpServer("mcp-utils-undeploy", "getPet");
+        McpResponseDto response = MCPUtils.processInternalRequest(null, api, request(4, "deletePet"),
+                APIConstants.MCP.METHOD_TOOL_CALL);
+        Assert.assertTrue(response.getResponse().contains("The requested tool does not exist"));
+
+        api.getUrlMappings().add(tool("deletePet"));
+        McpToolRegistry.getInstance().apiUndeployed("mcp-utils-undeploy");
+
+        Assert.assertNotNull(McpToolRegistry.getInstance().getTools(api).getOperation("deletePet"));
+    }
+
+    private static McpRequest request(Object id, String toolName) {
+
+        McpRequest request = new McpRequest(id);
+        Params params = new Params();
+        params.setToolName(toolName);
+        request.setParams(params);
+        return request;
+    }
+
+    private static API mcpServer(String uuid, String toolName) {
+
+        API api = new API();
+        api.setUuid(uuid);
+        api.getUrlMappings().add(tool(toolName));
+        return api;
+    }
+
+    private static URLMapping tool(String name) {
+
+        URLMapping urlMapping = new URLMapping();
+        urlMapping.setUrlPattern(name);
+        urlMapping.setDescription("Tool " + name);
+        urlMapping.setSchemaDefinition("{\"type\":\"object\",\"properties\":{\"path_petId\":{\"type\":\"string\"}}}");
+        return urlMapping;
+    }
+}
@@ -44,6 +44,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -65,6 +66,7 @@ public class ComplianceEvaluationScheduler {
     private static int cleanupIntervalMinutes;
     private static ScheduledExecutorService scheduler;
     private static ThreadPoolExecutor processorPool;
+    private static ThreadPoolExecutor rulesetPool;
     private static final ComplianceMgtDAO complianceMgtDAO = ComplianceMgtDAOImpl.getInstance();
 
     /**
@@ -83,6 +85,7 @@ public class ComplianceEvaluationScheduler {
 
         scheduler = Executors.newSingleThreadScheduledExecutor();
         processorPool = createProcessorPool();
+        rulesetPool = createProcessorPool();
 
         scheduler.scheduleAtFixedRate(
                 ComplianceEvaluationScheduler::processPendingRequests,
@@ -90,7 +93,8 @@ public class ComplianceEvaluationScheduler {
     }
 
     /**
-     * Create a thread pool for processing requests in parallel.
+     * Create a thread pool for processing requests in parallel. Once the queue is full, tasks are run by the
+     * submitting thread, which throttles submission instead of dropping tasks whose futures would never complete.
      *
      * @return Configured ThreadPoolExecutor.
      */
@@ -100,7 +104,7 @@ public class ComplianceEvaluationScheduler {
                 0L, TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>(queueSize),
                 Executors.defaultThreadFactory(),
-                new ThreadPoolExecutor.DiscardPolicy()
+                new ThreadPoolExecutor.CallerRunsPolicy()
         );
     }
 
@@ -123,6 +127,8 @@ public class ComplianceEvaluationScheduler {
         }
 
         List<Future<?>> futures = new ArrayList<>();
+        // Rulesets of each policy are loaded once per batch and shared by the requests of the batch
+        Map<String, List<Ruleset>> policyRulesets = new ConcurrentHashMap<>();
 
         for (ComplianceEvaluationRequest request : pendingRequests) {
             Future<?> future = processorPool.submit(() -> {
@@ -141,7 +147,7 @@ public class ComplianceEvaluationScheduler {
                         log.debug("Started tenant flow for organization: " + organization
                                 + " with username: " + tenantAdminUsername);
                     }
-                    processRequest(request);
+                    processRequest(request, policyRulesets);
                 } catch (Throwable e) {
                     log.error("Unhandled exception/error during request processing: " + request.getId(), e);
                 } finally {
@@ -199,9 +205,11 @@ public class ComplianceEvaluationScheduler {
     /**
      * Process evaluation requests for a given artifact.
      *
-     * @param request Evaluation request.
+     * @param request        Evaluation request.
+     * @param policyRulesets Rulesets of the policies already loaded in the batch, by policy ID.
      */
-    private static void processRequest(ComplianceEvaluationRequest request) {
+    private static void processRequest(ComplianceEvaluationRequest request,
+                                       Map<String, List<Ruleset>> policyRulesets) {
 
         String requestId = request.getId();
         String artifactRefId = request.getArtifactRefId();
@@ -254,7 +262,7 @@ public class ComplianceEvaluationScheduler {
             // Evaluate the artifact against each policy
             for (String policyId : request.getPolicyIds()) {
                 evaluateArtifactWithPolicy(artifactRefId, artifactType, policyId, artifactProjectContentMap,
-                        organization);
+                        organization, policyRulesets);
                 AuditLogger.log("Async Eval Request", "Artifact %s evaluated against policy %s " +
                         "in organization %s", artifactRefId, policyId, organization);
             }
@@ -270,36 +278,38 @@ public class ComplianceEvaluationScheduler {
     }
 
     /**
-     * Evaluate an artifact against a policy.
+     * Evaluate an artifact against a policy. The artifact is validated against the rulesets of the policy in
+     * parallel.
      *
      * @param artifactRefId             ID of the artifact.
      * @param artifactType              Type of the artifact.
      * @param policyId                  ID of the policy.
      * @param artifactProjectContentMap Content of the artifact project.
      * @param organization              Organization of the artifact.
+     * @param policyRulesets            Rulesets of the policies already loaded in the batch, by policy ID.
      * @throws APIMGovernanceException If an error occurs while evaluating the artifact.
      */
     private static void evaluateArtifactWithPolicy(String artifactRefId, ArtifactType artifactType, String policyId,
-                                                   Map<RuleType, String> artifactProjectContentMap, String organization)
+                                                   Map<RuleType, String> artifactProjectContentMap, String organization,
+                                                   Map<String, List<Ruleset>> policyRulesets)
             throws APIMGovernanceException {
 
         ValidationEngine validationEngine = ServiceReferenceHolder.getInstance()
                 .getValidationEngineService().getValidationEngine();
 
         // Validate the artifact against each ruleset
-        List<Ruleset> rulesets = GovernancePolicyMgtDAOImpl.getInstance()
-                .getRulesetsWithContentByPolicyId(policyId, organization);
+        List<Ruleset> rulesets = getRulesets(policyId, organization, policyRulesets);
 
-        Map<String, List<RuleViolation>> rulesetViolationsMap = new HashMap<>();
+        Map<String, Future<List<RuleViolation>>> rulesetViolationFutures = new HashMap<>();
         int skippedRulesets = 0;
+        ExtendedArtifactType artifactExtendedType = APIMGovernanceUtil
+                .getExtendedArtifactTypeForArtifact(artifactRefId, artifactType);
 
         for (Ruleset ruleset : rulesets) {
-            List<RuleViolation> ruleViolations = new ArrayList<>();
 
             // Check if ruleset's artifact type matches with the artifact's type
             ExtendedArtifactType extendedArtifactType = ruleset.getArtifactType();
-            if (extendedArtifactType.equals(APIMGovernanceUtil
-                    .getExtendedArtifactTypeForArtifact(artifactRefId, artifactType))) {
+            if (extendedArtifactType.equals(artifactExtendedType)) {
 
                 // Get target file content from artifact project based on ruleType
                 RuleType ruleType = ruleset.getRuleType();
@@ -312,12 +322,8 @@ public class ComplianceEvaluationScheduler {
                 }
 
                 // Send target content and ruleset for validation
-                List<RuleViolation> violations = validationEngine.validate(contentToValidate, ruleset);
-                AuditLogger.log("Async Eval Request", "Validated artifact %s " +
-                                "in organization %s against ruleset %s", artifactRefId,
-                        organization, ruleset.getId());
-                ruleViolations.addAll(violations);
-                rulesetViolationsMap.put(ruleset.getId(), ruleViolations);
+                rulesetViolationFutures.put(ruleset.getId(),
+                        rulesetPool.submit(() -> validationEngine.validate(contentToValidate, ruleset)));
 
             } else {
                 skippedRulesets++;
@@ -328,6 +334,25 @@ public class ComplianceEvaluationScheduler {
                 AuditLogger.log("Async Eval Request", logMessage);
             }
         }
+
+        Map<String, List<RuleViolation>> rulesetViolationsMap = new HashMap<>();
+        for (Map.Entry<String, Future<List<RuleViolation>>> entry : rulesetViolationFutures.entrySet()) {
+            try {
+                rulesetViolationsMap.put(entry.getKey(), new ArrayList<>(entry.getValue().get()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new APIMGovernanceException("Interrupted while validating artifact " + artifactRefId
+                        + " against ruleset " + entry.getKey(), e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof APIMGovernanceException) {
+                    throw (APIMGovernanceException) e.getCause();
+                }
+                throw new APIMGovernanceException("Error while validating artifact " + artifactRefId
+                        + " against ruleset " + entry.getKey(), e.getCause());
+            }
+            AuditLogger.log("Async Eval Request", "Validated artifact %s " +
+                    "in organization %s against ruleset %s", artifactRefId, organization, entry.getKey());
+        }
         if (skippedRulesets == rulesets.size()) {
             String logMessage = String.format("All rulesets in policy %s are skipped for artifact %s in organization " +
                     "%s as the artifact type does not match", policyId, artifactRefId, organization);
@@ -339,6 +364,28 @@ public class ComplianceEvaluationScheduler {
                 organization);
     }
 
+    /**
+     * Get the rulesets of a policy, loading them only if they are not already loaded in the batch.
+     *
+     * @param policyId       ID of the policy.
+     * @param organization   Organization of the policy.
+     * @param policyRulesets Rulesets of the policies already loaded in the batch, by policy ID.
+     * @return Rulesets of the policy.
+     * @throws APIMGovernanceException If an error occurs while loading the rulesets.
+     */
+    private static List<Ruleset> getRulesets(String policyId, String organization,
+                                             Map<String, List<Ruleset>> policyRulesets)
+            throws APIMGovernanceException {
+        String key = organization + ":" + policyId;
+        List<Ruleset> rulesets = policyRulesets.get(key);
+        if (rulesets == null) {
+            rulesets = GovernancePolicyMgtDAOImpl.getInstance().getRulesetsWithContentByPolicyId(policyId,
+                    organization);
+            policyRulesets.putIfAbsent(key, rulesets);
+        }
+        return rulesets;
+    }
+
     /**
      * Save compliance evaluation results of the policy.
      *
@@ -380,6 +427,7 @@ public class ComplianceEvaluationScheduler {
 
         shutdownExecutor(scheduler, "request scheduler");
         shutdownExecutor(processorPool, "request processor pool");
+        shutdownExecutor(rulesetPool, "ruleset validation pool");
 
         log.info("Evaluation Request Scheduler shut down.");
     }
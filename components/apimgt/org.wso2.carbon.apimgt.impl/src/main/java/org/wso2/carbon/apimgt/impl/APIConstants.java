@@ -624,6 +624,8 @@ public final class APIConstants {
         public static final String EMBEDDING_PROVIDER_EMBEDDING_REQUEST_MODEL = "model";
         public static final String EMBEDDING_PROVIDER_EMBEDDING_REQUEST_INPUT = "input";
         public static final String EMBEDDING_PROVIDER_RESPONSE_EMBEDDING_PATH = "/data/0/embedding";
+        public static final String EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE = "local_cache_size";
+        public static final String EMBEDDING_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT = "1000";
 
         public static final String VECTOR_DB_PROVIDER = "VectorDBProvider";
         public static final String VECTOR_DB_PROVIDER_TYPE = "type";
@@ -640,6 +642,8 @@ public final class APIConstants {
         public static final String VECTOR_DB_PROVIDER_THRESHOLD = "threshold";
         public static final String VECTOR_DB_PROVIDER_TTL = "ttl";
         public static final String VECTOR_DB_PROVIDER_TTL_DEFAULT = "3600";
+        public static final String VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE = "local_cache_size";
+        public static final String VECTOR_DB_PROVIDER_LOCAL_CACHE_SIZE_DEFAULT = "256";
 
         public static final String VECTOR_DB_PROVIDER_ZILLIZ_TYPE = "zilliz";
         public static final String VECTOR_DB_PROVIDER_URI = "uri";
@@ -852,7 +856,6 @@ public final class APIConstants {
     public static final String REVOKED_TOKEN_TYPE = "type";
     public static final String IDENTITY_REVOKE_ENDPOINT = "/oauth2/revoke";
     public static final String IDENTITY_TOKEN_ENDPOINT_CONTEXT = "/oauth2/token";
-    public static final String GATEWAY_SIGNED_JWT_CACHE = "SignedJWTParseCache";
 
     public static final String DEFAULT_WEBSOCKET_VERSION = "defaultVersion";
     public static final String ENCRYPTED_VALUE = "encrypted";
@@ -1122,6 +1125,7 @@ public final class APIConstants {
     public static final String API_STORE_API_KEY_ALIAS = API_STORE + "ApiKeyAlias";
     public static final String API_STORE_API_KEY_GENERATOR_IMPL = API_STORE + "ApiKeyGeneratorImpl";
     public static final String API_STORE_API_KEY_SIGN_KEY_STORE = API_STORE + "APIKeyKeystore";
+    public static final String API_LISTING_READ_MODEL_ENABLED = "APIListing.EnableReadModel";
     public static final String WSO2_ANONYMOUS_USER = "wso2.anonymous.user";
     public static final String API_DEVPORTAL_ANONYMOUS_MODE = API_STORE + "EnableAnonymousMode";
     public static final String ENABLE_ANONYMOUS_MODE = "EnableAnonymous";
@@ -1492,6 +1496,7 @@ public final class APIConstants {
         public static final String GLOBAL_POLICIES = "/global-policies";
         public static final String SUBSCRIPTION_POLICIES = "/subscription-policies";
         public static final String SCOPES = "/scopes";
+        public static final String SUBSCRIPTION_DATA_CHANGES = "/subscription-data-changes";
 
         private SubscriptionValidationResources() {
 
@@ -1615,6 +1620,7 @@ public final class APIConstants {
     public static final String OPERATION_SECURITY_DISABLED = "Disabled";
     public static final String GRAPHQL_PAYLOAD = "GRAPHQL_PAYLOAD";
     public static final String GRAPHQL_SCHEMA = "GRAPHQL_SCHEMA";
+    public static final String GRAPHQL_PARSED_QUERY = "GRAPHQL_PARSED_QUERY";
     public static final String GRAPHQL_ACCESS_CONTROL_POLICY = "WSO2GraphQLAccessControlPolicy";
     public static final String QUERY_ANALYSIS_COMPLEXITY = "complexity";
     public static final String GRAPHQL_ADDITIONAL_TYPE_PREFIX = "WSO2";
@@ -1751,6 +1757,7 @@ public final class APIConstants {
     public static final String CONFIG_REDIS_MIN_GATEWAY_COUNT = "MinGatewayCount";
 
     public static final String CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT = "KeyLockRetrievalTimeout";
+    public static final String CONFIG_REDIS_SYNC_BATCH_INTERVAL = "SyncBatchInterval";
     public static final String HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED = "start_time_based";
 
     // Distributed Throttle Configuration constants
@@ -2314,6 +2321,15 @@ public final class APIConstants {
     public static final String REVOKED_TOKEN_EXPIRY_TIME = "expiryTime";
     public static final String EVENT_TYPE = "eventType";
     public static final String EVENT_WAITING_TIME_CONFIG = "EventWaitingTime";
+    public static final String SUBSCRIPTION_DATA_LOADER_CONFIG = "SubscriptionDataLoader";
+    public static final String SUBSCRIPTION_DATA_LOADER_NEGATIVE_CACHE_TTL = "NegativeCacheTTL";
+    public static final String SUBSCRIPTION_DATA_LOADER_ENTITY_TTL = "EntityTTL";
+    public static final String SUBSCRIPTION_DATA_LOADER_BULK_LOAD_THRESHOLD = "BulkLoadThreshold";
+    public static final String DELTA_SYNC_CONFIG = "DeltaSync";
+    public static final String DELTA_SYNC_ENABLED = "Enabled";
+    public static final String DELTA_SYNC_RETENTION_PERIOD = "RetentionPeriod";
+    public static final String DELTA_SYNC_MAX_CHANGES = "MaxChanges";
+    public static final String DELTA_SYNC_INTERVAL = "SyncInterval";
     public static final String EVENT_TIMESTAMP = "timestamp";
     public static final String EVENT_PAYLOAD = "event";
     public static final String EVENT_PAYLOAD_DATA = "payloadData";
@@ -2389,6 +2405,18 @@ public final class APIConstants {
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE = "CorePoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE = "MaxmimumPoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION = "EventBuffer";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_ENABLED = "Enabled";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SIZE = "Size";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_DRAINER_COUNT = "DrainerCount";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BATCH_SIZE = "BatchSize";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BACKPRESSURE_POLICY =
+                "BackpressurePolicy";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SAMPLE_RATE = "SampleRate";
+        public static final String DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION = "EventAggregation";
+        public static final String DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_ENABLED = "Enabled";
+        public static final String DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_INTERVAL = "Interval";
+        public static final String DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_MAX_KEYS = "MaxKeys";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
@@ -3227,6 +3255,11 @@ public final class APIConstants {
         public static final String DATA_RETRIEVAL_MODE = "DataRetrievalMode";
         public static final String GATEWAY_STARTUP_SYNC = "sync";
         public static final String GATEWAY_STARTUP_ASYNC = "async";
+        public static final String DEPLOYMENT_PARALLELISM = "DeploymentParallelism";
+        public static final String DEPLOYMENT_EVENT_COALESCING_WINDOW = "DeploymentEventCoalescingWindow";
+        public static final String SNAPSHOT_CONFIG = "Snapshot";
+        public static final String SNAPSHOT_DIRECTORY = "Directory";
+        public static final String SNAPSHOT_MEMORY_MAPPED = "MemoryMapped";
         public static final String API_ID = "apiId";
         public static final String LABEL = "label";
         public static final String LABELS = "labels";
@@ -482,12 +482,14 @@ public class APIConsumerImpl extends AbstractAPIManager implements APIConsumer {
     public void rateAPI(String id, APIRating rating, String user) throws APIManagementException {
 
         apiMgtDAO.addRating(id, rating.getRating(), user);
+        APIListingUtil.updateRating(id);
     }
 
     @Override
     public void removeAPIRating(String id, String user) throws APIManagementException {
 
         apiMgtDAO.removeAPIRating(id, user);
+        APIListingUtil.updateRating(id);
     }
 
     @Override
@@ -4100,8 +4102,11 @@ APIConstants.AuditLogConstants.DELETED, this.username);
             organizationID = orgInfo.getOrganizationId();
         }
         try {
-            DevPortalAPISearchResult searchAPIs = apiPersistenceInstance.searchAPIsForDevPortal(org, searchQuery,
-                    start, end, userCtx);
+            DevPortalAPISearchResult searchAPIs = APIListingUtil.searchAPIsForDevPortal(apiPersistenceInstance, org,
+                    searchQuery, start, end, userCtx);
+            if (searchAPIs == null) {
+                searchAPIs = apiPersistenceInstance.searchAPIsForDevPortal(org, searchQuery, start, end, userCtx);
+            }
             if (log.isDebugEnabled()) {
                 log.debug("searched Devportal APIs for query : " + searchQuery + " :-->: " + searchAPIs.toString());
             }
@@ -4113,7 +4118,8 @@ APIConstants.AuditLogConstants.DELETED, this.username);
                     API mappedAPI = APIMapper.INSTANCE.toApi(devPortalAPIInfo);
                     APIUtil.updateAvailableTiersByOrganization(devPortalAPIInfo, organizationID);
                     try {
-                        mappedAPI.setRating(APIUtil.getAverageRating(mappedAPI.getUuid()));
+                        mappedAPI.setRating(devPortalAPIInfo.getRating() != null ? devPortalAPIInfo.getRating()
+                                : APIUtil.getAverageRating(mappedAPI.getUuid()));
                         Set<String> tierNameSet = devPortalAPIInfo.getAvailableTierNames();
                         String tiers = null;
                         if (tierNameSet != null) {
@@ -474,6 +474,8 @@ public class APIManagerConfiguration {
                         new QName(APIConstants.CONFIG_REDIS_MIN_GATEWAY_COUNT));
                 OMElement keyLockRetrievalTimeout = element.getFirstChildWithName(
                         new QName(APIConstants.CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT));
+                OMElement syncBatchInterval = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_SYNC_BATCH_INTERVAL));
                 redisConfig.setRedisEnabled(true);
                 redisConfig.setHost(redisHost.getText());
                 redisConfig.setPort(Integer.parseInt(redisPort.getText()));
@@ -489,6 +491,9 @@ public class APIManagerConfiguration {
                 if (keyLockRetrievalTimeout != null) {
                     redisConfig.setKeyLockRetrievalTimeout(Integer.parseInt(keyLockRetrievalTimeout.getText()));
                 }
+                if (syncBatchInterval != null) {
+                    redisConfig.setSyncBatchInterval(Long.parseLong(syncBatchInterval.getText()));
+                }
                 if (redisUser != null) {
                     redisConfig.setUser(redisUser.getText());
                 }
@@ -1749,6 +1754,80 @@ public class APIManagerConfiguration {
                         }
                     }
                     throttleProperties.setDataPublisherThreadPool(dataPublisherThreadPool);
+
+                    // Data publisher event buffer configuration
+                    OMElement dataPublisherEventBufferConfigurationElement = dataPublisherConfigurationElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                    .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION));
+                    ThrottleProperties.DataPublisherEventBuffer dataPublisherEventBuffer =
+                            new ThrottleProperties.DataPublisherEventBuffer();
+                    if (dataPublisherEventBufferConfigurationElement != null) {
+                        OMElement enabledElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_ENABLED));
+                        if (enabledElement != null) {
+                            dataPublisherEventBuffer.setEnabled(Boolean.parseBoolean(enabledElement.getText()));
+                        }
+                        OMElement sizeElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SIZE));
+                        if (sizeElement != null) {
+                            dataPublisherEventBuffer.setSize(Integer.parseInt(sizeElement.getText()));
+                        }
+                        OMElement drainerCountElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_DRAINER_COUNT));
+                        if (drainerCountElement != null) {
+                            dataPublisherEventBuffer.setDrainerCount(Integer.parseInt(drainerCountElement.getText()));
+                        }
+                        OMElement batchSizeElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BATCH_SIZE));
+                        if (batchSizeElement != null) {
+                            dataPublisherEventBuffer.setBatchSize(Integer.parseInt(batchSizeElement.getText()));
+                        }
+                        OMElement backpressurePolicyElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BACKPRESSURE_POLICY));
+                        if (backpressurePolicyElement != null) {
+                            dataPublisherEventBuffer.setBackpressurePolicy(backpressurePolicyElement.getText());
+                        }
+                        OMElement sampleRateElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SAMPLE_RATE));
+                        if (sampleRateElement != null) {
+                            dataPublisherEventBuffer.setSampleRate(Integer.parseInt(sampleRateElement.getText()));
+                        }
+                    }
+                    throttleProperties.setDataPublisherEventBuffer(dataPublisherEventBuffer);
+
+                    // Data publisher event aggregation configuration
+                    OMElement dataPublisherEventAggregationConfigurationElement = dataPublisherConfigurationElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                    .DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION));
+                    ThrottleProperties.DataPublisherEventAggregation dataPublisherEventAggregation =
+                            new ThrottleProperties.DataPublisherEventAggregation();
+                    if (dataPublisherEventAggregationConfigurationElement != null) {
+                        OMElement enabledElement = dataPublisherEventAggregationConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_ENABLED));
+                        if (enabledElement != null) {
+                            dataPublisherEventAggregation.setEnabled(Boolean.parseBoolean(enabledElement.getText()));
+                        }
+                        OMElement intervalElement = dataPublisherEventAggregationConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_INTERVAL));
+                        if (intervalElement != null) {
+                            dataPublisherEventAggregation.setInterval(Long.parseLong(intervalElement.getText()));
+                        }
+                        OMElement maxKeysElement = dataPublisherEventAggregationConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_AGGREGATION_CONFIGURATION_MAX_KEYS));
+                        if (maxKeysElement != null) {
+                            dataPublisherEventAggregation.setMaxKeys(Integer.parseInt(maxKeysElement.getText()));
+                        }
+                    }
+                    throttleProperties.setDataPublisherEventAggregation(dataPublisherEventAggregation);
                 }
 
                 // Configuring JMSConnectionDetails
@@ -2556,6 +2635,29 @@ public class APIManagerConfiguration {
                     log.debug("Event hub event waiting time not set.");
                 }
             }
+            OMElement subscriptionDataLoaderElement = omElement
+                    .getFirstChildWithName(new QName(APIConstants.SUBSCRIPTION_DATA_LOADER_CONFIG));
+            if (subscriptionDataLoaderElement != null) {
+                EventHubConfigurationDto.SubscriptionDataLoaderConfiguration subscriptionDataLoaderConfiguration =
+                        eventHubConfigurationDto.getSubscriptionDataLoaderConfiguration();
+                OMElement negativeCacheTTLElement = subscriptionDataLoaderElement
+                        .getFirstChildWithName(new QName(APIConstants.SUBSCRIPTION_DATA_LOADER_NEGATIVE_CACHE_TTL));
+                if (negativeCacheTTLElement != null) {
+                    subscriptionDataLoaderConfiguration
+                            .setNegativeCacheTTL(Long.parseLong(negativeCacheTTLElement.getText()));
+                }
+                OMElement entityTTLElement = subscriptionDataLoaderElement
+                        .getFirstChildWithName(new QName(APIConstants.SUBSCRIPTION_DATA_LOADER_ENTITY_TTL));
+                if (entityTTLElement != null) {
+                    subscriptionDataLoaderConfiguration.setEntityTTL(Long.parseLong(entityTTLElement.getText()));
+                }
+                OMElement bulkLoadThresholdElement = subscriptionDataLoaderElement
+                        .getFirstChildWithName(new QName(APIConstants.SUBSCRIPTION_DATA_LOADER_BULK_LOAD_THRESHOLD));
+                if (bulkLoadThresholdElement != null) {
+                    subscriptionDataLoaderConfiguration
+                            .setBulkLoadThreshold(Integer.parseInt(bulkLoadThresholdElement.getText()));
+                }
+            }
 
             OMElement configurationRetrieverElement =
                     omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.EVENT_RECEIVER_CONFIGURATION));
@@ -2604,6 +2706,31 @@ public class APIManagerConfiguration {
                 eventHubConfigurationDto.setEventHubPublisherConfiguration(eventHubPublisherConfiguration);
             }
         }
+        OMElement deltaSyncElement = omElement.getFirstChildWithName(new QName(APIConstants.DELTA_SYNC_CONFIG));
+        if (deltaSyncElement != null) {
+            EventHubConfigurationDto.DeltaSyncConfiguration deltaSyncConfiguration =
+                    eventHubConfigurationDto.getDeltaSyncConfiguration();
+            OMElement deltaSyncEnabledElement = deltaSyncElement
+                    .getFirstChildWithName(new QName(APIConstants.DELTA_SYNC_ENABLED));
+            if (deltaSyncEnabledElement != null) {
+                deltaSyncConfiguration.setEnabled(Boolean.parseBoolean(deltaSyncEnabledElement.getText()));
+            }
+            OMElement retentionPeriodElement = deltaSyncElement
+                    .getFirstChildWithName(new QName(APIConstants.DELTA_SYNC_RETENTION_PERIOD));
+            if (retentionPeriodElement != null) {
+                deltaSyncConfiguration.setRetentionPeriod(Long.parseLong(retentionPeriodElement.getText()));
+            }
+            OMElement maxChangesElement = deltaSyncElement
+                    .getFirstChildWithName(new QName(APIConstants.DELTA_SYNC_MAX_CHANGES));
+            if (maxChangesElement != null) {
+                deltaSyncConfiguration.setMaxChanges(Integer.parseInt(maxChangesElement.getText()));
+            }
+            OMElement syncIntervalElement = deltaSyncElement
+                    .getFirstChildWithName(new QName(APIConstants.DELTA_SYNC_INTERVAL));
+            if (syncIntervalElement != null) {
+                deltaSyncConfiguration.setSyncInterval(Long.parseLong(syncIntervalElement.getText()));
+            }
+        }
         this.eventHubConfigurationDto = eventHubConfigurationDto;
     }
 
@@ -2729,6 +2856,46 @@ public class APIManagerConfiguration {
             log.debug("Gateway Startup mode is not set. Set to Sync Mode");
         }
 
+        OMElement deploymentParallelismElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_PARALLELISM));
+        if (deploymentParallelismElement != null) {
+            int deploymentParallelism = Integer.parseInt(deploymentParallelismElement.getText());
+            gatewayArtifactSynchronizerProperties.setDeploymentParallelism(deploymentParallelism);
+        } else {
+            log.debug("Deployment parallelism is not set. APIs are deployed one at a time");
+        }
+
+        OMElement deploymentEventCoalescingWindowElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_EVENT_COALESCING_WINDOW));
+        if (deploymentEventCoalescingWindowElement != null) {
+            long deploymentEventCoalescingWindow = Long.parseLong(deploymentEventCoalescingWindowElement.getText());
+            gatewayArtifactSynchronizerProperties.setDeploymentEventCoalescingWindow(deploymentEventCoalescingWindow);
+        }
+
+        OMElement snapshotElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.SNAPSHOT_CONFIG));
+        if (snapshotElement != null) {
+            OMElement snapshotEnableElement = snapshotElement.getFirstChildWithName(
+                    new QName(APIConstants.GatewayArtifactSynchronizer.ENABLE_CONFIG));
+            if (snapshotEnableElement != null) {
+                gatewayArtifactSynchronizerProperties.setSnapshotEnabled(
+                        Boolean.parseBoolean(snapshotEnableElement.getText()));
+            }
+            OMElement snapshotDirectoryElement = snapshotElement.getFirstChildWithName(
+                    new QName(APIConstants.GatewayArtifactSynchronizer.SNAPSHOT_DIRECTORY));
+            if (snapshotDirectoryElement != null) {
+                gatewayArtifactSynchronizerProperties.setSnapshotDirectory(snapshotDirectoryElement.getText());
+            }
+            OMElement snapshotMemoryMappedElement = snapshotElement.getFirstChildWithName(
+                    new QName(APIConstants.GatewayArtifactSynchronizer.SNAPSHOT_MEMORY_MAPPED));
+            if (snapshotMemoryMappedElement != null) {
+                gatewayArtifactSynchronizerProperties.setSnapshotMemoryMapped(
+                        Boolean.parseBoolean(snapshotMemoryMappedElement.getText()));
+            }
+        } else {
+            log.debug("Artifact snapshot is not configured. Artifacts are retrieved from the control plane at startup");
+        }
+
         OMElement gatewayLabelElement = omElement
                 .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.GATEWAY_LABELS_CONFIG));
         if (gatewayLabelElement != null) {
@@ -168,6 +168,7 @@ import org.wso2.carbon.apimgt.impl.token.ApiKeyGenerator;
 import org.wso2.carbon.apimgt.impl.token.ClaimsRetriever;
 import org.wso2.carbon.apimgt.impl.token.InternalAPIKeyGenerator;
 import org.wso2.carbon.apimgt.impl.utils.APIAuthenticationAdminClient;
+import org.wso2.carbon.apimgt.impl.utils.APIListingUtil;
 import org.wso2.carbon.apimgt.impl.utils.APIMWSDLReader;
 import org.wso2.carbon.apimgt.impl.utils.APINameComparator;
 import org.wso2.carbon.apimgt.impl.utils.APIProductNameComparator;
@@ -571,6 +572,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while persisting API. " + e.getMessage(), e);
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, api.getOrganization(), api.getUuid(), false);
 
         if (log.isDebugEnabled()) {
             log.debug("API details successfully added to the registry. API Name: " + api.getId().getApiName()
@@ -1077,6 +1079,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while updating API details. " + e.getMessage(), e);
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, organization, api.getUuid(), false);
         APIUtil.logAuditMessage(APIConstants.AuditLogConstants.API, apiLogObject.toString(),
                 APIConstants.AuditLogConstants.UPDATED, this.username);
 
@@ -2556,6 +2559,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while updating API details", e);
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, organization, existingApiId, false);
         return getAPIbyUUID(newAPIId, organization);
     }
 
@@ -2957,6 +2961,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
 
         try {
             apiPersistenceInstance.deleteAPI(new Organization(organization), apiUuid);
+            APIListingUtil.removeListing(organization, apiUuid);
             log.debug("API " + apiUuid + " on organization " + organization +
                     " has successfully removed from the persistence instance.");
         } catch (APIPersistenceException e) {
@@ -4001,6 +4006,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while updating API details", e);
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, api.getOrganization(), api.getUuid(), false);
     }
 
     /**
@@ -5060,6 +5066,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
             deleteAPIProductRevisions(apiProduct.getUuid(), apiProduct.getOrganization());
 
             apiPersistenceInstance.deleteAPIProduct(new Organization(apiProduct.getOrganization()), apiProduct.getUuid());
+            APIListingUtil.removeListing(apiProduct.getOrganization(), apiProduct.getUuid());
             apiMgtDAO.deleteAPIProduct(identifier);
             cleanUpPendingAPIStateChangeTask(apiProduct.getProductId(), true);
             if (log.isDebugEnabled()) {
@@ -5331,6 +5338,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while creating API product. " + e.getMessage(), e);
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, apiProduct.getOrganization(), apiProductUUID, true);
 
 
         return apiProductUUID;
@@ -5364,6 +5372,8 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         } catch (APIPersistenceException e) {
             throw new APIManagementException("Error while creating API product. " + e.getMessage());
         }
+        APIListingUtil.refreshListing(apiPersistenceInstance, apiProduct.getOrganization(), apiProduct.getUuid(),
+                true);
     }
 
     public void updateProductResourceMappings(API api, String organization, List<APIProductResource> productResources)
@@ -6238,8 +6248,11 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
         Map<String, Object> properties = APIUtil.getUserProperties(userNameWithoutChange);
         UserContext userCtx = new UserContext(userNameWithoutChange, org, properties, roles);
         try {
-            PublisherAPISearchResult searchAPIs = apiPersistenceInstance.searchAPIsForPublisher(org, searchQuery,
-                    start, end, userCtx);
+            PublisherAPISearchResult searchAPIs = APIListingUtil.searchAPIsForPublisher(apiPersistenceInstance, org,
+                    searchQuery, start, end, userCtx);
+            if (searchAPIs == null) {
+                searchAPIs = apiPersistenceInstance.searchAPIsForPublisher(org, searchQuery, start, end, userCtx);
+            }
             if (log.isDebugEnabled()) {
                 log.debug("searched APIs for query : " + searchQuery + " :-->: " + searchAPIs.toString());
             }
@@ -6604,6 +6617,8 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
                 // It was decided after discussion to fix the deletion (U2 update) through the same originally used PUT
                 apiPersistenceInstance.deleteThumbnail(new Organization(organization), apiId);
             }
+            APIListingUtil.refreshListing(apiPersistenceInstance, organization, apiId,
+                    APIConstants.API_PRODUCT.equals(apiMgtDAO.getAPITypeFromUUID(apiId)));
         } catch (ThumbnailPersistenceException e) {
             if (e.getErrorHandler() == ExceptionCodes.API_NOT_FOUND) {
                 throw new APIMgtResourceNotFoundException(e);
@@ -7548,6 +7563,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
                     ERROR_RESTORING_API_REVISION, apiRevision.getApiUUID()));
         }
         apiMgtDAO.restoreAPIRevision(apiRevision, organization);
+        APIListingUtil.refreshListing(apiPersistenceInstance, organization, apiId, false);
     }
 
     /**
@@ -7807,6 +7823,7 @@ class APIProviderImpl extends AbstractAPIManager implements APIProvider {
                     ERROR_RESTORING_API_REVISION, apiRevision.getApiUUID()));
         }
         apiMgtDAO.restoreAPIProductRevision(apiRevision, organization);
+        APIListingUtil.refreshListing(apiPersistenceInstance, organization, apiProductId, true);
     }
 
     @Override
@@ -112,14 +112,6 @@ public class CacheProvider {
     public static Cache getJWTClaimCache() {
         return getCache(APIConstants.CLAIMS_APIM_CACHE);
     }
-    /**
-     *
-     * @return SignedJWT ParsedCache
-     */
-    public static Cache getGatewaySignedJWTParseCache() {
-
-        return getCache(APIConstants.GATEWAY_SIGNED_JWT_CACHE);
-    }
     /**
      * @return Gateway API Key cache
      */
@@ -388,22 +380,6 @@ public class CacheProvider {
         }
     }
 
-    /**
-     * Create and return GATEWAY_SIGNED_JWT_CACHE
-     */
-    public static Cache createParsedSignJWTCache() {
-        String apimGWCacheExpiry = getApiManagerConfiguration().getFirstProperty(APIConstants.TOKEN_CACHE_EXPIRY);
-        if (apimGWCacheExpiry != null) {
-            return getCache(APIConstants.API_MANAGER_CACHE_MANAGER, APIConstants
-                    .GATEWAY_SIGNED_JWT_CACHE, Long.parseLong(apimGWCacheExpiry), Long.parseLong
-                    (apimGWCacheExpiry));
-        } else {
-            long defaultCacheTimeout = getDefaultCacheTimeout();
-            return getCache(APIConstants.API_MANAGER_CACHE_MANAGER, APIConstants
-                    .GATEWAY_SIGNED_JWT_CACHE, defaultCacheTimeout, defaultCacheTimeout);
-        }
-    }
-
     /**
      * Create and return GATEWAY_SIGNED_JWT_CACHE
      */
@@ -599,8 +575,6 @@ public class CacheProvider {
                 getTenantConfigCache().getName());
         Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).removeCache(CacheProvider.
                 getRecommendationsCache().getName());
-        Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER)
-                .removeCache(CacheProvider.getGatewaySignedJWTParseCache().getName());
         Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER)
                 .removeCache(CacheProvider.getGatewayIntrospectCache().getName());
     }
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dao;
+
+import org.apache.commons.lang3.StringUtils;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants.APIListingConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIListingDTO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingSearchDTO;
+import org.wso2.carbon.apimgt.impl.factory.SQLConstantManagerFactory;
+import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Database access for the API listing read model, which keeps a listing projection of each API and API Product in
+ * the AM_API_LISTING table, along with the roles, organizations and tags the listings are filtered on in the
+ * AM_API_LISTING_FILTER table.
+ */
+public class APIListingDAO {
+
+    public static final String FILTER_TYPE_PUBLISHER_ROLE = "PUBLISHER_ROLE";
+    public static final String FILTER_TYPE_DEVPORTAL_ROLE = "DEVPORTAL_ROLE";
+    public static final String FILTER_TYPE_ORGANIZATION = "ORGANIZATION";
+    public static final String FILTER_TYPE_TAG = "TAG";
+
+    private static final APIListingDAO INSTANCE = new APIListingDAO();
+
+    private APIListingDAO() {
+
+    }
+
+    public static APIListingDAO getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Adds the listing of an API, or replaces it if the API is already listed, along with its filters and rating.
+     *
+     * @param listing listing of the API
+     * @throws APIManagementException if the listing could not be stored
+     */
+    public void addOrUpdateListing(APIListingDTO listing) throws APIManagementException {
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int updated;
+                try (PreparedStatement ps = connection.prepareStatement(APIListingConstants.UPDATE_API_LISTING_SQL)) {
+                    setListingParameters(ps, listing);
+                    updated = ps.executeUpdate();
+                }
+                if (updated == 0) {
+                    try (PreparedStatement ps = connection.prepareStatement(APIListingConstants.ADD_API_LISTING_SQL)) {
+                        setListingParameters(ps, listing);
+                        ps.executeUpdate();
+                    }
+                }
+                try (PreparedStatement ps = connection.prepareStatement(
+                        APIListingConstants.DELETE_API_LISTING_FILTERS_SQL)) {
+                    ps.setString(1, listing.getUuid());
+                    ps.executeUpdate();
+                }
+                try (PreparedStatement ps = connection.prepareStatement(
+                        APIListingConstants.ADD_API_LISTING_FILTER_SQL)) {
+                    addFilters(ps, listing.getUuid(), FILTER_TYPE_PUBLISHER_ROLE, listing.getPublisherRoles());
+                    addFilters(ps, listing.getUuid(), FILTER_TYPE_DEVPORTAL_ROLE, listing.getDevPortalRoles());
+                    addFilters(ps, listing.getUuid(), FILTER_TYPE_ORGANIZATION, listing.getVisibleOrganizations());
+                    addFilters(ps, listing.getUuid(), FILTER_TYPE_TAG, listing.getTags());
+                    ps.executeBatch();
+                }
+                updateRating(connection, listing.getUuid());
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while storing the listing of API " + listing.getUuid(), e);
+        }
+    }
+
+    /**
+     * Removes the listing of an API along with its filters.
+     *
+     * @param uuid UUID of the API
+     * @throws APIManagementException if the listing could not be removed
+     */
+    public void deleteListing(String uuid) throws APIManagementException {
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement deleteFilters = connection.prepareStatement(
+                    APIListingConstants.DELETE_API_LISTING_FILTERS_SQL);
+                 PreparedStatement deleteListing = connection.prepareStatement(
+                         APIListingConstants.DELETE_API_LISTING_SQL)) {
+                deleteFilters.setString(1, uuid);
+                deleteFilters.executeUpdate();
+                deleteListing.setString(1, uuid);
+                deleteListing.executeUpdate();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while removing the listing of API " + uuid, e);
+        }
+    }
+
+    /**
+     * Recomputes the rating of a listed API from its ratings.
+     *
+     * @param uuid UUID of the API
+     * @throws APIManagementException if the rating could not be updated
+     */
+    public void updateRating(String uuid) throws APIManagementException {
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            updateRating(connection, uuid);
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while updating the listed rating of API " + uuid, e);
+        }
+    }
+
+    /**
+     * @param organization organization of the APIs
+     * @return the types of the APIs of the organization which are not listed yet, by the UUIDs of the APIs
+     * @throws APIManagementException if the APIs could not be retrieved
+     */
+    public Map<String, String> getAPIsWithoutListing(String organization) throws APIManagementException {
+
+        Map<String, String> apis = new HashMap<>();
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(APIListingConstants.GET_APIS_WITHOUT_LISTING_SQL)) {
+            ps.setString(1, organization);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    apis.put(rs.getString("API_UUID"), rs.getString("API_TYPE"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while retrieving the APIs without a listing of organization "
+                    + organization, e);
+        }
+        return apis;
+    }
+
+    /**
+     * Returns a page of the listings matching the given criteria, sorted by name and version.
+     *
+     * @param search criteria of the listing
+     * @param start  index of the first listing to return
+     * @param count  maximum number of listings to return
+     * @return the matching listings
+     * @throws APIManagementException if the listings could not be retrieved
+     */
+    public List<APIListingDTO> searchListings(APIListingSearchDTO search, int start, int count)
+            throws APIManagementException {
+
+        List<String> params = new ArrayList<>();
+        String query = SQLConstantManagerFactory.getSQlString("SEARCH_API_LISTINGS_SQL").replace("$conditions",
+                buildConditions(search, params));
+        List<APIListingDTO> listings = new ArrayList<>();
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(query)) {
+            setParameters(ps, params);
+            ps.setInt(params.size() + 1, start);
+            ps.setInt(params.size() + 2, count);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    APIListingDTO listing = new APIListingDTO();
+                    listing.setUuid(rs.getString("API_UUID"));
+                    listing.setOrganization(search.getOrganization());
+                    listing.setType(rs.getString("API_TYPE"));
+                    listing.setName(rs.getString("API_NAME"));
+                    listing.setVersion(rs.getString("API_VERSION"));
+                    listing.setContext(rs.getString("CONTEXT"));
+                    listing.setProvider(rs.getString("API_PROVIDER"));
+                    listing.setStatus(rs.getString("STATUS"));
+                    listing.setThumbnailUrl(rs.getString("THUMBNAIL_URL"));
+                    listing.setRatingTotal(rs.getInt("RATING_TOTAL"));
+                    listing.setRatingCount(rs.getInt("RATING_COUNT"));
+                    listing.setListingInfo(APIMgtDBUtil.getStringFromInputStream(
+                            rs.getBinaryStream("LISTING_INFO")));
+                    listing.setUpdatedTime(rs.getLong("UPDATED_TIME"));
+                    listings.add(listing);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while retrieving the API listings of organization "
+                    + search.getOrganization(), e);
+        }
+        return listings;
+    }
+
+    /**
+     * @param search criteria of the listing
+     * @return the number of listings matching the given criteria
+     * @throws APIManagementException if the listings could not be counted
+     */
+    public int getListingCount(APIListingSearchDTO search) throws APIManagementException {
+
+        List<String> params = new ArrayList<>();
+        String query = APIListingConstants.COUNT_API_LISTINGS_SQL.replace("$conditions",
+                buildConditions(search, params));
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(query)) {
+            setParameters(ps, params);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt("LISTING_COUNT") : 0;
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while counting the API listings of organization "
+                    + search.getOrganization(), e);
+        }
+    }
+
+    private static void updateRating(Connection connection, String uuid) throws SQLException {
+
+        try (PreparedStatement ps = connection.prepareStatement(APIListingConstants.UPDATE_API_LISTING_RATING_SQL)) {
+            ps.setString(1, uuid);
+            ps.setString(2, uuid);
+            ps.setString(3, uuid);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Sets the parameters shared by the insert and update statements of a listing, which list the columns in the
+     * same order.
+     */
+    private static void setListingParameters(PreparedStatement ps, APIListingDTO listing) throws SQLException {
+
+        ps.setString(1, listing.getOrganization());
+        ps.setString(2, listing.getType());
+        ps.setString(3, listing.getName());
+        ps.setString(4, listing.getVersion());
+        ps.setString(5, listing.getVersionComparable());
+        ps.setString(6, listing.getContext());
+        ps.setString(7, listing.getProvider());
+        ps.setString(8, listing.getStatus());
+        ps.setString(9, listing.getVisibility());
+        ps.setInt(10, listing.isEnableStore() ? 1 : 0);
+        ps.setString(11, listing.getThumbnailUrl());
+        if (listing.getListingInfo() != null) {
+            ps.setBinaryStream(12, new ByteArrayInputStream(listing.getListingInfo()
+                    .getBytes(StandardCharsets.UTF_8)));
+        } else {
+            ps.setNull(12, Types.BLOB);
+        }
+        ps.setLong(13, listing.getUpdatedTime());
+        ps.setString(14, listing.getUuid());
+    }
+
+    private static void addFilters(PreparedStatement ps, String uuid, String filterType, Collection<String> values)
+            throws SQLException {
+
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            if (StringUtils.isNotEmpty(value)) {
+                ps.setString(1, uuid);
+                ps.setString(2, filterType);
+                ps.setString(3, value);
+                ps.addBatch();
+            }
+        }
+    }
+
+    /**
+     * Builds the conditions of a listing query on the listing table aliased L, adding their parameters to the given
+     * list in the order they appear in.
+     */
+    private static String buildConditions(APIListingSearchDTO search, List<String> params) {
+
+        String conditions = buildConditions(search, "L", params);
+        if (search.isLatestVersionsOnly()) {
+            conditions += APIListingConstants.LATEST_VERSION_CONDITION.replace("$conditions",
+                    buildConditions(search, "L2", params));
+        }
+        return conditions;
+    }
+
+    private static String buildConditions(APIListingSearchDTO search, String alias, List<String> params) {
+
+        StringBuilder conditions = new StringBuilder(inList(APIListingConstants.TYPE_CONDITION, "$types",
+                search.getTypes().size()));
+        params.add(search.getOrganization());
+        params.addAll(search.getTypes());
+        if (search.getStatuses() != null) {
+            conditions.append(inList(APIListingConstants.STATUS_CONDITION, "$statuses", search.getStatuses().size()));
+            params.addAll(search.getStatuses());
+        }
+        if (search.isEnabledInStoreOnly()) {
+            conditions.append(APIListingConstants.ENABLE_STORE_CONDITION);
+        }
+        if (search.getTag() != null) {
+            conditions.append(APIListingConstants.TAG_CONDITION);
+            params.add(search.getTag());
+        }
+        if (search.getPublisherRoles() != null) {
+            conditions.append(inList(APIListingConstants.PUBLISHER_ROLE_CONDITION, "$roles",
+                    search.getPublisherRoles().size()));
+            params.addAll(search.getPublisherRoles());
+        }
+        if (search.isPublicOnly()) {
+            conditions.append(APIListingConstants.PUBLIC_VISIBILITY_CONDITION);
+        } else if (search.getDevPortalRoles() != null) {
+            conditions.append(inList(APIListingConstants.DEVPORTAL_ROLE_CONDITION, "$roles",
+                    search.getDevPortalRoles().size()));
+            // The roles are matched against both the visible roles and the publisher access control roles
+            params.addAll(search.getDevPortalRoles());
+            params.addAll(search.getDevPortalRoles());
+        }
+        if (search.getVisibleOrganizations() != null) {
+            conditions.append(inList(APIListingConstants.ORGANIZATION_CONDITION, "$organizations",
+                    search.getVisibleOrganizations().size()));
+            params.addAll(search.getVisibleOrganizations());
+        }
+        return conditions.toString().replace("$alias", alias);
+    }
+
+    /**
+     * Replaces the given list placeholder with as many parameters as there are values, or with NULL, which matches
+     * nothing, if there are none.
+     */
+    private static String inList(String condition, String placeholder, int size) {
+
+        if (size == 0) {
+            return condition.replace(placeholder, "NULL");
+        }
+        return condition.replace(placeholder, String.join(",", Collections.nCopies(size, "?")));
+    }
+
+    private static void setParameters(PreparedStatement ps, List<String> params) throws SQLException {
+
+        for (int i = 0; i < params.size(); i++) {
+            ps.setString(i + 1, params.get(i));
+        }
+    }
+}
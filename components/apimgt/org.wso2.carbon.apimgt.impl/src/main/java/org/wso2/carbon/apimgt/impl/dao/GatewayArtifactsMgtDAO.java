@@ -799,6 +799,50 @@ public class GatewayArtifactsMgtDAO {
         return apiRuntimeArtifactDtoList;
     }
 
+    /**
+     * Retrieves the API revisions deployed in the given gateway labels of a tenant, without the artifacts of the
+     * revisions.
+     *
+     * @param labels       gateway labels
+     * @param tenantDomain tenant domain, or null to retrieve the revisions of all tenants
+     * @return runtime artifact DTOs with the API ID, revision, label and vhost of each deployment
+     * @throws APIManagementException if an error occurs while retrieving the revisions
+     */
+    public List<APIRuntimeArtifactDto> retrieveGatewayArtifactRevisionsByLabel(String[] labels, String tenantDomain)
+            throws APIManagementException {
+
+        String query = tenantDomain != null ? SQLConstants.RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL :
+                SQLConstants.RETRIEVE_ALL_ARTIFACT_REVISIONS_BY_LABEL;
+        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                String.join(",", Collections.nCopies(labels.length, "?")));
+        List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList = new ArrayList<>();
+        try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (String label : labels) {
+                preparedStatement.setString(index, label);
+                index++;
+            }
+            if (tenantDomain != null) {
+                preparedStatement.setString(index, tenantDomain);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+                    apiRuntimeArtifactDto.setApiId(resultSet.getString("API_ID"));
+                    apiRuntimeArtifactDto.setRevision(resultSet.getString("REVISION_ID"));
+                    apiRuntimeArtifactDto.setLabel(resultSet.getString("LABEL"));
+                    apiRuntimeArtifactDto.setVhost(resultSet.getString("VHOST"));
+                    apiRuntimeArtifactDtoList.add(apiRuntimeArtifactDto);
+                }
+            }
+        } catch (SQLException e) {
+            handleException("Failed to retrieve deployed revisions for labels : " + StringUtils.join(",", labels),
+                    e);
+        }
+        return apiRuntimeArtifactDtoList;
+    }
+
     public List<APIRuntimeArtifactDto> retrieveGatewayArtifacts(String tenantDomain)
             throws APIManagementException {
 
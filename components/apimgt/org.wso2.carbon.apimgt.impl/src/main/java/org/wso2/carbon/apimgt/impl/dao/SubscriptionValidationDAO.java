@@ -44,6 +44,7 @@ import org.wso2.carbon.apimgt.api.model.subscription.ApplicationPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.GlobalPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.Policy;
 import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
 import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -57,8 +58,10 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -1787,4 +1790,129 @@ public class SubscriptionValidationDAO {
         subscriptionDetails.put("uuid", subscriptionUUID);
         return subscriptionDetails;
     }
+
+    /**
+     * Records a change of the subscription data in the change log.
+     *
+     * @param tenantDomain tenant domain the change belongs to
+     * @param eventType    type of the event of the change
+     * @param event        event of the change serialized as JSON
+     * @param changedTime  time of the change
+     * @throws APIManagementException if the change could not be recorded
+     */
+    public void addSubscriptionDataChange(String tenantDomain, String eventType, String event, long changedTime)
+            throws APIManagementException {
+
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps =
+                     conn.prepareStatement(SubscriptionValidationSQLConstants.ADD_SUBSCRIPTION_DATA_CHANGE_SQL)) {
+            ps.setString(1, tenantDomain);
+            ps.setString(2, eventType);
+            ps.setBinaryStream(3, new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)));
+            ps.setLong(4, changedTime);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while recording the " + eventType + " change of tenant "
+                    + tenantDomain, e);
+        }
+    }
+
+    /**
+     * Returns the changes of the subscription data of a tenant recorded after the given change, in the order they
+     * were recorded.
+     *
+     * @param tenantDomain  tenant domain
+     * @param sinceChangeId sequence of the last change known to the caller
+     * @param limit         maximum number of changes to return
+     * @return the changes recorded after the given change
+     * @throws APIManagementException if the changes could not be read
+     */
+    public List<SubscriptionDataChange> getSubscriptionDataChanges(String tenantDomain, long sinceChangeId,
+                                                                   int limit) throws APIManagementException {
+
+        List<SubscriptionDataChange> changes = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps =
+                     conn.prepareStatement(SubscriptionValidationSQLConstants.GET_SUBSCRIPTION_DATA_CHANGES_SQL)) {
+            ps.setString(1, tenantDomain);
+            ps.setLong(2, sinceChangeId);
+            ps.setMaxRows(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                while (resultSet.next()) {
+                    SubscriptionDataChange change = new SubscriptionDataChange();
+                    change.setSequence(resultSet.getLong("CHANGE_ID"));
+                    change.setEventType(resultSet.getString("EVENT_TYPE"));
+                    change.setTimeStamp(resultSet.getLong("CHANGED_TIME"));
+                    try (InputStream event = resultSet.getBinaryStream("EVENT")) {
+                        if (event != null) {
+                            change.setEvent(APIMgtDBUtil.getStringFromInputStream(event));
+                        }
+                    }
+                    changes.add(change);
+                }
+            }
+        } catch (SQLException | IOException e) {
+            // callers must not move past changes they have not received
+            throw new APIManagementException("Error in loading the subscription data changes of tenant "
+                    + tenantDomain + " since " + sinceChangeId, e);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the sequence of the latest change recorded in the change log.
+     *
+     * @return the sequence of the latest change, or 0 if no change is recorded
+     * @throws APIManagementException if the sequence could not be read
+     */
+    public long getLatestSubscriptionDataChangeId() throws APIManagementException {
+
+        return getSubscriptionDataChangeId(
+                SubscriptionValidationSQLConstants.GET_LATEST_SUBSCRIPTION_DATA_CHANGE_ID_SQL);
+    }
+
+    /**
+     * Returns the sequence of the oldest change retained in the change log.
+     *
+     * @return the sequence of the oldest change, or 0 if no change is recorded
+     * @throws APIManagementException if the sequence could not be read
+     */
+    public long getOldestSubscriptionDataChangeId() throws APIManagementException {
+
+        return getSubscriptionDataChangeId(
+                SubscriptionValidationSQLConstants.GET_OLDEST_SUBSCRIPTION_DATA_CHANGE_ID_SQL);
+    }
+
+    private long getSubscriptionDataChangeId(String query) throws APIManagementException {
+
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(query);
+             ResultSet resultSet = ps.executeQuery()) {
+            if (resultSet.next()) {
+                return resultSet.getLong("CHANGE_ID");
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while reading the subscription data change log", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the changes recorded before the given time from the change log.
+     *
+     * @param changedBefore time before which the changes are removed
+     * @throws APIManagementException if the changes could not be removed
+     */
+    public void removeSubscriptionDataChanges(long changedBefore) throws APIManagementException {
+
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps =
+                     conn.prepareStatement(SubscriptionValidationSQLConstants.DELETE_SUBSCRIPTION_DATA_CHANGES_SQL)) {
+            ps.setLong(1, changedBefore);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while removing the subscription data changes recorded before "
+                    + changedBefore, e);
+        }
+    }
 }
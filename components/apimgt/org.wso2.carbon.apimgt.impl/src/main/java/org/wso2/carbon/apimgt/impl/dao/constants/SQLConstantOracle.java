@@ -391,6 +391,8 @@ public class SQLConstantOracle extends SQLConstants{
                 "AND PARENT_COMMENT_ID IS NULL " +
                 "ORDER BY AM_API_COMMENTS.CREATED_TIME DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
 
+    public static final String SEARCH_API_LISTINGS_SQL =
+            APIListingConstants.SEARCH_API_LISTINGS_SQL + " OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
 }
 
 
@@ -3193,6 +3193,27 @@ public class SQLConstants {
                     "AM_GW_API_ARTIFACTS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
                     "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
                     "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
+    public static final String RETRIEVE_ARTIFACT_REVISIONS_BY_LABEL =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST FROM " +
+                    "AM_GW_PUBLISHED_API_DETAILS,AM_GW_API_ARTIFACTS,AM_GW_API_DEPLOYMENTS,AM_API WHERE " +
+                    "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_) AND AM_GW_PUBLISHED_API_DETAILS.TENANT_DOMAIN " +
+                    "= ? " +
+                    "AND AM_GW_PUBLISHED_API_DETAILS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
+
+    public static final String RETRIEVE_ALL_ARTIFACT_REVISIONS_BY_LABEL =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST FROM " +
+                    "AM_GW_PUBLISHED_API_DETAILS,AM_GW_API_ARTIFACTS,AM_GW_API_DEPLOYMENTS,AM_API WHERE " +
+                    "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_) " +
+                    "AND AM_GW_PUBLISHED_API_DETAILS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
+                    "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
+
     public static final String RETRIEVE_ARTIFACTS =
             "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
                     "AM_GW_PUBLISHED_API_DETAILS.TENANT_DOMAIN AS TENANT_DOMAIN,AM_GW_PUBLISHED_API_DETAILS.API_PROVIDER AS " +
@@ -5064,4 +5085,59 @@ public class SQLConstants {
                 "DELETE FROM AM_GW_INSTANCE_ENV_MAPPING WHERE GATEWAY_ID = (SELECT GATEWAY_ID FROM AM_GW_INSTANCES WHERE GATEWAY_UUID = ? AND ORGANIZATION = ?)";
         public static final String SELECT_API_SQL = "SELECT 1 FROM AM_API WHERE API_UUID = ?";
     }
+
+    /**
+     * Static class to hold database queries related to AM_API_LISTING and AM_API_LISTING_FILTER tables. The listing
+     * queries are composed from the conditions below, where $alias is replaced with the alias of the listing table
+     * and the $ lists with as many parameters as there are values.
+     */
+    public static class APIListingConstants {
+        public static final String ADD_API_LISTING_SQL = "INSERT INTO AM_API_LISTING (ORGANIZATION, API_TYPE, "
+                + "API_NAME, API_VERSION, VERSION_COMPARABLE, CONTEXT, API_PROVIDER, STATUS, VISIBILITY, ENABLE_STORE, "
+                + "THUMBNAIL_URL, LISTING_INFO, UPDATED_TIME, API_UUID) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+        public static final String UPDATE_API_LISTING_SQL = "UPDATE AM_API_LISTING SET ORGANIZATION = ?, "
+                + "API_TYPE = ?, API_NAME = ?, API_VERSION = ?, VERSION_COMPARABLE = ?, CONTEXT = ?, API_PROVIDER = ?, "
+                + "STATUS = ?, VISIBILITY = ?, ENABLE_STORE = ?, THUMBNAIL_URL = ?, LISTING_INFO = ?, UPDATED_TIME = ? "
+                + "WHERE API_UUID = ?";
+        public static final String UPDATE_API_LISTING_RATING_SQL = "UPDATE AM_API_LISTING SET "
+                + "RATING_TOTAL = (SELECT COALESCE(SUM(R.RATING), 0) FROM AM_API_RATINGS R, AM_API A "
+                + "WHERE R.API_ID = A.API_ID AND A.API_UUID = ?), "
+                + "RATING_COUNT = (SELECT COUNT(R.RATING) FROM AM_API_RATINGS R, AM_API A "
+                + "WHERE R.API_ID = A.API_ID AND A.API_UUID = ?) WHERE API_UUID = ?";
+        public static final String DELETE_API_LISTING_SQL = "DELETE FROM AM_API_LISTING WHERE API_UUID = ?";
+        public static final String ADD_API_LISTING_FILTER_SQL = "INSERT INTO AM_API_LISTING_FILTER (API_UUID, "
+                + "FILTER_TYPE, FILTER_VALUE) VALUES (?,?,?)";
+        public static final String DELETE_API_LISTING_FILTERS_SQL =
+                "DELETE FROM AM_API_LISTING_FILTER WHERE API_UUID = ?";
+        public static final String GET_APIS_WITHOUT_LISTING_SQL = "SELECT API.API_UUID, API.API_TYPE FROM AM_API API "
+                + "WHERE API.ORGANIZATION = ? AND NOT EXISTS "
+                + "(SELECT 1 FROM AM_API_LISTING L WHERE L.API_UUID = API.API_UUID)";
+        public static final String SEARCH_API_LISTINGS_SQL = "SELECT L.API_UUID, L.API_TYPE, L.API_NAME, "
+                + "L.API_VERSION, L.CONTEXT, L.API_PROVIDER, L.STATUS, L.THUMBNAIL_URL, L.RATING_TOTAL, "
+                + "L.RATING_COUNT, L.LISTING_INFO, L.UPDATED_TIME FROM AM_API_LISTING L WHERE $conditions "
+                + "ORDER BY L.API_NAME, L.API_VERSION, L.API_UUID";
+        public static final String COUNT_API_LISTINGS_SQL =
+                "SELECT COUNT(*) AS LISTING_COUNT FROM AM_API_LISTING L WHERE $conditions";
+
+        public static final String TYPE_CONDITION = "$alias.ORGANIZATION = ? AND $alias.API_TYPE IN ($types)";
+        public static final String STATUS_CONDITION = " AND $alias.STATUS IN ($statuses)";
+        public static final String ENABLE_STORE_CONDITION = " AND $alias.ENABLE_STORE = 1";
+        public static final String TAG_CONDITION = " AND EXISTS (SELECT 1 FROM AM_API_LISTING_FILTER F "
+                + "WHERE F.API_UUID = $alias.API_UUID AND F.FILTER_TYPE = 'TAG' AND F.FILTER_VALUE = ?)";
+        public static final String PUBLISHER_ROLE_CONDITION = " AND (NOT EXISTS (SELECT 1 FROM "
+                + "AM_API_LISTING_FILTER F WHERE F.API_UUID = $alias.API_UUID AND F.FILTER_TYPE = 'PUBLISHER_ROLE') "
+                + "OR EXISTS (SELECT 1 FROM AM_API_LISTING_FILTER F WHERE F.API_UUID = $alias.API_UUID "
+                + "AND F.FILTER_TYPE = 'PUBLISHER_ROLE' AND F.FILTER_VALUE IN ($roles)))";
+        public static final String PUBLIC_VISIBILITY_CONDITION =
+                " AND ($alias.VISIBILITY IS NULL OR $alias.VISIBILITY = 'public')";
+        public static final String DEVPORTAL_ROLE_CONDITION = " AND ($alias.VISIBILITY IS NULL "
+                + "OR $alias.VISIBILITY IN ('public', 'private') OR (EXISTS (SELECT 1 FROM AM_API_LISTING_FILTER F "
+                + "WHERE F.API_UUID = $alias.API_UUID AND F.FILTER_TYPE = 'DEVPORTAL_ROLE' "
+                + "AND F.FILTER_VALUE IN ($roles))" + PUBLISHER_ROLE_CONDITION + "))";
+        public static final String ORGANIZATION_CONDITION = " AND EXISTS (SELECT 1 FROM AM_API_LISTING_FILTER F "
+                + "WHERE F.API_UUID = $alias.API_UUID AND F.FILTER_TYPE = 'ORGANIZATION' "
+                + "AND F.FILTER_VALUE IN ($organizations))";
+        public static final String LATEST_VERSION_CONDITION = " AND NOT EXISTS (SELECT 1 FROM AM_API_LISTING L2 "
+                + "WHERE L2.API_NAME = L.API_NAME AND L2.VERSION_COMPARABLE > L.VERSION_COMPARABLE AND $conditions)";
+    }
 }
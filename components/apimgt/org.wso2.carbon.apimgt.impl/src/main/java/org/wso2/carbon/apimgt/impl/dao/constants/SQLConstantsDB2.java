@@ -378,6 +378,8 @@ public class SQLConstantsDB2 extends SQLConstants{
                 "AND PARENT_COMMENT_ID IS NULL " +
                 "ORDER BY AM_API_COMMENTS.CREATED_TIME DESC LIMIT ? , ?";
 
+    public static final String SEARCH_API_LISTINGS_SQL =
+            APIListingConstants.SEARCH_API_LISTINGS_SQL + " LIMIT ?, ?";
 }
 
 
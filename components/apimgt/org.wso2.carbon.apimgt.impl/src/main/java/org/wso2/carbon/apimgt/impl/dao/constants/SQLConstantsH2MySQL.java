@@ -387,4 +387,7 @@ public class SQLConstantsH2MySQL extends SQLConstants{
                 "AND API.API_ID = AM_API_COMMENTS.API_ID " +
                 "AND PARENT_COMMENT_ID IS NULL " +
                 "ORDER BY AM_API_COMMENTS.CREATED_TIME DESC LIMIT ?, ?";
+
+    public static final String SEARCH_API_LISTINGS_SQL =
+            APIListingConstants.SEARCH_API_LISTINGS_SQL + " LIMIT ?, ?";
 }
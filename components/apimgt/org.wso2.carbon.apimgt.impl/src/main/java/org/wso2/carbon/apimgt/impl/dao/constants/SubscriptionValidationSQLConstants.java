@@ -695,4 +695,29 @@ public class SubscriptionValidationSQLConstants {
                 "ON AM_API_URL_MAPPING.API_ID=AM_API.API_ID " +
             "WHERE AM_API_OPERATION_MAPPING.URL_MAPPING_ID=?";
 
+    public static final String ADD_SUBSCRIPTION_DATA_CHANGE_SQL =
+            "INSERT INTO AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, EVENT_TYPE, EVENT, CHANGED_TIME) " +
+            "VALUES (?,?,?,?)";
+
+    public static final String GET_SUBSCRIPTION_DATA_CHANGES_SQL =
+            "SELECT " +
+                "CHANGE_ID, " +
+                "EVENT_TYPE, " +
+                "EVENT, " +
+                "CHANGED_TIME " +
+            "FROM " +
+                "AM_SUBSCRIPTION_DATA_CHANGE " +
+            "WHERE " +
+                "TENANT_DOMAIN = ? AND CHANGE_ID > ? " +
+            "ORDER BY CHANGE_ID";
+
+    public static final String GET_LATEST_SUBSCRIPTION_DATA_CHANGE_ID_SQL =
+            "SELECT MAX(CHANGE_ID) AS CHANGE_ID FROM AM_SUBSCRIPTION_DATA_CHANGE";
+
+    public static final String GET_OLDEST_SUBSCRIPTION_DATA_CHANGE_ID_SQL =
+            "SELECT MIN(CHANGE_ID) AS CHANGE_ID FROM AM_SUBSCRIPTION_DATA_CHANGE";
+
+    public static final String DELETE_SUBSCRIPTION_DATA_CHANGES_SQL =
+            "DELETE FROM AM_SUBSCRIPTION_DATA_CHANGE WHERE CHANGED_TIME < ?";
+
 }
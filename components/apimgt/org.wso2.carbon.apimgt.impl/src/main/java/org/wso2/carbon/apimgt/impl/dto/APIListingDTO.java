@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dto;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Listing projection of an API or an API Product, as kept in the AM_API_LISTING and AM_API_LISTING_FILTER tables.
+ * The columns hold what listings are filtered and sorted on, while the remaining attributes shown in listings are
+ * kept as JSON in the listing info.
+ */
+public class APIListingDTO {
+
+    private String uuid;
+    private String organization;
+    private String type;
+    private String name;
+    private String version;
+    private String versionComparable;
+    private String context;
+    private String provider;
+    private String status;
+    private String visibility;
+    private boolean enableStore = true;
+    private String thumbnailUrl;
+    private int ratingTotal;
+    private int ratingCount;
+    private String listingInfo;
+    private long updatedTime;
+    private Set<String> publisherRoles = new LinkedHashSet<>();
+    private Set<String> devPortalRoles = new LinkedHashSet<>();
+    private Set<String> visibleOrganizations = new LinkedHashSet<>();
+    private Set<String> tags = new LinkedHashSet<>();
+
+    public String getUuid() {
+
+        return uuid;
+    }
+
+    public void setUuid(String uuid) {
+
+        this.uuid = uuid;
+    }
+
+    public String getOrganization() {
+
+        return organization;
+    }
+
+    public void setOrganization(String organization) {
+
+        this.organization = organization;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    public void setType(String type) {
+
+        this.type = type;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public void setName(String name) {
+
+        this.name = name;
+    }
+
+    public String getVersion() {
+
+        return version;
+    }
+
+    public void setVersion(String version) {
+
+        this.version = version;
+    }
+
+    public String getVersionComparable() {
+
+        return versionComparable;
+    }
+
+    public void setVersionComparable(String versionComparable) {
+
+        this.versionComparable = versionComparable;
+    }
+
+    public String getContext() {
+
+        return context;
+    }
+
+    public void setContext(String context) {
+
+        this.context = context;
+    }
+
+    public String getProvider() {
+
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+
+        this.provider = provider;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(String status) {
+
+        this.status = status;
+    }
+
+    public String getVisibility() {
+
+        return visibility;
+    }
+
+    public void setVisibility(String visibility) {
+
+        this.visibility = visibility;
+    }
+
+    public boolean isEnableStore() {
+
+        return enableStore;
+    }
+
+    public void setEnableStore(boolean enableStore) {
+
+        this.enableStore = enableStore;
+    }
+
+    public String getThumbnailUrl() {
+
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public int getRatingTotal() {
+
+        return ratingTotal;
+    }
+
+    public void setRatingTotal(int ratingTotal) {
+
+        this.ratingTotal = ratingTotal;
+    }
+
+    public int getRatingCount() {
+
+        return ratingCount;
+    }
+
+    public void setRatingCount(int ratingCount) {
+
+        this.ratingCount = ratingCount;
+    }
+
+    public String getListingInfo() {
+
+        return listingInfo;
+    }
+
+    public void setListingInfo(String listingInfo) {
+
+        this.listingInfo = listingInfo;
+    }
+
+    public long getUpdatedTime() {
+
+        return updatedTime;
+    }
+
+    public void setUpdatedTime(long updatedTime) {
+
+        this.updatedTime = updatedTime;
+    }
+
+    public Set<String> getPublisherRoles() {
+
+        return publisherRoles;
+    }
+
+    public void setPublisherRoles(Set<String> publisherRoles) {
+
+        this.publisherRoles = publisherRoles;
+    }
+
+    public Set<String> getDevPortalRoles() {
+
+        return devPortalRoles;
+    }
+
+    public void setDevPortalRoles(Set<String> devPortalRoles) {
+
+        this.devPortalRoles = devPortalRoles;
+    }
+
+    public Set<String> getVisibleOrganizations() {
+
+        return visibleOrganizations;
+    }
+
+    public void setVisibleOrganizations(Set<String> visibleOrganizations) {
+
+        this.visibleOrganizations = visibleOrganizations;
+    }
+
+    public Set<String> getTags() {
+
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dto;
+
+import java.util.List;
+
+/**
+ * Criteria of a listing served from the API listing read model. Role and organization lists left null are not
+ * filtered on, as for admin users.
+ */
+public class APIListingSearchDTO {
+
+    private String organization;
+    private List<String> types;
+    private String tag;
+    private List<String> statuses;
+    private boolean enabledInStoreOnly;
+    private boolean latestVersionsOnly;
+    private boolean publicOnly;
+    private List<String> publisherRoles;
+    private List<String> devPortalRoles;
+    private List<String> visibleOrganizations;
+
+    public String getOrganization() {
+
+        return organization;
+    }
+
+    public void setOrganization(String organization) {
+
+        this.organization = organization;
+    }
+
+    public List<String> getTypes() {
+
+        return types;
+    }
+
+    public void setTypes(List<String> types) {
+
+        this.types = types;
+    }
+
+    public String getTag() {
+
+        return tag;
+    }
+
+    public void setTag(String tag) {
+
+        this.tag = tag;
+    }
+
+    public List<String> getStatuses() {
+
+        return statuses;
+    }
+
+    public void setStatuses(List<String> statuses) {
+
+        this.statuses = statuses;
+    }
+
+    public boolean isEnabledInStoreOnly() {
+
+        return enabledInStoreOnly;
+    }
+
+    public void setEnabledInStoreOnly(boolean enabledInStoreOnly) {
+
+        this.enabledInStoreOnly = enabledInStoreOnly;
+    }
+
+    public boolean isLatestVersionsOnly() {
+
+        return latestVersionsOnly;
+    }
+
+    public void setLatestVersionsOnly(boolean latestVersionsOnly) {
+
+        this.latestVersionsOnly = latestVersionsOnly;
+    }
+
+    public boolean isPublicOnly() {
+
+        return publicOnly;
+    }
+
+    public void setPublicOnly(boolean publicOnly) {
+
+        this.publicOnly = publicOnly;
+    }
+
+    public List<String> getPublisherRoles() {
+
+        return publisherRoles;
+    }
+
+    public void setPublisherRoles(List<String> publisherRoles) {
+
+        this.publisherRoles = publisherRoles;
+    }
+
+    public List<String> getDevPortalRoles() {
+
+        return devPortalRoles;
+    }
+
+    public void setDevPortalRoles(List<String> devPortalRoles) {
+
+        this.devPortalRoles = devPortalRoles;
+    }
+
+    public List<String> getVisibleOrganizations() {
+
+        return visibleOrganizations;
+    }
+
+    public void setVisibleOrganizations(List<String> visibleOrganizations) {
+
+        this.visibleOrganizations = visibleOrganizations;
+    }
+}
@@ -29,6 +29,9 @@ public class EventHubConfigurationDto {
     private EventHubReceiverConfiguration eventHubReceiverConfiguration;
     private EventHubPublisherConfiguration eventHubPublisherConfiguration ;
     private long eventWaitingTime = 0;
+    private SubscriptionDataLoaderConfiguration subscriptionDataLoaderConfiguration =
+            new SubscriptionDataLoaderConfiguration();
+    private DeltaSyncConfiguration deltaSyncConfiguration = new DeltaSyncConfiguration();
 
     public boolean isEnabled() {
 
@@ -117,6 +120,27 @@ public class EventHubConfigurationDto {
         this.eventHubPublisherConfiguration = eventHubPublisherConfiguration;
     }
 
+    public SubscriptionDataLoaderConfiguration getSubscriptionDataLoaderConfiguration() {
+
+        return subscriptionDataLoaderConfiguration;
+    }
+
+    public void setSubscriptionDataLoaderConfiguration(
+            SubscriptionDataLoaderConfiguration subscriptionDataLoaderConfiguration) {
+
+        this.subscriptionDataLoaderConfiguration = subscriptionDataLoaderConfiguration;
+    }
+
+    public DeltaSyncConfiguration getDeltaSyncConfiguration() {
+
+        return deltaSyncConfiguration;
+    }
+
+    public void setDeltaSyncConfiguration(DeltaSyncConfiguration deltaSyncConfiguration) {
+
+        this.deltaSyncConfiguration = deltaSyncConfiguration;
+    }
+
     public static class EventHubReceiverConfiguration {
         private Properties jmsConnectionParameters = new Properties();
 
@@ -177,4 +201,99 @@ public class EventHubConfigurationDto {
         }
     }
 
+    /**
+     * Configuration of loading the entities missing in the subscription data store from the internal API.
+     */
+    public static class SubscriptionDataLoaderConfiguration {
+
+        private long negativeCacheTTL = 5000;
+        private long entityTTL = 0;
+        private int bulkLoadThreshold = 50;
+
+        public long getNegativeCacheTTL() {
+
+            return negativeCacheTTL;
+        }
+
+        public void setNegativeCacheTTL(long negativeCacheTTL) {
+
+            this.negativeCacheTTL = negativeCacheTTL;
+        }
+
+        public long getEntityTTL() {
+
+            return entityTTL;
+        }
+
+        public void setEntityTTL(long entityTTL) {
+
+            this.entityTTL = entityTTL;
+        }
+
+        public int getBulkLoadThreshold() {
+
+            return bulkLoadThreshold;
+        }
+
+        public void setBulkLoadThreshold(int bulkLoadThreshold) {
+
+            this.bulkLoadThreshold = bulkLoadThreshold;
+        }
+    }
+
+    /**
+     * Configuration of synchronizing the subscription data of gateways with the changes recorded by the control plane
+     * instead of reloading all the data.
+     */
+    public static class DeltaSyncConfiguration {
+
+        private boolean enabled = false;
+        private long retentionPeriod = 86400000;
+        private int maxChanges = 10000;
+        private long syncInterval = 300000;
+
+        public boolean isEnabled() {
+
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+
+            this.enabled = enabled;
+        }
+
+        public long getRetentionPeriod() {
+
+            return retentionPeriod;
+        }
+
+        public void setRetentionPeriod(long retentionPeriod) {
+
+            this.retentionPeriod = retentionPeriod;
+        }
+
+        public int getMaxChanges() {
+
+            return maxChanges;
+        }
+
+        public void setMaxChanges(int maxChanges) {
+
+            this.maxChanges = maxChanges;
+        }
+
+        /**
+         * @return interval in milliseconds at which gateways apply the recorded changes while connected, so that the
+         * last change they have seen keeps up with the change log
+         */
+        public long getSyncInterval() {
+
+            return syncInterval;
+        }
+
+        public void setSyncInterval(long syncInterval) {
+
+            this.syncInterval = syncInterval;
+        }
+    }
 }
@@ -19,6 +19,11 @@ public class GatewayArtifactSynchronizerProperties {
     private double retryProgressionFactor = 2.0;
     private String gatewayStartup = "sync";
     private long eventWaitingTime = 1;
+    private int deploymentParallelism = 1;
+    private long deploymentEventCoalescingWindow = 0;
+    private boolean snapshotEnabled = false;
+    private String snapshotDirectory;
+    private boolean snapshotMemoryMapped = false;
     private boolean onDemandLoading;
     private boolean tenantLoading;
     private LoadingTenants loadingTenants = new LoadingTenants();
@@ -170,6 +175,71 @@ public class GatewayArtifactSynchronizerProperties {
         this.tenantLoading = tenantLoading;
     }
 
+    /**
+     * @return number of APIs deployed concurrently when all the APIs are deployed at once or as deployment events are
+     * received
+     */
+    public int getDeploymentParallelism() {
+
+        return deploymentParallelism;
+    }
+
+    public void setDeploymentParallelism(int deploymentParallelism) {
+
+        this.deploymentParallelism = deploymentParallelism;
+    }
+
+    /**
+     * @return time in milliseconds a deployment event of an API is held before it is applied, so that later events of
+     * the API received within that time supersede it
+     */
+    public long getDeploymentEventCoalescingWindow() {
+
+        return deploymentEventCoalescingWindow;
+    }
+
+    public void setDeploymentEventCoalescingWindow(long deploymentEventCoalescingWindow) {
+
+        this.deploymentEventCoalescingWindow = deploymentEventCoalescingWindow;
+    }
+
+    /**
+     * @return whether the deployed artifacts and subscription data are kept in a local snapshot which is served from
+     * at startup
+     */
+    public boolean isSnapshotEnabled() {
+
+        return snapshotEnabled;
+    }
+
+    public void setSnapshotEnabled(boolean snapshotEnabled) {
+
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    /**
+     * @return directory to keep the snapshots in, or null to use the default directory
+     */
+    public String getSnapshotDirectory() {
+
+        return snapshotDirectory;
+    }
+
+    public void setSnapshotDirectory(String snapshotDirectory) {
+
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    public boolean isSnapshotMemoryMapped() {
+
+        return snapshotMemoryMapped;
+    }
+
+    public void setSnapshotMemoryMapped(boolean snapshotMemoryMapped) {
+
+        this.snapshotMemoryMapped = snapshotMemoryMapped;
+    }
+
     public LoadingTenants getLoadingTenants() {
         return loadingTenants;
     }
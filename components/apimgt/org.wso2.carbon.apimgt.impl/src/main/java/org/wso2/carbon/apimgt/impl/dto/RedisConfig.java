@@ -44,6 +44,8 @@ public class RedisConfig {
     private String gatewayId;
     private long minGatewayCount;
     private long keyLockRetrievalTimeout;
+    // forced throttle param syncs are batched only if a batch interval in milliseconds is configured
+    private long syncBatchInterval = 0;
     private String hybridThrottleProcessorType;
     public int getMaxTotal() {
 
@@ -255,6 +257,14 @@ public class RedisConfig {
         return keyLockRetrievalTimeout;
     }
 
+    public void setSyncBatchInterval(long syncBatchInterval) {
+        this.syncBatchInterval = syncBatchInterval;
+    }
+
+    public long getSyncBatchInterval() {
+        return syncBatchInterval;
+    }
+
     public void setHybridThrottleProcessorType(String hybridThrottleProcessorType) {
         this.hybridThrottleProcessorType = hybridThrottleProcessorType;
     }
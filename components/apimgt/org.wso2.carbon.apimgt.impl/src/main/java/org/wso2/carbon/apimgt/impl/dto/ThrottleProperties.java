@@ -30,6 +30,8 @@ public class ThrottleProperties {
     private GlobalEngineWSConnection globalEngineWSConnection;
     private DataPublisherPool dataPublisherPool;
     private DataPublisherThreadPool dataPublisherThreadPool;
+    private DataPublisherEventBuffer dataPublisherEventBuffer;
+    private DataPublisherEventAggregation dataPublisherEventAggregation;
     private JMSConnectionProperties jmsConnectionProperties;
     private boolean enableUnlimitedTier;
     private String throttleDataSourceName;
@@ -71,6 +73,22 @@ public class ThrottleProperties {
         this.dataPublisherThreadPool = dataPublisherThreadPool;
     }
 
+    public DataPublisherEventBuffer getDataPublisherEventBuffer() {
+        return dataPublisherEventBuffer;
+    }
+
+    public void setDataPublisherEventBuffer(DataPublisherEventBuffer dataPublisherEventBuffer) {
+        this.dataPublisherEventBuffer = dataPublisherEventBuffer;
+    }
+
+    public DataPublisherEventAggregation getDataPublisherEventAggregation() {
+        return dataPublisherEventAggregation;
+    }
+
+    public void setDataPublisherEventAggregation(DataPublisherEventAggregation dataPublisherEventAggregation) {
+        this.dataPublisherEventAggregation = dataPublisherEventAggregation;
+    }
+
     public BlockCondition getBlockCondition() {
         return blockCondition;
     }
@@ -640,6 +658,101 @@ public class ThrottleProperties {
         }
     }
 
+    /**
+     * Configuration of the ring buffer used to hand throttle events over to the publishing threads instead of the
+     * data publisher thread pool.
+     */
+    public static class DataPublisherEventBuffer {
+        private boolean enabled = false;
+        private int size = 65536;
+        private int drainerCount = 4;
+        private int batchSize = 256;
+        private String backpressurePolicy = "DROP_OLDEST";
+        private int sampleRate = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public int getDrainerCount() {
+            return drainerCount;
+        }
+
+        public void setDrainerCount(int drainerCount) {
+            this.drainerCount = drainerCount;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public String getBackpressurePolicy() {
+            return backpressurePolicy;
+        }
+
+        public void setBackpressurePolicy(String backpressurePolicy) {
+            this.backpressurePolicy = backpressurePolicy;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    /**
+     * Configuration of the gateway side aggregation of throttle events. When enabled, events with the same throttle
+     * keys and properties are summed over the interval and published as a single weighted event.
+     */
+    public static class DataPublisherEventAggregation {
+        private boolean enabled = false;
+        private long interval = 500;
+        private int maxKeys = 100000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getInterval() {
+            return interval;
+        }
+
+        public void setInterval(long interval) {
+            this.interval = interval;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+    }
+
     public String[] getSkipRedeployingPolicies() {
         return skipRedeployingPolicies;
     }
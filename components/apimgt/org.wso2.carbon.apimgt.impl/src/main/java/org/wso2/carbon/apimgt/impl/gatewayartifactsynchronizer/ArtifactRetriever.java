@@ -22,6 +22,7 @@ import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.Artifac
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is a Artifact Retriever type. this interface let users to retriever API artifacts from a storage.
@@ -67,6 +68,27 @@ public interface ArtifactRetriever {
      */
      List<String> retrieveAllArtifacts(String gatewayLabel, String tenantDomain) throws ArtifactSynchronizerException;
 
+    /**
+     * This method is used to retrieve data from the storage and pass each artifact to the given consumer as soon as
+     * it is read, instead of holding all the artifacts in memory at once. Retrievers which cannot read the artifacts
+     * incrementally retrieve all of them first.
+     *
+     * @param gatewayLabel     - Label subscribed by the gateway
+     * @param tenantDomain     - Tenant Domain
+     * @param artifactConsumer - Consumer of each artifact, called in the order the artifacts are read
+     * @return Number of artifacts retrieved
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default int retrieveAllArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        List<String> artifacts = retrieveAllArtifacts(gatewayLabel, tenantDomain);
+        for (String artifact : artifacts) {
+            artifactConsumer.accept(artifact);
+        }
+        return artifacts.size();
+    }
+
     /**
      * Will be called after all publishing is done or if init fails
      */
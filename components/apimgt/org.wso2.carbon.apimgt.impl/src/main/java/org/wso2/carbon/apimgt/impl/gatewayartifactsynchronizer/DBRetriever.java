@@ -19,7 +19,10 @@
 package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +43,7 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -48,6 +52,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class DBRetriever implements ArtifactRetriever {
 
@@ -149,6 +154,67 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    @Override
+    public int retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        try {
+            String encodedGatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
+            String path = APIConstants.GatewayArtifactSynchronizer.GATEWAY_SYNAPSE_ARTIFACTS
+                    + "?gatewayLabel=" + encodedGatewayLabel + "&type=Synapse";
+            String endpoint = baseURL + path;
+            try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+                int statusCode = httpResponse.getStatusLine().getStatusCode();
+                if (statusCode == 404) {
+                    log.info("No artifacts available to deploy");
+                    return 0;
+                } else if (statusCode != 200) {
+                    String errorMessage = EntityUtils.toString(httpResponse.getEntity(),
+                            APIConstants.DigestAuthConstants.CHARSET);
+                    throw new ArtifactSynchronizerException(errorMessage + "Event-Hub status code is : "
+                            + statusCode);
+                } else if (httpResponse.getEntity() == null) {
+                    throw new ArtifactSynchronizerException("HTTP response is empty");
+                }
+                try (JsonReader reader = new JsonReader(new InputStreamReader(httpResponse.getEntity().getContent(),
+                        APIConstants.DigestAuthConstants.CHARSET))) {
+                    return readArtifacts(reader, artifactConsumer);
+                }
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            String msg = "Error while executing the http client";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        } catch (ArtifactSynchronizerException e) {
+            String msg = "Error while retrieving artifacts";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e, ExceptionCodes.ARTIFACT_SYNC_HTTP_REQUEST_FAILED);
+        }
+    }
+
+    /**
+     * Reads the artifacts in the list of the response one at a time.
+     */
+    static int readArtifacts(JsonReader reader, Consumer<String> artifactConsumer) throws IOException {
+
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("list".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    artifactConsumer.accept(reader.nextString());
+                    count++;
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return count;
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of generated runtime artifacts stored on the local disk. An entry is addressed by an ETag computed from the
+ * set of API revisions deployed in the requested gateway labels together with the format of the artifact, so an entry
+ * never changes once it is written: deploying or undeploying a revision changes the ETag and a new entry is generated
+ * on the next request. Concurrent requests for an entry that is not yet generated wait for a single generation.
+ * <p>
+ * Evicted entries are deleted from the disk. A response that is still streaming an evicted entry keeps reading it
+ * through its open file handle. Entries are written to a fixed directory under the temporary directory of the server,
+ * which is emptied as the cache is first used, as the entries left there by a previous run are not known to the cache.
+ */
+public class RuntimeArtifactCache {
+
+    private static final Log log = LogFactory.getLog(RuntimeArtifactCache.class);
+    private static final int DEFAULT_MAX_ENTRIES = 32;
+    private static final String DIRECTORY_NAME = "runtime-artifacts";
+    private static final RuntimeArtifactCache instance = new RuntimeArtifactCache(DEFAULT_MAX_ENTRIES,
+            Paths.get(System.getProperty(APIConstants.JAVA_IO_TMPDIR), DIRECTORY_NAME));
+
+    private final Map<String, CachedArtifact> entries;
+    private final Map<String, CompletableFuture<CachedArtifact>> inProgress = new ConcurrentHashMap<>();
+    private final Path directory;
+    private volatile boolean directoryCleared;
+
+    /**
+     * @param maxEntries maximum number of entries kept
+     * @param directory  directory the entries are written to, whose contents are deleted as the cache is first used
+     */
+    RuntimeArtifactCache(int maxEntries, Path directory) {
+
+        this.directory = directory;
+        entries = new LRUCache<String, CachedArtifact>(maxEntries) {
+            @Override
+            protected void handleRemovableEntry(Map.Entry<String, CachedArtifact> entry) {
+
+                deleteQuietly(entry.getValue().getFile());
+            }
+        };
+    }
+
+    public static RuntimeArtifactCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Computes the ETag of the artifacts generated for a set of deployed API revisions.
+     *
+     * @param format    format of the generated artifacts, such as the gateway type
+     * @param scope     organization the revisions belong to
+     * @param labels    requested gateway labels
+     * @param revisions deployed revisions, as retrieved without their artifacts
+     * @return the ETag
+     */
+    public static String computeETag(String format, String scope, String[] labels,
+                                     List<APIRuntimeArtifactDto> revisions) {
+
+        List<String> deployments = new ArrayList<>(revisions.size());
+        for (APIRuntimeArtifactDto revision : revisions) {
+            deployments.add(revision.getApiId() + '|' + revision.getRevision() + '|' + revision.getLabel() + '|'
+                    + revision.getVhost());
+        }
+        Collections.sort(deployments);
+        String[] sortedLabels = labels.clone();
+        Arrays.sort(sortedLabels);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((format + '\n' + scope + '\n' + String.join("|", sortedLabels) + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            for (String deployment : deployments) {
+                digest.update(deployment.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return Hex.encodeHexString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+    }
+
+    /**
+     * Returns the cached artifact of the given ETag, generating it if it is not in the cache.
+     *
+     * @param eTag   ETag of the artifact
+     * @param writer writes the artifact to the file given to it
+     * @return the cached artifact
+     * @throws APIManagementException if the artifact could not be generated
+     */
+    public CachedArtifact get(String eTag, ArtifactWriter writer) throws APIManagementException {
+
+        CachedArtifact cachedArtifact = entries.get(eTag);
+        if (cachedArtifact != null && Files.exists(cachedArtifact.getFile())) {
+            return cachedArtifact;
+        }
+        CompletableFuture<CachedArtifact> future = new CompletableFuture<>();
+        CompletableFuture<CachedArtifact> existing = inProgress.putIfAbsent(eTag, future);
+        if (existing != null) {
+            return await(eTag, existing);
+        }
+        try {
+            cachedArtifact = generate(eTag, writer);
+            entries.put(eTag, cachedArtifact);
+            future.complete(cachedArtifact);
+            return cachedArtifact;
+        } catch (APIManagementException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inProgress.remove(eTag);
+        }
+    }
+
+    /**
+     * Removes all the entries, deleting their files.
+     */
+    public void clear() {
+
+        for (CachedArtifact cachedArtifact : new ArrayList<>(entries.values())) {
+            deleteQuietly(cachedArtifact.getFile());
+        }
+        entries.clear();
+    }
+
+    private CachedArtifact generate(String eTag, ArtifactWriter writer) throws APIManagementException {
+
+        Path file = null;
+        try {
+            file = Files.createTempFile(getDirectory(), eTag, ".tmp");
+            long startTime = System.currentTimeMillis();
+            writer.write(file);
+            Path target = file.resolveSibling(eTag);
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            if (log.isDebugEnabled()) {
+                log.debug("Generated runtime artifacts " + eTag + " of " + Files.size(target) + " bytes in "
+                        + (System.currentTimeMillis() - startTime) + " ms");
+            }
+            return new CachedArtifact(eTag, target);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new APIManagementException("Error while writing runtime artifacts " + eTag, e);
+        } catch (APIManagementException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static CachedArtifact await(String eTag, CompletableFuture<CachedArtifact> future)
+            throws APIManagementException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIManagementException("Interrupted while waiting for runtime artifacts " + eTag, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof APIManagementException) {
+                throw (APIManagementException) e.getCause();
+            }
+            throw new APIManagementException("Error while generating runtime artifacts " + eTag, e.getCause());
+        }
+    }
+
+    private Path getDirectory() throws IOException {
+
+        if (!directoryCleared || !Files.isDirectory(directory)) {
+            synchronized (this) {
+                if (!directoryCleared) {
+                    deleteContents(directory);
+                    directoryCleared = true;
+                }
+                Files.createDirectories(directory);
+            }
+        }
+        return directory;
+    }
+
+    private static void deleteContents(Path directory) throws IOException {
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Error while deleting cached runtime artifacts " + file, e);
+        }
+    }
+
+    /**
+     * Writes an artifact to be cached.
+     */
+    @FunctionalInterface
+    public interface ArtifactWriter {
+
+        void write(Path file) throws APIManagementException, IOException;
+    }
+
+    /**
+     * An artifact in the cache.
+     */
+    public static class CachedArtifact {
+
+        private final String eTag;
+        private final Path file;
+
+        CachedArtifact(String eTag, Path file) {
+
+            this.eTag = eTag;
+            this.file = file;
+        }
+
+        public String getETag() {
+
+            return eTag;
+        }
+
+        public Path getFile() {
+
+            return file;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -25,6 +26,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
+import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.ApiMetadataProjectDto;
@@ -37,9 +39,14 @@ import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -86,6 +93,87 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * Returns the runtime artifacts of all the APIs deployed in the given gateway labels from the
+     * {@link RuntimeArtifactCache}. If the deployed revisions have changed since the artifacts were cached, the
+     * artifacts are generated again a chunk of APIs at a time and written to the cache, so the artifacts of the whole
+     * label set are never held in memory.
+     *
+     * @param gatewayLabel Base64 encoded gateway labels separated by "|"
+     * @param type         gateway type
+     * @param tenantDomain tenant domain, or null for the APIs of all the tenants
+     * @return the cached artifact, a JSON document in the format of a synapse artifact list, or null if artifacts of
+     * the given type are not cached
+     * @throws APIManagementException if an error occurs while generating the artifacts
+     */
+    public static RuntimeArtifactCache.CachedArtifact getCachedRuntimeArtifact(String gatewayLabel, String type,
+                                                                               String tenantDomain)
+            throws APIManagementException {
+
+        if (StringUtils.isEmpty(gatewayLabel) || !APIConstants.API_GATEWAY_TYPE_SYNAPSE.equals(type)) {
+            return null;
+        }
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        if (gatewayArtifactGenerator == null) {
+            return null;
+        }
+        String[] gatewayLabels = new String(Base64.decodeBase64(gatewayLabel.getBytes())).split("\\|");
+        List<APIRuntimeArtifactDto> revisions =
+                gatewayArtifactsMgtDAO.retrieveGatewayArtifactRevisionsByLabel(gatewayLabels, tenantDomain);
+        String eTag = RuntimeArtifactCache.computeETag(type,
+                tenantDomain != null ? tenantDomain : APIConstants.ORG_ALL_QUERY_PARAM, gatewayLabels, revisions);
+        return RuntimeArtifactCache.getInstance().get(eTag, file -> writeRuntimeArtifacts(gatewayArtifactGenerator,
+                revisions, gatewayLabels, tenantDomain, file));
+    }
+
+    private static void writeRuntimeArtifacts(GatewayArtifactGenerator gatewayArtifactGenerator,
+                                              List<APIRuntimeArtifactDto> revisions, String[] gatewayLabels,
+                                              String tenantDomain, Path file)
+            throws APIManagementException, IOException {
+
+        // only the revisions the ETag was computed from are written, even if a revision is deployed meanwhile
+        Set<String> deployments = new HashSet<>();
+        Set<String> apiIdSet = new LinkedHashSet<>();
+        for (APIRuntimeArtifactDto revision : revisions) {
+            deployments.add(getDeploymentKey(revision));
+            apiIdSet.add(revision.getApiId());
+        }
+        List<String> apiIds = new ArrayList<>(apiIdSet);
+        int count = 0;
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.beginObject().name("list").beginArray();
+            for (int i = 0; i < apiIds.size(); i += SQLConstants.API_ID_CHUNK_SIZE) {
+                List<String> chunk = apiIds.subList(i, Math.min(i + SQLConstants.API_ID_CHUNK_SIZE, apiIds.size()));
+                List<APIRuntimeArtifactDto> gatewayArtifacts = tenantDomain != null ?
+                        gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(chunk, gatewayLabels, tenantDomain) :
+                        gatewayArtifactsMgtDAO.retrieveAllGatewayArtifactsByAPIIDs(chunk, gatewayLabels);
+                gatewayArtifacts.removeIf(artifact -> !deployments.contains(getDeploymentKey(artifact)));
+                if (gatewayArtifacts.isEmpty()) {
+                    continue;
+                }
+                for (APIRuntimeArtifactDto apiRuntimeArtifactDto : gatewayArtifacts) {
+                    ArtifactSynchronizerUtil.setArtifactProperties(apiRuntimeArtifactDto);
+                }
+                RuntimeArtifactDto runtimeArtifactDto =
+                        gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+                if (runtimeArtifactDto != null && runtimeArtifactDto.getArtifact() instanceof List) {
+                    for (Object artifact : (List<?>) runtimeArtifactDto.getArtifact()) {
+                        writer.value((String) artifact);
+                        count++;
+                    }
+                }
+            }
+            writer.endArray().name("count").value(count).endObject();
+        }
+    }
+
+    private static String getDeploymentKey(APIRuntimeArtifactDto apiRuntimeArtifactDto) {
+
+        return apiRuntimeArtifactDto.getApiId() + '|' + apiRuntimeArtifactDto.getRevision() + '|'
+                + apiRuntimeArtifactDto.getLabel();
+    }
+
     public static RuntimeArtifactDto generateMetadataArtifact(String tenantDomain, String apiId, String gatewayLabel)
             throws APIManagementException {
 
@@ -213,6 +213,17 @@ public class APIManagerComponent {
             if (!configuration.getGatewayArtifactSynchronizerProperties().isTenantLoading()) {
                 bundleContext.registerService(Notifier.class.getName(), new TenantNotifier(), null);
             }
+            EventHubConfigurationDto.DeltaSyncConfiguration deltaSyncConfiguration =
+                    configuration.getEventHubConfigurationDto().getDeltaSyncConfiguration();
+            if (deltaSyncConfiguration.isEnabled()) {
+                for (APIConstants.NotifierType notifierType : new APIConstants.NotifierType[]{
+                        APIConstants.NotifierType.SUBSCRIPTIONS, APIConstants.NotifierType.APPLICATION,
+                        APIConstants.NotifierType.APPLICATION_REGISTRATION, APIConstants.NotifierType.API,
+                        APIConstants.NotifierType.GATEWAY_PUBLISHED_API}) {
+                    bundleContext.registerService(Notifier.class.getName(), new SubscriptionDataChangeNotifier(
+                            notifierType.name(), deltaSyncConfiguration.getRetentionPeriod()), null);
+                }
+            }
             bundleContext.registerService(TenantMgtListener.class.getName(), new APIMTenantMgtListener(), null);
             if (configuration.getMarketplaceAssistantConfigurationDto().isKeyProvided() ||
                     configuration.getMarketplaceAssistantConfigurationDto().isAuthTokenProvided()) {
@@ -314,7 +325,6 @@ public class APIManagerComponent {
             CacheProvider.createGatewayJWTTokenCache();
             CacheProvider.createTenantConfigCache();
             CacheProvider.createRecommendationsCache();
-            CacheProvider.createParsedSignJWTCache();
             CacheProvider.createGatewayBasicAuthResourceCache();
             CacheProvider.createGatewayUsernameCache();
             CacheProvider.createIntrospectionCache();
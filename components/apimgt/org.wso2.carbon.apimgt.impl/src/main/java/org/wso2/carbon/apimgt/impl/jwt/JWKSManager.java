@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the signing keys published at the JWKS endpoint of a token issuer, as verifiers built once per key. There is
+ * a single manager per JWKS endpoint, shared by all the validators of the issuer.
+ * <p>
+ * The keys are refreshed in the background once they are older than the refresh interval, while the keys at hand
+ * keep being served. A token signed with a key which is not known causes the keys to be fetched again by a single
+ * thread. The first lookup of a key ID may refetch the keys regardless of the refetch interval, as the key may have
+ * just been rotated in, though not more often than the unknown key refetch interval. A key ID which is still not
+ * found is remembered as unknown and looked up again at most once per refetch interval. Hence tokens with forged key
+ * IDs cannot flood the JWKS endpoint.
+ */
+public class JWKSManager {
+
+    private static final Log log = LogFactory.getLog(JWKSManager.class);
+    static final long DEFAULT_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+    static final long DEFAULT_MIN_REFETCH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    static final long DEFAULT_UNKNOWN_KEY_REFETCH_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+    private static final int MAX_UNKNOWN_KEY_IDS = 10000;
+    private static final Map<String, JWKSManager> managers = new ConcurrentHashMap<>();
+    private static final ExecutorService refreshExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "JWKSRefresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String jwksEndpoint;
+    private final JWKSRetriever retriever;
+    private final long refreshInterval;
+    private final long minRefetchInterval;
+    private final long unknownKeyRefetchInterval;
+    private final Map<String, Long> unknownKeyIds = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile SigningKeys signingKeys;
+    // guarded by this
+    private long lastFetchTime;
+
+    JWKSManager(String jwksEndpoint, JWKSRetriever retriever, long refreshInterval, long minRefetchInterval,
+                long unknownKeyRefetchInterval) {
+
+        this.jwksEndpoint = jwksEndpoint;
+        this.retriever = retriever;
+        this.refreshInterval = refreshInterval;
+        this.minRefetchInterval = minRefetchInterval;
+        this.unknownKeyRefetchInterval = unknownKeyRefetchInterval;
+    }
+
+    /**
+     * @param jwksEndpoint JWKS endpoint of a token issuer
+     * @return the manager of the keys published at the endpoint
+     */
+    public static JWKSManager getInstance(String jwksEndpoint) {
+
+        return managers.computeIfAbsent(jwksEndpoint, endpoint -> new JWKSManager(endpoint,
+                () -> JWTUtil.retrieveJWKSConfiguration(endpoint), DEFAULT_REFRESH_INTERVAL,
+                DEFAULT_MIN_REFETCH_INTERVAL, DEFAULT_UNKNOWN_KEY_REFETCH_INTERVAL));
+    }
+
+    /**
+     * Returns the verifier of a signing key, fetching the keys if they are yet to be fetched or if the key is not
+     * known and a refetch is allowed.
+     *
+     * @param keyID key ID of the token header
+     * @return verifier of the key, or null if the issuer has no RSA or EC signing key with the ID
+     * @throws APIManagementException if the keys are yet to be fetched and cannot be fetched
+     */
+    public JWSVerifier getVerifier(String keyID) throws APIManagementException {
+
+        SigningKeys keys = signingKeys;
+        if (keys == null) {
+            keys = load();
+        }
+        JWSVerifier verifier = keys.verifiers.get(keyID);
+        long now = System.currentTimeMillis();
+        if (verifier != null) {
+            if (now - keys.fetchTime >= refreshInterval) {
+                refreshInBackground();
+            }
+            return verifier;
+        }
+        Long unknownUntil = unknownKeyIds.get(keyID);
+        if (unknownUntil != null && unknownUntil > now) {
+            return null;
+        }
+        return refetch(keyID, unknownUntil == null);
+    }
+
+    private synchronized SigningKeys load() throws APIManagementException {
+
+        if (signingKeys == null) {
+            if (!isFetchAllowed()) {
+                throw new APIManagementException("JWKS of " + jwksEndpoint + " is not available");
+            }
+            fetch();
+        }
+        return signingKeys;
+    }
+
+    /**
+     * Fetches the keys again to find a key which is not known. A key ID looked up for the first time does not wait
+     * for the refetch interval, so that a key rotated in just after a fetch is found. If the refetch is deferred by
+     * the unknown key refetch interval, the key ID is not remembered and is looked up again by the next token.
+     */
+    private synchronized JWSVerifier refetch(String keyID, boolean newKeyID) {
+
+        JWSVerifier verifier = signingKeys.verifiers.get(keyID);
+        if (verifier != null) {
+            return verifier;
+        }
+        long sinceLastFetch = System.currentTimeMillis() - lastFetchTime;
+        if (sinceLastFetch >= minRefetchInterval || newKeyID && sinceLastFetch >= unknownKeyRefetchInterval) {
+            try {
+                fetch();
+                verifier = signingKeys.verifiers.get(keyID);
+            } catch (APIManagementException e) {
+                log.error("Error while retrieving JWKS information", e);
+            }
+            if (verifier == null) {
+                rememberUnknown(keyID);
+            }
+        } else if (!newKeyID) {
+            rememberUnknown(keyID);
+        }
+        return verifier;
+    }
+
+    private void rememberUnknown(String keyID) {
+
+        if (unknownKeyIds.size() >= MAX_UNKNOWN_KEY_IDS) {
+            unknownKeyIds.clear();
+        }
+        unknownKeyIds.put(keyID, System.currentTimeMillis() + minRefetchInterval);
+        if (log.isDebugEnabled()) {
+            log.debug("Key " + keyID + " is not found in JWKS " + jwksEndpoint);
+        }
+    }
+
+    private void refreshInBackground() {
+
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    synchronized (this) {
+                        if (System.currentTimeMillis() - signingKeys.fetchTime >= refreshInterval
+                                && isFetchAllowed()) {
+                            fetch();
+                        }
+                    }
+                } catch (APIManagementException e) {
+                    log.error("Error while refreshing JWKS information", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private boolean isFetchAllowed() {
+
+        return System.currentTimeMillis() - lastFetchTime >= minRefetchInterval;
+    }
+
+    private void fetch() throws APIManagementException {
+
+        lastFetchTime = System.currentTimeMillis();
+        String jwksInfo;
+        try {
+            jwksInfo = retriever.retrieve();
+        } catch (IOException e) {
+            throw new APIManagementException("Error while connecting to JWKS endpoint " + jwksEndpoint, e);
+        }
+        if (jwksInfo == null) {
+            throw new APIManagementException("Invalid JWKS endpoint.");
+        }
+        JWKSet jwkSet;
+        try {
+            jwkSet = JWKSet.parse(jwksInfo);
+        } catch (ParseException e) {
+            throw new APIManagementException("Error while parsing JWKS information", e);
+        }
+        Map<String, JWSVerifier> verifiers = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyID() == null || KeyUse.ENCRYPTION.equals(jwk.getKeyUse())) {
+                continue;
+            }
+            try {
+                if (jwk instanceof RSAKey) {
+                    verifiers.put(jwk.getKeyID(), new RSASSAVerifier((RSAKey) jwk));
+                } else if (jwk instanceof ECKey) {
+                    verifiers.put(jwk.getKeyID(), new ECDSAVerifier((ECKey) jwk));
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Key Algorithm of key " + jwk.getKeyID() + " not supported");
+                }
+            } catch (JOSEException e) {
+                log.error("Error while reading key " + jwk.getKeyID() + " of JWKS " + jwksEndpoint, e);
+            }
+        }
+        signingKeys = new SigningKeys(Collections.unmodifiableMap(verifiers), lastFetchTime);
+        unknownKeyIds.keySet().removeAll(verifiers.keySet());
+        if (log.isDebugEnabled()) {
+            log.debug(verifiers.size() + " signing keys retrieved from JWKS " + jwksEndpoint);
+        }
+    }
+
+    /**
+     * Retrieves the JWKS of an issuer.
+     */
+    interface JWKSRetriever {
+
+        /**
+         * @return the JWKS, or null if the endpoint does not return it
+         * @throws IOException if the endpoint cannot be reached
+         */
+        String retrieve() throws IOException;
+    }
+
+    private static class SigningKeys {
+
+        private final Map<String, JWSVerifier> verifiers;
+        private final long fetchTime;
+
+        SigningKeys(Map<String, JWSVerifier> verifiers, long fetchTime) {
+
+            this.verifiers = verifiers;
+            this.fetchTime = fetchTime;
+        }
+    }
+}
@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.apimgt.impl.jwt;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
@@ -38,7 +36,6 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
 
-import java.io.IOException;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Date;
@@ -50,7 +47,6 @@ public class JWTValidatorImpl implements JWTValidator {
     TokenIssuerDto tokenIssuer;
     private Log log = LogFactory.getLog(JWTValidatorImpl.class);
     JWTTransformer jwtTransformer;
-    private JWKSet jwkSet;
 
     @Override
     public JWTValidationInfo validateToken(SignedJWTInfo signedJWTInfo) throws APIManagementException {
@@ -139,22 +135,13 @@ public class JWTValidatorImpl implements JWTValidator {
             if (StringUtils.isNotEmpty(keyID)) {
                 if (tokenIssuer.getJwksConfigurationDTO().isEnabled() &&
                         StringUtils.isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
-                        RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
-                        if (rsaPublicKey != null) {
-                            return JWTUtil.verifyTokenSignature(signedJWT, rsaPublicKey);
-                        }
+                    JWSVerifier jwsVerifier = JWKSManager.getInstance(tokenIssuer.getJwksConfigurationDTO().getUrl())
+                            .getVerifier(keyID);
+                    if (jwsVerifier != null) {
+                        return JWTUtil.verifyTokenSignature(signedJWT, jwsVerifier);
                     } else {
                         if (log.isDebugEnabled()) {
-                            log.debug("Key Algorithm not supported");
+                            log.debug("Signing key " + keyID + " not found or Key Algorithm not supported");
                         }
                         return false; // return false to produce 401 unauthenticated response
                     }
@@ -167,15 +154,6 @@ public class JWTValidatorImpl implements JWTValidator {
                 }
             }
             return JWTUtil.verifyTokenSignature(signedJWT, certificateAlias);
-        } catch (ParseException e) {
-            log.error("Error while parsing JWKS information", e);
-            throw new APIManagementException("Error while parsing JWT", e);
-        } catch (JOSEException e) {
-            log.error("Error while verifying token signature", e);
-            throw new APIManagementException("Error while parsing JWT", e);
-        } catch (IOException e) {
-            log.error("Error while connecting to JWKS endpoint", e);
-            throw new APIManagementException("Error while parsing JWT", e);
         } catch (APIManagementException e) {
             log.error("Error while retrieving JWKS information", e);
             throw new APIManagementException(e.getMessage(), e);
@@ -228,16 +206,4 @@ public class JWTValidatorImpl implements JWTValidator {
         jwtValidationInfo.setUser(jwtClaimsSet.getSubject());
         jwtValidationInfo.setJti(jwtClaimsSet.getJWTID());
     }
-
-    private JWKSet retrieveJWKSet() throws IOException, ParseException, APIManagementException {
-
-        String jwksInfo = JWTUtil
-                .retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        if (jwksInfo != null) {
-            jwkSet = JWKSet.parse(jwksInfo);
-        } else {
-            throw new APIManagementException("Invalid JWKS endpoint.");
-        }
-        return jwkSet;
-    }
 }
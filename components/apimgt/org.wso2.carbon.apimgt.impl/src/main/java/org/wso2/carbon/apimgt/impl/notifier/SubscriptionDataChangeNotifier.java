@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import com.google.gson.Gson;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.exceptions.NotifierException;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the events which change the subscription data of gateways in the subscription data change log, so that
+ * gateways can apply the changes they missed instead of reloading all the subscription data. An instance is
+ * registered for each notifier type which carries such events. Changes older than the retention period are removed
+ * from the change log at most once an hour.
+ */
+public class SubscriptionDataChangeNotifier extends AbstractNotifier {
+
+    private static final Log log = LogFactory.getLog(SubscriptionDataChangeNotifier.class);
+    private static final long PURGE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+    private static final AtomicLong lastPurgeTime = new AtomicLong(System.currentTimeMillis());
+    private static final Set<String> RECORDED_EVENT_TYPES = new HashSet<>(Arrays.asList(
+            APIConstants.EventType.APPLICATION_CREATE.name(),
+            APIConstants.EventType.APPLICATION_UPDATE.name(),
+            APIConstants.EventType.APPLICATION_DELETE.name(),
+            APIConstants.EventType.SUBSCRIPTIONS_CREATE.name(),
+            APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name(),
+            APIConstants.EventType.SUBSCRIPTIONS_DELETE.name(),
+            APIConstants.EventType.API_UPDATE.name(),
+            APIConstants.EventType.API_LIFECYCLE_CHANGE.name(),
+            APIConstants.EventType.APPLICATION_REGISTRATION_CREATE.name(),
+            APIConstants.EventType.REMOVE_APPLICATION_KEYMAPPING.name(),
+            APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name(),
+            APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name()));
+
+    private final String type;
+    private final long retentionPeriod;
+
+    public SubscriptionDataChangeNotifier(String type, long retentionPeriod) {
+
+        this.type = type;
+        this.retentionPeriod = retentionPeriod;
+    }
+
+    @Override
+    public boolean publishEvent(Event event) throws NotifierException {
+
+        if (!RECORDED_EVENT_TYPES.contains(event.getType())) {
+            return true;
+        }
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+        try {
+            subscriptionValidationDAO.addSubscriptionDataChange(event.getTenantDomain(), event.getType(),
+                    new Gson().toJson(event), event.getTimeStamp());
+        } catch (APIManagementException e) {
+            throw new NotifierException("Error while recording " + event.getType() + " in the subscription data "
+                    + "change log", e);
+        }
+        purgeExpiredChanges(subscriptionValidationDAO);
+        return true;
+    }
+
+    private void purgeExpiredChanges(SubscriptionValidationDAO subscriptionValidationDAO) {
+
+        long now = System.currentTimeMillis();
+        long lastPurge = lastPurgeTime.get();
+        if (now - lastPurge < PURGE_INTERVAL || !lastPurgeTime.compareAndSet(lastPurge, now)) {
+            return;
+        }
+        try {
+            subscriptionValidationDAO.removeSubscriptionDataChanges(now - retentionPeriod);
+        } catch (APIManagementException e) {
+            log.error("Error while removing the expired changes from the subscription data change log", e);
+        }
+    }
+
+    @Override
+    public String getType() {
+
+        return type;
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.utils;
+
+import com.google.gson.Gson;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIConstants.UnifiedSearchConstants;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dao.APIListingDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingDTO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingSearchDTO;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.persistence.APIPersistence;
+import org.wso2.carbon.apimgt.persistence.dto.DevPortalAPIInfo;
+import org.wso2.carbon.apimgt.persistence.dto.DevPortalAPISearchResult;
+import org.wso2.carbon.apimgt.persistence.dto.Organization;
+import org.wso2.carbon.apimgt.persistence.dto.OrganizationTiers;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPI;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPIInfo;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPIProduct;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPISearchResult;
+import org.wso2.carbon.apimgt.persistence.dto.UserContext;
+import org.wso2.carbon.apimgt.persistence.exceptions.APIPersistenceException;
+import org.wso2.carbon.apimgt.persistence.utils.PersistenceUtil;
+import org.wso2.carbon.context.CarbonContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the API listing read model in sync with the APIs stored in the registry, and serves the plain API listings
+ * of the Publisher and the Developer Portal from it. A listing is served from the read model only when it is
+ * filtered on API types and at most a tag, and only once every API of the organization is listed in it. Otherwise,
+ * as well as when the read model is disabled, null is returned so that the listing is searched in the registry.
+ * <p>
+ * The listing of an API is refreshed from the registry after each change of the API. Failures to do so are logged
+ * and the listing is removed, so that it is listed again from the registry in the background.
+ */
+public final class APIListingUtil {
+
+    private static final Log log = LogFactory.getLog(APIListingUtil.class);
+    private static final long COMPLETENESS_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+    private static final String TYPE_PREFIX = "type:";
+    private static final String TAG_PREFIX = "tag:";
+    private static final String VISIBLE_ORG_ALL = org.wso2.carbon.apimgt.persistence.APIConstants.VISIBLE_ORG_ALL;
+    private static final Set<String> PUBLISHER_LISTING_TYPES =
+            getTypes(UnifiedSearchConstants.QUERY_API_TYPE_APIS_PUBLISHER);
+    private static final Set<String> DEVPORTAL_LISTING_TYPES =
+            getTypes(UnifiedSearchConstants.QUERY_API_TYPE_APIS_DEVPORTAL);
+    private static final Set<String> MCP_LISTING_TYPES = getTypes(UnifiedSearchConstants.QUERY_API_TYPE_MCP);
+    private static final Map<String, Long> completeOrganizations = new ConcurrentHashMap<>();
+    private static final Map<String, Long> backfillTimes = new ConcurrentHashMap<>();
+    private static final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "APIListingBackfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Gson gson = new Gson();
+
+    private APIListingUtil() {
+
+    }
+
+    public static boolean isEnabled() {
+
+        APIManagerConfigurationService configurationService =
+                ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService();
+        if (configurationService == null) {
+            return false;
+        }
+        APIManagerConfiguration configuration = configurationService.getAPIManagerConfiguration();
+        return configuration != null && Boolean.parseBoolean(
+                configuration.getFirstProperty(APIConstants.API_LISTING_READ_MODEL_ENABLED));
+    }
+
+    /**
+     * Refreshes the listing of an API or API Product from the registry.
+     *
+     * @param apiPersistence persistence the API is stored in
+     * @param organization   organization of the API
+     * @param uuid           UUID of the API
+     * @param isProduct      whether the API is an API Product
+     */
+    public static void refreshListing(APIPersistence apiPersistence, String organization, String uuid,
+                                      boolean isProduct) {
+
+        if (!isEnabled() || uuid == null) {
+            return;
+        }
+        try {
+            Organization org = new Organization(organization);
+            APIListingDTO listing;
+            if (isProduct) {
+                PublisherAPIProduct product = apiPersistence.getPublisherAPIProduct(org, uuid);
+                listing = product != null ? toListing(organization, product) : null;
+            } else {
+                PublisherAPI api = apiPersistence.getPublisherAPI(org, uuid);
+                listing = api != null ? toListing(organization, api) : null;
+            }
+            if (listing != null) {
+                APIListingDAO.getInstance().addOrUpdateListing(listing);
+            } else {
+                removeListing(organization, uuid);
+            }
+        } catch (APIPersistenceException | APIManagementException e) {
+            log.error("Error while refreshing the listing of API " + uuid + " of organization " + organization, e);
+            removeListing(organization, uuid);
+        }
+    }
+
+    /**
+     * Removes the listing of an API, as when the API is deleted.
+     *
+     * @param organization organization of the API
+     * @param uuid         UUID of the API
+     */
+    public static void removeListing(String organization, String uuid) {
+
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            APIListingDAO.getInstance().deleteListing(uuid);
+        } catch (APIManagementException e) {
+            log.error("Error while removing the listing of API " + uuid, e);
+        }
+        completeOrganizations.remove(organization);
+    }
+
+    /**
+     * Recomputes the listed rating of an API after it is rated.
+     *
+     * @param uuid UUID of the API
+     */
+    public static void updateRating(String uuid) {
+
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            APIListingDAO.getInstance().updateRating(uuid);
+        } catch (APIManagementException e) {
+            log.error("Error while updating the listed rating of API " + uuid, e);
+        }
+    }
+
+    /**
+     * Serves a Publisher API listing from the read model.
+     *
+     * @return the matching APIs, or null if the listing is to be searched in the registry
+     */
+    public static PublisherAPISearchResult searchAPIsForPublisher(APIPersistence apiPersistence,
+                                                                  Organization org, String searchQuery, int start,
+                                                                  int limit, UserContext userContext)
+            throws APIManagementException {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        APIListingSearchDTO search = toSearch(org.getName(), searchQuery);
+        if (search == null || !(PUBLISHER_LISTING_TYPES.containsAll(search.getTypes())
+                || MCP_LISTING_TYPES.containsAll(search.getTypes()))
+                || !isListingComplete(apiPersistence, org.getName())) {
+            return null;
+        }
+        if (!PersistenceUtil.isAdminUser(userContext)) {
+            search.setPublisherRoles(getUserRoles(userContext));
+        }
+        List<PublisherAPIInfo> apiInfoList = new ArrayList<>();
+        for (APIListingDTO listing : APIListingDAO.getInstance().searchListings(search, start, limit)) {
+            ListingInfo info = gson.fromJson(listing.getListingInfo(), ListingInfo.class);
+            PublisherAPIInfo apiInfo = new PublisherAPIInfo();
+            apiInfo.setId(listing.getUuid());
+            apiInfo.setType(listing.getType());
+            apiInfo.setApiName(listing.getName());
+            apiInfo.setVersion(listing.getVersion());
+            apiInfo.setContext(listing.getContext());
+            apiInfo.setProviderName(listing.getProvider());
+            apiInfo.setStatus(listing.getStatus());
+            apiInfo.setThumbnail(listing.getThumbnailUrl());
+            apiInfo.setUpdatedTime(new Date(listing.getUpdatedTime()));
+            apiInfo.setDisplayName(info.displayName);
+            apiInfo.setDescription(info.description);
+            apiInfo.setAudience(info.audience);
+            apiInfo.setAudiences(info.audiences);
+            apiInfo.setCreatedTime(info.createdTime);
+            apiInfo.setUpdatedBy(info.updatedBy);
+            apiInfo.setGatewayVendor(info.gatewayVendor);
+            apiInfo.setAdvertiseOnly(info.advertiseOnly);
+            apiInfo.setBusinessOwner(info.businessOwner);
+            apiInfo.setBusinessOwnerEmail(info.businessOwnerEmail);
+            apiInfo.setTechnicalOwner(info.technicalOwner);
+            apiInfo.setTechnicalOwnerEmail(info.technicalOwnerEmail);
+            apiInfo.setMonetizationStatus(info.monetizationEnabled);
+            apiInfoList.add(apiInfo);
+        }
+        PublisherAPISearchResult result = new PublisherAPISearchResult();
+        result.setPublisherAPIInfoList(apiInfoList);
+        result.setReturnedAPIsCount(apiInfoList.size());
+        result.setTotalAPIsCount(APIListingDAO.getInstance().getListingCount(search));
+        return result;
+    }
+
+    /**
+     * Serves a Developer Portal API listing from the read model, applying the same visibility rules as the registry
+     * search does.
+     *
+     * @return the matching APIs, or null if the listing is to be searched in the registry
+     */
+    public static DevPortalAPISearchResult searchAPIsForDevPortal(APIPersistence apiPersistence, Organization org,
+                                                                  String searchQuery, int start, int limit,
+                                                                  UserContext userContext)
+            throws APIManagementException {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        APIListingSearchDTO search = toSearch(org.getName(), searchQuery);
+        if (search == null || !(DEVPORTAL_LISTING_TYPES.containsAll(search.getTypes())
+                || MCP_LISTING_TYPES.containsAll(search.getTypes()))
+                || !isListingComplete(apiPersistence, org.getName())) {
+            return null;
+        }
+        List<String> statuses = new ArrayList<>(Arrays.asList(APIConstants.PUBLISHED, APIConstants.PROTOTYPED));
+        if (APIUtil.isAllowDisplayAPIsWithMultipleStatus()) {
+            statuses.add(APIConstants.DEPRECATED);
+        }
+        search.setStatuses(statuses);
+        if (UnifiedSearchConstants.QUERY_API_TYPE_APIS_DEVPORTAL.equals(searchQuery)
+                || UnifiedSearchConstants.QUERY_API_TYPE_MCP.equals(searchQuery)) {
+            search.setEnabledInStoreOnly(true);
+            search.setLatestVersionsOnly(!APIUtil.isAllowDisplayMultipleVersions());
+        }
+        String username = userContext.getUserame();
+        boolean isAdmin = PersistenceUtil.isAdminUser(userContext);
+        if (username == null || APIConstants.WSO2_ANONYMOUS_USER.equals(username)
+                || !org.getName().equals(CarbonContext.getThreadLocalCarbonContext().getTenantDomain())) {
+            search.setPublicOnly(true);
+        } else if (!isAdmin) {
+            search.setDevPortalRoles(getUserRoles(userContext));
+        }
+        if (!isAdmin && PersistenceUtil.areOrganizationsRegistered(userContext)) {
+            List<String> organizations = new ArrayList<>();
+            organizations.add(VISIBLE_ORG_ALL);
+            organizations.add(userContext.getOrganization().getId());
+            if (org.getName().equals(userContext.getOrganization().getName())) {
+                organizations.add(org.getName());
+            }
+            search.setVisibleOrganizations(new ArrayList<>(toLowerCase(organizations)));
+        }
+        List<DevPortalAPIInfo> apiInfoList = new ArrayList<>();
+        for (APIListingDTO listing : APIListingDAO.getInstance().searchListings(search, start, limit)) {
+            ListingInfo info = gson.fromJson(listing.getListingInfo(), ListingInfo.class);
+            DevPortalAPIInfo apiInfo = new DevPortalAPIInfo();
+            apiInfo.setId(listing.getUuid());
+            apiInfo.setType(listing.getType());
+            apiInfo.setApiName(listing.getName());
+            apiInfo.setVersion(listing.getVersion());
+            apiInfo.setContext(listing.getContext());
+            apiInfo.setProviderName(listing.getProvider());
+            apiInfo.setStatus(listing.getStatus());
+            apiInfo.setThumbnail(listing.getThumbnailUrl());
+            apiInfo.setRating(getAverageRating(listing));
+            apiInfo.setDisplayName(info.displayName);
+            apiInfo.setDescription(info.description);
+            apiInfo.setCreatedTime(info.createdTime);
+            apiInfo.setGatewayVendor(info.gatewayVendor);
+            apiInfo.setAdvertiseOnly(info.advertiseOnly);
+            apiInfo.setBusinessOwner(info.businessOwner);
+            apiInfo.setBusinessOwnerEmail(info.businessOwnerEmail);
+            apiInfo.setTechnicalOwner(info.technicalOwner);
+            apiInfo.setTechnicalOwnerEmail(info.technicalOwnerEmail);
+            apiInfo.setMonetizationStatus(info.monetizationEnabled);
+            apiInfo.setAvailableTierNames(info.availableTierNames != null ? info.availableTierNames
+                    : new HashSet<>());
+            if (info.availableTiersForOrganizations != null) {
+                apiInfo.setAvailableTiersForOrganizations(info.availableTiersForOrganizations);
+            }
+            apiInfo.setSubscriptionAvailability(info.subscriptionAvailability);
+            apiInfo.setSubscriptionAvailableOrgs(info.subscriptionAvailableOrgs);
+            apiInfoList.add(apiInfo);
+        }
+        DevPortalAPISearchResult result = new DevPortalAPISearchResult();
+        result.setDevPortalAPIInfoList(apiInfoList);
+        result.setReturnedAPIsCount(apiInfoList.size());
+        result.setTotalAPIsCount(APIListingDAO.getInstance().getListingCount(search));
+        return result;
+    }
+
+    /**
+     * @return the criteria of a listing query made of API types and at most a tag, or null if the query has any
+     * other criteria
+     */
+    private static APIListingSearchDTO toSearch(String organization, String searchQuery) {
+
+        if (StringUtils.isBlank(searchQuery)) {
+            return null;
+        }
+        List<String> types = new ArrayList<>();
+        String tag = null;
+        for (String criteria : searchQuery.trim().split("\\s+")) {
+            if (criteria.startsWith(TYPE_PREFIX) && criteria.length() > TYPE_PREFIX.length()) {
+                types.add(criteria.substring(TYPE_PREFIX.length()));
+            } else if (criteria.startsWith(TAG_PREFIX) && criteria.length() > TAG_PREFIX.length() && tag == null) {
+                tag = criteria.substring(TAG_PREFIX.length()).toLowerCase();
+            } else {
+                return null;
+            }
+        }
+        if (types.isEmpty()) {
+            return null;
+        }
+        APIListingSearchDTO search = new APIListingSearchDTO();
+        search.setOrganization(organization);
+        search.setTypes(types);
+        search.setTag(tag);
+        return search;
+    }
+
+    /**
+     * Checks whether every API of an organization is listed in the read model, at most once in a few minutes while
+     * it is. APIs which are not listed yet are listed in the background.
+     */
+    private static boolean isListingComplete(APIPersistence apiPersistence, String organization)
+            throws APIManagementException {
+
+        Long checkedTime = completeOrganizations.get(organization);
+        long now = System.currentTimeMillis();
+        if (checkedTime != null && now - checkedTime < COMPLETENESS_CHECK_INTERVAL) {
+            return true;
+        }
+        Map<String, String> unlistedAPIs = APIListingDAO.getInstance().getAPIsWithoutListing(organization);
+        if (unlistedAPIs.isEmpty()) {
+            completeOrganizations.put(organization, now);
+            return true;
+        }
+        // APIs which could not be listed are retried at most once in the completeness check interval
+        Long backfillTime = backfillTimes.get(organization);
+        boolean backfill = backfillTime == null ? backfillTimes.putIfAbsent(organization, now) == null
+                : now - backfillTime >= COMPLETENESS_CHECK_INTERVAL
+                && backfillTimes.replace(organization, backfillTime, now);
+        if (backfill) {
+            if (log.isDebugEnabled()) {
+                log.debug("Listing " + unlistedAPIs.size() + " APIs of organization " + organization);
+            }
+            backfillExecutor.execute(() -> {
+                for (Map.Entry<String, String> api : unlistedAPIs.entrySet()) {
+                    refreshListing(apiPersistence, organization, api.getKey(),
+                            APIConstants.API_PRODUCT.equals(api.getValue()));
+                }
+            });
+        }
+        return false;
+    }
+
+    private static APIListingDTO toListing(String organization, PublisherAPI api) {
+
+        APIListingDTO listing = new APIListingDTO();
+        listing.setUuid(api.getId());
+        listing.setOrganization(organization);
+        listing.setType(api.getType());
+        listing.setName(api.getApiName());
+        listing.setVersion(api.getVersion());
+        listing.setVersionComparable(api.getVersionTimestamp());
+        listing.setContext(StringUtils.defaultIfEmpty(api.getContextTemplate(), api.getContext()));
+        listing.setProvider(api.getProviderName());
+        listing.setStatus(api.getStatus());
+        listing.setEnableStore(api.isEnableStore());
+        listing.setThumbnailUrl(api.getThumbnail());
+        setFilters(listing, api.getVisibility(), api.getVisibleRoles(), api.getAccessControl(),
+                api.getAccessControlRoles(), api.getVisibleOrganizations(), api.getTags());
+        ListingInfo info = new ListingInfo();
+        info.displayName = api.getDisplayName();
+        info.description = api.getDescription();
+        info.audience = api.getAudience();
+        info.audiences = api.getAudiences();
+        info.createdTime = api.getCreatedTime();
+        info.updatedBy = api.getUpdatedBy();
+        info.gatewayVendor = api.getGatewayVendor();
+        info.advertiseOnly = api.isAdvertiseOnly();
+        info.businessOwner = api.getBusinessOwner();
+        info.businessOwnerEmail = api.getBusinessOwnerEmail();
+        info.technicalOwner = api.getTechnicalOwner();
+        info.technicalOwnerEmail = api.getTechnicalOwnerEmail();
+        info.monetizationEnabled = api.isMonetizationEnabled();
+        info.availableTierNames = api.getAvailableTierNames();
+        info.availableTiersForOrganizations = api.getAvailableTiersForOrganizations();
+        info.subscriptionAvailability = api.getSubscriptionAvailability();
+        info.subscriptionAvailableOrgs = api.getSubscriptionAvailableOrgs();
+        listing.setListingInfo(gson.toJson(info));
+        listing.setUpdatedTime(System.currentTimeMillis());
+        return listing;
+    }
+
+    private static APIListingDTO toListing(String organization, PublisherAPIProduct product) {
+
+        APIListingDTO listing = new APIListingDTO();
+        listing.setUuid(product.getId());
+        listing.setOrganization(organization);
+        listing.setType(APIConstants.API_PRODUCT);
+        listing.setName(product.getApiProductName());
+        listing.setVersion(product.getVersion());
+        listing.setVersionComparable(product.getVersionTimestamp());
+        listing.setContext(StringUtils.defaultIfEmpty(product.getContextTemplate(), product.getContext()));
+        listing.setProvider(product.getProviderName());
+        listing.setStatus(product.getState());
+        listing.setEnableStore(product.isEnableStore());
+        listing.setThumbnailUrl(product.getThumbnail());
+        setFilters(listing, product.getVisibility(), product.getVisibleRoles(), product.getAccessControl(),
+                product.getAccessControlRoles(), product.getVisibleOrganizations(), product.getTags());
+        ListingInfo info = new ListingInfo();
+        info.displayName = product.getDisplayName();
+        info.description = product.getDescription();
+        info.audiences = product.getAudiences();
+        info.createdTime = product.getCreatedTime();
+        info.gatewayVendor = product.getGatewayVendor();
+        info.businessOwner = product.getBusinessOwner();
+        info.businessOwnerEmail = product.getBusinessOwnerEmail();
+        info.technicalOwner = product.getTechnicalOwner();
+        info.technicalOwnerEmail = product.getTechnicalOwnerEmail();
+        info.monetizationEnabled = product.isMonetizationEnabled();
+        info.availableTierNames = product.getAvailableTierNames();
+        info.subscriptionAvailability = product.getSubscriptionAvailability();
+        info.subscriptionAvailableOrgs = product.getSubscriptionAvailableOrgs();
+        listing.setListingInfo(gson.toJson(info));
+        listing.setUpdatedTime(System.currentTimeMillis());
+        return listing;
+    }
+
+    /**
+     * Sets the roles and organizations an API is listed for, in lower case as the registry indexes them. APIs
+     * restricted to no roles are visible to every user, as the registry grants them to the everyone role.
+     */
+    private static void setFilters(APIListingDTO listing, String visibility, String visibleRoles,
+                                   String accessControl, Collection<String> accessControlRoles,
+                                   String visibleOrganizations, Collection<String> tags) {
+
+        listing.setVisibility(StringUtils.isEmpty(visibility) ? null : visibility.toLowerCase());
+        if (APIConstants.API_RESTRICTED_VISIBILITY.equalsIgnoreCase(visibility)) {
+            Set<String> devPortalRoles = toLowerCase(StringUtils.isEmpty(visibleRoles) ? null
+                    : Arrays.asList(visibleRoles.split(",")));
+            if (devPortalRoles.isEmpty()) {
+                devPortalRoles.add(APIConstants.EVERYONE_ROLE);
+            }
+            listing.setDevPortalRoles(devPortalRoles);
+        }
+        if (APIConstants.API_RESTRICTED_VISIBILITY.equalsIgnoreCase(accessControl)) {
+            listing.setPublisherRoles(toLowerCase(accessControlRoles));
+        }
+        listing.setVisibleOrganizations(toLowerCase(StringUtils.isEmpty(visibleOrganizations)
+                ? null : Arrays.asList(visibleOrganizations.split(","))));
+        if (listing.getVisibleOrganizations().isEmpty()) {
+            listing.getVisibleOrganizations().add(VISIBLE_ORG_ALL);
+        }
+        listing.setTags(toLowerCase(tags));
+    }
+
+    private static Set<String> toLowerCase(Collection<String> values) {
+
+        Set<String> lowerCaseValues = new LinkedHashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                if (StringUtils.isNotBlank(value)) {
+                    lowerCaseValues.add(value.trim().toLowerCase());
+                }
+            }
+        }
+        return lowerCaseValues;
+    }
+
+    /**
+     * @return the lower case roles of the user, without the roles skipped in searches
+     */
+    private static List<String> getUserRoles(UserContext userContext) {
+
+        List<String> roles = new ArrayList<>();
+        if (userContext.getRoles() == null) {
+            return roles;
+        }
+        List<Pattern> skippedRoles = new ArrayList<>();
+        String skipRoles = PersistenceUtil.getSkipRoles(userContext);
+        if (StringUtils.isNotEmpty(skipRoles)) {
+            for (String regex : skipRoles.split(",")) {
+                skippedRoles.add(Pattern.compile(regex));
+            }
+        }
+        for (String role : userContext.getRoles()) {
+            if (skippedRoles.stream().noneMatch(pattern -> pattern.matcher(role).matches())) {
+                roles.add(role.toLowerCase());
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * @return the average rating rounded up to a decimal, as {@link APIUtil#getAverageRating(String)} returns it
+     */
+    private static Float getAverageRating(APIListingDTO listing) {
+
+        if (listing.getRatingCount() == 0) {
+            return 0f;
+        }
+        BigDecimal rating = new BigDecimal((float) listing.getRatingTotal() / listing.getRatingCount());
+        return Float.parseFloat(rating.setScale(1, BigDecimal.ROUND_UP).toString());
+    }
+
+    private static Set<String> getTypes(String query) {
+
+        Set<String> types = new HashSet<>();
+        for (String criteria : query.split(" ")) {
+            types.add(criteria.substring(TYPE_PREFIX.length()));
+        }
+        return types;
+    }
+
+    /**
+     * Attributes of an API shown in listings, which are kept as JSON in the listing.
+     */
+    private static class ListingInfo {
+
+        private String displayName;
+        private String description;
+        private String audience;
+        private Set<String> audiences;
+        private String createdTime;
+        private String updatedBy;
+        private String gatewayVendor;
+        private boolean advertiseOnly;
+        private String businessOwner;
+        private String businessOwnerEmail;
+        private String technicalOwner;
+        private String technicalOwnerEmail;
+        private Boolean monetizationEnabled;
+        private Set<String> availableTierNames;
+        private Set<OrganizationTiers> availableTiersForOrganizations;
+        private String subscriptionAvailability;
+        private String subscriptionAvailableOrgs;
+    }
+}
@@ -96,6 +96,29 @@ public class JWTUtil {
         }
     }
 
+    /**
+     * Verify the JWT token signature with a verifier built for the signing key.
+     *
+     * @param jwt         SignedJwt Token
+     * @param jwsVerifier verifier of the signing key
+     * @return whether the signature is verified or or not
+     */
+    public static boolean verifyTokenSignature(SignedJWT jwt, JWSVerifier jwsVerifier) {
+
+        JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
+        if (jwsVerifier.supportedJWSAlgorithms().contains(algorithm)) {
+            try {
+                return jwt.verify(jwsVerifier);
+            } catch (JOSEException e) {
+                log.error("Error while verifying JWT signature", e);
+                return false;
+            }
+        } else {
+            log.error("Algorithm " + algorithm + " is not supported by the signing key");
+            return false;
+        }
+    }
+
     /**
      * Verify the JWT token signature.
      *
@@ -607,6 +607,8 @@ public class LifeCycleUtils {
                 } catch (APIPersistenceException e) {
                     handleException("Error while persisting the updated API Product", e);
                 }
+                APIListingUtil.refreshListing(apiPersistence, apiProduct.getOrganization(), apiProduct.getUuid(),
+                        true);
             }
         } finally {
             if (isTenantFlowStarted) {
@@ -692,6 +694,7 @@ public class LifeCycleUtils {
                 } catch (APIPersistenceException e) {
                     handleException("Error while persisting the updated API ", e);
                 }
+                APIListingUtil.refreshListing(apiPersistence, api.getOrganization(), api.getUuid(), false);
 
             }
             isSuccess = true;
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dao.test;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.impl.builder.StAXOMBuilder;
+import org.apache.commons.dbcp.BasicDataSource;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.impl.dao.APIListingDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingDTO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingSearchDTO;
+import org.wso2.carbon.apimgt.impl.factory.SQLConstantManagerFactory;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.xml.namespace.QName;
+
+public class APIListingDAOTest {
+
+    private static final String ORGANIZATION = "listing.org";
+    private static final String SAMPLE_API_UUID = "7af95c9d-6177-4191-ab3e-d3f6c1cdc4c2";
+    private static final List<String> UUIDS = Arrays.asList("listing-1", "listing-2", "listing-3", "listing-4",
+            "listing-5", SAMPLE_API_UUID);
+
+    private APIListingDAO apiListingDAO;
+
+    @Before
+    public void setUp() throws Exception {
+
+        String dbConfigPath = System.getProperty("APIManagerDBConfigurationPath");
+        APIManagerConfiguration config = new APIManagerConfiguration();
+        initializeDatabase(dbConfigPath);
+        config.load(dbConfigPath);
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(
+                new APIManagerConfigurationServiceImpl(config));
+        APIMgtDBUtil.initialize();
+        SQLConstantManagerFactory.initializeSQLConstantManager();
+        apiListingDAO = APIListingDAO.getInstance();
+        deleteListings();
+        apiListingDAO.addOrUpdateListing(listing("listing-1", "HTTP", "Alpha", "1.0.0", "PUBLISHED", "public",
+                Collections.singletonList("food")));
+        apiListingDAO.addOrUpdateListing(listing("listing-2", "HTTP", "Alpha", "2.0.0", "PUBLISHED", "public",
+                Collections.singletonList("food")));
+        apiListingDAO.addOrUpdateListing(listing("listing-3", "HTTP", "Beta", "1.0.0", "CREATED", "public",
+                Collections.emptyList()));
+        apiListingDAO.addOrUpdateListing(listing("listing-4", "GRAPHQL", "Gamma", "1.0.0", "PUBLISHED",
+                "restricted", Collections.singletonList("food")));
+        APIListingDTO restricted = listing("listing-5", "HTTP", "Delta", "1.0.0", "PUBLISHED", "public",
+                Collections.emptyList());
+        restricted.getPublisherRoles().add("creator");
+        apiListingDAO.addOrUpdateListing(restricted);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        deleteListings();
+    }
+
+    @Test
+    public void testSearchListingsIsPaginatedInTheDatabase() throws Exception {
+
+        APIListingSearchDTO search = search("HTTP", "GRAPHQL");
+
+        Assert.assertEquals(5, apiListingDAO.getListingCount(search));
+        Assert.assertEquals(Arrays.asList("listing-1", "listing-2", "listing-3", "listing-5", "listing-4"),
+                uuids(apiListingDAO.searchListings(search, 0, 10)));
+        Assert.assertEquals(Arrays.asList("listing-1", "listing-2"), uuids(apiListingDAO.searchListings(search, 0, 2)));
+        Assert.assertEquals(Arrays.asList("listing-3", "listing-5"), uuids(apiListingDAO.searchListings(search, 2, 2)));
+        Assert.assertEquals(Collections.singletonList("listing-4"), uuids(apiListingDAO.searchListings(search, 4, 2)));
+        Assert.assertTrue(apiListingDAO.searchListings(search, 6, 2).isEmpty());
+    }
+
+    @Test
+    public void testSearchListingsReturnsTheListedAttributes() throws Exception {
+
+        APIListingDTO listing = apiListingDAO.searchListings(search("GRAPHQL"), 0, 10).get(0);
+
+        Assert.assertEquals("listing-4", listing.getUuid());
+        Assert.assertEquals(ORGANIZATION, listing.getOrganization());
+        Assert.assertEquals("Gamma", listing.getName());
+        Assert.assertEquals("1.0.0", listing.getVersion());
+        Assert.assertEquals("/gamma/1.0.0", listing.getContext());
+        Assert.assertEquals("PUBLISHED", listing.getStatus());
+        Assert.assertEquals("{\"displayName\":\"Gamma\"}", listing.getListingInfo());
+        Assert.assertEquals(0, listing.getRatingCount());
+    }
+
+    @Test
+    public void testSearchListingsFilters() throws Exception {
+
+        APIListingSearchDTO byTag = search("HTTP", "GRAPHQL");
+        byTag.setTag("food");
+        Assert.assertEquals(Arrays.asList("listing-1", "listing-2", "listing-4"),
+                uuids(apiListingDAO.searchListings(byTag, 0, 10)));
+
+        APIListingSearchDTO latestPublished = search("HTTP");
+        latestPublished.setStatuses(Collections.singletonList("PUBLISHED"));
+        latestPublished.setLatestVersionsOnly(true);
+        Assert.assertEquals(Arrays.asList("listing-2", "listing-5"),
+                uuids(apiListingDAO.searchListings(latestPublished, 0, 10)));
+        Assert.assertEquals(2, apiListingDAO.getListingCount(latestPublished));
+
+        APIListingSearchDTO publicOnly = search("HTTP", "GRAPHQL");
+        publicOnly.setPublicOnly(true);
+        Assert.assertFalse(uuids(apiListingDAO.searchListings(publicOnly, 0, 10)).contains("listing-4"));
+
+        APIListingSearchDTO publisher = search("HTTP");
+        publisher.setPublisherRoles(Collections.singletonList("internal/subscriber"));
+        Assert.assertFalse(uuids(apiListingDAO.searchListings(publisher, 0, 10)).contains("listing-5"));
+        publisher.setPublisherRoles(Collections.singletonList("creator"));
+        Assert.assertTrue(uuids(apiListingDAO.searchListings(publisher, 0, 10)).contains("listing-5"));
+    }
+
+    @Test
+    public void testUpdateAndDeleteListing() throws Exception {
+
+        APIListingDTO updated = listing("listing-3", "HTTP", "Beta", "1.0.0", "PUBLISHED", "public",
+                Collections.singletonList("drinks"));
+        apiListingDAO.addOrUpdateListing(updated);
+
+        APIListingSearchDTO byTag = search("HTTP");
+        byTag.setTag("drinks");
+        List<APIListingDTO> listings = apiListingDAO.searchListings(byTag, 0, 10);
+        Assert.assertEquals(Collections.singletonList("listing-3"), uuids(listings));
+        Assert.assertEquals("PUBLISHED", listings.get(0).getStatus());
+
+        apiListingDAO.deleteListing("listing-3");
+        Assert.assertTrue(apiListingDAO.searchListings(byTag, 0, 10).isEmpty());
+        Assert.assertEquals(4, apiListingDAO.getListingCount(search("HTTP", "GRAPHQL")));
+    }
+
+    @Test
+    public void testGetAPIsWithoutListing() throws Exception {
+
+        Assert.assertTrue(apiListingDAO.getAPIsWithoutListing("org1").containsKey(SAMPLE_API_UUID));
+
+        APIListingDTO listing = listing(SAMPLE_API_UUID, "HTTP", "API1", "V1.0.0", "CREATED", "public",
+                Collections.emptyList());
+        listing.setOrganization("org1");
+        apiListingDAO.addOrUpdateListing(listing);
+
+        Assert.assertFalse(apiListingDAO.getAPIsWithoutListing("org1").containsKey(SAMPLE_API_UUID));
+    }
+
+    private void deleteListings() throws Exception {
+
+        for (String uuid : UUIDS) {
+            apiListingDAO.deleteListing(uuid);
+        }
+    }
+
+    private static APIListingDTO listing(String uuid, String type, String name, String version, String status,
+                                         String visibility, List<String> tags) {
+
+        APIListingDTO listing = new APIListingDTO();
+        listing.setUuid(uuid);
+        listing.setOrganization(ORGANIZATION);
+        listing.setType(type);
+        listing.setName(name);
+        listing.setVersion(version);
+        listing.setVersionComparable(version);
+        listing.setContext("/" + name.toLowerCase() + "/" + version);
+        listing.setProvider("admin");
+        listing.setStatus(status);
+        listing.setVisibility(visibility);
+        listing.setListingInfo("{\"displayName\":\"" + name + "\"}");
+        listing.setUpdatedTime(System.currentTimeMillis());
+        listing.getVisibleOrganizations().add("all");
+        listing.getTags().addAll(tags);
+        return listing;
+    }
+
+    private static APIListingSearchDTO search(String... types) {
+
+        APIListingSearchDTO search = new APIListingSearchDTO();
+        search.setOrganization(ORGANIZATION);
+        search.setTypes(Arrays.asList(types));
+        return search;
+    }
+
+    private static List<String> uuids(List<APIListingDTO> listings) {
+
+        List<String> uuids = new ArrayList<>();
+        for (APIListingDTO listing : listings) {
+            uuids.add(listing.getUuid());
+        }
+        return uuids;
+    }
+
+    private static void initializeDatabase(String configFilePath) throws Exception {
+
+        try (InputStream in = FileUtils.openInputStream(new File(configFilePath))) {
+            StAXOMBuilder builder = new StAXOMBuilder(in);
+            OMElement databaseElement = builder.getDocumentElement().getFirstChildWithName(new QName("Database"));
+            BasicDataSource basicDataSource = new BasicDataSource();
+            basicDataSource.setDriverClassName(databaseElement.getFirstChildWithName(new QName("Driver")).getText());
+            basicDataSource.setUrl(databaseElement.getFirstChildWithName(new QName("URL")).getText());
+            basicDataSource.setUsername(databaseElement.getFirstChildWithName(new QName("Username")).getText());
+            basicDataSource.setPassword(databaseElement.getFirstChildWithName(new QName("Password")).getText());
+
+            System.setProperty(Context.INITIAL_CONTEXT_FACTORY, "org.apache.naming.java.javaURLContextFactory");
+            System.setProperty(Context.URL_PKG_PREFIXES, "org.apache.naming");
+            try {
+                InitialContext.doLookup("java:/comp/env/jdbc/WSO2AM_DB");
+            } catch (NamingException e) {
+                InitialContext ic = new InitialContext();
+                ic.createSubcontext("java:");
+                ic.createSubcontext("java:/comp");
+                ic.createSubcontext("java:/comp/env");
+                ic.createSubcontext("java:/comp/env/jdbc");
+                ic.bind("java:/comp/env/jdbc/WSO2AM_DB", basicDataSource);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dao.test;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.impl.builder.StAXOMBuilder;
+import org.apache.commons.dbcp.BasicDataSource;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.xml.namespace.QName;
+
+public class SubscriptionDataChangeDAOTest {
+
+    private static final String TENANT = "changes.org";
+    private static final String OTHER_TENANT = "other.org";
+
+    private SubscriptionValidationDAO subscriptionValidationDAO;
+
+    @Before
+    public void setUp() throws Exception {
+
+        String dbConfigPath = System.getProperty("APIManagerDBConfigurationPath");
+        APIManagerConfiguration config = new APIManagerConfiguration();
+        initializeDatabase(dbConfigPath);
+        config.load(dbConfigPath);
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(
+                new APIManagerConfigurationServiceImpl(config));
+        APIMgtDBUtil.initialize();
+        subscriptionValidationDAO = new SubscriptionValidationDAO();
+        subscriptionValidationDAO.removeSubscriptionDataChanges(Long.MAX_VALUE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        subscriptionValidationDAO.removeSubscriptionDataChanges(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testChangesOfATenantAreReturnedInSequence() throws Exception {
+
+        subscriptionValidationDAO.addSubscriptionDataChange(TENANT, "APPLICATION_CREATE", "{\"id\":1}", 100);
+        subscriptionValidationDAO.addSubscriptionDataChange(OTHER_TENANT, "APPLICATION_CREATE", "{\"id\":2}", 200);
+        subscriptionValidationDAO.addSubscriptionDataChange(TENANT, "SUBSCRIPTIONS_CREATE", "{\"id\":3}", 300);
+
+        List<SubscriptionDataChange> changes = subscriptionValidationDAO.getSubscriptionDataChanges(TENANT, 0, 10);
+
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals("APPLICATION_CREATE", changes.get(0).getEventType());
+        Assert.assertEquals("{\"id\":1}", changes.get(0).getEvent());
+        Assert.assertEquals(100, changes.get(0).getTimeStamp());
+        Assert.assertEquals("SUBSCRIPTIONS_CREATE", changes.get(1).getEventType());
+        Assert.assertEquals("{\"id\":3}", changes.get(1).getEvent());
+        Assert.assertTrue(changes.get(0).getSequence() < changes.get(1).getSequence());
+        Assert.assertEquals(changes.get(1).getSequence(),
+                subscriptionValidationDAO.getLatestSubscriptionDataChangeId());
+        Assert.assertEquals(changes.get(0).getSequence(),
+                subscriptionValidationDAO.getOldestSubscriptionDataChangeId());
+    }
+
+    @Test
+    public void testChangesAfterASequenceAreLimited() throws Exception {
+
+        for (int i = 1; i <= 4; i++) {
+            subscriptionValidationDAO.addSubscriptionDataChange(TENANT, "API_UPDATE", "{\"id\":" + i + "}", i);
+        }
+        long first = subscriptionValidationDAO.getOldestSubscriptionDataChangeId();
+
+        List<SubscriptionDataChange> changes =
+                subscriptionValidationDAO.getSubscriptionDataChanges(TENANT, first, 2);
+
+        Assert.assertEquals(2, changes.size());
+        Assert.assertEquals("{\"id\":2}", changes.get(0).getEvent());
+        Assert.assertEquals("{\"id\":3}", changes.get(1).getEvent());
+        Assert.assertTrue(subscriptionValidationDAO.getSubscriptionDataChanges(TENANT,
+                subscriptionValidationDAO.getLatestSubscriptionDataChangeId(), 10).isEmpty());
+    }
+
+    @Test
+    public void testChangesBeforeATimeAreRemoved() throws Exception {
+
+        subscriptionValidationDAO.addSubscriptionDataChange(TENANT, "API_UPDATE", "{\"id\":1}", 100);
+        subscriptionValidationDAO.addSubscriptionDataChange(TENANT, "API_UPDATE", "{\"id\":2}", 200);
+        long latest = subscriptionValidationDAO.getLatestSubscriptionDataChangeId();
+
+        subscriptionValidationDAO.removeSubscriptionDataChanges(200);
+
+        List<SubscriptionDataChange> changes = subscriptionValidationDAO.getSubscriptionDataChanges(TENANT, 0, 10);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("{\"id\":2}", changes.get(0).getEvent());
+        Assert.assertEquals(latest, subscriptionValidationDAO.getOldestSubscriptionDataChangeId());
+    }
+
+    @Test
+    public void testEmptyChangeLog() throws Exception {
+
+        Assert.assertEquals(0, subscriptionValidationDAO.getLatestSubscriptionDataChangeId());
+        Assert.assertEquals(0, subscriptionValidationDAO.getOldestSubscriptionDataChangeId());
+        Assert.assertTrue(subscriptionValidationDAO.getSubscriptionDataChanges(TENANT, 0, 10).isEmpty());
+    }
+
+    private static void initializeDatabase(String configFilePath) throws Exception {
+
+        try (InputStream in = FileUtils.openInputStream(new File(configFilePath))) {
+            StAXOMBuilder builder = new StAXOMBuilder(in);
+            OMElement databaseElement = builder.getDocumentElement().getFirstChildWithName(new QName("Database"));
+            BasicDataSource basicDataSource = new BasicDataSource();
+            basicDataSource.setDriverClassName(databaseElement.getFirstChildWithName(new QName("Driver")).getText());
+            basicDataSource.setUrl(databaseElement.getFirstChildWithName(new QName("URL")).getText());
+            basicDataSource.setUsername(databaseElement.getFirstChildWithName(new QName("Username")).getText());
+            basicDataSource.setPassword(databaseElement.getFirstChildWithName(new QName("Password")).getText());
+
+            System.setProperty(Context.INITIAL_CONTEXT_FACTORY, "org.apache.naming.java.javaURLContextFactory");
+            System.setProperty(Context.URL_PKG_PREFIXES, "org.apache.naming");
+            try {
+                InitialContext.doLookup("java:/comp/env/jdbc/WSO2AM_DB");
+            } catch (NamingException e) {
+                InitialContext ic = new InitialContext();
+                ic.createSubcontext("java:");
+                ic.createSubcontext("java:/comp");
+                ic.createSubcontext("java:/comp/env");
+                ic.createSubcontext("java:/comp/env/jdbc");
+                ic.bind("java:/comp/env/jdbc/WSO2AM_DB", basicDataSource);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import com.google.gson.stream.JsonReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DBRetrieverTest {
+
+    @Test
+    public void testArtifactsAreReadInOrder() throws Exception {
+
+        List<String> artifacts = new ArrayList<>();
+        int count = DBRetriever.readArtifacts(reader("{\"count\":3,\"pagination\":{\"offset\":0,\"list\":[]},"
+                + "\"list\":[\"artifact1\",\"artifact2\",\"artifact3\"],\"next\":null}"), artifacts::add);
+
+        Assert.assertEquals(3, count);
+        Assert.assertEquals(Arrays.asList("artifact1", "artifact2", "artifact3"), artifacts);
+    }
+
+    @Test
+    public void testResponseWithoutArtifacts() throws Exception {
+
+        List<String> artifacts = new ArrayList<>();
+
+        Assert.assertEquals(0, DBRetriever.readArtifacts(reader("{\"count\":0,\"list\":[]}"), artifacts::add));
+        Assert.assertEquals(0, DBRetriever.readArtifacts(reader("{\"count\":0}"), artifacts::add));
+        Assert.assertEquals(0, DBRetriever.readArtifacts(reader("{\"list\":null}"), artifacts::add));
+        Assert.assertTrue(artifacts.isEmpty());
+    }
+
+    @Test
+    public void testArtifactsAreConsumedAsTheyAreRead() throws Exception {
+
+        List<String> artifacts = new ArrayList<>();
+        try {
+            DBRetriever.readArtifacts(reader("{\"list\":[\"artifact1\",\"artifact2\",\"artif"), artifacts::add);
+            Assert.fail("Expected the truncated response to be rejected");
+        } catch (IOException e) {
+            Assert.assertEquals(Arrays.asList("artifact1", "artifact2"), artifacts);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testListOfObjectsIsRejected() throws Exception {
+
+        DBRetriever.readArtifacts(reader("{\"list\":[{\"artifact\":\"artifact1\"}]}"),
+                artifact -> Assert.fail("Unexpected artifact " + artifact));
+    }
+
+    private static JsonReader reader(String json) {
+
+        return new JsonReader(new StringReader(json));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RuntimeArtifactCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testETagDependsOnlyOnDeployedRevisions() {
+
+        String eTag = RuntimeArtifactCache.computeETag("Synapse", "carbon.super", new String[]{"Default", "Edge"},
+                Arrays.asList(revision("api1", "rev1", "Default"), revision("api2", "rev2", "Edge")));
+
+        Assert.assertEquals(eTag, RuntimeArtifactCache.computeETag("Synapse", "carbon.super",
+                new String[]{"Edge", "Default"},
+                Arrays.asList(revision("api2", "rev2", "Edge"), revision("api1", "rev1", "Default"))));
+        Assert.assertNotEquals(eTag, RuntimeArtifactCache.computeETag("Synapse", "carbon.super",
+                new String[]{"Default", "Edge"},
+                Arrays.asList(revision("api1", "rev3", "Default"), revision("api2", "rev2", "Edge"))));
+        Assert.assertNotEquals(eTag, RuntimeArtifactCache.computeETag("Synapse", "wso2.com",
+                new String[]{"Default", "Edge"},
+                Arrays.asList(revision("api1", "rev1", "Default"), revision("api2", "rev2", "Edge"))));
+    }
+
+    @Test
+    public void testArtifactsAreGeneratedOncePerETagAndEvictedFromDisk() throws Exception {
+
+        RuntimeArtifactCache cache = new RuntimeArtifactCache(1, temporaryFolder.getRoot().toPath());
+        AtomicInteger generations = new AtomicInteger();
+        RuntimeArtifactCache.ArtifactWriter writer = file -> {
+            generations.incrementAndGet();
+            Files.write(file, "{\"list\":[],\"count\":0}".getBytes(StandardCharsets.UTF_8));
+        };
+        try {
+            RuntimeArtifactCache.CachedArtifact first = cache.get("etag1", writer);
+            Assert.assertSame(first, cache.get("etag1", writer));
+            Assert.assertEquals(1, generations.get());
+            Assert.assertEquals("{\"list\":[],\"count\":0}",
+                    new String(Files.readAllBytes(first.getFile()), StandardCharsets.UTF_8));
+
+            RuntimeArtifactCache.CachedArtifact second = cache.get("etag2", writer);
+            Assert.assertEquals(2, generations.get());
+            Assert.assertFalse(Files.exists(first.getFile()));
+            Assert.assertTrue(Files.exists(second.getFile()));
+        } finally {
+            cache.clear();
+        }
+    }
+
+    @Test
+    public void testFailedGenerationIsNotCached() throws Exception {
+
+        RuntimeArtifactCache cache = new RuntimeArtifactCache(2, temporaryFolder.getRoot().toPath());
+        try {
+            cache.get("etag1", file -> {
+                throw new APIManagementException("generation failed");
+            });
+            Assert.fail("Expected the generation error to be thrown");
+        } catch (APIManagementException e) {
+            Assert.assertEquals("generation failed", e.getMessage());
+        }
+        Path file = cache.get("etag1", generated -> Files.write(generated, new byte[]{'{', '}'})).getFile();
+        Assert.assertTrue(Files.exists(file));
+        cache.clear();
+        Assert.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testArtifactsOfPreviousRunAreDeleted() throws Exception {
+
+        Path directory = temporaryFolder.getRoot().toPath().resolve("runtime-artifacts");
+        Files.createDirectories(directory);
+        Path stale = Files.write(directory.resolve("etag0"), new byte[]{'{', '}'});
+
+        RuntimeArtifactCache cache = new RuntimeArtifactCache(2, directory);
+        Path file = cache.get("etag1", generated -> Files.write(generated, new byte[]{'{', '}'})).getFile();
+
+        Assert.assertEquals(directory, file.getParent());
+        Assert.assertFalse(Files.exists(stale));
+        Assert.assertEquals(1, directory.toFile().list().length);
+        cache.get("etag2", generated -> Files.write(generated, new byte[]{'{', '}'}));
+        Assert.assertTrue(Files.exists(file));
+        cache.clear();
+    }
+
+    private static APIRuntimeArtifactDto revision(String apiId, String revision, String label) {
+
+        APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+        apiRuntimeArtifactDto.setApiId(apiId);
+        apiRuntimeArtifactDto.setRevision(revision);
+        apiRuntimeArtifactDto.setLabel(label);
+        apiRuntimeArtifactDto.setVhost("localhost");
+        return apiRuntimeArtifactDto;
+    }
+}
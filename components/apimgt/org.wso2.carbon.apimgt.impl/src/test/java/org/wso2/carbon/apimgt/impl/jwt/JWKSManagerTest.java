@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class JWKSManagerTest {
+
+    private static RSAKey rsaKey;
+    private static ECKey ecKey;
+    private static String jwks;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        rsaKey = new RSAKeyGenerator(2048).keyID("rsa").generate();
+        ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+        jwks = new JWKSet(Arrays.asList(rsaKey.toPublicJWK(), ecKey.toPublicJWK())).toString();
+    }
+
+    @Test
+    public void testRotatedKeyIsFetchedWithinRefetchInterval() throws Exception {
+        AtomicInteger fetchCount = new AtomicInteger();
+        AtomicReference<String> published = new AtomicReference<>(
+                new JWKSet(rsaKey.toPublicJWK()).toString());
+        JWKSManager jwksManager = new JWKSManager("https://localhost:9443/oauth2/jwks", () -> {
+            fetchCount.incrementAndGet();
+            return published.get();
+        }, TimeUnit.MINUTES.toMillis(15), TimeUnit.MINUTES.toMillis(1), 0);
+        JWSVerifier verifier = jwksManager.getVerifier("rsa");
+        Assert.assertNotNull(verifier);
+        Assert.assertSame(verifier, jwksManager.getVerifier("rsa"));
+        Assert.assertEquals(1, fetchCount.get());
+
+        // the EC key is rotated in right after the first fetch
+        published.set(jwks);
+        Assert.assertNotNull(jwksManager.getVerifier("ec"));
+        Assert.assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    public void testUnknownKeyIDsAreRefetchedOncePerKeyID() throws Exception {
+        AtomicInteger fetchCount = new AtomicInteger();
+        JWKSManager jwksManager = new JWKSManager("https://localhost:9443/oauth2/jwks", () -> {
+            fetchCount.incrementAndGet();
+            return jwks;
+        }, TimeUnit.MINUTES.toMillis(15), TimeUnit.MINUTES.toMillis(1), 0);
+        Assert.assertNotNull(jwksManager.getVerifier("rsa"));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertNull(jwksManager.getVerifier("forged"));
+        }
+        Assert.assertEquals(2, fetchCount.get());
+        Assert.assertNull(jwksManager.getVerifier("forged-2"));
+        Assert.assertEquals(3, fetchCount.get());
+        Assert.assertNotNull(jwksManager.getVerifier("ec"));
+        Assert.assertEquals(3, fetchCount.get());
+    }
+
+    @Test
+    public void testUnknownKeyIDRefetchesAreRateLimited() throws Exception {
+        AtomicInteger fetchCount = new AtomicInteger();
+        JWKSManager jwksManager = new JWKSManager("https://localhost:9443/oauth2/jwks", () -> {
+            fetchCount.incrementAndGet();
+            return jwks;
+        }, TimeUnit.MINUTES.toMillis(15), TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+        Assert.assertNotNull(jwksManager.getVerifier("rsa"));
+        for (int i = 0; i < 100; i++) {
+            Assert.assertNull(jwksManager.getVerifier("forged-" + i));
+        }
+        Assert.assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void testVerifyRSAAndECSignedTokens() throws Exception {
+        JWKSManager jwksManager = new JWKSManager("https://localhost:9443/oauth2/jwks", () -> jwks,
+                TimeUnit.MINUTES.toMillis(15), TimeUnit.MINUTES.toMillis(1), 0);
+        SignedJWT rsaSignedJWT = sign(JWSAlgorithm.RS256, rsaKey.getKeyID(), new RSASSASigner(rsaKey));
+        SignedJWT ecSignedJWT = sign(JWSAlgorithm.ES256, ecKey.getKeyID(), new ECDSASigner(ecKey));
+        Assert.assertTrue(JWTUtil.verifyTokenSignature(rsaSignedJWT, jwksManager.getVerifier("rsa")));
+        Assert.assertTrue(JWTUtil.verifyTokenSignature(ecSignedJWT, jwksManager.getVerifier("ec")));
+        Assert.assertFalse(JWTUtil.verifyTokenSignature(rsaSignedJWT, jwksManager.getVerifier("ec")));
+    }
+
+    private static SignedJWT sign(JWSAlgorithm algorithm, String keyID, JWSSigner signer) throws Exception {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(algorithm).keyID(keyID).build(),
+                new JWTClaimsSet.Builder().subject("admin").issuer("https://localhost:9443/oauth2/token").build());
+        signedJWT.sign(signer);
+        return signedJWT;
+    }
+}
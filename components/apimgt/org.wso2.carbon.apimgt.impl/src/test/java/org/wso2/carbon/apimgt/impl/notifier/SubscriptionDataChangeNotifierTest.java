@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+import org.wso2.carbon.apimgt.impl.notifier.exceptions.NotifierException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SubscriptionDataChangeNotifier.class})
+public class SubscriptionDataChangeNotifierTest {
+
+    private static final long RETENTION_PERIOD = TimeUnit.DAYS.toMillis(1);
+
+    private SubscriptionValidationDAO subscriptionValidationDAO;
+    private SubscriptionDataChangeNotifier notifier;
+
+    @Before
+    public void setUp() throws Exception {
+
+        subscriptionValidationDAO = Mockito.mock(SubscriptionValidationDAO.class);
+        PowerMockito.whenNew(SubscriptionValidationDAO.class).withNoArguments().thenReturn(subscriptionValidationDAO);
+        notifier = new SubscriptionDataChangeNotifier(APIConstants.NotifierType.SUBSCRIPTIONS.name(),
+                RETENTION_PERIOD);
+        lastPurgeTime().set(System.currentTimeMillis());
+    }
+
+    @Test
+    public void testChangeIsRecordedAsTheEventJson() throws Exception {
+
+        SubscriptionEvent event = subscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE.name());
+
+        Assert.assertTrue(notifier.publishEvent(event));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(subscriptionValidationDAO).addSubscriptionDataChange(Mockito.eq("carbon.super"),
+                Mockito.eq(APIConstants.EventType.SUBSCRIPTIONS_CREATE.name()), json.capture(), Mockito.eq(1000L));
+        Assert.assertTrue(json.getValue().contains("\"subscriptionUUID\":\"sub-uuid\""));
+        Assert.assertTrue(json.getValue().contains("\"apiUUID\":\"api-uuid\""));
+        Mockito.verify(subscriptionValidationDAO, Mockito.never()).removeSubscriptionDataChanges(Mockito.anyLong());
+    }
+
+    @Test
+    public void testOtherEventsAreNotRecorded() throws Exception {
+
+        Assert.assertTrue(notifier.publishEvent(
+                subscriptionEvent(APIConstants.EventType.POLICY_CREATE.name())));
+
+        Mockito.verifyZeroInteractions(subscriptionValidationDAO);
+    }
+
+    @Test(expected = NotifierException.class)
+    public void testFailureToRecordIsReported() throws Exception {
+
+        Mockito.doThrow(new APIManagementException("Database is down")).when(subscriptionValidationDAO)
+                .addSubscriptionDataChange(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(),
+                        Mockito.anyLong());
+
+        notifier.publishEvent(subscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_DELETE.name()));
+    }
+
+    @Test
+    public void testExpiredChangesArePurgedAtMostOnceAnHour() throws Exception {
+
+        lastPurgeTime().set(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+        long before = System.currentTimeMillis();
+
+        notifier.publishEvent(subscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name()));
+        notifier.publishEvent(subscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name()));
+
+        ArgumentCaptor<Long> changedBefore = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(subscriptionValidationDAO).removeSubscriptionDataChanges(changedBefore.capture());
+        Assert.assertTrue(changedBefore.getValue() >= before - RETENTION_PERIOD);
+        Assert.assertTrue(changedBefore.getValue() <= System.currentTimeMillis() - RETENTION_PERIOD);
+    }
+
+    private static AtomicLong lastPurgeTime() {
+
+        return Whitebox.getInternalState(SubscriptionDataChangeNotifier.class, "lastPurgeTime");
+    }
+
+    private static SubscriptionEvent subscriptionEvent(String type) {
+
+        return new SubscriptionEvent("event-id", 1000L, type, -1234, "carbon.super", 1, "sub-uuid", 2, "api-uuid",
+                3, "app-uuid", "Unlimited", "UNBLOCKED", "PizzaShack", "1.0.0");
+    }
+}
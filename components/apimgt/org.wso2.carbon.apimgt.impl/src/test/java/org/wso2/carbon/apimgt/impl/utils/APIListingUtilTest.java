@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.utils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.APIConstants.UnifiedSearchConstants;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dao.APIListingDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingDTO;
+import org.wso2.carbon.apimgt.impl.dto.APIListingSearchDTO;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.persistence.APIPersistence;
+import org.wso2.carbon.apimgt.persistence.dto.Organization;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPI;
+import org.wso2.carbon.apimgt.persistence.dto.PublisherAPISearchResult;
+import org.wso2.carbon.apimgt.persistence.dto.UserContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ServiceReferenceHolder.class, APIListingDAO.class})
+public class APIListingUtilTest {
+
+    private ServiceReferenceHolder serviceReferenceHolder;
+    private APIManagerConfiguration configuration;
+    private APIListingDAO apiListingDAO;
+    private APIPersistence apiPersistence;
+
+    @Before
+    public void setup() {
+
+        serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        configuration = Mockito.mock(APIManagerConfiguration.class);
+        APIManagerConfigurationService configurationService = Mockito.mock(APIManagerConfigurationService.class);
+        apiListingDAO = Mockito.mock(APIListingDAO.class);
+        apiPersistence = Mockito.mock(APIPersistence.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(APIListingDAO.class);
+        Mockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        Mockito.when(APIListingDAO.getInstance()).thenReturn(apiListingDAO);
+        Mockito.when(serviceReferenceHolder.getAPIManagerConfigurationService()).thenReturn(configurationService);
+        Mockito.when(configurationService.getAPIManagerConfiguration()).thenReturn(configuration);
+        Mockito.when(configuration.getFirstProperty(APIConstants.API_LISTING_READ_MODEL_ENABLED)).thenReturn("true");
+    }
+
+    @Test
+    public void testDisabledWithoutConfiguration() throws Exception {
+
+        Mockito.when(serviceReferenceHolder.getAPIManagerConfigurationService()).thenReturn(null);
+
+        Assert.assertFalse(APIListingUtil.isEnabled());
+        APIListingUtil.updateRating("api1");
+        APIListingUtil.refreshListing(apiPersistence, "carbon.super", "api1", false);
+        Assert.assertNull(APIListingUtil.searchAPIsForPublisher(apiPersistence, new Organization("carbon.super"),
+                UnifiedSearchConstants.QUERY_API_TYPE_APIS_PUBLISHER, 0, 10, adminUser()));
+        Mockito.verifyZeroInteractions(apiListingDAO, apiPersistence);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+
+        Mockito.when(configuration.getFirstProperty(APIConstants.API_LISTING_READ_MODEL_ENABLED)).thenReturn(null);
+
+        Assert.assertFalse(APIListingUtil.isEnabled());
+    }
+
+    @Test
+    public void testRefreshListingStoresTheAPI() throws Exception {
+
+        PublisherAPI api = new PublisherAPI();
+        api.setId("api1");
+        api.setType("HTTP");
+        api.setApiName("PizzaShack");
+        api.setVersion("1.0.0");
+        api.setContext("/pizzashack/1.0.0");
+        api.setContextTemplate("/pizzashack/{version}");
+        api.setProviderName("admin");
+        api.setStatus("PUBLISHED");
+        api.setVisibility("restricted");
+        api.setVisibleRoles("Internal/subscriber,Manager");
+        api.setTags(new HashSet<>(Arrays.asList("Food", "pizza")));
+        api.setDisplayName("Pizza Shack");
+        Mockito.when(apiPersistence.getPublisherAPI(Mockito.any(Organization.class), Mockito.eq("api1")))
+                .thenReturn(api);
+
+        APIListingUtil.refreshListing(apiPersistence, "carbon.super", "api1", false);
+
+        ArgumentCaptor<APIListingDTO> captor = ArgumentCaptor.forClass(APIListingDTO.class);
+        Mockito.verify(apiListingDAO).addOrUpdateListing(captor.capture());
+        APIListingDTO listing = captor.getValue();
+        Assert.assertEquals("api1", listing.getUuid());
+        Assert.assertEquals("carbon.super", listing.getOrganization());
+        Assert.assertEquals("PizzaShack", listing.getName());
+        Assert.assertEquals("/pizzashack/{version}", listing.getContext());
+        Assert.assertEquals("restricted", listing.getVisibility());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("internal/subscriber", "manager")),
+                listing.getDevPortalRoles());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("food", "pizza")), listing.getTags());
+        Assert.assertEquals(Collections.singleton("all"), listing.getVisibleOrganizations());
+        Assert.assertTrue(listing.getListingInfo().contains("Pizza Shack"));
+    }
+
+    @Test
+    public void testRefreshListingRemovesDeletedAPI() throws Exception {
+
+        APIListingUtil.refreshListing(apiPersistence, "carbon.super", "api2", false);
+
+        Mockito.verify(apiListingDAO).deleteListing("api2");
+        Mockito.verify(apiListingDAO, Mockito.never()).addOrUpdateListing(Mockito.any());
+    }
+
+    @Test
+    public void testSearchWithOtherCriteriaGoesToRegistry() throws Exception {
+
+        Assert.assertNull(APIListingUtil.searchAPIsForPublisher(apiPersistence, new Organization("carbon.super"),
+                "name:PizzaShack", 0, 10, adminUser()));
+        Assert.assertNull(APIListingUtil.searchAPIsForPublisher(apiPersistence, new Organization("carbon.super"),
+                "type:HTTP tag:food tag:pizza", 0, 10, adminUser()));
+        Mockito.verifyZeroInteractions(apiListingDAO);
+    }
+
+    @Test
+    public void testIncompleteListingGoesToRegistry() throws Exception {
+
+        Mockito.when(apiListingDAO.getAPIsWithoutListing("incomplete.org"))
+                .thenReturn(Collections.singletonMap("api3", "HTTP"));
+
+        Assert.assertNull(APIListingUtil.searchAPIsForPublisher(apiPersistence, new Organization("incomplete.org"),
+                UnifiedSearchConstants.QUERY_API_TYPE_APIS_PUBLISHER, 0, 10, adminUser()));
+        Mockito.verify(apiListingDAO, Mockito.never()).searchListings(Mockito.any(), Mockito.anyInt(),
+                Mockito.anyInt());
+    }
+
+    @Test
+    public void testPublisherListingServedFromReadModel() throws Exception {
+
+        APIListingDTO listing = new APIListingDTO();
+        listing.setUuid("api4");
+        listing.setType("HTTP");
+        listing.setName("PizzaShack");
+        listing.setVersion("1.0.0");
+        listing.setStatus("PUBLISHED");
+        listing.setListingInfo("{\"displayName\":\"Pizza Shack\"}");
+        Mockito.when(apiListingDAO.getAPIsWithoutListing("complete.org")).thenReturn(Collections.emptyMap());
+        Mockito.when(apiListingDAO.searchListings(Mockito.any(APIListingSearchDTO.class), Mockito.eq(10),
+                Mockito.eq(5))).thenReturn(Collections.singletonList(listing));
+        Mockito.when(apiListingDAO.getListingCount(Mockito.any(APIListingSearchDTO.class))).thenReturn(11);
+
+        PublisherAPISearchResult result = APIListingUtil.searchAPIsForPublisher(apiPersistence,
+                new Organization("complete.org"), "type:HTTP tag:Food", 10, 5, adminUser());
+
+        Assert.assertNotNull(result);
+        Assert.assertEquals(1, result.getReturnedAPIsCount());
+        Assert.assertEquals(11, result.getTotalAPIsCount());
+        Assert.assertEquals("api4", result.getPublisherAPIInfoList().get(0).getId());
+        Assert.assertEquals("Pizza Shack", result.getPublisherAPIInfoList().get(0).getDisplayName());
+        ArgumentCaptor<APIListingSearchDTO> captor = ArgumentCaptor.forClass(APIListingSearchDTO.class);
+        Mockito.verify(apiListingDAO).searchListings(captor.capture(), Mockito.eq(10), Mockito.eq(5));
+        Assert.assertEquals(Collections.singletonList("HTTP"), captor.getValue().getTypes());
+        Assert.assertEquals("food", captor.getValue().getTag());
+        Assert.assertNull(captor.getValue().getPublisherRoles());
+    }
+
+    private static UserContext adminUser() {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(org.wso2.carbon.apimgt.persistence.APIConstants.USER_CTX_PROPERTY_ISADMIN, true);
+        return new UserContext("admin", new Organization("carbon.super"), properties, new String[]{"admin"});
+    }
+}
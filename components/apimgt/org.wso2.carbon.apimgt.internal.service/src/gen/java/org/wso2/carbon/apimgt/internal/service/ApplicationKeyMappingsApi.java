@@ -44,7 +44,7 @@ ApplicationKeyMappingsApiService delegate = new ApplicationKeyMappingsApiService
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "An array of application key mappings in the database", response = ApplicationKeyMappingListDTO.class),
         @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
-    public Response applicationKeyMappingsGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Consumer Key of the application ")  @QueryParam("consumerKey") String consumerKey,  @ApiParam(value = "**Search condition**.  KeyManager associated to consumer_key of the application ")  @QueryParam("keymanager") String keymanager) throws APIManagementException{
+    public Response applicationKeyMappingsGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Consumer Key of the application. Repeat consumerKey and keymanager in pairs to get several key mappings. ")  @QueryParam("consumerKey") List<String> consumerKey,  @ApiParam(value = "**Search condition**.  KeyManager associated to consumer_key of the application. Repeat consumerKey and keymanager in pairs. ")  @QueryParam("keymanager") List<String> keymanager) throws APIManagementException{
         return delegate.applicationKeyMappingsGet(xWSO2Tenant, consumerKey, keymanager, securityContext);
     }
 }
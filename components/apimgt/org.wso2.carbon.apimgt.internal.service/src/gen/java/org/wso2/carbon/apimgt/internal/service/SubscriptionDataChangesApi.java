@@ -0,0 +1,50 @@
+package org.wso2.carbon.apimgt.internal.service;
+
+import org.wso2.carbon.apimgt.internal.service.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionDataChangeListDTO;
+import org.wso2.carbon.apimgt.internal.service.SubscriptionDataChangesApiService;
+import org.wso2.carbon.apimgt.internal.service.impl.SubscriptionDataChangesApiServiceImpl;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.inject.Inject;
+
+import io.swagger.annotations.*;
+import java.io.InputStream;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
+import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+
+import java.util.Map;
+import java.util.List;
+import javax.validation.constraints.*;
+@Path("/subscription-data-changes")
+
+@Api(description = "the subscription-data-changes API")
+
+
+
+
+public class SubscriptionDataChangesApi  {
+
+  @Context MessageContext securityContext;
+
+SubscriptionDataChangesApiService delegate = new SubscriptionDataChangesApiServiceImpl();
+
+
+    @GET
+    
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the changes of the subscription data", notes = "This will provide the changes of the subscription data of a tenant recorded after a given change, in the order they were recorded. ", response = SubscriptionDataChangeListDTO.class, tags={ "Subscription Validation" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "The changes of the subscription data recorded after the given change", response = SubscriptionDataChangeListDTO.class),
+        @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
+    public Response subscriptionDataChangesGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @NotNull @ApiParam(value = "Sequence of the last change known to the caller. The changes recorded after this change are returned. ",required=true)  @QueryParam("since") Long since,  @ApiParam(value = "Maximum number of changes to return. ", defaultValue="1000") @DefaultValue("1000") @QueryParam("limit") Integer limit) throws APIManagementException{
+        return delegate.subscriptionDataChangesGet(xWSO2Tenant, since, limit, securityContext);
+    }
+}
@@ -44,7 +44,7 @@ SubscriptionsApiService delegate = new SubscriptionsApiServiceImpl();
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "An array of subscriptions in the database", response = SubscriptionListDTO.class),
         @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
-    public Response subscriptionsGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.   Api ID  of the subscription ")  @QueryParam("apiId") Integer apiId,  @ApiParam(value = "**Search condition**.   Application ID  of the subscription ")  @QueryParam("appId") Integer appId,  @ApiParam(value = "**Search condition**.   Api UUID  of the subscription ")  @QueryParam("apiUUID") String apiUUID,  @ApiParam(value = "**Search condition**.   Application UUID  of the subscription ")  @QueryParam("applicationUUID") String applicationUUID) throws APIManagementException{
+    public Response subscriptionsGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.   Api ID  of the subscription. Repeat apiId and appId in pairs to get several subscriptions. ")  @QueryParam("apiId") List<Integer> apiId,  @ApiParam(value = "**Search condition**.   Application ID  of the subscription. Repeat apiId and appId in pairs to get several subscriptions. ")  @QueryParam("appId") List<Integer> appId,  @ApiParam(value = "**Search condition**.   Api UUID  of the subscription ")  @QueryParam("apiUUID") String apiUUID,  @ApiParam(value = "**Search condition**.   Application UUID  of the subscription ")  @QueryParam("applicationUUID") String applicationUUID) throws APIManagementException{
         return delegate.subscriptionsGet(xWSO2Tenant, apiId, appId, apiUUID, applicationUUID, securityContext);
     }
 }
@@ -0,0 +1,142 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import javax.validation.Valid;
+
+
+
+public class SubscriptionDataChangeDTO   {
+  
+    private Long sequence = null;
+    private String eventType = null;
+    private Long timeStamp = null;
+    private String event = null;
+
+  /**
+   **/
+  public SubscriptionDataChangeDTO sequence(Long sequence) {
+    this.sequence = sequence;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("sequence")
+  public Long getSequence() {
+    return sequence;
+  }
+  public void setSequence(Long sequence) {
+    this.sequence = sequence;
+  }
+
+  /**
+   **/
+  public SubscriptionDataChangeDTO eventType(String eventType) {
+    this.eventType = eventType;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("eventType")
+  public String getEventType() {
+    return eventType;
+  }
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  /**
+   **/
+  public SubscriptionDataChangeDTO timeStamp(Long timeStamp) {
+    this.timeStamp = timeStamp;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("timeStamp")
+  public Long getTimeStamp() {
+    return timeStamp;
+  }
+  public void setTimeStamp(Long timeStamp) {
+    this.timeStamp = timeStamp;
+  }
+
+  /**
+   * Event of the change serialized as JSON. 
+   **/
+  public SubscriptionDataChangeDTO event(String event) {
+    this.event = event;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "Event of the change serialized as JSON. ")
+  @JsonProperty("event")
+  public String getEvent() {
+    return event;
+  }
+  public void setEvent(String event) {
+    this.event = event;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubscriptionDataChangeDTO subscriptionDataChange = (SubscriptionDataChangeDTO) o;
+    return Objects.equals(sequence, subscriptionDataChange.sequence) &&
+        Objects.equals(eventType, subscriptionDataChange.eventType) &&
+        Objects.equals(timeStamp, subscriptionDataChange.timeStamp) &&
+        Objects.equals(event, subscriptionDataChange.event);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sequence, eventType, timeStamp, event);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubscriptionDataChangeDTO {\n");
+    
+    sb.append("    sequence: ").append(toIndentedString(sequence)).append("\n");
+    sb.append("    eventType: ").append(toIndentedString(eventType)).append("\n");
+    sb.append("    timeStamp: ").append(toIndentedString(timeStamp)).append("\n");
+    sb.append("    event: ").append(toIndentedString(event)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,148 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionDataChangeDTO;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import javax.validation.Valid;
+
+
+
+public class SubscriptionDataChangeListDTO   {
+  
+    private Boolean fullSyncRequired = null;
+    private Long latestSequence = null;
+    private Integer count = null;
+    private List<SubscriptionDataChangeDTO> list = new ArrayList<>();
+
+  /**
+   * Whether the changes since the given change are no longer available, in which case all the subscription data need to be reloaded. 
+   **/
+  public SubscriptionDataChangeListDTO fullSyncRequired(Boolean fullSyncRequired) {
+    this.fullSyncRequired = fullSyncRequired;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "false", value = "Whether the changes since the given change are no longer available, in which case all the subscription data need to be reloaded. ")
+  @JsonProperty("fullSyncRequired")
+  public Boolean isFullSyncRequired() {
+    return fullSyncRequired;
+  }
+  public void setFullSyncRequired(Boolean fullSyncRequired) {
+    this.fullSyncRequired = fullSyncRequired;
+  }
+
+  /**
+   * Sequence of the latest change recorded. 
+   **/
+  public SubscriptionDataChangeListDTO latestSequence(Long latestSequence) {
+    this.latestSequence = latestSequence;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "10", value = "Sequence of the latest change recorded. ")
+  @JsonProperty("latestSequence")
+  public Long getLatestSequence() {
+    return latestSequence;
+  }
+  public void setLatestSequence(Long latestSequence) {
+    this.latestSequence = latestSequence;
+  }
+
+  /**
+   * Number of changes returned. 
+   **/
+  public SubscriptionDataChangeListDTO count(Integer count) {
+    this.count = count;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "1", value = "Number of changes returned. ")
+  @JsonProperty("count")
+  public Integer getCount() {
+    return count;
+  }
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+
+  /**
+   **/
+  public SubscriptionDataChangeListDTO list(List<SubscriptionDataChangeDTO> list) {
+    this.list = list;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+      @Valid
+  @JsonProperty("list")
+  public List<SubscriptionDataChangeDTO> getList() {
+    return list;
+  }
+  public void setList(List<SubscriptionDataChangeDTO> list) {
+    this.list = list;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubscriptionDataChangeListDTO subscriptionDataChangeList = (SubscriptionDataChangeListDTO) o;
+    return Objects.equals(fullSyncRequired, subscriptionDataChangeList.fullSyncRequired) &&
+        Objects.equals(latestSequence, subscriptionDataChangeList.latestSequence) &&
+        Objects.equals(count, subscriptionDataChangeList.count) &&
+        Objects.equals(list, subscriptionDataChangeList.list);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fullSyncRequired, latestSequence, count, list);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubscriptionDataChangeListDTO {\n");
+    
+    sb.append("    fullSyncRequired: ").append(toIndentedString(fullSyncRequired)).append("\n");
+    sb.append("    latestSequence: ").append(toIndentedString(latestSequence)).append("\n");
+    sb.append("    count: ").append(toIndentedString(count)).append("\n");
+    sb.append("    list: ").append(toIndentedString(list)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -36,19 +36,29 @@ import javax.ws.rs.core.Response;
 public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappingsApiService {
 
     @Override
-    public Response applicationKeyMappingsGet(String xWSO2Tenant, String consumerKey, String keymanager,
+    public Response applicationKeyMappingsGet(String xWSO2Tenant, List<String> consumerKey, List<String> keymanager,
                                               MessageContext messageContext) throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
         String organization = RestApiUtil.getOrganization(messageContext);
 
-        if (StringUtils.isNotEmpty(consumerKey)) {
-            ApplicationKeyMapping keyMapping = subscriptionValidationDAO.getApplicationKeyMapping(consumerKey,
-                    keymanager, xWSO2Tenant);
+        if (consumerKey != null && !consumerKey.isEmpty()) {
+            if (keymanager != null && !keymanager.isEmpty() && keymanager.size() != consumerKey.size()) {
+                return Response.status(Response.Status.BAD_REQUEST.getStatusCode(),
+                        "consumerKey and keymanager have to be given in pairs.").build();
+            }
             List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-            if (keyMapping != null) {
-                applicationKeyMappings.add(keyMapping);
+            for (int i = 0; i < consumerKey.size(); i++) {
+                if (StringUtils.isEmpty(consumerKey.get(i))) {
+                    continue;
+                }
+                ApplicationKeyMapping keyMapping = subscriptionValidationDAO.getApplicationKeyMapping(
+                        consumerKey.get(i), keymanager != null && !keymanager.isEmpty() ? keymanager.get(i) : null,
+                        xWSO2Tenant);
+                if (keyMapping != null) {
+                    applicationKeyMappings.add(keyMapping);
+                }
             }
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(applicationKeyMappings)).build();
@@ -28,18 +28,24 @@ import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataU
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.core.Response;
 
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
     @Override
-    public Response applicationsGet(String xWSO2Tenant, Integer appId, MessageContext messageContext) {
+    public Response applicationsGet(String xWSO2Tenant, List<Integer> appId, MessageContext messageContext) {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
-        if (appId != null && appId > 0) {
-            List<Application> application = subscriptionValidationDAO.getApplicationById(appId);
-            return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(application)
+        if (appId != null && !appId.isEmpty()) {
+            List<Application> applications = new ArrayList<>();
+            for (Integer applicationId : appId) {
+                if (applicationId != null && applicationId > 0) {
+                    applications.addAll(subscriptionValidationDAO.getApplicationById(applicationId));
+                }
+            }
+            return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(applications)
             ).build();
         }
         xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
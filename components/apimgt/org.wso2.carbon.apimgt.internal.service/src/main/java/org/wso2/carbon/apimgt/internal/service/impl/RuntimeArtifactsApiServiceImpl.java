@@ -25,6 +25,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactCache;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
 import org.wso2.carbon.apimgt.internal.service.RuntimeArtifactsApiService;
 import org.wso2.carbon.apimgt.internal.service.dto.SynapseArtifactListDTO;
@@ -33,9 +34,12 @@ import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.List;
 
@@ -53,8 +57,17 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
         }
-        if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
-                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+        boolean allOrganizations = StringUtils.isNotEmpty(organization) &&
+                organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (StringUtils.isEmpty(apiId)) {
+            RuntimeArtifactCache.CachedArtifact cachedArtifact = RuntimeArtifactGeneratorUtil.getCachedRuntimeArtifact(
+                    gatewayLabel, type, allOrganizations ? null : xWSO2Tenant);
+            if (cachedArtifact != null) {
+                return getCachedArtifactResponse(cachedArtifact, messageContext);
+            }
+        }
+        if (allOrganizations) {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifact(apiId,
                     gatewayLabel, type);
         } else {
@@ -90,4 +103,41 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Responds with a cached artifact, streaming it from the disk, or with 304 Not Modified if the gateway already has
+     * the artifact with the same ETag.
+     */
+    private Response getCachedArtifactResponse(RuntimeArtifactCache.CachedArtifact cachedArtifact,
+                                               MessageContext messageContext) throws APIManagementException {
+
+        String ifNoneMatch = messageContext.getHttpHeaders() != null ?
+                messageContext.getHttpHeaders().getHeaderString(HttpHeaders.IF_NONE_MATCH) : null;
+        if (ifNoneMatch != null) {
+            for (String eTag : ifNoneMatch.split(",")) {
+                eTag = StringUtils.removeStart(eTag.trim(), "W/");
+                if ("*".equals(eTag) || cachedArtifact.getETag().equals(StringUtils.strip(eTag, "\""))) {
+                    return Response.notModified(cachedArtifact.getETag()).build();
+                }
+            }
+        }
+        // the file is opened before responding so that it can still be read if the entry is evicted meanwhile
+        InputStream artifact;
+        try {
+            artifact = Files.newInputStream(cachedArtifact.getFile());
+        } catch (IOException e) {
+            throw new APIManagementException("Error while reading cached runtime artifacts", e);
+        }
+        StreamingOutput streamingOutput = (outputStream) -> {
+            try (InputStream inputStream = artifact) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        };
+        return Response.ok(streamingOutput).tag(cachedArtifact.getETag())
+                .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+    }
+}
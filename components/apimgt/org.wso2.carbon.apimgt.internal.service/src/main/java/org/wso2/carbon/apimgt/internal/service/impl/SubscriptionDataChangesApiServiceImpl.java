@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.internal.service.SubscriptionDataChangesApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionDataChangeListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
+
+import java.util.List;
+import javax.ws.rs.core.Response;
+
+public class SubscriptionDataChangesApiServiceImpl implements SubscriptionDataChangesApiService {
+
+    private static final int DEFAULT_LIMIT = 1000;
+
+    /**
+     * Returns the changes of the subscription data recorded after the given change. If the changes since the given
+     * change are no longer retained, or there are more changes than the limit, the caller is asked to reload all the
+     * subscription data instead.
+     */
+    @Override
+    public Response subscriptionDataChangesGet(String xWSO2Tenant, Long since, Integer limit,
+                                               MessageContext messageContext) throws APIManagementException {
+
+        xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+        // read the latest change first so that the changes returned are never behind it
+        long latestSequence = subscriptionValidationDAO.getLatestSubscriptionDataChangeId();
+        long sinceSequence = since != null ? since : -1;
+        int maxChanges = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        if (isFullSyncRequired(sinceSequence, latestSequence,
+                subscriptionValidationDAO.getOldestSubscriptionDataChangeId())) {
+            return Response.ok().entity(fullSyncRequired(latestSequence)).build();
+        }
+        List<SubscriptionDataChange> changes =
+                subscriptionValidationDAO.getSubscriptionDataChanges(xWSO2Tenant, sinceSequence, maxChanges + 1);
+        if (changes.size() > maxChanges) {
+            return Response.ok().entity(fullSyncRequired(latestSequence)).build();
+        }
+        return Response.ok().entity(SubscriptionValidationDataUtil
+                .fromSubscriptionDataChangeToSubscriptionDataChangeListDTO(changes, latestSequence)).build();
+    }
+
+    static boolean isFullSyncRequired(long since, long latestSequence, long oldestSequence) {
+
+        if (since < 0 || since > latestSequence) {
+            return true;
+        }
+        // the changes right after the given change have been removed from the change log
+        return oldestSequence > 0 && since < oldestSequence - 1;
+    }
+
+    private static SubscriptionDataChangeListDTO fullSyncRequired(long latestSequence) {
+
+        SubscriptionDataChangeListDTO subscriptionDataChangeListDTO = new SubscriptionDataChangeListDTO();
+        subscriptionDataChangeListDTO.setFullSyncRequired(true);
+        subscriptionDataChangeListDTO.setLatestSequence(latestSequence);
+        subscriptionDataChangeListDTO.setCount(0);
+        return subscriptionDataChangeListDTO;
+    }
+}
@@ -36,7 +36,7 @@ import javax.ws.rs.core.Response;
 public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
     @Override
-    public Response subscriptionsGet(String xWSO2Tenant, Integer apiId, Integer appId, String apiUUID,
+    public Response subscriptionsGet(String xWSO2Tenant, List<Integer> apiId, List<Integer> appId, String apiUUID,
                                      String applicationUUID, MessageContext messageContext) throws
             APIManagementException {
 
@@ -53,10 +53,16 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
-        } else if (apiId != null && appId != null) {
-            Subscription subscription = subscriptionValidationDAO.getSubscription(apiId, appId);
-            if (subscription != null) {
-                subscriptionList.add(subscription);
+        } else if (apiId != null && !apiId.isEmpty() && appId != null && !appId.isEmpty()) {
+            if (apiId.size() != appId.size()) {
+                return Response.status(Response.Status.BAD_REQUEST.getStatusCode(),
+                        "apiId and appId have to be given in pairs.").build();
+            }
+            for (int i = 0; i < apiId.size(); i++) {
+                Subscription subscription = subscriptionValidationDAO.getSubscription(apiId.get(i), appId.get(i));
+                if (subscription != null) {
+                    subscriptionList.add(subscription);
+                }
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
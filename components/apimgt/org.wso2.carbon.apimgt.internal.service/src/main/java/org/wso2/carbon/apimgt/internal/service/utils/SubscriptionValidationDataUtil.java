@@ -41,6 +41,7 @@ import org.wso2.carbon.apimgt.api.model.subscription.ApplicationPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.GlobalPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.Policy;
 import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
 import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
 import org.wso2.carbon.apimgt.internal.service.dto.*;
@@ -340,6 +341,24 @@ public class SubscriptionValidationDataUtil {
         return subscriptionListDTO;
     }
 
+    public static SubscriptionDataChangeListDTO fromSubscriptionDataChangeToSubscriptionDataChangeListDTO(
+            List<SubscriptionDataChange> model, long latestSequence) {
+
+        SubscriptionDataChangeListDTO subscriptionDataChangeListDTO = new SubscriptionDataChangeListDTO();
+        subscriptionDataChangeListDTO.setFullSyncRequired(false);
+        subscriptionDataChangeListDTO.setLatestSequence(latestSequence);
+        for (SubscriptionDataChange change : model) {
+            SubscriptionDataChangeDTO subscriptionDataChangeDTO = new SubscriptionDataChangeDTO();
+            subscriptionDataChangeDTO.setSequence(change.getSequence());
+            subscriptionDataChangeDTO.setEventType(change.getEventType());
+            subscriptionDataChangeDTO.setTimeStamp(change.getTimeStamp());
+            subscriptionDataChangeDTO.setEvent(change.getEvent());
+            subscriptionDataChangeListDTO.getList().add(subscriptionDataChangeDTO);
+        }
+        subscriptionDataChangeListDTO.setCount(model.size());
+        return subscriptionDataChangeListDTO;
+    }
+
     public static SubscriptionPolicyListDTO fromSubscriptionPolicyToSubscriptionPolicyListDTO(
             List<SubscriptionPolicy> model) {
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionDataChangeListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
+
+import java.util.Collections;
+
+public class SubscriptionDataChangesApiServiceImplTest {
+
+    @Test
+    public void testChangesSinceAKnownSequenceAreServed() {
+
+        Assert.assertFalse(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(10, 20, 5));
+        Assert.assertFalse(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(20, 20, 5));
+        // the change right after the given one is the oldest retained
+        Assert.assertFalse(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(4, 20, 5));
+        // nothing has been recorded yet
+        Assert.assertFalse(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(0, 0, 0));
+    }
+
+    @Test
+    public void testFullSyncIsRequiredWithoutAllTheChanges() {
+
+        // the caller only asks for the latest sequence
+        Assert.assertTrue(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(-1, 20, 5));
+        // the changes right after the given one have been purged
+        Assert.assertTrue(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(3, 20, 5));
+        // the given change is not of this change log, e.g. after the database was restored
+        Assert.assertTrue(SubscriptionDataChangesApiServiceImpl.isFullSyncRequired(21, 20, 5));
+    }
+
+    @Test
+    public void testChangesAreConverted() {
+
+        SubscriptionDataChange change = new SubscriptionDataChange();
+        change.setSequence(11);
+        change.setEventType("SUBSCRIPTIONS_CREATE");
+        change.setTimeStamp(1000);
+        change.setEvent("{\"subscriptionUUID\":\"sub1\"}");
+
+        SubscriptionDataChangeListDTO changeListDTO = SubscriptionValidationDataUtil
+                .fromSubscriptionDataChangeToSubscriptionDataChangeListDTO(Collections.singletonList(change), 20);
+
+        Assert.assertFalse(changeListDTO.isFullSyncRequired());
+        Assert.assertEquals(Long.valueOf(20), changeListDTO.getLatestSequence());
+        Assert.assertEquals(Integer.valueOf(1), changeListDTO.getCount());
+        Assert.assertEquals(Long.valueOf(11), changeListDTO.getList().get(0).getSequence());
+        Assert.assertEquals("SUBSCRIPTIONS_CREATE", changeListDTO.getList().get(0).getEventType());
+        Assert.assertEquals(Long.valueOf(1000), changeListDTO.getList().get(0).getTimeStamp());
+        Assert.assertEquals("{\"subscriptionUUID\":\"sub1\"}", changeListDTO.getList().get(0).getEvent());
+    }
+}
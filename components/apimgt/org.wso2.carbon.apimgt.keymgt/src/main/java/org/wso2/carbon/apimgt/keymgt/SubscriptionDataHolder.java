@@ -19,8 +19,15 @@ package org.wso2.carbon.apimgt.keymgt;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataSnapshot;
+import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataDeltaLoader;
+import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreImpl;
+import org.wso2.carbon.apimgt.keymgt.service.KeyManagerDataServiceImpl;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -55,6 +62,26 @@ public class SubscriptionDataHolder {
         SubscriptionDataStore tenantStore = subscriptionStore.get(tenantDomain);
         if (tenantStore != null) {
             tenantStore.init();
+            scheduleDeltaSync(tenantStore, getDeltaLoader());
+        }
+    }
+
+    /**
+     * Initializes the subscription data store of a tenant with the data of a snapshot, which are served until they
+     * are reconciled with the control plane in the background.
+     *
+     * @param tenantDomain tenant domain
+     * @param snapshot     snapshot of the subscription data store of the tenant
+     */
+    public void initializeSubscriptionStore(String tenantDomain, SubscriptionDataSnapshot snapshot) {
+
+        SubscriptionDataStore tenantStore = subscriptionStore.get(tenantDomain);
+        if (snapshot != null && tenantStore instanceof SubscriptionDataStoreImpl) {
+            SubscriptionDataDeltaLoader deltaLoader = getDeltaLoader();
+            ((SubscriptionDataStoreImpl) tenantStore).initFromSnapshot(snapshot, deltaLoader);
+            scheduleDeltaSync(tenantStore, deltaLoader);
+        } else {
+            initializeSubscriptionStore(tenantDomain);
         }
     }
 
@@ -84,9 +111,22 @@ public class SubscriptionDataHolder {
     }
 
     public void refreshSubscriptionStore() {
+        SubscriptionDataDeltaLoader deltaLoader = getDeltaLoader();
         subscriptionStore.keySet().forEach(tenant -> {
+            SubscriptionDataStore tenantStore = subscriptionStore.get(tenant);
+            if (deltaLoader != null && tenantStore instanceof SubscriptionDataStoreImpl
+                    && deltaLoader.sync((SubscriptionDataStoreImpl) tenantStore)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Subscription data store for tenant: " + tenant + " is brought up to date with the "
+                            + "recorded changes");
+                }
+                return;
+            }
             // Cleaning the existing SubscriptionDataStore instance before re-population
-            subscriptionStore.put(tenant, new SubscriptionDataStoreImpl(tenant));
+            SubscriptionDataStore previousStore = subscriptionStore.put(tenant, new SubscriptionDataStoreImpl(tenant));
+            if (previousStore instanceof SubscriptionDataStoreImpl) {
+                ((SubscriptionDataStoreImpl) previousStore).stopDeltaSync();
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Refreshing subscription data store for tenant: " + tenant);
             }
@@ -94,4 +134,25 @@ public class SubscriptionDataHolder {
         });
     }
 
+    private void scheduleDeltaSync(SubscriptionDataStore tenantStore, SubscriptionDataDeltaLoader deltaLoader) {
+
+        if (deltaLoader != null && tenantStore instanceof SubscriptionDataStoreImpl) {
+            ((SubscriptionDataStoreImpl) tenantStore).scheduleDeltaSync(deltaLoader);
+        }
+    }
+
+    private SubscriptionDataDeltaLoader getDeltaLoader() {
+
+        APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance()
+                .getAPIManagerConfigurationService().getAPIManagerConfiguration();
+        EventHubConfigurationDto.DeltaSyncConfiguration deltaSyncConfiguration =
+                configuration.getEventHubConfigurationDto().getDeltaSyncConfiguration();
+        if (deltaSyncConfiguration == null || !deltaSyncConfiguration.isEnabled()) {
+            return null;
+        }
+        return new SubscriptionDataDeltaLoader(new SubscriptionDataLoaderImpl(), new KeyManagerDataServiceImpl(),
+                configuration.getGatewayArtifactSynchronizerProperties().getGatewayLabels(),
+                deltaSyncConfiguration.getMaxChanges());
+    }
+
 }
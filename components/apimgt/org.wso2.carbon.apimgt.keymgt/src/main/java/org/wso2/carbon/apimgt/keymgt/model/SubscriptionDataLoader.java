@@ -25,9 +25,11 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMapping;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataChangeList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -119,6 +121,38 @@ public interface SubscriptionDataLoader {
     public ApplicationKeyMapping getKeyMapping(String consumerKey, String keyManager, String tenantDomain)
             throws DataLoadingException;
 
+    /**
+     * Retrieve the Subscriptions of the given application and API id pairs in a single call.
+     *
+     * @param appIds Application ids
+     * @param apiIds API ids, one for each application id
+     * @return A list of the {@link Subscription}s found.
+     * @throws DataLoadingException If any error
+     */
+    public List<Subscription> getSubscriptions(List<Integer> appIds, List<Integer> apiIds)
+            throws DataLoadingException;
+
+    /**
+     * Retrieve the Applications of the given ids in a single call.
+     *
+     * @param appIds Application ids
+     * @return A list of the {@link Application}s found.
+     * @throws DataLoadingException If any error
+     */
+    public List<Application> getApplicationsByIds(Collection<Integer> appIds) throws DataLoadingException;
+
+    /**
+     * Retrieve the Key Mappings of the given consumer key and key manager pairs in a single call.
+     *
+     * @param consumerKeys Consumer keys
+     * @param keyManagers  Key manager names, one for each consumer key
+     * @param tenantDomain Tenant domain
+     * @return A list of the {@link ApplicationKeyMapping}s found.
+     * @throws DataLoadingException If any error
+     */
+    public List<ApplicationKeyMapping> getKeyMappings(List<String> consumerKeys, List<String> keyManagers,
+                                                      String tenantDomain) throws DataLoadingException;
+
     /**
      * Retrieve {@link API} object.
      *
@@ -163,6 +197,18 @@ public interface SubscriptionDataLoader {
      */
     public List<API> loadAllTenantApiMetadata() throws DataLoadingException ;
 
+    /**
+     * Load the changes of the subscription data of a tenant recorded after the given change.
+     *
+     * @param since        sequence of the last change applied, or a negative value to only get the latest sequence
+     * @param limit        maximum number of changes to load
+     * @param tenantDomain tenant
+     * @return A {@link SubscriptionDataChangeList}.
+     * @throws DataLoadingException If any error
+     */
+    SubscriptionDataChangeList loadSubscriptionDataChanges(long since, int limit, String tenantDomain)
+            throws DataLoadingException;
+
     /**
      * Internally subscribe to an API.
      * @param api API to subscribe to
@@ -34,6 +34,16 @@ public class ApplicationKeyMappingCacheKey {
         this.keyManager = keyManager;
     }
 
+    public String getConsumerKey() {
+
+        return consumerKey;
+    }
+
+    public String getKeyManager() {
+
+        return keyManager;
+    }
+
     @Override
     public boolean equals(Object o) {
 
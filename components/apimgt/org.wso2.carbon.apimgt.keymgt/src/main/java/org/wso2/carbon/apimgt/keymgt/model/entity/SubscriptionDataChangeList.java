@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes of the subscription data of a tenant recorded after a given change.
+ */
+public class SubscriptionDataChangeList {
+
+    private boolean fullSyncRequired;
+    private long latestSequence;
+    private Integer count = null;
+    private List<SubscriptionDataChange> list = new ArrayList<>();
+
+    public boolean isFullSyncRequired() {
+
+        return fullSyncRequired;
+    }
+
+    public void setFullSyncRequired(boolean fullSyncRequired) {
+
+        this.fullSyncRequired = fullSyncRequired;
+    }
+
+    public long getLatestSequence() {
+
+        return latestSequence;
+    }
+
+    public void setLatestSequence(long latestSequence) {
+
+        this.latestSequence = latestSequence;
+    }
+
+    public Integer getCount() {
+
+        return count;
+    }
+
+    public void setCount(Integer count) {
+
+        this.count = count;
+    }
+
+    public List<SubscriptionDataChange> getList() {
+
+        return list;
+    }
+
+    public void setList(List<SubscriptionDataChange> list) {
+
+        this.list = list;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contents of the subscription data store of a tenant along with the last subscription data change the store has
+ * seen, which is kept by the gateway to serve from when it restarts.
+ */
+public class SubscriptionDataSnapshot {
+
+    private long changeSequence = -1;
+    private List<API> apis = new ArrayList<>();
+    private List<Application> applications = new ArrayList<>();
+    private List<Subscription> subscriptions = new ArrayList<>();
+    private List<ApplicationKeyMapping> keyMappings = new ArrayList<>();
+    private List<ApiPolicy> apiPolicies = new ArrayList<>();
+    private List<SubscriptionPolicy> subscriptionPolicies = new ArrayList<>();
+    private List<ApplicationPolicy> applicationPolicies = new ArrayList<>();
+    private List<Scope> scopes = new ArrayList<>();
+
+    public long getChangeSequence() {
+
+        return changeSequence;
+    }
+
+    public void setChangeSequence(long changeSequence) {
+
+        this.changeSequence = changeSequence;
+    }
+
+    public List<API> getApis() {
+
+        return apis;
+    }
+
+    public void setApis(List<API> apis) {
+
+        this.apis = apis;
+    }
+
+    public List<Application> getApplications() {
+
+        return applications;
+    }
+
+    public void setApplications(List<Application> applications) {
+
+        this.applications = applications;
+    }
+
+    public List<Subscription> getSubscriptions() {
+
+        return subscriptions;
+    }
+
+    public void setSubscriptions(List<Subscription> subscriptions) {
+
+        this.subscriptions = subscriptions;
+    }
+
+    public List<ApplicationKeyMapping> getKeyMappings() {
+
+        return keyMappings;
+    }
+
+    public void setKeyMappings(List<ApplicationKeyMapping> keyMappings) {
+
+        this.keyMappings = keyMappings;
+    }
+
+    public List<ApiPolicy> getApiPolicies() {
+
+        return apiPolicies;
+    }
+
+    public void setApiPolicies(List<ApiPolicy> apiPolicies) {
+
+        this.apiPolicies = apiPolicies;
+    }
+
+    public List<SubscriptionPolicy> getSubscriptionPolicies() {
+
+        return subscriptionPolicies;
+    }
+
+    public void setSubscriptionPolicies(List<SubscriptionPolicy> subscriptionPolicies) {
+
+        this.subscriptionPolicies = subscriptionPolicies;
+    }
+
+    public List<ApplicationPolicy> getApplicationPolicies() {
+
+        return applicationPolicies;
+    }
+
+    public void setApplicationPolicies(List<ApplicationPolicy> applicationPolicies) {
+
+        this.applicationPolicies = applicationPolicies;
+    }
+
+    public List<Scope> getScopes() {
+
+        return scopes;
+    }
+
+    public void setScopes(List<Scope> scopes) {
+
+        this.scopes = scopes;
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Loads the entities missing in the in-memory subscription data store from the internal API. Concurrent loads of the
+ * same key share a single call through a {@link CompletableFuture} per key, and loads of different keys do not block
+ * each other.
+ * <p>
+ * Keys which are not found are remembered for the negative cache TTL so that repeated lookups of unknown keys do not
+ * reach the internal API. Entities loaded by this loader are reloaded in the background once they are older than the
+ * entity TTL, if one is set. Once the number of concurrent misses reaches the bulk load threshold, for instance right
+ * after a gateway starts, the further misses are queued and the queued keys are loaded together in a single call,
+ * while the loads in progress complete.
+ *
+ * @param <K> type of the cache key of the entity
+ * @param <V> type of the entity
+ */
+public class SingleFlightLoader<K, V> {
+
+    private static final Log log = LogFactory.getLog(SingleFlightLoader.class);
+    private static final int MAX_NEGATIVE_CACHE_SIZE = 10000;
+    private static final int MAX_BULK_LOAD_SIZE = 100;
+
+    /**
+     * Loads a single entity.
+     *
+     * @param <V> type of the entity
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+
+        /**
+         * @return the loaded entity, or null if it does not exist
+         */
+        V load() throws APIManagementException;
+    }
+
+    /**
+     * Loads the entities of several keys in a single call.
+     *
+     * @param <K> type of the cache key of the entity
+     * @param <V> type of the entity
+     */
+    @FunctionalInterface
+    public interface BulkLoader<K, V> {
+
+        /**
+         * @param keys cache keys of the entities
+         * @return the entities which exist, by their cache keys
+         */
+        Map<K, V> load(Collection<K> keys) throws APIManagementException;
+    }
+
+    private final String entityType;
+    private final Function<K, V> cache;
+    private final Consumer<V> onLoad;
+    private final BulkLoader<K, V> bulkLoader;
+    private final long negativeCacheTTL;
+    private final long entityTTL;
+    private final int bulkLoadThreshold;
+    private final Map<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Map<K, Long> negativeCache = new ConcurrentHashMap<>();
+    private final Map<K, Long> loadedTimes = new ConcurrentHashMap<>();
+    // keys claimed in inFlightLoads which wait for the next bulk load
+    private final Queue<K> pendingBulkLoads = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock bulkLoadLock = new ReentrantLock();
+
+    /**
+     * @param entityType        name of the entity type used in logs
+     * @param cache             returns the entity of the given key from the data store
+     * @param onLoad            adds a loaded entity to the data store
+     * @param bulkLoader        loads the entities of several keys. Bulk loading is disabled if this is null.
+     * @param negativeCacheTTL  time in milliseconds to remember keys which were not found
+     * @param entityTTL         time in milliseconds after which a loaded entity is reloaded. Loaded entities never
+     *                          expire if this is not positive.
+     * @param bulkLoadThreshold number of concurrent misses from which further misses are resolved with a bulk load.
+     *                          Bulk loading is disabled if this is not positive.
+     */
+    public SingleFlightLoader(String entityType, Function<K, V> cache, Consumer<V> onLoad,
+                              BulkLoader<K, V> bulkLoader, long negativeCacheTTL, long entityTTL,
+                              int bulkLoadThreshold) {
+
+        this.entityType = entityType;
+        this.cache = cache;
+        this.onLoad = onLoad;
+        this.bulkLoader = bulkLoader;
+        this.negativeCacheTTL = negativeCacheTTL;
+        this.entityTTL = entityTTL;
+        this.bulkLoadThreshold = bulkLoadThreshold;
+    }
+
+    /**
+     * Loads the entity of the given key, which is missing in the data store. If the entity of the key is already
+     * being loaded, this waits for that load instead of loading it again.
+     *
+     * @param key    cache key of the entity
+     * @param loader loads the entity of the key
+     * @return the loaded entity, or null if it does not exist or could not be loaded
+     */
+    public V load(K key, Loader<V> loader) {
+
+        if (isNegativelyCached(key)) {
+            if (log.isDebugEnabled()) {
+                log.debug(entityType + " " + key + " was not found recently. Skipped loading it again.");
+            }
+            return null;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+        if (inFlightLoad != null) {
+            return inFlightLoad.join();
+        }
+        if (isBulkLoadEnabled() && inFlightLoads.size() > bulkLoadThreshold) {
+            pendingBulkLoads.add(key);
+            loadPending();
+            return future.join();
+        }
+        V entity = null;
+        try {
+            entity = loader.load();
+            if (entity != null) {
+                onLoad.accept(entity);
+                markLoaded(key);
+            } else {
+                addToNegativeCache(key);
+            }
+        } catch (APIManagementException | RuntimeException e) {
+            log.error("Error while loading " + entityType + " " + key + " from the internal API", e);
+        } finally {
+            future.complete(entity);
+            inFlightLoads.remove(key, future);
+        }
+        return entity;
+    }
+
+    /**
+     * Reloads the entity of the given key in the background if it is older than the entity TTL.
+     *
+     * @param key      cache key of the entity
+     * @param loader   loads the entity of the key
+     * @param executor executor to reload the entity on
+     */
+    public void refreshIfExpired(K key, Loader<V> loader, Executor executor) {
+
+        if (entityTTL <= 0) {
+            return;
+        }
+        Long loadedTime = loadedTimes.get(key);
+        if (loadedTime == null || System.currentTimeMillis() - loadedTime < entityTTL
+                || inFlightLoads.containsKey(key)) {
+            return;
+        }
+        // avoid scheduling the same reload from concurrent lookups
+        if (!loadedTimes.replace(key, loadedTime, System.currentTimeMillis())) {
+            return;
+        }
+        executor.execute(() -> {
+            loadedTimes.remove(key);
+            load(key, loader);
+        });
+    }
+
+    /**
+     * Loads the entities of the given keys which are missing in the data store. Keys which are already being loaded
+     * are waited for, and the rest are loaded together in bulk loads of up to {@value #MAX_BULK_LOAD_SIZE} keys.
+     *
+     * @param keys          cache keys of the entities
+     * @param loaderFactory returns the loader of the entity of a key, used if bulk loading is disabled
+     * @return the entities of the given keys which exist, including the ones already in the data store
+     */
+    public Map<K, V> loadMissing(Collection<K> keys, Function<K, Loader<V>> loaderFactory) {
+
+        Map<K, V> entities = new HashMap<>();
+        Map<K, CompletableFuture<V>> loads = new HashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            V entity = cache.apply(key);
+            if (entity != null) {
+                entities.put(key, entity);
+            } else if (isNegativelyCached(key)) {
+                if (log.isDebugEnabled()) {
+                    log.debug(entityType + " " + key + " was not found recently. Skipped loading it again.");
+                }
+            } else if (isBulkLoadEnabled()) {
+                CompletableFuture<V> future = new CompletableFuture<>();
+                CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+                if (inFlightLoad == null) {
+                    pendingBulkLoads.add(key);
+                    loads.put(key, future);
+                } else {
+                    loads.put(key, inFlightLoad);
+                }
+            } else {
+                entity = load(key, loaderFactory.apply(key));
+                if (entity != null) {
+                    entities.put(key, entity);
+                }
+            }
+        }
+        loadPending();
+        for (Map.Entry<K, CompletableFuture<V>> load : loads.entrySet()) {
+            V entity = load.getValue().join();
+            if (entity != null) {
+                entities.put(load.getKey(), entity);
+            }
+        }
+        return entities;
+    }
+
+    private boolean isBulkLoadEnabled() {
+
+        return bulkLoader != null && bulkLoadThreshold > 0;
+    }
+
+    /**
+     * Loads the queued keys unless another thread is already doing so. The thread holding the lock checks the queue
+     * again after releasing it, so keys queued while it was loading are not left behind.
+     */
+    private void loadPending() {
+
+        while (!pendingBulkLoads.isEmpty() && bulkLoadLock.tryLock()) {
+            try {
+                List<K> keys = new ArrayList<>();
+                K key;
+                while (keys.size() < MAX_BULK_LOAD_SIZE && (key = pendingBulkLoads.poll()) != null) {
+                    keys.add(key);
+                }
+                if (!keys.isEmpty()) {
+                    bulkLoad(keys);
+                }
+            } finally {
+                bulkLoadLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Loads the entities of the given keys in a single call and completes their in-flight loads.
+     *
+     * @param keys cache keys claimed in the in-flight loads
+     */
+    private void bulkLoad(List<K> keys) {
+
+        Map<K, V> entities = null;
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Loading " + keys.size() + " " + entityType + " entities in bulk as "
+                        + inFlightLoads.size() + " entities are being loaded concurrently");
+            }
+            entities = bulkLoader.load(keys);
+            if (entities == null) {
+                entities = new HashMap<>();
+            }
+            for (K key : keys) {
+                V entity = entities.get(key);
+                if (entity != null) {
+                    onLoad.accept(entity);
+                    markLoaded(key);
+                } else {
+                    addToNegativeCache(key);
+                }
+            }
+        } catch (APIManagementException | RuntimeException e) {
+            log.error("Error while loading " + keys.size() + " " + entityType + " entities from the internal API",
+                    e);
+        } finally {
+            for (K key : keys) {
+                CompletableFuture<V> future = inFlightLoads.remove(key);
+                if (future != null) {
+                    future.complete(entities != null ? entities.get(key) : null);
+                }
+            }
+        }
+    }
+
+    private boolean isNegativelyCached(K key) {
+
+        Long expiryTime = negativeCache.get(key);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime > System.currentTimeMillis()) {
+            return true;
+        }
+        negativeCache.remove(key, expiryTime);
+        return false;
+    }
+
+    private void addToNegativeCache(K key) {
+
+        if (negativeCacheTTL <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (negativeCache.size() >= MAX_NEGATIVE_CACHE_SIZE) {
+            Iterator<Long> expiryTimes = negativeCache.values().iterator();
+            while (expiryTimes.hasNext()) {
+                if (expiryTimes.next() <= now) {
+                    expiryTimes.remove();
+                }
+            }
+            if (negativeCache.size() >= MAX_NEGATIVE_CACHE_SIZE) {
+                return;
+            }
+        }
+        negativeCache.put(key, now + negativeCacheTTL);
+    }
+
+    private void markLoaded(K key) {
+
+        negativeCache.remove(key);
+        if (entityTTL > 0) {
+            loadedTimes.put(key, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Notifies that the entity of the given key was added or updated in the data store by an event.
+     *
+     * @param key cache key of the entity
+     */
+    public void onUpdate(K key) {
+
+        negativeCache.remove(key);
+        if (entityTTL > 0 && loadedTimes.containsKey(key)) {
+            loadedTimes.put(key, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Notifies that the entity of the given key was removed from the data store.
+     *
+     * @param key cache key of the entity
+     */
+    public void onRemove(K key) {
+
+        negativeCache.remove(key);
+        loadedTimes.remove(key);
+    }
+}
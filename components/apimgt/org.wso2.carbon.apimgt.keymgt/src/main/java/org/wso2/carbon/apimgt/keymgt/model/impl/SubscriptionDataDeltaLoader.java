@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.model.APIStatus;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.keymgt.KeyManagerDataService;
+import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationRegistrationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataLoader;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataChangeList;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Brings the subscription data store of a tenant up to date by applying the changes recorded by the control plane
+ * since the last change the store has seen, instead of reloading all the subscription data. The changes are the same
+ * events the gateway receives through the event hub, hence applying a change more than once has no effect.
+ * <p>
+ * If the store does not know the last change it has seen, or the control plane no longer has all the changes since
+ * then, or there are more changes than the configured maximum, the changes are not applied and the caller has to
+ * reload all the subscription data.
+ */
+public class SubscriptionDataDeltaLoader {
+
+    private static final Log log = LogFactory.getLog(SubscriptionDataDeltaLoader.class);
+
+    private final SubscriptionDataLoader subscriptionDataLoader;
+    private final KeyManagerDataService keyManagerDataService;
+    private final Set<String> gatewayLabels;
+    private final int maxChanges;
+
+    public SubscriptionDataDeltaLoader(SubscriptionDataLoader subscriptionDataLoader,
+                                       KeyManagerDataService keyManagerDataService, Set<String> gatewayLabels,
+                                       int maxChanges) {
+
+        this.subscriptionDataLoader = subscriptionDataLoader;
+        this.keyManagerDataService = keyManagerDataService;
+        this.gatewayLabels = gatewayLabels;
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Applies the changes recorded since the last change the given store has seen.
+     *
+     * @param store subscription data store of a tenant
+     * @return true if the store is up to date, false if all the subscription data have to be reloaded
+     */
+    public boolean sync(SubscriptionDataStoreImpl store) {
+
+        // syncs of a store run one at a time, so that the sequence of the store never goes back
+        synchronized (store) {
+            long since = store.getChangeSequence();
+            String tenantDomain = store.getTenantDomain();
+            if (since < 0) {
+                return false;
+            }
+            SubscriptionDataChangeList changes;
+            try {
+                changes = subscriptionDataLoader.loadSubscriptionDataChanges(since, maxChanges, tenantDomain);
+            } catch (DataLoadingException e) {
+                log.error("Error while loading the subscription data changes of tenant " + tenantDomain, e);
+                return false;
+            }
+            if (changes == null || changes.isFullSyncRequired() || changes.getList() == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Subscription data changes of tenant " + tenantDomain + " since " + since
+                            + " are not available");
+                }
+                return false;
+            }
+            for (SubscriptionDataChange change : changes.getList()) {
+                try {
+                    apply(change);
+                } catch (JsonSyntaxException e) {
+                    log.error("Error while applying subscription data change " + change.getSequence()
+                            + " of tenant " + tenantDomain, e);
+                    return false;
+                }
+            }
+            // the changes returned include all the changes of the tenant up to the latest sequence
+            store.setChangeSequence(Math.max(since, changes.getLatestSequence()));
+            if (log.isDebugEnabled()) {
+                log.debug("Applied " + changes.getList().size() + " subscription data changes of tenant "
+                        + tenantDomain + " since " + since);
+            }
+            return true;
+        }
+    }
+
+    private void apply(SubscriptionDataChange change) {
+
+        String eventType = change.getEventType();
+        String eventJson = change.getEvent();
+        if (eventType == null || eventJson == null) {
+            return;
+        }
+        Gson gson = new Gson();
+        if (APIConstants.EventType.APPLICATION_CREATE.name().equals(eventType)
+                || APIConstants.EventType.APPLICATION_UPDATE.name().equals(eventType)) {
+            keyManagerDataService.addOrUpdateApplication(gson.fromJson(eventJson, ApplicationEvent.class));
+        } else if (APIConstants.EventType.APPLICATION_DELETE.name().equals(eventType)) {
+            keyManagerDataService.removeApplication(gson.fromJson(eventJson, ApplicationEvent.class));
+        } else if (APIConstants.EventType.SUBSCRIPTIONS_CREATE.name().equals(eventType)
+                || APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name().equals(eventType)) {
+            keyManagerDataService.addOrUpdateSubscription(gson.fromJson(eventJson, SubscriptionEvent.class));
+        } else if (APIConstants.EventType.SUBSCRIPTIONS_DELETE.name().equals(eventType)) {
+            keyManagerDataService.removeSubscription(gson.fromJson(eventJson, SubscriptionEvent.class));
+        } else if (APIConstants.EventType.API_UPDATE.name().equals(eventType)) {
+            keyManagerDataService.addOrUpdateAPI(gson.fromJson(eventJson, APIEvent.class));
+        } else if (APIConstants.EventType.API_LIFECYCLE_CHANGE.name().equals(eventType)) {
+            APIEvent event = gson.fromJson(eventJson, APIEvent.class);
+            if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
+                keyManagerDataService.removeAPI(event);
+            } else {
+                keyManagerDataService.addOrUpdateAPI(event);
+            }
+        } else if (APIConstants.EventType.APPLICATION_REGISTRATION_CREATE.name().equals(eventType)) {
+            keyManagerDataService.addOrUpdateApplicationKeyMapping(
+                    gson.fromJson(eventJson, ApplicationRegistrationEvent.class));
+        } else if (APIConstants.EventType.REMOVE_APPLICATION_KEYMAPPING.name().equals(eventType)) {
+            keyManagerDataService.removeApplicationKeyMapping(
+                    gson.fromJson(eventJson, ApplicationRegistrationEvent.class));
+        } else if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
+                || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+            DeployAPIInGatewayEvent event = gson.fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            if (event.getGatewayLabels() == null || gatewayLabels == null) {
+                return;
+            }
+            Set<String> labels = new HashSet<>(event.getGatewayLabels());
+            labels.retainAll(gatewayLabels);
+            if (!labels.isEmpty()) {
+                keyManagerDataService.updateDeployedAPIRevision(event);
+            }
+        }
+    }
+}
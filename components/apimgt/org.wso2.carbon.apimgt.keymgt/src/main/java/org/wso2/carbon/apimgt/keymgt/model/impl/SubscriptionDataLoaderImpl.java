@@ -19,6 +19,7 @@ package org.wso2.carbon.apimgt.keymgt.model.impl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,6 +49,7 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ScopesList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataChangeList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicyList;
@@ -59,6 +61,7 @@ import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -196,6 +199,30 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
         return apis;
     }
 
+    @Override
+    public SubscriptionDataChangeList loadSubscriptionDataChanges(long since, int limit, String tenantDomain)
+            throws DataLoadingException {
+
+        String changesEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTION_DATA_CHANGES + "?since=" + since
+                + "&limit=" + limit;
+        String responseString;
+        try {
+            responseString = invokeService(changesEP, tenantDomain);
+        } catch (IOException e) {
+            String msg = "Error while executing the http client " + changesEP;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (responseString == null || responseString.isEmpty()) {
+            throw new DataLoadingException("Empty response received from " + changesEP);
+        }
+        try {
+            return new Gson().fromJson(responseString, SubscriptionDataChangeList.class);
+        } catch (JsonSyntaxException e) {
+            throw new DataLoadingException("Invalid response received from " + changesEP, e);
+        }
+    }
+
     @Override
     public List<SubscriptionPolicy> loadAllSubscriptionPolicies(String tenantDomain) throws DataLoadingException {
 
@@ -325,6 +352,85 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
         return application;
     }
 
+    @Override
+    public List<Subscription> getSubscriptions(List<Integer> appIds, List<Integer> apiIds)
+            throws DataLoadingException {
+
+        StringBuilder endPoint = new StringBuilder(APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS);
+        for (int i = 0; i < appIds.size(); i++) {
+            endPoint.append(i == 0 ? "?" : "&").append("apiId=").append(apiIds.get(i))
+                    .append("&appId=").append(appIds.get(i));
+        }
+        String responseString;
+        try {
+            responseString = invokeService(endPoint.toString(), null);
+        } catch (IOException e) {
+            String msg = "Error while executing the http client " + endPoint;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (responseString != null && !responseString.isEmpty()) {
+            SubscriptionList list = new Gson().fromJson(responseString, SubscriptionList.class);
+            if (list.getList() != null) {
+                return list.getList();
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<Application> getApplicationsByIds(Collection<Integer> appIds) throws DataLoadingException {
+
+        StringBuilder endPoint = new StringBuilder(APIConstants.SubscriptionValidationResources.APPLICATIONS);
+        for (Integer appId : appIds) {
+            endPoint.append(endPoint.indexOf("?") < 0 ? "?" : "&").append("appId=").append(appId);
+        }
+        String responseString;
+        try {
+            responseString = invokeService(endPoint.toString(), null);
+        } catch (IOException e) {
+            String msg = "Error while executing the http client " + endPoint;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (responseString != null && !responseString.isEmpty()) {
+            ApplicationList list = new Gson().fromJson(responseString, ApplicationList.class);
+            if (list.getList() != null) {
+                return list.getList();
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<ApplicationKeyMapping> getKeyMappings(List<String> consumerKeys, List<String> keyManagers,
+                                                      String tenantDomain) throws DataLoadingException {
+
+        StringBuilder endPoint =
+                new StringBuilder(APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS);
+        String responseString;
+        try {
+            for (int i = 0; i < consumerKeys.size(); i++) {
+                String keyManager = URLEncoder.encode(keyManagers.get(i), APIConstants.DigestAuthConstants.CHARSET);
+                keyManager = keyManager.replace("\\+", "%20");
+                endPoint.append(i == 0 ? "?" : "&").append("consumerKey=").append(consumerKeys.get(i))
+                        .append("&keymanager=").append(keyManager);
+            }
+            responseString = invokeService(endPoint.toString(), tenantDomain);
+        } catch (IOException e) {
+            String msg = "Error while executing the http client " + endPoint;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (responseString != null && !responseString.isEmpty()) {
+            ApplicationKeyMappingList list = new Gson().fromJson(responseString, ApplicationKeyMappingList.class);
+            if (list.getList() != null) {
+                return list.getList();
+            }
+        }
+        return new ArrayList<>();
+    }
+
     @Override
     public API getApi(String context, String version) throws DataLoadingException {
 
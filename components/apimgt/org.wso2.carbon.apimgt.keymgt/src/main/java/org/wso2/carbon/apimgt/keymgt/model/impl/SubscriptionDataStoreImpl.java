@@ -39,11 +39,14 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMappingCacheKey;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataChangeList;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataSnapshot;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.util.SubscriptionDataStoreUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +79,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(LOADING_POOL_SIZE);
     private final ExecutorService subscriptionExecutorService = Executors.newFixedThreadPool(10,
             new InternalSubscriptionThreadFactory());
+    // Loaders of the entities missing in the maps
+    private SingleFlightLoader<Integer, Application> applicationLoader;
+    private SingleFlightLoader<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> keyMappingLoader;
+    private SingleFlightLoader<String, API> apiLoader;
+    private SingleFlightLoader<String, Subscription> subscriptionLoader;
+    // Sequence of the last subscription data change of the control plane this store has seen
+    private volatile long changeSequence = -1;
+    private volatile ScheduledFuture<?> deltaSyncTask;
 
     public SubscriptionDataStoreImpl(String tenantDomain) {
 
@@ -97,6 +108,71 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.subscriptionMap = new ConcurrentHashMap<>();
         this.scopesMap = new ConcurrentHashMap<>();
         this.apiNameVersionMap = new ConcurrentHashMap<>();
+        initializeLoaders();
+    }
+
+    private void initializeLoaders() {
+
+        EventHubConfigurationDto.SubscriptionDataLoaderConfiguration loaderConfiguration = null;
+        if (eventHubConfiguration != null) {
+            loaderConfiguration = eventHubConfiguration.getSubscriptionDataLoaderConfiguration();
+        }
+        if (loaderConfiguration == null) {
+            loaderConfiguration = new EventHubConfigurationDto.SubscriptionDataLoaderConfiguration();
+        }
+        long negativeCacheTTL = loaderConfiguration.getNegativeCacheTTL();
+        long entityTTL = loaderConfiguration.getEntityTTL();
+        int bulkLoadThreshold = loaderConfiguration.getBulkLoadThreshold();
+
+        this.applicationLoader = new SingleFlightLoader<>("Application", applicationMap::get,
+                this::addOrUpdateApplication,
+                appIds -> toCacheKeyMap(new SubscriptionDataLoaderImpl().getApplicationsByIds(appIds)),
+                negativeCacheTTL, entityTTL, bulkLoadThreshold);
+        this.keyMappingLoader = new SingleFlightLoader<>("KeyMapping", applicationKeyMappingMap::get,
+                this::addOrUpdateApplicationKeyMapping, this::loadKeyMappings,
+                negativeCacheTTL, entityTTL, bulkLoadThreshold);
+        // APIs are looked up by context and version, which the internal API does not accept in bulk
+        this.apiLoader = new SingleFlightLoader<>("API", apiMap::get, this::addOrUpdateAPI, null,
+                negativeCacheTTL, entityTTL, bulkLoadThreshold);
+        this.subscriptionLoader = new SingleFlightLoader<>("Subscription", subscriptionMap::get,
+                subscription -> subscriptionMap.put(subscription.getCacheKey(), subscription),
+                this::loadSubscriptions, negativeCacheTTL, entityTTL, bulkLoadThreshold);
+    }
+
+    private Map<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> loadKeyMappings(
+            Collection<ApplicationKeyMappingCacheKey> cacheKeys) throws DataLoadingException {
+
+        List<String> consumerKeys = new ArrayList<>();
+        List<String> keyManagers = new ArrayList<>();
+        for (ApplicationKeyMappingCacheKey cacheKey : cacheKeys) {
+            consumerKeys.add(cacheKey.getConsumerKey());
+            keyManagers.add(cacheKey.getKeyManager());
+        }
+        return toCacheKeyMap(new SubscriptionDataLoaderImpl().getKeyMappings(consumerKeys, keyManagers,
+                tenantDomain));
+    }
+
+    private Map<String, Subscription> loadSubscriptions(Collection<String> cacheKeys) throws DataLoadingException {
+
+        List<Integer> appIds = new ArrayList<>();
+        List<Integer> apiIds = new ArrayList<>();
+        for (String cacheKey : cacheKeys) {
+            int[] appAndApiId = SubscriptionDataStoreUtil.getSubscriptionIds(cacheKey);
+            appIds.add(appAndApiId[0]);
+            apiIds.add(appAndApiId[1]);
+        }
+        return toCacheKeyMap(new SubscriptionDataLoaderImpl().getSubscriptions(appIds, apiIds));
+    }
+
+    private static <K, V extends CacheableEntity<K>> Map<K, V> toCacheKeyMap(List<V> entities) {
+
+        Map<K, V> entityMap = new HashMap<>();
+        if (entities != null) {
+            for (V entity : entities) {
+                entityMap.put(entity.getCacheKey(), entity);
+            }
+        }
+        return entityMap;
     }
 
     @Override
@@ -121,27 +197,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationById(int appId) {
 
-        String synchronizeKey = "SubscriptionDataStoreImpl-Application-" + appId;
         Application application = applicationMap.get(appId);
         if (application == null) {
-            synchronized (synchronizeKey.intern()) {
-                application = applicationMap.get(appId);
-                if (application != null) {
-                    return application;
-                }
-            }
-            try {
-                application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
-            } catch (DataLoadingException e) {
-                log.error("Error while Retrieving Application Metadata From Internal API.", e);
-            }
-            if (application != null && application.getId() != null && application.getId() != 0) {
-                // load to the memory
-                log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
-                addOrUpdateApplication(application);
-            } else {
-                log.debug("Application not found. applicationId = " + appId);
-            }
+            application = applicationLoader.load(appId, () -> loadApplication(appId));
+        } else {
+            applicationLoader.refreshIfExpired(appId, () -> loadApplication(appId), executorService);
         }
 
         if (log.isDebugEnabled()) {
@@ -155,6 +215,30 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return application;
     }
 
+    private Application loadApplication(int appId) throws DataLoadingException {
+
+        Application application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
+        if (application != null && application.getId() != null && application.getId() != 0) {
+            // load to the memory
+            log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
+            return application;
+        }
+        log.debug("Application not found. applicationId = " + appId);
+        return null;
+    }
+
+    /**
+     * Loads the applications of the given IDs which are not in the data store. The missing applications are loaded
+     * together in bulk, sharing the loads already in progress.
+     *
+     * @param appIds application IDs
+     * @return applications of the given IDs which exist
+     */
+    public Map<Integer, Application> loadMissingApplications(Collection<Integer> appIds) {
+
+        return applicationLoader.loadMissing(appIds, appId -> () -> loadApplication(appId));
+    }
+
     @Override
     public ApplicationKeyMapping getKeyMappingByKeyAndKeyManager(String key, String keyManager,
                                                                  boolean validationDisabled) {
@@ -176,27 +260,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
 
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
         if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
-                applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-                if (applicationKeyMapping != null) {
-                    return applicationKeyMapping;
-                }
-                try {
-                    applicationKeyMapping = new SubscriptionDataLoaderImpl()
-                            .getKeyMapping(key, keyManager, tenantDomain);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Loading KeyMapping Information from Internal API.", e);
-                }
-                if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
-                    // load to the memory
-                    log.debug("Loading Keymapping to the in-memory datastore.");
-                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
-                }
-            }
+            applicationKeyMapping = keyMappingLoader.load(applicationKeyMappingCacheKey,
+                    () -> loadKeyMapping(key, keyManager));
+        } else {
+            keyMappingLoader.refreshIfExpired(applicationKeyMappingCacheKey, () -> loadKeyMapping(key, keyManager),
+                    executorService);
         }
 
         if (log.isDebugEnabled()) {
@@ -210,6 +281,32 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return applicationKeyMapping;
     }
 
+    private ApplicationKeyMapping loadKeyMapping(String key, String keyManager) throws DataLoadingException {
+
+        ApplicationKeyMapping applicationKeyMapping = new SubscriptionDataLoaderImpl()
+                .getKeyMapping(key, keyManager, tenantDomain);
+        if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
+            // load to the memory
+            log.debug("Loading Keymapping to the in-memory datastore.");
+            return applicationKeyMapping;
+        }
+        return null;
+    }
+
+    /**
+     * Loads the key mappings of the given consumer keys and key managers which are not in the data store. The
+     * missing key mappings are loaded together in bulk, sharing the loads already in progress.
+     *
+     * @param cacheKeys consumer keys and key managers of the key mappings
+     * @return key mappings of the given keys which exist
+     */
+    public Map<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> loadMissingKeyMappings(
+            Collection<ApplicationKeyMappingCacheKey> cacheKeys) {
+
+        return keyMappingLoader.loadMissing(cacheKeys,
+                cacheKey -> () -> loadKeyMapping(cacheKey.getConsumerKey(), cacheKey.getKeyManager()));
+    }
+
     @Override
     public API getApiByContextAndVersion(String context, String version) {
 
@@ -228,25 +325,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             return null;
         }
         String key = context + DELEM_PERIOD + version;
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
         API api = apiMap.get(key);
         if (api == null) {
-            synchronized (synchronizeKey.intern()) {
-                api = apiMap.get(key);
-                if (api != null) {
-                    return api;
-                }
-                try {
-                    api = new SubscriptionDataLoaderImpl().getApi(context, version);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Data From Internal Rest API", e);
-                }
-                if (api != null && api.getApiId() != 0) {
-                    // load to the memory
-                    log.debug("Loading API to the in-memory datastore.");
-                    addOrUpdateAPI(api);
-                }
-            }
+            api = apiLoader.load(key, () -> loadApi(context, version));
+        } else {
+            apiLoader.refreshIfExpired(key, () -> loadApi(context, version), executorService);
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API information with Context " + context + " and Version : " + version);
@@ -261,6 +344,17 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return api;
     }
 
+    private API loadApi(String context, String version) throws DataLoadingException {
+
+        API api = new SubscriptionDataLoaderImpl().getApi(context, version);
+        if (api != null && api.getApiId() != 0) {
+            // load to the memory
+            log.debug("Loading API to the in-memory datastore.");
+            return api;
+        }
+        return null;
+    }
+
     @Override
     public API getApiByNameAndVersion(String name, String version) {
 
@@ -308,26 +402,12 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public Subscription getSubscriptionById(int appId, int apiId) {
 
         String subscriptionCacheKey = SubscriptionDataStoreUtil.getSubscriptionCacheKey(appId, apiId);
-        String synchronizeKey = "SubscriptionDataStoreImpl-Subscription-" + subscriptionCacheKey;
         Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
         if (subscription == null) {
-            synchronized (synchronizeKey.intern()) {
-                subscription = subscriptionMap.get(subscriptionCacheKey);
-                if (subscription != null) {
-                    return subscription;
-                }
-                try {
-                    subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
-                            Integer.toString(appId));
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Subscription Data From Internal API", e);
-                }
-                if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
-                    // load to the memory
-                    log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
-                }
-            }
+            subscription = subscriptionLoader.load(subscriptionCacheKey, () -> loadSubscription(appId, apiId));
+        } else {
+            subscriptionLoader.refreshIfExpired(subscriptionCacheKey, () -> loadSubscription(appId, apiId),
+                    executorService);
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API Subscription with Application " + appId + " and APIId : " + apiId);
@@ -342,6 +422,38 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return subscription;
     }
 
+    private Subscription loadSubscription(int appId, int apiId) throws DataLoadingException {
+
+        Subscription subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
+                Integer.toString(appId));
+        if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
+            // load to the memory
+            log.debug("Loading Subscription to the in-memory datastore.");
+            return subscription;
+        }
+        return null;
+    }
+
+    /**
+     * Loads the subscriptions of the given application and API ID pairs which are not in the data store. The missing
+     * subscriptions are loaded together in bulk, sharing the loads already in progress.
+     *
+     * @param appAndApiIds application and API ID pairs of the subscriptions
+     * @return subscriptions which exist, by their cache keys
+     */
+    public Map<String, Subscription> loadMissingSubscriptions(Collection<int[]> appAndApiIds) {
+
+        Map<String, int[]> idsByCacheKey = new HashMap<>();
+        for (int[] appAndApiId : appAndApiIds) {
+            idsByCacheKey.put(SubscriptionDataStoreUtil.getSubscriptionCacheKey(appAndApiId[0], appAndApiId[1]),
+                    appAndApiId);
+        }
+        return subscriptionLoader.loadMissing(idsByCacheKey.keySet(), cacheKey -> {
+            int[] appAndApiId = idsByCacheKey.get(cacheKey);
+            return () -> loadSubscription(appAndApiId[0], appAndApiId[1]);
+        });
+    }
+
     @Override
     public ApiPolicy getApiPolicyByName(String policyName, int tenantId) {
 
@@ -352,6 +464,35 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public void initializeLoadingTasks() {
 
+        EventHubConfigurationDto.DeltaSyncConfiguration deltaSyncConfiguration =
+                eventHubConfiguration.getDeltaSyncConfiguration();
+        if (deltaSyncConfiguration == null || !deltaSyncConfiguration.isEnabled()) {
+            scheduleLoadingTasks(eventHubConfiguration.getInitDelay());
+            return;
+        }
+        // the latest change has to be known before loading the data, so that the changes made meanwhile are not missed
+        executorService.schedule(() -> {
+            changeSequence = loadLatestChangeSequence();
+            scheduleLoadingTasks(0);
+        }, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    private long loadLatestChangeSequence() {
+
+        try {
+            SubscriptionDataChangeList changes =
+                    new SubscriptionDataLoaderImpl().loadSubscriptionDataChanges(-1, 0, tenantDomain);
+            if (changes != null) {
+                return changes.getLatestSequence();
+            }
+        } catch (DataLoadingException e) {
+            log.error("Error while loading the latest subscription data change of tenant " + tenantDomain, e);
+        }
+        return -1;
+    }
+
+    private void scheduleLoadingTasks(long delay) {
+
         Runnable apiTask = new PopulateTask<>(apiMap,
                 () -> {
                     try {
@@ -371,7 +512,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     return null;
                 });
 
-        executorService.schedule(apiTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(apiTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
                 () -> {
@@ -384,7 +525,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     return null;
                 });
 
-        executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(subscriptionLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
                 () -> {
@@ -397,7 +538,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     return null;
                 });
 
-        executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(applicationLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable keyMappingsTask =
                 new PopulateTask<>(applicationKeyMappingMap,
@@ -411,7 +552,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(keyMappingsTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(keyMappingsTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable apiPolicyLoadingTask =
                 new PopulateTask<>(apiPolicyMap,
@@ -428,7 +569,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(apiPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(apiPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable subPolicyLoadingTask =
                 new PopulateTask<>(subscriptionPolicyMap,
@@ -442,7 +583,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(subPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(subPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable appPolicyLoadingTask =
                 new PopulateTask<>(appPolicyMap,
@@ -456,7 +597,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(appPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(appPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
         Runnable scopesLoadingTask =
                 new PopulateTask<>(scopesMap,
                         () -> {
@@ -472,7 +613,118 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(scopesLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(scopesLoadingTask, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the sequence of the last subscription data change this store has seen, or -1 if it is not known
+     */
+    public long getChangeSequence() {
+
+        return changeSequence;
+    }
+
+    public void setChangeSequence(long changeSequence) {
+
+        this.changeSequence = changeSequence;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * @return the data held in this store along with the last subscription data change it has seen
+     */
+    public SubscriptionDataSnapshot toSnapshot() {
+
+        SubscriptionDataSnapshot snapshot = new SubscriptionDataSnapshot();
+        // read the sequence first, so that replaying the changes since it covers any change made meanwhile
+        snapshot.setChangeSequence(changeSequence);
+        snapshot.setApis(new ArrayList<>(apiMap.values()));
+        snapshot.setApplications(new ArrayList<>(applicationMap.values()));
+        snapshot.setSubscriptions(new ArrayList<>(subscriptionMap.values()));
+        snapshot.setKeyMappings(new ArrayList<>(applicationKeyMappingMap.values()));
+        snapshot.setApiPolicies(new ArrayList<>(apiPolicyMap.values()));
+        snapshot.setSubscriptionPolicies(new ArrayList<>(subscriptionPolicyMap.values()));
+        snapshot.setApplicationPolicies(new ArrayList<>(appPolicyMap.values()));
+        snapshot.setScopes(new ArrayList<>(scopesMap.values()));
+        return snapshot;
+    }
+
+    /**
+     * Serves the data of the given snapshot until they are reconciled with the control plane in the background. If
+     * the changes made since the snapshot was taken are available, only they are applied. Otherwise, all the data are
+     * reloaded as done by {@link #init()}.
+     *
+     * @param snapshot    snapshot of the store taken before the gateway restarted
+     * @param deltaLoader loader of the subscription data changes, or null if delta sync is disabled
+     */
+    public void initFromSnapshot(SubscriptionDataSnapshot snapshot, SubscriptionDataDeltaLoader deltaLoader) {
+
+        applicationKeyMappingMap.putAll(toCacheKeyMap(snapshot.getKeyMappings()));
+        applicationMap.putAll(toCacheKeyMap(snapshot.getApplications()));
+        subscriptionMap.putAll(toCacheKeyMap(snapshot.getSubscriptions()));
+        apiPolicyMap.putAll(toCacheKeyMap(snapshot.getApiPolicies()));
+        subscriptionPolicyMap.putAll(toCacheKeyMap(snapshot.getSubscriptionPolicies()));
+        appPolicyMap.putAll(toCacheKeyMap(snapshot.getApplicationPolicies()));
+        scopesMap.putAll(toCacheKeyMap(snapshot.getScopes()));
+        apiMap.putAll(toCacheKeyMap(snapshot.getApis()));
+        for (API api : snapshot.getApis()) {
+            apiByUUIDMap.put(api.getUuid(), api);
+            apiNameVersionMap.put(api.getApiName().concat(":").concat(api.getApiVersion()), api);
+        }
+        changeSequence = snapshot.getChangeSequence();
+        apisInitialized = true;
+        apiPoliciesInitialized = true;
+        scopesInitialized = true;
+        if (log.isDebugEnabled()) {
+            log.debug("Restored " + snapshot.getApis().size() + " APIs, " + snapshot.getApplications().size()
+                    + " applications and " + snapshot.getSubscriptions().size() + " subscriptions of tenant "
+                    + tenantDomain + " from the snapshot");
+        }
+        executorService.schedule(() -> {
+            if (deltaLoader == null || !deltaLoader.sync(this)) {
+                initializeLoadingTasks();
+            }
+        }, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies the changes recorded by the control plane at the configured interval while the changes are received
+     * through the event hub, so that the last change this store has seen keeps up with the change log. Otherwise, a
+     * reconnect would replay all the changes since the store was loaded.
+     *
+     * @param deltaLoader loader of the subscription data changes
+     */
+    public void scheduleDeltaSync(SubscriptionDataDeltaLoader deltaLoader) {
+
+        long syncInterval = eventHubConfiguration.getDeltaSyncConfiguration().getSyncInterval();
+        if (syncInterval <= 0) {
+            return;
+        }
+        deltaSyncTask = executorService.scheduleWithFixedDelay(() -> {
+            // the sequence is not known until the store is loaded
+            if (changeSequence < 0) {
+                return;
+            }
+            try {
+                deltaLoader.sync(this);
+            } catch (RuntimeException e) {
+                log.error("Error while applying the subscription data changes of tenant " + tenantDomain, e);
+            }
+        }, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops applying the recorded changes to this store, once it is replaced by a reloaded store.
+     */
+    public void stopDeltaSync() {
+
+        if (deltaSyncTask != null) {
+            deltaSyncTask.cancel(false);
+        }
     }
 
     public boolean isApisInitialized() {
@@ -487,36 +739,33 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public void addOrUpdateSubscription(Subscription subscription) {
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + subscription.getCacheKey();
-
-        synchronized (synchronizeKey.intern()) {
-            Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
-            if (retrievedSubscription == null) {
-                subscriptionMap.put(subscription.getCacheKey(), subscription);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
-                }
-                if (subscription.getTimeStamp() < retrievedSubscription.getTimeStamp()) {
+        Subscription updatedSubscription = subscriptionMap.compute(subscription.getCacheKey(),
+                (cacheKey, retrievedSubscription) -> {
+                    if (retrievedSubscription == null) {
+                        return subscription;
+                    }
                     if (log.isDebugEnabled()) {
-                        log.debug("Drop the Event " + subscription.toString() + " since the event timestamp was old");
+                        log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
                     }
-                } else {
-                    if (!APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
-                        subscriptionMap.put(subscription.getCacheKey(), subscription);
-                    } else {
+                    if (subscription.getTimeStamp() < retrievedSubscription.getTimeStamp()) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Drop the Event " + subscription.toString()
+                                    + " since the event timestamp was old");
+                        }
+                        return retrievedSubscription;
+                    }
+                    if (APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
                         if (log.isDebugEnabled()) {
                             log.debug("Drop the Event " + subscription.toString() + " since the event was marked as " +
                                     "ON_HOLD");
                         }
+                        return retrievedSubscription;
                     }
-                }
-            }
-            if (log.isDebugEnabled()) {
-                Subscription updatedSubscription = subscriptionMap.get(subscription.getCacheKey());
-                log.debug("Updated Subscription From map :" + updatedSubscription.toString());
-            }
-
+                    return subscription;
+                });
+        subscriptionLoader.onUpdate(subscription.getCacheKey());
+        if (log.isDebugEnabled()) {
+            log.debug("Updated Subscription From map :" + updatedSubscription.toString());
         }
     }
 
@@ -539,6 +788,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public void removeSubscription(Subscription subscription) {
 
         subscriptionMap.remove(subscription.getCacheKey());
+        subscriptionLoader.onRemove(subscription.getCacheKey());
     }
 
     @Override
@@ -548,6 +798,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         apiByUUIDMap.put(api.getUuid(), api);
         apiNameVersionMap.put(key, api);
         apiMap.put(api.getCacheKey(), api);
+        apiLoader.onUpdate(api.getCacheKey());
     }
 
     @Override
@@ -574,6 +825,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         apiByUUIDMap.remove(api.getUuid());
         apiNameVersionMap.remove(key);
         apiMap.remove(api.getCacheKey());
+        apiLoader.onRemove(api.getCacheKey());
     }
 
     @Override
@@ -581,12 +833,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
         applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(), applicationKeyMapping);
+        keyMappingLoader.onUpdate(applicationKeyMapping.getCacheKey());
     }
 
     @Override
     public void removeApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
 
         applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
+        keyMappingLoader.onRemove(applicationKeyMapping.getCacheKey());
     }
 
     @Override
@@ -620,12 +874,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         applicationMap.remove(application.getId());
         applicationMap.put(application.getId(), application);
+        applicationLoader.onUpdate(application.getId());
     }
 
     @Override
     public void removeApplication(Application application) {
 
         applicationMap.remove(application.getId());
+        applicationLoader.onRemove(application.getId());
         subscriptionMap.values().removeIf(subscription ->
                 subscription != null && application.getUUID().equals(subscription.getApplicationUUID()));
     }
@@ -899,40 +1155,27 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     /**
      * Updates API properties in the data store using the given {@link GatewayAPIDTO}.
-     * Synchronizes on API context/version key, loads API if missing, and updates its properties.
+     * Loads the API if missing, and updates its properties.
      *
      * @param gatewayAPIDTO DTO with API context, version, and properties.
      */
     @Override
     public void updateAPIPropertiesFromGatewayDTO(GatewayAPIDTO gatewayAPIDTO) {
         String key = gatewayAPIDTO.getApiContext() + DELEM_PERIOD + gatewayAPIDTO.getVersion();
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
-        synchronized (synchronizeKey.intern()) {
-            // Direct map access to avoid nested synchronization
-            API subscriptionAPI = apiMap.get(key);
-            if (subscriptionAPI == null) {
-                // If API not found, try to load it without nested synchronization
-                try {
-                    subscriptionAPI = new SubscriptionDataLoaderImpl().getApi(gatewayAPIDTO.getApiContext(),
-                            gatewayAPIDTO.getVersion());
-                    if (subscriptionAPI != null && subscriptionAPI.getApiId() != 0) {
-                        // load to the memory
-                        addOrUpdateAPI(subscriptionAPI);
-                    }
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Data From Internal Rest API", e);
-                }
-            }
-            if (subscriptionAPI != null) {
-                subscriptionAPI.setApiProperties(gatewayAPIDTO.getAdditionalProperties());
-                if (log.isDebugEnabled()) {
-                    log.debug("Updated API properties in SubscriptionDataStore for API: " + subscriptionAPI.getName() +
-                            " (Context: " + subscriptionAPI.getContext() + ", Version: " +
-                            subscriptionAPI.getVersion() + ")");
-                }
-            } else if (log.isDebugEnabled()) {
-                log.debug("API not found in SubscriptionDataStore for key: " + key);
+        API subscriptionAPI = apiMap.get(key);
+        if (subscriptionAPI == null) {
+            subscriptionAPI = apiLoader.load(key,
+                    () -> loadApi(gatewayAPIDTO.getApiContext(), gatewayAPIDTO.getVersion()));
+        }
+        if (subscriptionAPI != null) {
+            subscriptionAPI.setApiProperties(gatewayAPIDTO.getAdditionalProperties());
+            if (log.isDebugEnabled()) {
+                log.debug("Updated API properties in SubscriptionDataStore for API: " + subscriptionAPI.getName() +
+                        " (Context: " + subscriptionAPI.getContext() + ", Version: " +
+                        subscriptionAPI.getVersion() + ")");
             }
+        } else if (log.isDebugEnabled()) {
+            log.debug("API not found in SubscriptionDataStore for key: " + key);
         }
     }
 }
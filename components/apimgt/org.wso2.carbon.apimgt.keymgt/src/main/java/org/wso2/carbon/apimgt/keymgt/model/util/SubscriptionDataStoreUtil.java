@@ -32,6 +32,17 @@ public class SubscriptionDataStoreUtil {
         return appId + DELEM_PERIOD + apiId;
     }
 
+    /**
+     * @param subscriptionCacheKey cache key built by {@link #getSubscriptionCacheKey(int, int)}
+     * @return the application ID and the API ID of the subscription
+     */
+    public static int[] getSubscriptionIds(String subscriptionCacheKey) {
+
+        int delimiterIndex = subscriptionCacheKey.indexOf(DELEM_PERIOD);
+        return new int[]{Integer.parseInt(subscriptionCacheKey.substring(0, delimiterIndex)),
+                Integer.parseInt(subscriptionCacheKey.substring(delimiterIndex + 1))};
+    }
+
     public static String getPolicyCacheKey(String tierName, int tenantId) {
 
         return tierName + DELEM_PERIOD + tenantId;
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightLoaderTest {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    private SingleFlightLoader<String, String> newLoader(SingleFlightLoader.BulkLoader<String, String> bulkLoader,
+                                                         int bulkLoadThreshold) {
+
+        return new SingleFlightLoader<>("Test", store::get, value -> store.put(value, value), bulkLoader, 60000, 0,
+                bulkLoadThreshold);
+    }
+
+    @Test
+    public void testConcurrentLoadsOfSameKeyShareSingleCall() throws Exception {
+
+        SingleFlightLoader<String, String> loader = newLoader(null, Integer.MAX_VALUE);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlightLoader.Loader<String> slowLoader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "key1";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load("key1", slowLoader)));
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> loader.load("key1", slowLoader)));
+            }
+            // give the followers time to join the in-flight load
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals("key1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals("key1", store.get("key1"));
+    }
+
+    @Test
+    public void testMissingKeysAreNegativelyCachedUntilUpdated() {
+
+        SingleFlightLoader<String, String> loader = newLoader(null, Integer.MAX_VALUE);
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlightLoader.Loader<String> missingLoader = () -> {
+            calls.incrementAndGet();
+            return null;
+        };
+        Assert.assertNull(loader.load("missing", missingLoader));
+        Assert.assertNull(loader.load("missing", missingLoader));
+        Assert.assertEquals(1, calls.get());
+
+        loader.onUpdate("missing");
+        Assert.assertNull(loader.load("missing", missingLoader));
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testConcurrentMissesUseBulkLoadAboveThreshold() throws Exception {
+
+        AtomicInteger bulkCalls = new AtomicInteger();
+        AtomicInteger singleCalls = new AtomicInteger();
+        List<String> bulkLoadedKeys = new ArrayList<>();
+        SingleFlightLoader<String, String> loader = newLoader(keys -> {
+            bulkCalls.incrementAndGet();
+            bulkLoadedKeys.addAll(keys);
+            Map<String, String> found = new HashMap<>();
+            found.put("a", "a");
+            return found;
+        }, 2);
+        SingleFlightLoader.Loader<String> singleLoader = () -> {
+            singleCalls.incrementAndGet();
+            return "c";
+        };
+
+        loadWhileTwoLoadsAreInFlight(loader, () -> {
+            Assert.assertEquals("a", loader.load("a", singleLoader));
+            Assert.assertEquals(1, bulkCalls.get());
+            // keys absent from the bulk result are negatively cached
+            Assert.assertNull(loader.load("c", singleLoader));
+            Assert.assertEquals(2, bulkCalls.get());
+        });
+        Assert.assertEquals(0, singleCalls.get());
+        // only the missed keys are loaded, not every entity of the type
+        Assert.assertEquals(Arrays.asList("a", "c"), bulkLoadedKeys);
+        Assert.assertEquals("a", store.get("a"));
+        Assert.assertNull(loader.load("c", singleLoader));
+        Assert.assertEquals(0, singleCalls.get());
+        Assert.assertEquals(2, bulkCalls.get());
+    }
+
+    @Test
+    public void testBulkLoadIsDisabledWithoutThreshold() throws Exception {
+
+        AtomicInteger bulkCalls = new AtomicInteger();
+        SingleFlightLoader<String, String> loader = newLoader(keys -> {
+            bulkCalls.incrementAndGet();
+            return new HashMap<>();
+        }, 0);
+
+        loadWhileTwoLoadsAreInFlight(loader, () -> Assert.assertEquals("a", loader.load("a", () -> "a")));
+        Assert.assertEquals(0, bulkCalls.get());
+        Assert.assertEquals("a", store.get("a"));
+    }
+
+    @Test
+    public void testLoadMissingLoadsMissingKeysInSingleBulkLoad() {
+
+        List<List<String>> bulkLoads = new ArrayList<>();
+        SingleFlightLoader<String, String> loader = newLoader(keys -> {
+            bulkLoads.add(new ArrayList<>(keys));
+            Map<String, String> found = new HashMap<>();
+            for (String key : keys) {
+                if (!"unknown".equals(key)) {
+                    found.put(key, key);
+                }
+            }
+            return found;
+        }, 50);
+        store.put("cached", "cached");
+
+        Map<String, String> entities = loader.loadMissing(Arrays.asList("cached", "a", "b", "a", "unknown"),
+                key -> () -> {
+                    throw new AssertionError("single load of " + key);
+                });
+        Assert.assertEquals(3, entities.size());
+        Assert.assertEquals("a", entities.get("a"));
+        Assert.assertEquals("b", entities.get("b"));
+        Assert.assertEquals("cached", entities.get("cached"));
+        Assert.assertEquals(1, bulkLoads.size());
+        Assert.assertEquals(Arrays.asList("a", "b", "unknown"), bulkLoads.get(0));
+
+        // loaded and negatively cached keys are not requested again
+        Assert.assertEquals(2, loader.loadMissing(Arrays.asList("a", "unknown", "b"), key -> () -> null).size());
+        Assert.assertEquals(1, bulkLoads.size());
+    }
+
+    @Test
+    public void testLoadMissingFallsBackToSingleLoadsWithoutBulkLoader() {
+
+        AtomicInteger singleCalls = new AtomicInteger();
+        SingleFlightLoader<String, String> loader = newLoader(null, 50);
+
+        Map<String, String> entities = loader.loadMissing(Arrays.asList("a", "b"), key -> () -> {
+            singleCalls.incrementAndGet();
+            return key;
+        });
+        Assert.assertEquals(2, entities.size());
+        Assert.assertEquals(2, singleCalls.get());
+    }
+
+    private void loadWhileTwoLoadsAreInFlight(SingleFlightLoader<String, String> loader, Runnable loads)
+            throws Exception {
+
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (String key : Arrays.asList("slow1", "slow2")) {
+                results.add(executor.submit(() -> loader.load(key, () -> {
+                    loading.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return key;
+                })));
+            }
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            loads.run();
+            release.countDown();
+            for (Future<String> result : results) {
+                Assert.assertNotNull(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionDataChange;
+import org.wso2.carbon.apimgt.impl.keymgt.KeyManagerDataService;
+import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataLoader;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionDataChangeList;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+public class SubscriptionDataDeltaLoaderTest {
+
+    private static final String TENANT = "carbon.super";
+
+    private SubscriptionDataLoader subscriptionDataLoader;
+    private KeyManagerDataService keyManagerDataService;
+    private SubscriptionDataStoreImpl store;
+    private SubscriptionDataDeltaLoader deltaLoader;
+
+    @Before
+    public void setUp() {
+
+        subscriptionDataLoader = Mockito.mock(SubscriptionDataLoader.class);
+        keyManagerDataService = Mockito.mock(KeyManagerDataService.class);
+        store = Mockito.mock(SubscriptionDataStoreImpl.class);
+        Mockito.when(store.getTenantDomain()).thenReturn(TENANT);
+        Mockito.when(store.getChangeSequence()).thenReturn(10L);
+        deltaLoader = new SubscriptionDataDeltaLoader(subscriptionDataLoader, keyManagerDataService,
+                new HashSet<>(Collections.singletonList("Default")), 100);
+    }
+
+    @Test
+    public void testChangesAreAppliedInSequence() throws Exception {
+
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT)).thenReturn(changes(20,
+                change(11, "APPLICATION_CREATE", "{\"uuid\":\"app1\",\"applicationId\":1}"),
+                change(12, "SUBSCRIPTIONS_DELETE", "{\"subscriptionUUID\":\"sub1\"}"),
+                change(13, "API_LIFECYCLE_CHANGE", "{\"uuid\":\"api1\",\"apiStatus\":\"RETIRED\"}"),
+                change(14, "API_LIFECYCLE_CHANGE", "{\"uuid\":\"api2\",\"apiStatus\":\"PUBLISHED\"}")));
+
+        Assert.assertTrue(deltaLoader.sync(store));
+
+        InOrder inOrder = Mockito.inOrder(keyManagerDataService, store);
+        ArgumentCaptor<ApplicationEvent> application = ArgumentCaptor.forClass(ApplicationEvent.class);
+        inOrder.verify(keyManagerDataService).addOrUpdateApplication(application.capture());
+        inOrder.verify(keyManagerDataService).removeSubscription(Mockito.any(SubscriptionEvent.class));
+        ArgumentCaptor<APIEvent> retired = ArgumentCaptor.forClass(APIEvent.class);
+        inOrder.verify(keyManagerDataService).removeAPI(retired.capture());
+        ArgumentCaptor<APIEvent> published = ArgumentCaptor.forClass(APIEvent.class);
+        inOrder.verify(keyManagerDataService).addOrUpdateAPI(published.capture());
+        // the sequence is advanced to the latest change of the control plane, not just of the tenant
+        inOrder.verify(store).setChangeSequence(20);
+        Assert.assertEquals("app1", application.getValue().getUuid());
+        Assert.assertEquals("api1", retired.getValue().getUuid());
+        Assert.assertEquals("api2", published.getValue().getUuid());
+    }
+
+    @Test
+    public void testOnlyDeploymentsToTheGatewayLabelsAreApplied() throws Exception {
+
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT)).thenReturn(changes(12,
+                change(11, "DEPLOY_API_IN_GATEWAY", "{\"uuid\":\"api1\",\"gatewayLabels\":[\"Default\"]}"),
+                change(12, "REMOVE_API_FROM_GATEWAY", "{\"uuid\":\"api2\",\"gatewayLabels\":[\"External\"]}")));
+
+        Assert.assertTrue(deltaLoader.sync(store));
+
+        ArgumentCaptor<DeployAPIInGatewayEvent> deployment = ArgumentCaptor.forClass(DeployAPIInGatewayEvent.class);
+        Mockito.verify(keyManagerDataService).updateDeployedAPIRevision(deployment.capture());
+        Assert.assertEquals("api1", deployment.getValue().getUuid());
+        Mockito.verify(store).setChangeSequence(12);
+    }
+
+    @Test
+    public void testUnknownSequenceRequiresFullLoad() throws Exception {
+
+        Mockito.when(store.getChangeSequence()).thenReturn(-1L);
+
+        Assert.assertFalse(deltaLoader.sync(store));
+
+        Mockito.verifyZeroInteractions(subscriptionDataLoader, keyManagerDataService);
+    }
+
+    @Test
+    public void testUnavailableChangesRequireFullLoad() throws Exception {
+
+        SubscriptionDataChangeList fullSync = changes(500);
+        fullSync.setFullSyncRequired(true);
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT)).thenReturn(fullSync);
+
+        Assert.assertFalse(deltaLoader.sync(store));
+
+        Mockito.verifyZeroInteractions(keyManagerDataService);
+        Mockito.verify(store, Mockito.never()).setChangeSequence(Mockito.anyLong());
+    }
+
+    @Test
+    public void testLoadingErrorRequiresFullLoad() throws Exception {
+
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT))
+                .thenThrow(new DataLoadingException("Control plane is not reachable"));
+
+        Assert.assertFalse(deltaLoader.sync(store));
+
+        Mockito.verify(store, Mockito.never()).setChangeSequence(Mockito.anyLong());
+    }
+
+    @Test
+    public void testResponseWithoutChangesRequiresFullLoad() throws Exception {
+
+        SubscriptionDataChangeList withoutChanges = changes(20);
+        withoutChanges.setList(null);
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT)).thenReturn(withoutChanges);
+
+        Assert.assertFalse(deltaLoader.sync(store));
+
+        Mockito.verify(store, Mockito.never()).setChangeSequence(Mockito.anyLong());
+    }
+
+    @Test
+    public void testMalformedChangeRequiresFullLoad() throws Exception {
+
+        Mockito.when(subscriptionDataLoader.loadSubscriptionDataChanges(10, 100, TENANT)).thenReturn(changes(12,
+                change(11, "APPLICATION_UPDATE", "{\"uuid\":"),
+                change(12, "APPLICATION_DELETE", "{\"uuid\":\"app1\"}")));
+
+        Assert.assertFalse(deltaLoader.sync(store));
+
+        Mockito.verify(keyManagerDataService, Mockito.never()).removeApplication(Mockito.any());
+        Mockito.verify(store, Mockito.never()).setChangeSequence(Mockito.anyLong());
+    }
+
+    private static SubscriptionDataChangeList changes(long latestSequence, SubscriptionDataChange... changes) {
+
+        SubscriptionDataChangeList changeList = new SubscriptionDataChangeList();
+        changeList.setLatestSequence(latestSequence);
+        List<SubscriptionDataChange> list = new ArrayList<>(Arrays.asList(changes));
+        changeList.setList(list);
+        changeList.setCount(list.size());
+        return changeList;
+    }
+
+    private static SubscriptionDataChange change(long sequence, String eventType, String event) {
+
+        SubscriptionDataChange change = new SubscriptionDataChange();
+        change.setSequence(sequence);
+        change.setEventType(eventType);
+        change.setEvent(event);
+        return change;
+    }
+}
@@ -52,6 +52,7 @@ public class DevPortalAPIInfo {
     private String technicalOwnerEmail;
     private Boolean isMonetizationEnabled;
     private boolean advertiseOnly;
+    private Float rating;
 
     public void setGatewayVendor(String gatewayVendor) {
         this.gatewayVendor = gatewayVendor;
@@ -214,6 +215,17 @@ public class DevPortalAPIInfo {
         this.advertiseOnly = advertiseOnly;
     }
 
+    /**
+     * @return the average rating of the API, or null if it is not known along with the listing
+     */
+    public Float getRating() {
+        return rating;
+    }
+
+    public void setRating(Float rating) {
+        this.rating = rating;
+    }
+
     @Override
     public String toString() {
         return "DevPortalAPIInfo [id=" + id + ", apiName=" + apiName + ", description=" + description + ", version="
@@ -87,6 +87,7 @@ public interface APIMapper {
     @Mapping(source = "context", target = "contextTemplate")
     @Mapping(source = "availableTierNames", target = "availableTiers")
     @Mapping(source = "subscriptionAvailableOrgs", target = "subscriptionAvailableTenants")
+    @Mapping(target = "rating", ignore = true)
     API toApi(DevPortalAPIInfo api);
     
     @Mapping(source = "providerName", target = "id.providerName")
@@ -170,10 +170,30 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
      */
     @Override
     public Object processAdd(Object data) {
+        return add(1L);
+    }
+
+    /**
+     * Process an add event. The optional last argument is the weight of the event, which is the number of
+     * requests the event stands for when the gateway aggregates throttle events.
+     *
+     * @param data The event data to be added.
+     * @return The updated value of the local counter after increment.
+     */
+    @Override
+    public Object processAdd(Object[] data) {
+        return add(getWeight(data));
+    }
+
+    private static long getWeight(Object[] data) {
+        return data.length > 1 ? WeightedCountAttributeAggregatorWithReset.getWeight(data[data.length - 1]) : 1L;
+    }
+
+    private Object add(long weight) {
         try {
-            localCounter.incrementAndGet();
+            localCounter.addAndGet(weight);
             if (distributedThrottlingEnabled && kvStoreClient != null && key != null) {
-                unsyncedCounter.incrementAndGet();
+                unsyncedCounter.addAndGet(weight);
             }
             return localCounter.get();
         } catch (Exception e) {
@@ -182,11 +202,6 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
         }
     }
 
-    @Override
-    public Object processAdd(Object[] data) {
-        return processAdd((Object) data);
-    }
-
 
     /**
      * Process a remove event by decrementing the local counter.
@@ -198,10 +213,19 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
      */
     @Override
     public Object processRemove(Object data) {
+        return remove(1L);
+    }
+
+    @Override
+    public Object processRemove(Object[] data) {
+        return remove(getWeight(data));
+    }
+
+    private Object remove(long weight) {
         try {
-            localCounter.decrementAndGet();
+            localCounter.addAndGet(-weight);
             if (distributedThrottlingEnabled && kvStoreClient != null && key != null) {
-                unsyncedCounter.decrementAndGet();
+                unsyncedCounter.addAndGet(-weight);
             }
             return localCounter.get();
 
@@ -211,11 +235,6 @@ public class DistributedCountAttributeAggregator extends AttributeAggregator {
         }
     }
 
-    @Override
-    public Object processRemove(Object[] data) {
-        return processRemove((Object) data);
-    }
-
 
     /**
      * Resets the local counter to zero.
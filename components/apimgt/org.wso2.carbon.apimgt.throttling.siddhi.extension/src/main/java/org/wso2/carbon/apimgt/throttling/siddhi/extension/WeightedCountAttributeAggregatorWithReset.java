@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.throttling.siddhi.extension;
+
+import org.wso2.siddhi.core.config.ExecutionPlanContext;
+import org.wso2.siddhi.core.exception.OperationNotSupportedException;
+import org.wso2.siddhi.core.executor.ExpressionExecutor;
+import org.wso2.siddhi.core.query.selector.attribute.aggregator.AttributeAggregator;
+import org.wso2.siddhi.query.api.definition.Attribute;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+/**
+ * Count function which counts each event with the weight given as the first argument. Gateways which aggregate
+ * throttle events send a single event for a number of requests along with the number of requests as the weight.
+ * Events without a weight, or with a weight less than one, are counted as a single request. Hence this counts the
+ * same as the count function for gateways which do not aggregate events.
+ * Upon arrival of a reset request, if the second argument is true, the counter related to the specific throttle key
+ * will be reset to zero.
+ * <p/>
+ * Usage:
+ * throttler:weightedCount(weight)
+ * throttler:weightedCount(weight, true)
+ * <p/>
+ * Example on usage:
+ * FROM EligibilityStream[isEligible==true]#throttler:timeBatch(1 hour, 0)
+ * select throttleKey, throttler:weightedCount(cast(map:get(propertiesMap,'eventCount'),'long'),
+ * cast(map:get(propertiesMap,'reset'),'bool')) >= 5 as isThrottled, expiryTimeStamp group by throttleKey
+ * INSERT ALL EVENTS into ResultStream;
+ */
+public class WeightedCountAttributeAggregatorWithReset extends AttributeAggregator {
+    private static Attribute.Type type = Attribute.Type.LONG;
+    private long value = 0L;
+
+    /**
+     * The initialization method for FunctionExecutor
+     *
+     * @param attributeExpressionExecutors are the executors of each attributes in the function
+     * @param executionPlanContext         Execution plan runtime context
+     */
+    @Override
+    protected void init(ExpressionExecutor[] attributeExpressionExecutors, ExecutionPlanContext executionPlanContext) {
+        if (attributeExpressionExecutors.length > 2) {
+            throw new OperationNotSupportedException("Weighted count aggregator has to have 1 or 2 parameters, "
+                    + "currently " + attributeExpressionExecutors.length + " parameters provided");
+        }
+    }
+
+    public Attribute.Type getReturnType() {
+        return type;
+    }
+
+    @Override
+    public Object processAdd(Object data) {
+        value += getWeight(data);
+        return value;
+    }
+
+    @Override
+    public Object processAdd(Object[] data) {
+        //reset the counter to zero if the second parameter is true
+        if (Boolean.TRUE.equals(data[1])) {
+            return reset();
+        }
+        value += getWeight(data[0]);
+        return value;
+    }
+
+    @Override
+    public Object processRemove(Object data) {
+        value -= getWeight(data);
+        return value;
+    }
+
+    @Override
+    public Object processRemove(Object[] data) {
+        value -= getWeight(data[0]);
+        return value;
+    }
+
+    static long getWeight(Object weight) {
+        if (weight instanceof Number) {
+            return Math.max(1L, ((Number) weight).longValue());
+        }
+        return 1L;
+    }
+
+    @Override
+    public Object reset() {
+        value = 0L;
+        return value;
+    }
+
+    @Override
+    public void start() {
+        //Nothing to start
+    }
+
+    @Override
+    public void stop() {
+        //nothing to stop
+    }
+
+    @Override
+    public Object[] currentState() {
+        return new Object[]{new AbstractMap.SimpleEntry<String, Object>("Value", value)};
+    }
+
+    @Override
+    public void restoreState(Object[] state) {
+        Map.Entry<String, Object> stateEntry = (Map.Entry<String, Object>) state[0];
+        value = (Long) stateEntry.getValue();
+    }
+
+}
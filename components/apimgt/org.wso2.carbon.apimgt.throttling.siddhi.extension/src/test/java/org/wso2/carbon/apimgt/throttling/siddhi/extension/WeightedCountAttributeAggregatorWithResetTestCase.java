@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.throttling.siddhi.extension;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.siddhi.core.ExecutionPlanRuntime;
+import org.wso2.siddhi.core.SiddhiManager;
+import org.wso2.siddhi.core.event.Event;
+import org.wso2.siddhi.core.query.output.callback.QueryCallback;
+import org.wso2.siddhi.core.stream.input.InputHandler;
+import org.wso2.siddhi.core.util.EventPrinter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit Test cases related to WeightedCountAttributeAggregator with the Reset extension
+ */
+public class WeightedCountAttributeAggregatorWithResetTestCase {
+    private static final Log log = LogFactory.getLog(WeightedCountAttributeAggregatorWithResetTestCase.class);
+
+    @Test
+    public void WeightedCountAggregatorTest() throws InterruptedException {
+        log.info("WeightedCountAggregator Test #1 : Counting events with weights");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String execPlan = "" +
+                "@Plan:name('WeightedCountAggregatorTests') " +
+                "" +
+                "define stream requestStream (throttleKey string, weight long, reset bool);" +
+                "" +
+                "@info(name = 'query1') " +
+                "from requestStream " +
+                "select throttleKey, throttler:weightedCount(weight, reset) as count " +
+                "group by throttleKey " +
+                "insert into outputStream;";
+
+        ExecutionPlanRuntime execPlanRunTime = siddhiManager.createExecutionPlanRuntime(execPlan);
+        final List<Object> counts = new ArrayList<>();
+        execPlanRunTime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        counts.add(event.getData(1));
+                    }
+                }
+            }
+        });
+
+        execPlanRunTime.start();
+        InputHandler inputHandler = execPlanRunTime.getInputHandler("requestStream");
+        inputHandler.send(new Object[]{"WSO2", 3L, false});
+        // events without a weight are counted as a single request
+        inputHandler.send(new Object[]{"WSO2", null, false});
+        inputHandler.send(new Object[]{"WSO2", 0L, false});
+        inputHandler.send(new Object[]{"APIM", 10L, false});
+        inputHandler.send(new Object[]{"WSO2", 1L, true});
+        inputHandler.send(new Object[]{"WSO2", 2L, false});
+        execPlanRunTime.shutdown();
+
+        Assert.assertEquals(6, counts.size());
+        Assert.assertEquals(3L, counts.get(0));
+        Assert.assertEquals(4L, counts.get(1));
+        Assert.assertEquals(5L, counts.get(2));
+        Assert.assertEquals(10L, counts.get(3));
+        Assert.assertEquals(0L, counts.get(4));
+        Assert.assertEquals(2L, counts.get(5));
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.collectors.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.am.analytics.publisher.reporter.CounterMetric;
+import org.wso2.carbon.apimgt.common.analytics.Constants;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.impl.AbstractRequestDataPublisher;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analytics event collection done for every successful request, from reading the request data off a synthetic data
+ * provider to converting the event to the attribute map handed to the metric reporters. No reporter is configured, so
+ * the cost of the analytics publisher itself is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuccessRequestDataCollectorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean masking;
+
+    private SuccessRequestDataCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+
+        Map<String, String> maskProperties = new HashMap<>();
+        if (masking) {
+            maskProperties.put("api.ut.userName", Constants.USERNAME_PROP_TYPE);
+            maskProperties.put("api.analytics.user.ip", Constants.IPV4_PROP_TYPE);
+            maskProperties.put("customerEmail", Constants.EMAIL_PROP_TYPE);
+        }
+        collector = new SuccessRequestDataCollector(new SyntheticDataProvider(maskProperties),
+                new BlackholePublisher(blackhole));
+    }
+
+    @Benchmark
+    public void collectData() throws AnalyticsException {
+
+        collector.collectData();
+    }
+
+    /**
+     * Publisher converting events like the analytics publishers do, without any metric reporter.
+     */
+    private static class BlackholePublisher extends AbstractRequestDataPublisher {
+
+        private final Blackhole blackhole;
+
+        BlackholePublisher(Blackhole blackhole) {
+
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void publish(Event analyticsEvent) {
+
+            super.publish(analyticsEvent);
+            blackhole.consume(analyticsEvent);
+        }
+
+        @Override
+        public CounterMetric getCounterMetric() {
+
+            return null;
+        }
+
+        @Override
+        public List<CounterMetric> getMultipleCounterMetrics() {
+
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Data of a successful request to an API by a subscribed application, built afresh for each event as the gateway
+     * data provider does.
+     */
+    private static class SyntheticDataProvider implements AnalyticsDataProvider {
+
+        private final Map<String, String> maskProperties;
+
+        SyntheticDataProvider(Map<String, String> maskProperties) {
+
+            this.maskProperties = maskProperties;
+        }
+
+        @Override
+        public EventCategory getEventCategory() {
+
+            return EventCategory.SUCCESS;
+        }
+
+        @Override
+        public boolean isAnonymous() {
+
+            return false;
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+
+            return true;
+        }
+
+        @Override
+        public FaultCategory getFaultType() {
+
+            return null;
+        }
+
+        @Override
+        public API getApi() {
+
+            API api = new API();
+            api.setApiId("6e0a8f7b-3b2e-4d1c-9a55-2f3f0c1d4e5a");
+            api.setApiType("HTTP");
+            api.setApiName("PizzaShackAPI");
+            api.setApiVersion("1.0.0");
+            api.setApiCreator("admin");
+            api.setApiCreatorTenantDomain("carbon.super");
+            return api;
+        }
+
+        @Override
+        public Application getApplication() {
+
+            Application application = new Application();
+            application.setKeyType("PRODUCTION");
+            application.setApplicationId("1f2e3d4c-5b6a-7980-a1b2-c3d4e5f6a7b8");
+            application.setApplicationName("DefaultApplication");
+            application.setApplicationOwner("admin");
+            return application;
+        }
+
+        @Override
+        public Operation getOperation() {
+
+            Operation operation = new Operation();
+            operation.setApiMethod("GET");
+            operation.setApiResourceTemplate("/menu");
+            return operation;
+        }
+
+        @Override
+        public Target getTarget() {
+
+            Target target = new Target();
+            target.setTargetResponseCode(200);
+            target.setResponseCacheHit(false);
+            target.setDestination("http://localhost:8080/pizzashack/menu");
+            return target;
+        }
+
+        @Override
+        public Latencies getLatencies() {
+
+            Latencies latencies = new Latencies();
+            latencies.setResponseLatency(12);
+            latencies.setBackendLatency(9);
+            latencies.setRequestMediationLatency(2);
+            latencies.setResponseMediationLatency(1);
+            return latencies;
+        }
+
+        @Override
+        public MetaInfo getMetaInfo() {
+
+            MetaInfo metaInfo = new MetaInfo();
+            metaInfo.setCorrelationId("c5a1e0b4-0f6d-4c1e-8f3a-2b9d7e6c5a41");
+            metaInfo.setRegionId("default");
+            metaInfo.setGatewayType("SYNAPSE");
+            return metaInfo;
+        }
+
+        @Override
+        public int getProxyResponseCode() {
+
+            return 200;
+        }
+
+        @Override
+        public int getTargetResponseCode() {
+
+            return 200;
+        }
+
+        @Override
+        public long getRequestTime() {
+
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public Error getError(FaultCategory faultCategory) {
+
+            return null;
+        }
+
+        @Override
+        public String getUserAgentHeader() {
+
+            return "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+        }
+
+        @Override
+        public String getUserName() {
+
+            return "admin@carbon.super";
+        }
+
+        @Override
+        public String getEndUserIP() {
+
+            return "192.168.10.24";
+        }
+
+        @Override
+        public Map<String, Object> getProperties() {
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("customerEmail", "customer@example.com");
+            properties.put("region", "us-east");
+            return properties;
+        }
+
+        @Override
+        public Map<String, String> getMaskProperties() {
+
+            return maskProperties;
+        }
+    }
+}
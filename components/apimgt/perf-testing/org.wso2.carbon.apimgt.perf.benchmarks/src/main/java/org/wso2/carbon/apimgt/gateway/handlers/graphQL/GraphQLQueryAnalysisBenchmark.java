@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The depth and complexity analysis done by {@link GraphQLQueryAnalysisHandler} for a query of the given shape, both
+ * when the analysis results are already recorded in the parsed query and when the query has to be analyzed. Queries
+ * run against a synthetic schema of a store with nested customers, orders and products.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLQueryAnalysisBenchmark {
+
+    private static final int MAX_QUERY_DEPTH = 10;
+    private static final int MAX_QUERY_COMPLEXITY = 10000;
+    private static final String DEPTH_ANALYSIS = "depth:" + MAX_QUERY_DEPTH;
+    private static final String COMPLEXITY_ANALYSIS = "complexity:" + MAX_QUERY_COMPLEXITY;
+    private static final String SCHEMA = "schema { query: Query }\n"
+            + "type Query {\n"
+            + "  customer(id: ID!): Customer\n"
+            + "  customers(first: Int): [Customer]\n"
+            + "  product(id: ID!): Product\n"
+            + "  products(first: Int): [Product]\n"
+            + "}\n"
+            + "type Customer { id: ID! name: String email: String address: Address orders(first: Int): [Order] }\n"
+            + "type Address { street: String city: String country: String }\n"
+            + "type Order { id: ID! total: Float status: String customer: Customer lines: [OrderLine] }\n"
+            + "type OrderLine { quantity: Int price: Float product: Product }\n"
+            + "type Product { id: ID! name: String price: Float related(first: Int): [Product] }\n";
+    private static final String COMPLEXITY_POLICY = "{\"complexity\":{"
+            + "\"Query\":{\"customer\":1,\"customers\":5,\"product\":1,\"products\":5},"
+            + "\"Customer\":{\"id\":1,\"name\":1,\"email\":1,\"address\":1,\"orders\":3},"
+            + "\"Address\":{\"street\":1,\"city\":1,\"country\":1},"
+            + "\"Order\":{\"id\":1,\"total\":1,\"status\":1,\"customer\":2,\"lines\":3},"
+            + "\"OrderLine\":{\"quantity\":1,\"price\":1,\"product\":2},"
+            + "\"Product\":{\"id\":1,\"name\":1,\"price\":1,\"related\":3}}}";
+
+    @Param({"shallow", "nested", "wide"})
+    public String query;
+
+    private QueryAnalyzer queryAnalyzer;
+    private String payload;
+    private Document document;
+    private ParsedGraphQLQuery parsedQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ParseException {
+
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(new SchemaParser().parse(SCHEMA));
+        queryAnalyzer = new QueryAnalyzer(schema);
+        payload = payload(query);
+        document = new Parser().parseDocument(payload);
+        parsedQuery = new ParsedGraphQLQuery(document, null, false,
+                document.getFirstDefinitionOfType(OperationDefinition.class).orElse(null), "query");
+        parsedQuery.addAnalysisResult(DEPTH_ANALYSIS, queryAnalyzer.analyseQueryDepth(MAX_QUERY_DEPTH, payload,
+                document));
+        parsedQuery.addAnalysisResult(COMPLEXITY_ANALYSIS, queryAnalyzer.analyseQueryMutationComplexity(payload,
+                document, MAX_QUERY_COMPLEXITY, COMPLEXITY_POLICY));
+    }
+
+    @Benchmark
+    public QueryAnalyzerResponseDTO analyzeRecorded() {
+
+        QueryAnalyzerResponseDTO depth = parsedQuery.getAnalysisResult(DEPTH_ANALYSIS);
+        return depth.isSuccess() ? parsedQuery.getAnalysisResult(COMPLEXITY_ANALYSIS) : depth;
+    }
+
+    @Benchmark
+    public QueryAnalyzerResponseDTO analyzeParsed() throws ParseException {
+
+        QueryAnalyzerResponseDTO depth = queryAnalyzer.analyseQueryDepth(MAX_QUERY_DEPTH, payload, document);
+        return depth.isSuccess() ? queryAnalyzer.analyseQueryMutationComplexity(payload, document,
+                MAX_QUERY_COMPLEXITY, COMPLEXITY_POLICY) : depth;
+    }
+
+    @Benchmark
+    public QueryAnalyzerResponseDTO analyzeUnparsed() throws ParseException {
+
+        QueryAnalyzerResponseDTO depth = queryAnalyzer.analyseQueryDepth(MAX_QUERY_DEPTH, payload);
+        return depth.isSuccess() ? queryAnalyzer.analyseQueryMutationComplexity(payload, MAX_QUERY_COMPLEXITY,
+                COMPLEXITY_POLICY) : depth;
+    }
+
+    private static String payload(String shape) {
+
+        switch (shape) {
+            case "shallow":
+                return "query { product(id: \"1\") { id name price } }";
+            case "nested":
+                return "query { customer(id: \"1\") { name address { city } orders(first: 10) { id total "
+                        + "lines { quantity product { name related(first: 5) { name related(first: 5) { name } } } } "
+                        + "customer { name } } } }";
+            default:
+                StringBuilder builder = new StringBuilder("query {");
+                for (int i = 0; i < 20; i++) {
+                    builder.append(" p").append(i).append(": product(id: \"").append(i)
+                            .append("\") { id name price related(first: 3) { id name } }");
+                }
+                return builder.append(" c: customers(first: 10) { id name email address { street city country } }")
+                        .append(" }").toString();
+        }
+    }
+}
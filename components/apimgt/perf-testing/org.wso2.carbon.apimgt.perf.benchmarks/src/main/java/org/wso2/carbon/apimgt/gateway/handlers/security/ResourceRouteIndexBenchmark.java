@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource matching done by {@code APIKeyValidator.findMatchingVerb} for every request, which resolves the request
+ * path against the compiled route index of the API. The API has the given number of resources, with a mix of literal,
+ * path parameter and wildcard templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceRouteIndexBenchmark {
+
+    private static final String CONTEXT = "/synthetic";
+    private static final String VERSION = "1.0.0";
+    private static final String[] HTTP_METHODS = {"GET", "POST", "PUT", "DELETE"};
+    private static final int REQUESTS = 256;
+
+    @Param({"20", "300"})
+    public int resourceCount;
+
+    private List<ResourceInfoDTO> resources;
+    private ResourceRouteIndex index;
+    private String[] requestPaths;
+    private String[] requestMethods;
+    private String[] templates;
+    private int request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        resources = new ArrayList<>(resourceCount);
+        templates = new String[resourceCount];
+        for (int i = 0; i < resourceCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    templates[i] = "/resource" + i;
+                    break;
+                case 1:
+                    templates[i] = "/resource" + i + "/{id}";
+                    break;
+                case 2:
+                    templates[i] = "/resource" + i + "/{id}/items/{itemId}";
+                    break;
+                default:
+                    templates[i] = "/resource" + i + "/*";
+                    break;
+            }
+            ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+            resourceInfoDTO.setUrlPattern(templates[i]);
+            resourceInfoDTO.setHttpVerbs(new LinkedHashSet<>());
+            for (String httpMethod : HTTP_METHODS) {
+                VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+                verbInfoDTO.setHttpVerb(httpMethod);
+                resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+            }
+            resources.add(resourceInfoDTO);
+        }
+        index = ResourceRouteIndex.compile(CONTEXT, VERSION, resources);
+
+        requestPaths = new String[REQUESTS];
+        requestMethods = new String[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int resource = (int) ((long) i * 7919 % resourceCount);
+            requestPaths[i] = templates[resource].replace("{id}", Integer.toString(i))
+                    .replace("{itemId}", "item" + i).replace("*", "a/b/c") + "?limit=" + i;
+            requestMethods[i] = HTTP_METHODS[i % HTTP_METHODS.length];
+        }
+    }
+
+    @Benchmark
+    public ResourceRouteIndex.Route match() {
+
+        int i = next();
+        return index.match(requestPaths[i], requestMethods[i]);
+    }
+
+    @Benchmark
+    public ResourceRouteIndex.Route getRoute() {
+
+        int i = next();
+        return index.getRoute(templates[i % resourceCount], requestMethods[i]);
+    }
+
+    @Benchmark
+    public ResourceRouteIndex compile() {
+
+        return ResourceRouteIndex.compile(CONTEXT, VERSION, resources);
+    }
+
+    private int next() {
+
+        request = (request + 1) & (REQUESTS - 1);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.model.Request;
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.report.ValidationReport;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request schema validation done by {@link SchemaValidator} for an API of the given number of operations, each taking
+ * a JSON body of a shared order schema. Covers validating a request with the validator of the deployed API revision
+ * and building the validator, which happens once per deployed revision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaValidatorBenchmark {
+
+    private static final int REQUESTS = 64;
+
+    @Param({"30", "300"})
+    public int operationCount;
+
+    private final String apiUUID = UUID.randomUUID().toString();
+    private OpenAPI openAPI;
+    private Request[] requests;
+    private int request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(false);
+        openAPI = new OpenAPIParser().readContents(definition(operationCount), null, parseOptions).getOpenAPI();
+        OpenAPIValidatorCache.getInstance().precompile(apiUUID, openAPI);
+
+        requests = new Request[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = SimpleRequest.Builder.post("/resource" + (i * 7 % operationCount))
+                    .withHeader("Content-Type", "application/json")
+                    .withBody("{\"id\":" + i + ",\"customer\":\"customer" + i + "\",\"status\":\"PLACED\","
+                            + "\"lines\":[{\"sku\":\"SKU-" + i + "\",\"quantity\":2,\"price\":10.5},"
+                            + "{\"sku\":\"SKU-" + (i + 1) + "\",\"quantity\":1,\"price\":3.25}]}")
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ValidationReport validateRequest() {
+
+        OpenApiInteractionValidator validator = OpenAPIValidatorCache.getInstance().getValidator(apiUUID, openAPI,
+                SchemaValidator::getOpenAPIValidator);
+        request = (request + 1) & (REQUESTS - 1);
+        return validator.validateRequest(requests[request]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public OpenApiInteractionValidator buildValidator() {
+
+        return SchemaValidator.getOpenAPIValidator(openAPI);
+    }
+
+    private static String definition(int operationCount) {
+
+        StringBuilder paths = new StringBuilder();
+        for (int i = 0; i < operationCount; i++) {
+            if (i > 0) {
+                paths.append(',');
+            }
+            paths.append("\"/resource").append(i).append("\":{\"post\":{\"operationId\":\"create").append(i)
+                    .append("\",\"requestBody\":{\"required\":true,\"content\":{\"application/json\":{\"schema\":")
+                    .append("{\"$ref\":\"#/components/schemas/Order\"}}}},")
+                    .append("\"responses\":{\"201\":{\"description\":\"Created\"}}}}");
+        }
+        return "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Synthetic\",\"version\":\"1.0.0\"},"
+                + "\"paths\":{" + paths + "},"
+                + "\"components\":{\"schemas\":{"
+                + "\"Order\":{\"type\":\"object\",\"required\":[\"id\",\"customer\",\"lines\"],\"properties\":{"
+                + "\"id\":{\"type\":\"integer\"},\"customer\":{\"type\":\"string\",\"maxLength\":64},"
+                + "\"status\":{\"type\":\"string\",\"enum\":[\"PLACED\",\"PAID\",\"SHIPPED\"]},"
+                + "\"lines\":{\"type\":\"array\",\"items\":{\"$ref\":\"#/components/schemas/OrderLine\"}}}},"
+                + "\"OrderLine\":{\"type\":\"object\",\"required\":[\"sku\",\"quantity\"],\"properties\":{"
+                + "\"sku\":{\"type\":\"string\"},\"quantity\":{\"type\":\"integer\",\"minimum\":1},"
+                + "\"price\":{\"type\":\"number\"}}}}}}";
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The steps of JWT access token authentication in the gateway that do not depend on the message context: finding the
+ * segments of the token, looking up the parsed token, parsing a token that is not cached and verifying its RS256
+ * signature. RS256 tokens of the given approximate size are signed with a synthetic key pair, the size being padded
+ * with a claim to cover tokens carrying many scopes or custom claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTValidationBenchmark {
+
+    private static final int TOKENS = 64;
+
+    @Param({"1024", "4096"})
+    public int tokenSize;
+
+    private String[] tokens;
+    private SignedJWT[] signedJWTs;
+    private RSASSAVerifier verifier;
+    private int token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException, JOSEException, ParseException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        RSASSASigner signer = new RSASSASigner(keyPair.getPrivate());
+        verifier = new RSASSAVerifier((RSAPublicKey) keyPair.getPublic());
+
+        tokens = new String[TOKENS];
+        signedJWTs = new SignedJWT[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = sign(signer, claims(i, ""));
+            // base64url encoding grows the claims by a third
+            int padding = Math.max((tokenSize - tokens[i].length()) * 3 / 4, 0);
+            if (padding > 0) {
+                char[] value = new char[padding];
+                Arrays.fill(value, 'x');
+                tokens[i] = sign(signer, claims(i, new String(value)));
+            }
+            signedJWTs[i] = SignedJWT.parse(tokens[i]);
+        }
+        for (String jwt : tokens) {
+            SignedJWTParseCache.getInstance().getSignedJWTInfo(JWTEnvelope.scan(jwt));
+        }
+    }
+
+    @Benchmark
+    public JWTEnvelope scan() {
+
+        return JWTEnvelope.scan(tokens[next()]);
+    }
+
+    @Benchmark
+    public SignedJWTInfo parseCached() throws ParseException {
+
+        return SignedJWTParseCache.getInstance().getSignedJWTInfo(JWTEnvelope.scan(tokens[next()]));
+    }
+
+    @Benchmark
+    public JWTClaimsSet parse() throws ParseException {
+
+        return SignedJWT.parse(tokens[next()]).getJWTClaimsSet();
+    }
+
+    @Benchmark
+    public boolean verifySignature() throws JOSEException {
+
+        SignedJWT signedJWT = signedJWTs[next()];
+        return verifier.verify(signedJWT.getHeader(), signedJWT.getSigningInput(), signedJWT.getSignature());
+    }
+
+    private int next() {
+
+        token = (token + 1) & (TOKENS - 1);
+        return token;
+    }
+
+    private static JWTClaimsSet claims(int i, String padding) {
+
+        long now = System.currentTimeMillis();
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder()
+                .issuer("https://localhost:9443/oauth2/token")
+                .subject("user" + i + "@carbon.super")
+                .audience("consumerKey" + i)
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(new Date(now))
+                .expirationTime(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .claim("azp", "consumerKey" + i)
+                .claim("scope", "default read:pets write:pets")
+                .claim("client_id", "consumerKey" + i);
+        if (!padding.isEmpty()) {
+            builder.claim("padding", padding);
+        }
+        return builder.build();
+    }
+
+    private static String sign(RSASSASigner signer, JWTClaimsSet claimsSet) throws JOSEException {
+
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("synthetic").build(),
+                claimsSet);
+        signedJWT.sign(signer);
+        return signedJWT.serialize();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.threatprotection.analyzer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerException;
+import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.JSONConfig;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON threat protection of a request payload of the given size, made of an array of nested objects as sent by a
+ * typical REST client. The configured limits are never reached, so the whole payload is analyzed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSONAnalyzerBenchmark {
+
+    private static final String API_CONTEXT = "/orders/1.0.0";
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    private JSONAnalyzer analyzer;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        JSONConfig config = new JSONConfig();
+        config.setEnabled(true);
+        config.setMaxPropertyCount(Integer.MAX_VALUE);
+        config.setMaxStringLength(1024);
+        config.setMaxArrayElementCount(Integer.MAX_VALUE);
+        config.setMaxKeyLength(64);
+        config.setMaxJsonDepth(16);
+        analyzer = new JSONAnalyzer();
+        analyzer.configure(config);
+
+        StringBuilder json = new StringBuilder(payloadSize + 512).append("{\"orders\":[");
+        for (int i = 0; json.length() < payloadSize; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"customer\":{\"name\":\"Customer ").append(i)
+                    .append("\",\"address\":{\"street\":\"").append(i).append(" Main Street\",\"city\":\"Colombo\"}}")
+                    .append(",\"items\":[{\"sku\":\"SKU-").append(i).append("\",\"quantity\":").append(i % 10)
+                    .append(",\"price\":").append(i % 100).append(".5}],\"tags\":[\"new\",\"priority\"]")
+                    .append(",\"paid\":").append(i % 2 == 0).append('}');
+        }
+        json.append("]}");
+        payload = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JSONAnalyzer analyze() throws APIMThreatAnalyzerException {
+
+        analyzer.analyze(new ByteArrayInputStream(payload), API_CONTEXT);
+        return analyzer;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttle decision and blocking condition lookups done by the throttle handler for every request, over a decision
+ * table of the given number of throttled keys and a set of blocking conditions of each kind.
+ * <p>
+ * The {@code concurrentHashMap*} benchmarks are the baseline of the decision table: the plain
+ * {@link ConcurrentHashMap} of the same decisions, looked up as the throttle handler did before, with a
+ * {@code containsKey} and a {@code get} to check the key and another {@code get} for its next access timestamp. The
+ * {@code *Contended} benchmarks run the lookups and updates of both from 64 threads, e.g.
+ * <pre>
+ * java -jar target/benchmarks.jar "ThrottleDataHolderBenchmark.*Contended" -p throttledKeys=1000000
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThrottleDataHolderBenchmark {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int BLOCKING_CONDITIONS = 100;
+    private static final int LOOKUP_KEYS = 1024;
+    private static final int CONTENDED_THREADS = 64;
+
+    @Param({"10000", "1000000"})
+    public int throttledKeys;
+
+    private final ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+    private Map<String, Long> concurrentHashMap;
+    private long nextAccessTimestamp;
+    private String[] throttledKeyLookups;
+    private String[] unthrottledKeyLookups;
+    private String[] applicationKeys;
+    private String[] subscriptionKeys;
+    private String[] clientIps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        // decisions expire in an hour, well after the end of the trial
+        nextAccessTimestamp = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        Map<String, Long> decisions = new HashMap<>(throttledKeys * 2);
+        for (int i = 0; i < throttledKeys; i++) {
+            decisions.put(throttleKey(i), nextAccessTimestamp);
+        }
+        throttleDataHolder.addThrottleDataFromMap(decisions);
+        concurrentHashMap = new ConcurrentHashMap<>(decisions);
+        for (int i = 0; i < BLOCKING_CONDITIONS; i++) {
+            throttleDataHolder.addAPIBlockingCondition("/blocked" + i + "/1.0.0", "enabled");
+            throttleDataHolder.addApplicationBlockingCondition("blockedUser" + i + ":BlockedApp" + i, "enabled");
+            throttleDataHolder.addUserBlockingCondition("blockedUser" + i + "@" + TENANT_DOMAIN, "enabled");
+            throttleDataHolder.addSubscriptionBlockingCondition("/blocked" + i + ":1.0.0:blockedUser" + i
+                    + "-BlockedApp" + i + ":PRODUCTION", "enabled");
+            throttleDataHolder.addIpBlockingCondition(TENANT_DOMAIN, i, "{\"" + APIConstants.BLOCK_CONDITION_FIXED_IP
+                    + "\":\"10.0." + i + ".1\",\"" + APIConstants.BLOCK_CONDITION_INVERT + "\":false}",
+                    APIConstants.BLOCKING_CONDITIONS_IP);
+        }
+        throttledKeyLookups = new String[LOOKUP_KEYS];
+        unthrottledKeyLookups = new String[LOOKUP_KEYS];
+        applicationKeys = new String[LOOKUP_KEYS];
+        subscriptionKeys = new String[LOOKUP_KEYS];
+        clientIps = new String[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            // keys are built per lookup in the handler, so they are not interned with the keys in the table
+            throttledKeyLookups[i] = new String(throttleKey((int) ((long) i * 7919 % throttledKeys)));
+            unthrottledKeyLookups[i] = throttleKey(throttledKeys + i);
+            applicationKeys[i] = "admin:App" + i;
+            subscriptionKeys[i] = "/pizzashack:1.0.0:admin-App" + i + ":PRODUCTION";
+            // every hundredth client IP is blocked
+            clientIps[i] = i % 100 == 0 ? "10.0." + (i % BLOCKING_CONDITIONS) + ".1" : "192.168." + (i >> 8) + "."
+                    + (i & 0xff);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        for (int i = 0; i < throttledKeys; i++) {
+            throttleDataHolder.removeThrottleData(throttleKey(i));
+        }
+        for (int i = 0; i < BLOCKING_CONDITIONS; i++) {
+            throttleDataHolder.removeAPIBlockingCondition("/blocked" + i + "/1.0.0");
+            throttleDataHolder.removeApplicationBlockingCondition("blockedUser" + i + ":BlockedApp" + i);
+            throttleDataHolder.removeUserBlockingCondition("blockedUser" + i + "@" + TENANT_DOMAIN);
+            throttleDataHolder.removeSubscriptionBlockingCondition("/blocked" + i + ":1.0.0:blockedUser" + i
+                    + "-BlockedApp" + i + ":PRODUCTION");
+            throttleDataHolder.removeIpBlockingCondition(TENANT_DOMAIN, i);
+        }
+    }
+
+    @Benchmark
+    public boolean isThrottledHit(Cursor cursor) {
+
+        return throttleDataHolder.isThrottled(throttledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean isThrottledMiss(Cursor cursor) {
+
+        return throttleDataHolder.isThrottled(unthrottledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    public long throttledUntilHit(Cursor cursor) {
+
+        return throttleDataHolder.getThrottledUntil(throttledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    public long concurrentHashMapThrottledUntilHit(Cursor cursor) {
+
+        return concurrentHashMapThrottledUntil(throttledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    public long concurrentHashMapThrottledUntilMiss(Cursor cursor) {
+
+        return concurrentHashMapThrottledUntil(unthrottledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public long throttledUntilHitContended(Cursor cursor) {
+
+        return throttleDataHolder.getThrottledUntil(throttledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public long concurrentHashMapThrottledUntilHitContended(Cursor cursor) {
+
+        return concurrentHashMapThrottledUntil(throttledKeyLookups[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public void addThrottleDataContended(Cursor cursor) {
+
+        throttleDataHolder.addThrottleData(throttledKeyLookups[cursor.next()], nextAccessTimestamp);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public Long concurrentHashMapPutContended(Cursor cursor) {
+
+        return concurrentHashMap.put(throttledKeyLookups[cursor.next()], nextAccessTimestamp);
+    }
+
+    @Benchmark
+    public boolean isRequestBlocked(Cursor cursor) {
+
+        int i = cursor.next();
+        return throttleDataHolder.isRequestBlocked("/pizzashack/1.0.0", applicationKeys[i], "admin@" + TENANT_DOMAIN,
+                clientIps[i], TENANT_DOMAIN, subscriptionKeys[i]);
+    }
+
+    /**
+     * Lookup of a throttle decision as done by the throttle handler before the decision table was introduced.
+     */
+    private long concurrentHashMapThrottledUntil(String key) {
+
+        if (!concurrentHashMap.containsKey(key)) {
+            return 0;
+        }
+        long timestamp = concurrentHashMap.get(key);
+        if (timestamp < System.currentTimeMillis()) {
+            concurrentHashMap.remove(key);
+            return 0;
+        }
+        return concurrentHashMap.get(key);
+    }
+
+    private static String throttleKey(int i) {
+
+        return "/api" + (i % 500) + "/1.0.0:1.0.0:user" + i + "@" + TENANT_DOMAIN + ":app" + i + ":resource";
+    }
+
+    /**
+     * Position of a benchmark thread in the lookup keys. The threads start at different keys, so that the contended
+     * benchmarks do not look up the same key at the same time.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+
+            index = ThreadLocalRandom.current().nextInt(LOOKUP_KEYS);
+        }
+
+        int next() {
+
+            index = (index + 1) & (LOOKUP_KEYS - 1);
+            return index;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hand-over of throttle events from request threads to the publishing threads of the throttle data publisher, with
+ * the thread pool executor the publisher uses by default and with the ring buffer pipeline under each backpressure
+ * policy. The pools and buffers are sized as the defaults of the publisher.
+ * <p>
+ * The score of {@code publishThroughput} is the number of events the request threads hand over per second, and the
+ * percentiles of {@code publishOverhead}, e.g. p0.99, are the overhead of a hand-over on the request thread. The
+ * number of events published and dropped per second is printed after each iteration, since with the unbounded
+ * executor queue or a dropping policy the events handed over are not all published in the iteration. The backlog of
+ * the executor is published before the next iteration starts.
+ * <pre>
+ * java -jar target/benchmarks.jar ThrottleEventPipelineBenchmark -p publishCost=1000
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class ThrottleEventPipelineBenchmark {
+
+    private static final String EXECUTOR = "EXECUTOR";
+    private static final int CORE_POOL_SIZE = 200;
+    private static final int MAXIMUM_POOL_SIZE = 500;
+    private static final long KEEP_ALIVE_TIME = 100;
+    private static final int BUFFER_SIZE = 65536;
+    private static final int DRAINER_COUNT = 4;
+    private static final int BATCH_SIZE = 256;
+    private static final int SAMPLE_RATE = 10;
+
+    /**
+     * Path the events are handed over to: the thread pool executor, or the ring buffer pipeline with the given
+     * backpressure policy.
+     */
+    @Param({EXECUTOR, "DROP_OLDEST", "BLOCK", "SAMPLE"})
+    public String publishingPath;
+
+    /**
+     * Cost of publishing an event on a publishing thread, in {@link Blackhole#consumeCPU(long)} tokens.
+     */
+    @Param({"100", "1000"})
+    public long publishCost;
+
+    private final LongAdder executorPublishedEvents = new LongAdder();
+    private ThreadPoolExecutor executor;
+    private ThrottleEventPipeline<BenchmarkEvent> eventPipeline;
+    private long iterationStartNanos;
+    private long iterationStartPublished;
+    private long iterationStartDropped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        if (EXECUTOR.equals(publishingPath)) {
+            executor = new ThreadPoolExecutor(CORE_POOL_SIZE, MAXIMUM_POOL_SIZE, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                    new LinkedBlockingDeque<>());
+        } else {
+            eventPipeline = new ThrottleEventPipeline<>("ThrottleEventPipelineBenchmark", BUFFER_SIZE, DRAINER_COUNT,
+                    BATCH_SIZE, ThrottleEventPipeline.BackpressurePolicy.valueOf(publishingPath), SAMPLE_RATE,
+                    BenchmarkEvent::run, event -> {
+                    });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        if (eventPipeline != null) {
+            eventPipeline.shutdown();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+
+        iterationStartNanos = System.nanoTime();
+        iterationStartPublished = getPublishedEventCount();
+        iterationStartDropped = getDroppedEventCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() throws InterruptedException {
+
+        double seconds = (System.nanoTime() - iterationStartNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("%n%s: published %.0f events/s, dropped %.0f events/s, backlog %d events%n",
+                publishingPath, (getPublishedEventCount() - iterationStartPublished) / seconds,
+                (getDroppedEventCount() - iterationStartDropped) / seconds, getBacklog());
+        while (executor != null && !executor.getQueue().isEmpty()) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public boolean publishThroughput() {
+
+        return publish();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean publishOverhead() {
+
+        return publish();
+    }
+
+    private boolean publish() {
+
+        BenchmarkEvent event = new BenchmarkEvent(publishCost, executorPublishedEvents);
+        if (executor != null) {
+            executor.execute(event);
+            return true;
+        }
+        return eventPipeline.publish(event);
+    }
+
+    private long getPublishedEventCount() {
+
+        return executor != null ? executorPublishedEvents.sum() : eventPipeline.getPublishedEventCount();
+    }
+
+    private long getDroppedEventCount() {
+
+        return executor != null ? 0 : eventPipeline.getDroppedEventCount();
+    }
+
+    private long getBacklog() {
+
+        return executor != null ? executor.getQueue().size() : eventPipeline.getBufferedEventCount();
+    }
+
+    /**
+     * Event standing in for a throttle data publishing agent, whose publishing takes the given amount of CPU.
+     */
+    private static final class BenchmarkEvent implements Runnable {
+
+        private final long publishCost;
+        private final LongAdder publishedEvents;
+
+        BenchmarkEvent(long publishCost, LongAdder publishedEvents) {
+
+            this.publishCost = publishCost;
+            this.publishedEvents = publishedEvents;
+        }
+
+        @Override
+        public void run() {
+
+            Blackhole.consumeCPU(publishCost);
+            publishedEvents.increment();
+        }
+    }
+}
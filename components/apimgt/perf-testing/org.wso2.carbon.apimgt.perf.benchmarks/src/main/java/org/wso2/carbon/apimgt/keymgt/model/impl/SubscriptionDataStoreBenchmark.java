@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMapping;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The subscription data store lookups done when validating a request to an API: the API by its context and version,
+ * the key mapping of the consumer key, the application and its subscription to the API. The store is filled with the
+ * given number of synthetic APIs and applications, each application being subscribed to a few APIs, so every lookup
+ * is served from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriptionDataStoreBenchmark {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String KEY_MANAGER = "Resident Key Manager";
+    private static final int SUBSCRIPTIONS_PER_APPLICATION = 4;
+    private static final int REQUESTS = 1024;
+
+    @Param({"1000", "100000"})
+    public int entityCount;
+
+    private SubscriptionDataStoreImpl subscriptionDataStore;
+    private String[] contexts;
+    private String[] consumerKeys;
+    private int[] applicationIds;
+    private int[] apiIds;
+    private int request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(
+                new APIManagerConfigurationServiceImpl(new APIManagerConfiguration()));
+        subscriptionDataStore = new SubscriptionDataStoreImpl(TENANT_DOMAIN);
+        for (int i = 1; i <= entityCount; i++) {
+            API api = new API();
+            api.setApiId(i);
+            api.setUuid("api-" + i);
+            api.setApiName("API" + i);
+            api.setApiVersion("1.0.0");
+            api.setContext("/api" + i + "/1.0.0");
+            api.setApiProvider("admin");
+            subscriptionDataStore.addOrUpdateAPI(api);
+
+            Application application = new Application();
+            application.setId(i);
+            application.setUUID("app-" + i);
+            application.setName("App" + i);
+            application.setPolicy("Unlimited");
+            subscriptionDataStore.addOrUpdateApplication(application);
+
+            ApplicationKeyMapping keyMapping = new ApplicationKeyMapping();
+            keyMapping.setApplicationId(i);
+            keyMapping.setApplicationUUID("app-" + i);
+            keyMapping.setConsumerKey("consumerKey" + i);
+            keyMapping.setKeyManager(KEY_MANAGER);
+            keyMapping.setKeyType("PRODUCTION");
+            subscriptionDataStore.addOrUpdateApplicationKeyMapping(keyMapping);
+        }
+        for (int i = 1; i <= entityCount; i++) {
+            for (int j = 0; j < SUBSCRIPTIONS_PER_APPLICATION; j++) {
+                Subscription subscription = new Subscription();
+                subscription.setAppId(i);
+                subscription.setApiId(subscribedApi(i, j));
+                subscription.setSubscriptionId(Integer.toString(i * SUBSCRIPTIONS_PER_APPLICATION + j));
+                subscription.setPolicyId("Unlimited");
+                subscription.setSubscriptionState(APIConstants.SubscriptionStatus.UNBLOCKED);
+                subscriptionDataStore.addOrUpdateSubscription(subscription);
+            }
+        }
+
+        contexts = new String[REQUESTS];
+        consumerKeys = new String[REQUESTS];
+        applicationIds = new int[REQUESTS];
+        apiIds = new int[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int application = (int) ((long) i * 7919 % entityCount) + 1;
+            int api = subscribedApi(application, i % SUBSCRIPTIONS_PER_APPLICATION);
+            // the gateway builds the lookup keys from the request, so they are not the instances in the store
+            contexts[i] = new StringBuilder("/api").append(api).append("/1.0.0").toString();
+            consumerKeys[i] = new StringBuilder("consumerKey").append(application).toString();
+            applicationIds[i] = application;
+            apiIds[i] = api;
+        }
+    }
+
+    @Benchmark
+    public API getApiByContextAndVersion() {
+
+        return subscriptionDataStore.getApiByContextAndVersion(contexts[next()], "1.0.0");
+    }
+
+    @Benchmark
+    public ApplicationKeyMapping getKeyMappingByKeyAndKeyManager() {
+
+        return subscriptionDataStore.getKeyMappingByKeyAndKeyManager(consumerKeys[next()], KEY_MANAGER);
+    }
+
+    @Benchmark
+    public void validateSubscription(Blackhole blackhole) {
+
+        int i = next();
+        API api = subscriptionDataStore.getApiByContextAndVersion(contexts[i], "1.0.0");
+        ApplicationKeyMapping keyMapping = subscriptionDataStore.getKeyMappingByKeyAndKeyManager(consumerKeys[i],
+                KEY_MANAGER);
+        Application application = subscriptionDataStore.getApplicationById(keyMapping.getApplicationId());
+        blackhole.consume(api);
+        blackhole.consume(application);
+        blackhole.consume(subscriptionDataStore.getSubscriptionById(application.getId(), api.getApiId()));
+    }
+
+    private int next() {
+
+        request = (request + 1) & (REQUESTS - 1);
+        return request;
+    }
+
+    private int subscribedApi(int application, int subscription) {
+
+        return (int) (((long) application * 31 + subscription * 977L) % entityCount) + 1;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the standard JMH command line options, and unless a result format is
+ * given, writes the results as JSON to {@code jmh-result.json} so that runs can be compared for regressions, e.g.
+ * <pre>
+ * java -jar target/benchmarks.jar ThrottleDataHolder -rff throttle.json
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Credentials the requests are authenticated with, handed out in turn so that the load is spread over the
+ * applications and users of the test data. Credentials are read from a file with one credential per line, expanded
+ * from a pattern such as {@code developer{n}_token} over a range of {@code n}, or for OAuth and JWT access tokens,
+ * obtained from the token endpoint with the client credentials grant for consumer keys and secrets following the
+ * naming of {@code SubscriptionPopulator}.
+ */
+public class CredentialSource {
+
+    private static final String INDEX_PLACEHOLDER = "{n}";
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"access_token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String[] credentials;
+    private final AtomicLong next = new AtomicLong();
+
+    public CredentialSource(List<String> credentials) {
+
+        if (credentials.isEmpty()) {
+            throw new IllegalArgumentException("No credentials to authenticate the requests with");
+        }
+        this.credentials = credentials.toArray(new String[0]);
+    }
+
+    /**
+     * Creates the credential source of a scenario.
+     *
+     * @param configuration configuration of the scenario
+     * @param client        client used to call the token endpoint
+     * @return the credential source, or null if the requests are not authenticated
+     * @throws IOException          if the credentials could not be read or obtained
+     * @throws InterruptedException if interrupted while obtaining access tokens
+     */
+    public static CredentialSource create(LoadDriverConfiguration configuration, HttpClient client)
+            throws IOException, InterruptedException {
+
+        LoadDriverConfiguration.AuthType authType = configuration.getAuthType();
+        if (authType == LoadDriverConfiguration.AuthType.NONE) {
+            return null;
+        }
+        String file = configuration.getString(LoadDriverConfiguration.CREDENTIALS_FILE, null);
+        if (file != null) {
+            List<String> credentials = new ArrayList<>();
+            for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+                String credential = line.trim();
+                if (!credential.isEmpty() && !credential.startsWith("#")) {
+                    credentials.add(credential);
+                }
+            }
+            return new CredentialSource(credentials);
+        }
+        long from = configuration.getLong(LoadDriverConfiguration.CREDENTIALS_FROM, 1);
+        long to = configuration.getLong(LoadDriverConfiguration.CREDENTIALS_TO, from);
+        String pattern = configuration.getString(LoadDriverConfiguration.CREDENTIALS_PATTERN, null);
+        if (pattern != null) {
+            List<String> credentials = new ArrayList<>();
+            for (long i = from; i <= to; i++) {
+                credentials.add(expand(pattern, i));
+            }
+            return new CredentialSource(credentials);
+        }
+        String tokenEndpoint = configuration.getString(LoadDriverConfiguration.TOKEN_ENDPOINT, null);
+        if (tokenEndpoint != null && authType != LoadDriverConfiguration.AuthType.APIKEY) {
+            return new CredentialSource(obtainAccessTokens(configuration, client, URI.create(tokenEndpoint), from,
+                    to));
+        }
+        throw new IllegalArgumentException("One of " + LoadDriverConfiguration.CREDENTIALS_FILE + ", "
+                + LoadDriverConfiguration.CREDENTIALS_PATTERN + " or " + LoadDriverConfiguration.TOKEN_ENDPOINT
+                + " is required for " + authType + " authentication");
+    }
+
+    /**
+     * @return the next credential
+     */
+    public String next() {
+
+        return credentials[(int) (next.getAndIncrement() % credentials.length)];
+    }
+
+    public int size() {
+
+        return credentials.length;
+    }
+
+    static String expand(String pattern, long index) {
+
+        return pattern.replace(INDEX_PLACEHOLDER, Long.toString(index));
+    }
+
+    private static List<String> obtainAccessTokens(LoadDriverConfiguration configuration, HttpClient client,
+                                                   URI tokenEndpoint, long from, long to)
+            throws IOException, InterruptedException {
+
+        String consumerKeyPattern = configuration.getString(LoadDriverConfiguration.CONSUMER_KEY_PATTERN,
+                "developer{n}_key");
+        String consumerSecretPattern = configuration.getString(LoadDriverConfiguration.CONSUMER_SECRET_PATTERN,
+                "developer{n}_secret");
+        String scope = configuration.getString(LoadDriverConfiguration.TOKEN_SCOPE, null);
+        String body = "grant_type=client_credentials"
+                + (scope == null ? "" : "&scope=" + URLEncoder.encode(scope, StandardCharsets.UTF_8.name()));
+        List<String> accessTokens = new ArrayList<>();
+        for (long i = from; i <= to; i++) {
+            String clientCredentials = expand(consumerKeyPattern, i) + ':' + expand(consumerSecretPattern, i);
+            HttpRequest request = HttpRequest.newBuilder(tokenEndpoint)
+                    .timeout(configuration.getTimeout())
+                    .header("Authorization", "Basic " + Base64.getEncoder()
+                            .encodeToString(clientCredentials.getBytes(StandardCharsets.UTF_8)))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+            if (response.statusCode() != 200 || !matcher.find()) {
+                throw new IOException("Could not obtain an access token for " + expand(consumerKeyPattern, i)
+                        + ". Token endpoint responded with " + response.statusCode() + ": " + response.body());
+            }
+            accessTokens.add(matcher.group(1));
+        }
+        return accessTokens;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Open model load driver for the gateway. Requests are started at a constant arrival rate whatever the number of
+ * requests still in flight, as clients of a public API do, and are sent asynchronously over a small number of threads
+ * so that the rate does not depend on the number of simulated clients. Response times are recorded in HdrHistograms
+ * from the time each request was due, see {@link LoadStatistics}.
+ * <p>
+ * A scenario is a properties file, whose keys can be overridden on the command line:
+ * <pre>
+ * java -jar load-driver.jar scenarios/oauth.properties rate=2000 duration=300
+ * </pre>
+ * When {@code stub.port} is set, a {@link StubBackend} is started in the same process to serve as the endpoint of the
+ * APIs under test, so the gateway can be profiled fully offline. Without a {@code target.url}, the requests are sent
+ * to the stub backend directly, which gives the overhead of the driver itself.
+ */
+public class LoadDriver {
+
+    private final LoadDriverConfiguration configuration;
+    private final PrintStream out;
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+    public LoadDriver(LoadDriverConfiguration configuration, PrintStream out) {
+
+        this.configuration = configuration;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length == 0) {
+            System.err.println("Usage: java -jar load-driver.jar [scenario.properties] [key=value ...]");
+            System.exit(1);
+        }
+        new LoadDriver(LoadDriverConfiguration.fromArguments(args), System.out).run();
+    }
+
+    /**
+     * Runs the scenario and prints its results.
+     *
+     * @return the statistics of the requests sent after the warmup
+     * @throws IOException              if the scenario could not be set up
+     * @throws InterruptedException     if interrupted while running
+     * @throws GeneralSecurityException if TLS could not be set up
+     */
+    public LoadStatistics run() throws IOException, InterruptedException, GeneralSecurityException {
+
+        StubBackend stubBackend = startStubBackend();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(configuration.getClientThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "load-driver-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-driver-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            HttpClient client = createClient(clientExecutor);
+            CredentialSource credentials = CredentialSource.create(configuration, client);
+            URI target = stubBackend != null && configuration.getString(LoadDriverConfiguration.TARGET_URL,
+                    null) == null ? URI.create("http://localhost:" + stubBackend.getPort() + "/")
+                    : configuration.getTargetUri();
+            out.printf("Sending %s %s at %.1f requests/s for %d s after a %d s warmup%s%n", configuration.getMethod(),
+                    target, configuration.getRate(), configuration.getDuration().getSeconds(),
+                    configuration.getWarmup().getSeconds(),
+                    credentials == null ? "" : " with " + credentials.size() + " " + configuration.getAuthType()
+                            + " credentials");
+
+            long startNanos = System.nanoTime();
+            long measurementStartNanos = startNanos + configuration.getWarmup().toNanos();
+            long endNanos = measurementStartNanos + configuration.getDuration().toNanos();
+            LoadStatistics statistics = new LoadStatistics(measurementStartNanos);
+            long reportIntervalMillis = configuration.getReportInterval().toMillis();
+            reporter.scheduleAtFixedRate(() -> statistics.reportInterval(out, inFlight.get()), reportIntervalMillis,
+                    reportIntervalMillis, TimeUnit.MILLISECONDS);
+
+            drive(client, target, credentials, statistics, startNanos, endNanos);
+            awaitInFlight();
+            reporter.shutdownNow();
+            reporter.awaitTermination(1, TimeUnit.SECONDS);
+
+            statistics.reportSummary(out, endNanos - measurementStartNanos);
+            if (inFlight.get() > 0) {
+                out.println("Requests still in flight at the end: " + inFlight.get());
+            }
+            Throwable error = firstError.get();
+            if (error != null) {
+                out.println("First request error: " + error);
+            }
+            writeHistogram(statistics);
+            return statistics;
+        } finally {
+            reporter.shutdownNow();
+            clientExecutor.shutdownNow();
+            if (stubBackend != null) {
+                out.println("Stub backend answered " + stubBackend.getServed() + " requests");
+                stubBackend.close();
+            }
+        }
+    }
+
+    private void drive(HttpClient client, URI target, CredentialSource credentials, LoadStatistics statistics,
+                       long startNanos, long endNanos) throws IOException, InterruptedException {
+
+        String method = configuration.getMethod();
+        byte[] body = configuration.getBody();
+        Map<String, String> headers = configuration.getHeaders();
+        String authHeader = configuration.getAuthHeader();
+        String authPrefix = configuration.getAuthType().getPrefix();
+        int maxInFlight = configuration.getMaxInFlight();
+        long timeoutNanos = configuration.getTimeout().toNanos();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / configuration.getRate();
+
+        for (long i = 0; ; i++) {
+            long dueNanos = startNanos + (long) (i * intervalNanos);
+            if (dueNanos >= endNanos) {
+                return;
+            }
+            long now;
+            while ((now = System.nanoTime()) < dueNanos) {
+                LockSupport.parkNanos(dueNanos - now);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while sending requests");
+            }
+            if (inFlight.get() >= maxInFlight) {
+                statistics.recordDropped(dueNanos, timeoutNanos);
+                continue;
+            }
+            HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                    .timeout(configuration.getTimeout())
+                    .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(body));
+            headers.forEach(builder::header);
+            if (credentials != null) {
+                builder.header(authHeader, authPrefix + credentials.next());
+            }
+            send(client, builder.build(), dueNanos, statistics);
+        }
+    }
+
+    private void send(HttpClient client, HttpRequest request, long dueNanos, LoadStatistics statistics) {
+
+        inFlight.incrementAndGet();
+        long sentNanos = System.nanoTime();
+        CompletableFuture<HttpResponse<Void>> response;
+        try {
+            response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException e) {
+            onCompleted(dueNanos, sentNanos, null, e, statistics);
+            return;
+        }
+        response.whenComplete((completed, error) -> onCompleted(dueNanos, sentNanos, completed, error, statistics));
+    }
+
+    private void onCompleted(long dueNanos, long sentNanos, HttpResponse<Void> response, Throwable error,
+                             LoadStatistics statistics) {
+
+        statistics.recordCompleted(dueNanos, sentNanos, System.nanoTime(), error == null ? response.statusCode() : 0);
+        inFlight.decrementAndGet();
+        if (error != null) {
+            firstError.compareAndSet(null, error);
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+
+        long deadline = System.nanoTime() + configuration.getTimeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private StubBackend startStubBackend() throws IOException {
+
+        String port = configuration.getString(LoadDriverConfiguration.STUB_PORT, null);
+        if (port == null) {
+            return null;
+        }
+        StubBackend stubBackend = StubBackend.start(Integer.parseInt(port),
+                (int) configuration.getLong(LoadDriverConfiguration.STUB_RESPONSE_SIZE, 1024),
+                configuration.getLong(LoadDriverConfiguration.STUB_DELAY, 0),
+                (int) configuration.getLong(LoadDriverConfiguration.STUB_THREADS, 200));
+        out.println("Stub backend listening on port " + stubBackend.getPort());
+        return stubBackend;
+    }
+
+    private HttpClient createClient(ExecutorService executor) throws GeneralSecurityException {
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(configuration.getTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor);
+        if (configuration.isTrustAll()) {
+            // only for test deployments with self signed certificates
+            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{new TrustAllManager()}, new SecureRandom());
+            builder.sslContext(sslContext);
+        }
+        return builder.build();
+    }
+
+    private void writeHistogram(LoadStatistics statistics) throws IOException {
+
+        String histogramFile = configuration.getString(LoadDriverConfiguration.HISTOGRAM_FILE, null);
+        if (histogramFile == null) {
+            return;
+        }
+        try (PrintStream histogram = new PrintStream(Files.newOutputStream(Paths.get(histogramFile)), false,
+                StandardCharsets.UTF_8.name())) {
+            statistics.writeResponseTimeDistribution(histogram);
+        }
+        out.println("Response time distribution written to " + histogramFile);
+    }
+
+    private static class TrustAllManager implements X509TrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Scenario of a load test, read from a properties file and overridden by {@code key=value} arguments. See the
+ * scenarios directory of this module for the supported keys.
+ */
+public class LoadDriverConfiguration {
+
+    static final String TARGET_URL = "target.url";
+    static final String TARGET_METHOD = "target.method";
+    static final String TARGET_BODY_FILE = "target.body.file";
+    static final String HEADER_PREFIX = "header.";
+    static final String RATE = "rate";
+    static final String WARMUP = "warmup";
+    static final String DURATION = "duration";
+    static final String TIMEOUT = "timeout";
+    static final String MAX_IN_FLIGHT = "maxInFlight";
+    static final String CLIENT_THREADS = "client.threads";
+    static final String REPORT_INTERVAL = "report.interval";
+    static final String HISTOGRAM_FILE = "histogram.file";
+    static final String AUTH_TYPE = "auth.type";
+    static final String AUTH_HEADER = "auth.header";
+    static final String CREDENTIALS_FILE = "credentials.file";
+    static final String CREDENTIALS_PATTERN = "credentials.pattern";
+    static final String CREDENTIALS_FROM = "credentials.from";
+    static final String CREDENTIALS_TO = "credentials.to";
+    static final String TOKEN_ENDPOINT = "oauth.tokenEndpoint";
+    static final String CONSUMER_KEY_PATTERN = "oauth.consumerKeyPattern";
+    static final String CONSUMER_SECRET_PATTERN = "oauth.consumerSecretPattern";
+    static final String TOKEN_SCOPE = "oauth.scope";
+    static final String TLS_TRUST_ALL = "tls.trustAll";
+    static final String STUB_PORT = "stub.port";
+    static final String STUB_RESPONSE_SIZE = "stub.responseSize";
+    static final String STUB_DELAY = "stub.delay";
+    static final String STUB_THREADS = "stub.threads";
+
+    private final Properties properties;
+
+    public LoadDriverConfiguration(Properties properties) {
+
+        this.properties = properties;
+    }
+
+    /**
+     * Reads the configuration from the command line arguments: an optional scenario file followed by {@code key=value}
+     * overrides.
+     *
+     * @param args command line arguments
+     * @return the configuration
+     * @throws IOException if the scenario file could not be read
+     */
+    public static LoadDriverConfiguration fromArguments(String[] args) throws IOException {
+
+        Properties properties = new Properties();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                properties.setProperty(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+            } else {
+                Properties scenario = new Properties();
+                try (Reader reader = Files.newBufferedReader(Paths.get(arg), StandardCharsets.UTF_8)) {
+                    scenario.load(reader);
+                }
+                // overrides given before the file still take precedence
+                for (String key : scenario.stringPropertyNames()) {
+                    properties.putIfAbsent(key, scenario.getProperty(key));
+                }
+            }
+        }
+        return new LoadDriverConfiguration(properties);
+    }
+
+    public URI getTargetUri() {
+
+        return URI.create(getString(TARGET_URL, "http://localhost:8280/pizzashack/1.0.0/menu"));
+    }
+
+    public String getMethod() {
+
+        return getString(TARGET_METHOD, "GET").toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * @return body of the requests, or null if the requests have no body
+     * @throws IOException if the body file could not be read
+     */
+    public byte[] getBody() throws IOException {
+
+        String bodyFile = getString(TARGET_BODY_FILE, null);
+        return bodyFile == null ? null : Files.readAllBytes(Paths.get(bodyFile));
+    }
+
+    /**
+     * @return headers added to every request, given as {@code header.<name>=<value>}
+     */
+    public Map<String, String> getHeaders() {
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(HEADER_PREFIX)) {
+                headers.put(key.substring(HEADER_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * @return number of requests to start per second, regardless of how many are still in flight
+     */
+    public double getRate() {
+
+        double rate = Double.parseDouble(getString(RATE, "100"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException(RATE + " has to be greater than zero");
+        }
+        return rate;
+    }
+
+    public Duration getWarmup() {
+
+        return Duration.ofSeconds(getLong(WARMUP, 10));
+    }
+
+    public Duration getDuration() {
+
+        return Duration.ofSeconds(getLong(DURATION, 60));
+    }
+
+    public Duration getTimeout() {
+
+        return Duration.ofMillis(getLong(TIMEOUT, 30000));
+    }
+
+    /**
+     * @return number of requests in flight above which due requests are dropped instead of sent
+     */
+    public int getMaxInFlight() {
+
+        return (int) getLong(MAX_IN_FLIGHT, 10000);
+    }
+
+    public int getClientThreads() {
+
+        return (int) getLong(CLIENT_THREADS, Runtime.getRuntime().availableProcessors());
+    }
+
+    public Duration getReportInterval() {
+
+        return Duration.ofSeconds(getLong(REPORT_INTERVAL, 5));
+    }
+
+    public AuthType getAuthType() {
+
+        return AuthType.valueOf(getString(AUTH_TYPE, AuthType.NONE.name()).toUpperCase(Locale.ENGLISH));
+    }
+
+    public String getAuthHeader() {
+
+        return getString(AUTH_HEADER, getAuthType().getDefaultHeader());
+    }
+
+    public boolean isTrustAll() {
+
+        return Boolean.parseBoolean(getString(TLS_TRUST_ALL, "false"));
+    }
+
+    public String getString(String key, String defaultValue) {
+
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public long getLong(String key, long defaultValue) {
+
+        String value = getString(key, null);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    /**
+     * How the requests are authenticated at the gateway.
+     */
+    public enum AuthType {
+
+        NONE(null, null),
+        OAUTH("Authorization", "Bearer "),
+        JWT("Authorization", "Bearer "),
+        APIKEY("apikey", "");
+
+        private final String defaultHeader;
+        private final String prefix;
+
+        AuthType(String defaultHeader, String prefix) {
+
+            this.defaultHeader = defaultHeader;
+            this.prefix = prefix;
+        }
+
+        public String getDefaultHeader() {
+
+            return defaultHeader;
+        }
+
+        public String getPrefix() {
+
+            return prefix;
+        }
+    }
+}
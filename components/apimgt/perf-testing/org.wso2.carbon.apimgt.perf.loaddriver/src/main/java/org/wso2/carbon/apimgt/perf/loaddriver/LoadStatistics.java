@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of the requests of a load test. The response time of a request is measured from the time it
+ * was due to be sent by the arrival schedule, so a slow system under test is not hidden by requests that are sent
+ * late (coordinated omission), while the service time is measured from the time the request was actually sent.
+ * A request which is not sent as too many requests are in flight is recorded in the response times at the request
+ * timeout, as it would have failed no sooner than that, so that dropping requests does not improve the latencies.
+ * Only requests due after the end of the warmup are counted.
+ */
+public class LoadStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9, 99.99};
+
+    private final Recorder responseTimeRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder serviceTimeRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram responseTimes = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram serviceTimes = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final long measurementStartNanos;
+    private Histogram intervalResponseTimes;
+
+    /**
+     * @param measurementStartNanos {@link System#nanoTime()} at which the warmup ends
+     */
+    public LoadStatistics(long measurementStartNanos) {
+
+        this.measurementStartNanos = measurementStartNanos;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param dueNanos       time the request was due to be sent
+     * @param sentNanos      time the request was sent
+     * @param completedNanos time the response was received or the request failed
+     * @param statusCode     status code of the response, or 0 if the request failed without a response
+     */
+    public void recordCompleted(long dueNanos, long sentNanos, long completedNanos, int statusCode) {
+
+        if (dueNanos < measurementStartNanos) {
+            return;
+        }
+        responseTimeRecorder.recordValue(toMicros(completedNanos - dueNanos));
+        serviceTimeRecorder.recordValue(toMicros(completedNanos - sentNanos));
+        if (statusCode == 0) {
+            errors.increment();
+        } else {
+            statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Records a request which was not sent as too many requests were in flight.
+     *
+     * @param dueNanos     time the request was due to be sent
+     * @param timeoutNanos request timeout, recorded as the response time of the request
+     */
+    public void recordDropped(long dueNanos, long timeoutNanos) {
+
+        if (dueNanos < measurementStartNanos) {
+            return;
+        }
+        responseTimeRecorder.recordValue(toMicros(timeoutNanos));
+        dropped.increment();
+    }
+
+    /**
+     * Moves the latencies recorded since the last call to the totals and prints a summary of them.
+     *
+     * @param out      stream to print to
+     * @param inFlight number of requests in flight
+     */
+    public synchronized void reportInterval(PrintStream out, long inFlight) {
+
+        collectInterval();
+        if (intervalResponseTimes.getTotalCount() == 0) {
+            out.printf("completed=0 inFlight=%d%n", inFlight);
+            return;
+        }
+        out.printf("recorded=%d inFlight=%d p50=%.2fms p99=%.2fms max=%.2fms totalErrors=%d totalDropped=%d%n",
+                intervalResponseTimes.getTotalCount(), inFlight,
+                toMillis(intervalResponseTimes.getValueAtPercentile(50)),
+                toMillis(intervalResponseTimes.getValueAtPercentile(99)),
+                toMillis(intervalResponseTimes.getMaxValue()), errors.sum(), dropped.sum());
+    }
+
+    /**
+     * Prints the totals of the load test.
+     *
+     * @param out           stream to print to
+     * @param durationNanos length of the measured part of the test
+     */
+    public synchronized void reportSummary(PrintStream out, long durationNanos) {
+
+        collectInterval();
+        long completed = responseTimes.getTotalCount() - dropped.sum();
+        double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("%nRequests completed: %d, errors: %d, dropped: %d%n", completed, errors.sum(), dropped.sum());
+        out.printf("Throughput: %.1f requests/s over %.1f s%n", completed / seconds, seconds);
+        for (Map.Entry<Integer, Long> statusCode : getStatusCodes().entrySet()) {
+            out.printf("  HTTP %d: %d%n", statusCode.getKey(), statusCode.getValue());
+        }
+        printPercentiles(out, "Response time", responseTimes);
+        printPercentiles(out, "Service time", serviceTimes);
+    }
+
+    /**
+     * Prints the full percentile distribution of the response times in milliseconds, in the format read by the
+     * HdrHistogram plotting tools.
+     *
+     * @param out stream to print to
+     */
+    public synchronized void writeResponseTimeDistribution(PrintStream out) {
+
+        responseTimes.outputPercentileDistribution(out, 1000.0);
+    }
+
+    public synchronized Histogram getResponseTimes() {
+
+        return responseTimes.copy();
+    }
+
+    public Map<Integer, Long> getStatusCodes() {
+
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCodes.forEach((statusCode, count) -> counts.put(statusCode, count.sum()));
+        return counts;
+    }
+
+    public long getErrors() {
+
+        return errors.sum();
+    }
+
+    public long getDropped() {
+
+        return dropped.sum();
+    }
+
+    private void collectInterval() {
+
+        intervalResponseTimes = responseTimeRecorder.getIntervalHistogram(intervalResponseTimes);
+        responseTimes.add(intervalResponseTimes);
+        serviceTimes.add(serviceTimeRecorder.getIntervalHistogram());
+    }
+
+    private static void printPercentiles(PrintStream out, String name, Histogram histogram) {
+
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        StringBuilder line = new StringBuilder(name).append(" (ms):");
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(" p%s=%.2f", formatPercentile(percentile),
+                    toMillis(histogram.getValueAtPercentile(percentile))));
+        }
+        line.append(String.format(" max=%.2f", toMillis(histogram.getMaxValue())));
+        out.println(line);
+    }
+
+    private static String formatPercentile(double percentile) {
+
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    private static long toMicros(long nanos) {
+
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static double toMillis(long micros) {
+
+        return micros / 1000.0;
+    }
+}
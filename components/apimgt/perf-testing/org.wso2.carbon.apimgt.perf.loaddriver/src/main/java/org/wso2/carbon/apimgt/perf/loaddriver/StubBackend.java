@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backend answering every request with a fixed JSON payload after an optional delay, to be used as the endpoint of
+ * the APIs under test so that the gateway can be profiled without any real backend or network dependency.
+ * <pre>
+ * java -cp load-driver.jar org.wso2.carbon.apimgt.perf.loaddriver.StubBackend [port] [responseSize] [delayMillis]
+ * </pre>
+ */
+public class StubBackend implements AutoCloseable {
+
+    private static final int DEFAULT_PORT = 8688;
+    private static final int DEFAULT_RESPONSE_SIZE = 1024;
+    private static final int DEFAULT_THREADS = 200;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] response;
+    private final long delayMillis;
+    private final AtomicLong served = new AtomicLong();
+
+    private StubBackend(HttpServer server, ExecutorService executor, int responseSize, long delayMillis) {
+
+        this.server = server;
+        this.executor = executor;
+        this.response = payload(responseSize);
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Starts a stub backend.
+     *
+     * @param port         port to listen on, or 0 for any free port
+     * @param responseSize approximate size of the response payload in bytes
+     * @param delayMillis  time to wait before responding, to stand in for the processing time of a backend
+     * @param threads      number of threads serving requests, which bounds the number of delayed requests in progress
+     * @return the started backend
+     * @throws IOException if the port could not be bound
+     */
+    public static StubBackend start(int port, int responseSize, long delayMillis, int threads) throws IOException {
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-backend-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        StubBackend backend = new StubBackend(server, executor, responseSize, delayMillis);
+        server.createContext("/", backend::handle);
+        server.setExecutor(executor);
+        server.start();
+        return backend;
+    }
+
+    public int getPort() {
+
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return number of requests answered
+     */
+    public long getServed() {
+
+        return served.get();
+    }
+
+    @Override
+    public void close() {
+
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (requestBody.read(buffer) != -1) {
+                // the request body is discarded
+            }
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+            served.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static byte[] payload(int size) {
+
+        String prefix = "{\"message\":\"stub backend response\",\"padding\":\"";
+        String suffix = "\"}";
+        char[] padding = new char[Math.max(size - prefix.length() - suffix.length(), 0)];
+        Arrays.fill(padding, 'x');
+        return (prefix + new String(padding) + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int responseSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RESPONSE_SIZE;
+        long delayMillis = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        StubBackend backend = start(port, responseSize, delayMillis, DEFAULT_THREADS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("Stub backend answered " + backend.getServed() + " requests");
+            backend.close();
+        }));
+        System.out.println("Stub backend listening on port " + backend.getPort() + " with " + responseSize
+                + " byte responses and " + delayMillis + " ms delay");
+        // serve until the process is stopped
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.perf.loaddriver;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+public class LoadDriverTest {
+
+    @Test
+    public void testRunAgainstStubBackend() throws Exception {
+
+        Properties properties = new Properties();
+        properties.setProperty(LoadDriverConfiguration.STUB_PORT, "0");
+        properties.setProperty(LoadDriverConfiguration.RATE, "200");
+        properties.setProperty(LoadDriverConfiguration.WARMUP, "0");
+        properties.setProperty(LoadDriverConfiguration.DURATION, "1");
+        properties.setProperty(LoadDriverConfiguration.REPORT_INTERVAL, "1");
+        properties.setProperty(LoadDriverConfiguration.AUTH_TYPE, "apikey");
+        properties.setProperty(LoadDriverConfiguration.CREDENTIALS_PATTERN, "developer{n}_key");
+        properties.setProperty(LoadDriverConfiguration.CREDENTIALS_TO, "10");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LoadStatistics statistics = new LoadDriver(new LoadDriverConfiguration(properties),
+                new PrintStream(output, true, "UTF-8")).run();
+
+        Assert.assertEquals(0, statistics.getErrors());
+        Assert.assertEquals(0, statistics.getDropped());
+        Assert.assertEquals(Long.valueOf(200), statistics.getStatusCodes().get(200));
+        Assert.assertEquals(200, statistics.getResponseTimes().getTotalCount());
+    }
+
+    @Test
+    public void testDroppedRequestsAreRecordedAtTheTimeout() throws Exception {
+
+        LoadStatistics statistics = new LoadStatistics(0);
+        statistics.recordCompleted(0, 0, TimeUnit.MILLISECONDS.toNanos(5), 200);
+        statistics.recordDropped(0, TimeUnit.SECONDS.toNanos(30));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        statistics.reportSummary(new PrintStream(output, true, "UTF-8"), TimeUnit.SECONDS.toNanos(1));
+
+        Assert.assertEquals(1, statistics.getDropped());
+        Assert.assertEquals(2, statistics.getResponseTimes().getTotalCount());
+        Assert.assertEquals(30000, statistics.getResponseTimes().getMaxValue() / 1000.0, 30);
+        Assert.assertTrue(output.toString("UTF-8").contains("Requests completed: 1, errors: 0, dropped: 1"));
+    }
+
+    @Test
+    public void testCredentialsAreUsedInTurn() {
+
+        CredentialSource credentials = new CredentialSource(Arrays.asList(
+                CredentialSource.expand("developer{n}_token", 1), CredentialSource.expand("developer{n}_token", 2)));
+
+        Assert.assertEquals(2, credentials.size());
+        Assert.assertEquals("developer1_token", credentials.next());
+        Assert.assertEquals("developer2_token", credentials.next());
+        Assert.assertEquals("developer1_token", credentials.next());
+    }
+
+    @Test
+    public void testArgumentsOverrideScenario() throws Exception {
+
+        Path scenario = Files.createTempFile("scenario", ".properties");
+        try {
+            Files.write(scenario, Arrays.asList("rate=50", "auth.type=jwt"));
+            LoadDriverConfiguration configuration = LoadDriverConfiguration.fromArguments(
+                    new String[]{"rate=75", scenario.toString()});
+
+            Assert.assertEquals(75, configuration.getRate(), 0);
+            Assert.assertEquals(LoadDriverConfiguration.AuthType.JWT, configuration.getAuthType());
+            Assert.assertEquals("Authorization", configuration.getAuthHeader());
+        } finally {
+            Files.delete(scenario);
+        }
+    }
+}
@@ -9,7 +9,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.UUID;
 
+/**
+ * Populates the API Manager database of a performance test setup with 1000 developers, each with an application
+ * subscribed to two APIs. The OAuth application of developer {@code n} has the consumer key {@code developer<n>_key}
+ * and the consumer secret {@code developer<n>_secret} and is issued the access token {@code developer<n>_token}.
+ * Each of these applications is also issued the tokens {@code enduser<m>_token} of 100 end users, up to
+ * {@code enduser100000_token}. The key manager has to keep tokens and consumer secrets in plain text, which it does by
+ * default, for these credentials to be accepted.
+ */
 public class SubscriptionPopulator {
     
     public static final String DRIVER = "com.mysql.jdbc.Driver";
@@ -17,6 +26,15 @@ public class SubscriptionPopulator {
     public static final String USER = "root";
     public static final String PASS = "root123";
 
+    private static final int TENANT_ID = -1234;
+    private static final String USER_DOMAIN = "PRIMARY";
+    private static final String KEY_MANAGER = "Resident Key Manager";
+    private static final String DEFAULT_SCOPE = "default";
+    // MD5 of the scope string of the tokens, as the key manager stores it
+    private static final String DEFAULT_SCOPE_HASH = "c21f969b5f03d33d43e04f8f136e7682";
+    // tokens do not expire during a test run
+    private static final long TOKEN_VALIDITY_PERIOD = 365L * 24 * 60 * 60 * 1000;
+
 	public static void main(String[] args) {
 
         try {
@@ -26,6 +44,7 @@ public class SubscriptionPopulator {
             return;
         }
         
+        int[] consumerAppIds = new int[1000];
         for (int i = 0; i < 1000; i++) {
             String userId = "developer" + (i + 1);
             System.out.println("Adding metadata for user: " + userId);
@@ -33,7 +52,7 @@ public class SubscriptionPopulator {
             int applicationId = addApplication("Application" + (i + 1), subscriberId);
             addSubscription(applicationId, i + 1);
             addSubscription(applicationId, i + 1 + 1000);
-            addKey(userId, applicationId);
+            consumerAppIds[i] = addKey(userId, applicationId);
         }
 
         int userIndex = 0;
@@ -41,79 +60,112 @@ public class SubscriptionPopulator {
             for (int j = 0; j < 100; j++) {
                 String userId = "enduser" + (userIndex + 1);
                 System.out.println("Adding key for end user: " + userId);
-                addUserKey("developer" + (i+1) + "_key", userId);
+                if (consumerAppIds[i] != -1) {
+                    addUserKey(consumerAppIds[i], userId);
+                }
                 userIndex++;
             }
         }
 	}
- // IDENT UNUSED
-//    public static void addUserKey(String consumerKey, String userId) {
-//        String INSERT_TOKEN_SQL = "INSERT" +
-//                " INTO IDN_OAUTH2_ACCESS_TOKEN (ACCESS_TOKEN, CONSUMER_KEY, TOKEN_STATE, TOKEN_SCOPE_HASH, AUTHZ_USER) " +
-//                " VALUES (?,?,?,?,?)";
-//        Connection conn = null;
-//        PreparedStatement stmt = null;
-//        ResultSet rs = null;
-//
-//        try {
-//            conn = DriverManager.getConnection(URL, USER, PASS);
-//            stmt = conn.prepareStatement(INSERT_TOKEN_SQL);
-//            stmt.setString(1, userId + "_token");
-//            stmt.setString(2, consumerKey);
-//            stmt.setString(3, "ACTIVE");
-//            stmt.setString(4, "PRODUCTION");
-//            stmt.setString(5, userId);
-//            stmt.execute();
-//        } catch (SQLException e)  {
-//            e.printStackTrace();
-//        } finally {
-//            closeConnection(conn, stmt, rs);
-//        }
-//    }
-//
-//    public static void addKey(String userId, int applicationId) {
-//        String INSERT_CONSUMER_APP_SQL = "INSERT INTO IDN_OAUTH_CONSUMER_APPS " +
-//                "(CONSUMER_KEY, CONSUMER_SECRET, USERNAME, TENANT_ID, OAUTH_VERSION) VALUES (?,?,?,?,?) ";
-//        String INSERT_TOKEN_SQL = "INSERT" +
-//                " INTO IDN_OAUTH2_ACCESS_TOKEN (ACCESS_TOKEN, CONSUMER_KEY, TOKEN_STATE, TOKEN_SCOPE_HASH, AUTHZ_USER) " +
-//                " VALUES (?,?,?,?,?)";
-//        String INSERT_MAPPING_SQL = "INSERT " +
-//                "INTO AM_APPLICATION_KEY_MAPPING (APPLICATION_ID, CONSUMER_KEY, KEY_TYPE) " +
-//                "VALUES (?,?,?)";
-//        Connection conn = null;
-//        PreparedStatement stmt = null;
-//        ResultSet rs = null;
-//
-//        try {
-//            conn = DriverManager.getConnection(URL, USER, PASS);
-//            //conn.setAutoCommit(false);
-//            stmt = conn.prepareStatement(INSERT_CONSUMER_APP_SQL);
-//            stmt.setString(1, userId + "_key");
-//            stmt.setString(2, userId + "_secret");
-//            stmt.setString(3, userId);
-//            stmt.setInt(4, -1234);
-//            stmt.setString(5, "OAuth-1.0a");
-//            stmt.execute();
-//
-//            stmt = conn.prepareStatement(INSERT_TOKEN_SQL);
-//            stmt.setString(1, userId + "_token");
-//            stmt.setString(2, userId + "_key");
-//            stmt.setString(3, "ACTIVE");
-//            stmt.setString(4, "PRODUCTION");
-//            stmt.setString(5, userId);
-//            stmt.execute();
-//
-//            stmt = conn.prepareStatement(INSERT_MAPPING_SQL);
-//            stmt.setInt(1, applicationId);
-//            stmt.setString(2, userId + "_key");
-//            stmt.setString(3, "PRODUCTION");
-//            stmt.execute();
-//        } catch (SQLException e) {
-//            e.printStackTrace();
-//        } finally {
-//            closeConnection(conn, stmt, rs);
-//        }
-//    }
+    /**
+     * Registers the OAuth application of a developer with the consumer key {@code <userId>_key} and the consumer secret
+     * {@code <userId>_secret}, issues the access token {@code <userId>_token} to it and maps it as the production key
+     * of the given application.
+     *
+     * @return ID of the OAuth application, or -1 if it could not be added
+     */
+    public static int addKey(String userId, int applicationId) {
+        String INSERT_CONSUMER_APP_SQL = "INSERT INTO IDN_OAUTH_CONSUMER_APPS " +
+                "(CONSUMER_KEY, CONSUMER_SECRET, USERNAME, TENANT_ID, USER_DOMAIN, APP_NAME, OAUTH_VERSION, " +
+                "GRANT_TYPES) VALUES (?,?,?,?,?,?,?,?)";
+        String INSERT_MAPPING_SQL = "INSERT INTO AM_APPLICATION_KEY_MAPPING " +
+                "(UUID, APPLICATION_ID, CONSUMER_KEY, KEY_TYPE, STATE, KEY_MANAGER) VALUES (?,?,?,?,?,?)";
+        int consumerAppId = -1;
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DriverManager.getConnection(URL, USER, PASS);
+            stmt = conn.prepareStatement(INSERT_CONSUMER_APP_SQL, new String[]{"ID"});
+            stmt.setString(1, userId + "_key");
+            stmt.setString(2, userId + "_secret");
+            stmt.setString(3, userId);
+            stmt.setInt(4, TENANT_ID);
+            stmt.setString(5, USER_DOMAIN);
+            stmt.setString(6, userId + "_Application");
+            stmt.setString(7, "OAuth-2.0");
+            stmt.setString(8, "client_credentials password refresh_token");
+            stmt.execute();
+            rs = stmt.getGeneratedKeys();
+            if (rs.next()) {
+                consumerAppId = rs.getInt(1);
+            }
+            rs.close();
+            stmt.close();
+
+            stmt = conn.prepareStatement(INSERT_MAPPING_SQL);
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setInt(2, applicationId);
+            stmt.setString(3, userId + "_key");
+            stmt.setString(4, "PRODUCTION");
+            stmt.setString(5, "COMPLETED");
+            stmt.setString(6, KEY_MANAGER);
+            stmt.execute();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            closeConnection(conn, stmt, rs);
+        }
+        if (consumerAppId != -1) {
+            addUserKey(consumerAppId, userId);
+        }
+        return consumerAppId;
+    }
+
+    /**
+     * Issues the access token {@code <userId>_token} of a user to an OAuth application, with the default scope.
+     */
+    public static void addUserKey(int consumerAppId, String userId) {
+        String INSERT_TOKEN_SQL = "INSERT INTO IDN_OAUTH2_ACCESS_TOKEN " +
+                "(TOKEN_ID, ACCESS_TOKEN, CONSUMER_KEY_ID, AUTHZ_USER, TENANT_ID, USER_DOMAIN, USER_TYPE, " +
+                "GRANT_TYPE, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, TOKEN_SCOPE_HASH, TOKEN_STATE) " +
+                "VALUES (?,?,?,?,?,?,?,?,?,?,?,?)";
+        String INSERT_TOKEN_SCOPE_SQL = "INSERT INTO IDN_OAUTH2_ACCESS_TOKEN_SCOPE " +
+                "(TOKEN_ID, TOKEN_SCOPE, TENANT_ID) VALUES (?,?,?)";
+        String tokenId = UUID.randomUUID().toString();
+        Connection conn = null;
+        PreparedStatement stmt = null;
+
+        try {
+            conn = DriverManager.getConnection(URL, USER, PASS);
+            stmt = conn.prepareStatement(INSERT_TOKEN_SQL);
+            stmt.setString(1, tokenId);
+            stmt.setString(2, userId + "_token");
+            stmt.setInt(3, consumerAppId);
+            stmt.setString(4, userId);
+            stmt.setInt(5, TENANT_ID);
+            stmt.setString(6, USER_DOMAIN);
+            stmt.setString(7, "APPLICATION_USER");
+            stmt.setString(8, "password");
+            stmt.setLong(9, TOKEN_VALIDITY_PERIOD);
+            stmt.setLong(10, TOKEN_VALIDITY_PERIOD);
+            stmt.setString(11, DEFAULT_SCOPE_HASH);
+            stmt.setString(12, "ACTIVE");
+            stmt.execute();
+            stmt.close();
+
+            stmt = conn.prepareStatement(INSERT_TOKEN_SCOPE_SQL);
+            stmt.setString(1, tokenId);
+            stmt.setString(2, DEFAULT_SCOPE);
+            stmt.setInt(3, TENANT_ID);
+            stmt.execute();
+        } catch (SQLException e)  {
+            e.printStackTrace();
+        } finally {
+            closeConnection(conn, stmt, null);
+        }
+    }
 
     public static int addSubscription(int applicationId, int apiId) {
         int subscriptionId = -1;
@@ -39,7 +39,12 @@ import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.validator.Validator;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -54,6 +59,20 @@ import java.util.Map;
 )
 public class SpectralValidationEngine implements ValidationEngine {
     private static final Log log = LogFactory.getLog(SpectralValidationEngine.class);
+    private static final int VALIDATION_RESULT_CACHE_SIZE = 1000;
+
+    /**
+     * Raw validation results keyed by the digests of the ruleset content and the validated target, so that an
+     * unchanged artifact is not linted again against an unchanged ruleset. Results are kept as the JSON returned by
+     * the validator so that callers always receive rule violations of their own.
+     */
+    private final Map<String, String> validationResults = Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > VALIDATION_RESULT_CACHE_SIZE;
+                }
+            });
 
     /**
      * Check if a ruleset is valid
@@ -160,13 +179,17 @@ public class SpectralValidationEngine implements ValidationEngine {
     public List<RuleViolation> validate(String target, Ruleset ruleset) throws APIMGovernanceException {
 
         try {
-            RulesetContent rulesetContent = ruleset.getRulesetContent();
-            String rulesetContentString = new String(rulesetContent.getContent(),
-                    StandardCharsets.UTF_8);
-
-            String resultJson = Validator.validateDocument(target, rulesetContentString);
-            if (log.isDebugEnabled()) {
-                log.debug("Validation success for target: " + target);
+            byte[] rulesetContent = ruleset.getRulesetContent().getContent();
+            String resultKey = digest(rulesetContent) + ':' + digest(target.getBytes(StandardCharsets.UTF_8));
+            String resultJson = validationResults.get(resultKey);
+            if (resultJson == null) {
+                resultJson = Validator.validateDocument(target, new String(rulesetContent, StandardCharsets.UTF_8));
+                validationResults.put(resultKey, resultJson);
+                if (log.isDebugEnabled()) {
+                    log.debug("Validation success for target: " + target);
+                }
+            } else if (log.isDebugEnabled()) {
+                log.debug("Reusing validation result of unchanged target against ruleset " + ruleset.getId());
             }
             return getRuleViolationsFromJsonResponse(resultJson, ruleset);
         } catch (InvalidRulesetException | InvalidContentTypeException e) {
@@ -178,6 +201,17 @@ public class SpectralValidationEngine implements ValidationEngine {
     }
 
 
+    /**
+     * Get the SHA-256 digest of content
+     *
+     * @param content Content
+     * @return Base64 encoded digest
+     * @throws NoSuchAlgorithmException If SHA-256 is not supported
+     */
+    private static String digest(byte[] content) throws NoSuchAlgorithmException {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
     /**
      * Get Rule Violations from a JSON response
      *
@@ -1252,3 +1252,14 @@ CREATE OR REPLACE TRIGGER AM_GW_INSTANCES_TRIG
                 SELECT AM_GW_INSTANCES_SEQ.nextval INTO :NEW.GATEWAY_ID FROM dual;
               END;
 /
+CREATE SEQUENCE AM_SUBSCRIPTION_DATA_CHANGE_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE OR REPLACE TRIGGER AM_SUBSCRIPTION_DATA_CHANGE_TRIG
+            BEFORE INSERT
+            ON AM_SUBSCRIPTION_DATA_CHANGE
+            REFERENCING NEW AS NEW
+            FOR EACH ROW
+              BEGIN
+                SELECT AM_SUBSCRIPTION_DATA_CHANGE_SEQ.nextval INTO :NEW.CHANGE_ID FROM dual;
+              END;
+/
@@ -2485,6 +2485,49 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 )
 /
+
+CREATE TABLE AM_SUBSCRIPTION_DATA_CHANGE (
+    CHANGE_ID NUMBER(19) NOT NULL,
+    TENANT_DOMAIN VARCHAR2(255) NOT NULL,
+    EVENT_TYPE VARCHAR2(100) NOT NULL,
+    EVENT BLOB,
+    CHANGED_TIME NUMBER(19) NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+)
+/
+create index IDX_ASDC_TENANT_CHANGE on AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, CHANGE_ID)
+/
+
+CREATE TABLE AM_API_LISTING (
+    API_UUID VARCHAR2(256) NOT NULL,
+    ORGANIZATION VARCHAR2(100) NOT NULL,
+    API_TYPE VARCHAR2(10),
+    API_NAME VARCHAR2(256) NOT NULL,
+    API_VERSION VARCHAR2(30) NOT NULL,
+    VERSION_COMPARABLE VARCHAR2(15),
+    CONTEXT VARCHAR2(256),
+    API_PROVIDER VARCHAR2(256),
+    STATUS VARCHAR2(30),
+    VISIBILITY VARCHAR2(30),
+    ENABLE_STORE INTEGER DEFAULT 1,
+    THUMBNAIL_URL VARCHAR2(1024),
+    RATING_TOTAL INTEGER DEFAULT 0,
+    RATING_COUNT INTEGER DEFAULT 0,
+    LISTING_INFO BLOB,
+    UPDATED_TIME NUMBER(19) NOT NULL,
+    PRIMARY KEY (API_UUID)
+)
+/
+
+CREATE TABLE AM_API_LISTING_FILTER (
+    API_UUID VARCHAR2(256) NOT NULL,
+    FILTER_TYPE VARCHAR2(20) NOT NULL,
+    FILTER_VALUE VARCHAR2(255) NOT NULL,
+    PRIMARY KEY (API_UUID, FILTER_TYPE, FILTER_VALUE)
+)
+/
+create index IDX_AAL_ORG_NAME on AM_API_LISTING (ORGANIZATION, API_NAME)
+/
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
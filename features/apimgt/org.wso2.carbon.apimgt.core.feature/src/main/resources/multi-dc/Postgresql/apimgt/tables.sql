@@ -3049,6 +3049,48 @@ CREATE TABLE IF NOT EXISTS AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 );
 
+DROP TABLE IF EXISTS AM_SUBSCRIPTION_DATA_CHANGE;
+CREATE SEQUENCE AM_SUBSCRIPTION_DATA_CHANGE_SEQ START WITH 1 INCREMENT BY 1;
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_DATA_CHANGE (
+    CHANGE_ID BIGINT DEFAULT NEXTVAL('AM_SUBSCRIPTION_DATA_CHANGE_SEQ'),
+    TENANT_DOMAIN VARCHAR(255) NOT NULL,
+    EVENT_TYPE VARCHAR(100) NOT NULL,
+    EVENT BYTEA,
+    CHANGED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+);
+create index IDX_ASDC_TENANT_CHANGE on AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, CHANGE_ID);
+
+DROP TABLE IF EXISTS AM_API_LISTING;
+CREATE TABLE IF NOT EXISTS AM_API_LISTING (
+    API_UUID VARCHAR(256) NOT NULL,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    API_TYPE VARCHAR(10),
+    API_NAME VARCHAR(256) NOT NULL,
+    API_VERSION VARCHAR(30) NOT NULL,
+    VERSION_COMPARABLE VARCHAR(15),
+    CONTEXT VARCHAR(256),
+    API_PROVIDER VARCHAR(256),
+    STATUS VARCHAR(30),
+    VISIBILITY VARCHAR(30),
+    ENABLE_STORE INTEGER DEFAULT 1,
+    THUMBNAIL_URL VARCHAR(1024),
+    RATING_TOTAL INTEGER DEFAULT 0,
+    RATING_COUNT INTEGER DEFAULT 0,
+    LISTING_INFO BYTEA,
+    UPDATED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (API_UUID)
+);
+
+DROP TABLE IF EXISTS AM_API_LISTING_FILTER;
+CREATE TABLE IF NOT EXISTS AM_API_LISTING_FILTER (
+    API_UUID VARCHAR(256) NOT NULL,
+    FILTER_TYPE VARCHAR(20) NOT NULL,
+    FILTER_VALUE VARCHAR(255) NOT NULL,
+    PRIMARY KEY (API_UUID, FILTER_TYPE, FILTER_VALUE)
+);
+create index IDX_AAL_ORG_NAME on AM_API_LISTING (ORGANIZATION, API_NAME);
+
 DROP TABLE IF EXISTS AM_LABEL;
 CREATE TABLE IF NOT EXISTS AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
@@ -3433,6 +3433,45 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
 )
 /
 
+CREATE TABLE AM_SUBSCRIPTION_DATA_CHANGE (
+    CHANGE_ID BIGINT NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1 INCREMENT BY 1),
+    TENANT_DOMAIN VARCHAR(255) NOT NULL,
+    EVENT_TYPE VARCHAR(100) NOT NULL,
+    EVENT BLOB,
+    CHANGED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+)
+/
+
+CREATE TABLE AM_API_LISTING (
+    API_UUID VARCHAR(256) NOT NULL,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    API_TYPE VARCHAR(10),
+    API_NAME VARCHAR(256) NOT NULL,
+    API_VERSION VARCHAR(30) NOT NULL,
+    VERSION_COMPARABLE VARCHAR(15),
+    CONTEXT VARCHAR(256),
+    API_PROVIDER VARCHAR(256),
+    STATUS VARCHAR(30),
+    VISIBILITY VARCHAR(30),
+    ENABLE_STORE INTEGER DEFAULT 1,
+    THUMBNAIL_URL VARCHAR(1024),
+    RATING_TOTAL INTEGER DEFAULT 0,
+    RATING_COUNT INTEGER DEFAULT 0,
+    LISTING_INFO BLOB,
+    UPDATED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (API_UUID)
+)
+/
+
+CREATE TABLE AM_API_LISTING_FILTER (
+    API_UUID VARCHAR(256) NOT NULL,
+    FILTER_TYPE VARCHAR(20) NOT NULL,
+    FILTER_VALUE VARCHAR(255) NOT NULL,
+    PRIMARY KEY (API_UUID, FILTER_TYPE, FILTER_VALUE)
+)
+/
+
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
@@ -3679,3 +3718,5 @@ create index IDX_APA_QT on AM_POLICY_APPLICATION (QUOTA_TYPE)/
 create index IDX_AA_AT_CB on AM_APPLICATION (APPLICATION_TIER,CREATED_BY)/
 create index IDX_IAT_TI_CK on IDN_INVALID_TOKENS (TOKEN_IDENTIFIER, CONSUMER_KEY)/
 create index IDX_GW_REV_DEPLOY_STATUS on AM_GW_REVISION_DEPLOYMENT (STATUS, ACTION)/
+create index IDX_ASDC_TENANT_CHANGE on AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, CHANGE_ID)/
+create index IDX_AAL_ORG_NAME on AM_API_LISTING (ORGANIZATION, API_NAME)/
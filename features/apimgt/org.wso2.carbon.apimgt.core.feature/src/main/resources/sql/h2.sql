@@ -2763,6 +2763,42 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 );
 
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_DATA_CHANGE (
+    CHANGE_ID BIGINT NOT NULL AUTO_INCREMENT,
+    TENANT_DOMAIN VARCHAR(255) NOT NULL,
+    EVENT_TYPE VARCHAR(100) NOT NULL,
+    EVENT BLOB,
+    CHANGED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+);
+
+CREATE TABLE IF NOT EXISTS AM_API_LISTING (
+    API_UUID VARCHAR(256) NOT NULL,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    API_TYPE VARCHAR(10),
+    API_NAME VARCHAR(256) NOT NULL,
+    API_VERSION VARCHAR(30) NOT NULL,
+    VERSION_COMPARABLE VARCHAR(15),
+    CONTEXT VARCHAR(256),
+    API_PROVIDER VARCHAR(256),
+    STATUS VARCHAR(30),
+    VISIBILITY VARCHAR(30),
+    ENABLE_STORE INTEGER DEFAULT 1,
+    THUMBNAIL_URL VARCHAR(1024),
+    RATING_TOTAL INTEGER DEFAULT 0,
+    RATING_COUNT INTEGER DEFAULT 0,
+    LISTING_INFO BLOB,
+    UPDATED_TIME BIGINT NOT NULL,
+    PRIMARY KEY (API_UUID)
+);
+
+CREATE TABLE IF NOT EXISTS AM_API_LISTING_FILTER (
+    API_UUID VARCHAR(256) NOT NULL,
+    FILTER_TYPE VARCHAR(20) NOT NULL,
+    FILTER_VALUE VARCHAR(255) NOT NULL,
+    PRIMARY KEY (API_UUID, FILTER_TYPE, FILTER_VALUE)
+);
+
 CREATE TABLE IF NOT EXISTS AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
@@ -2855,5 +2891,7 @@ CREATE UNIQUE INDEX API_NAME_TENANT ON AM_API_THROTTLE_POLICY(NAME, TENANT_ID);
 
 -- AM_GW_REVISION_DEPLOYMENT --
 CREATE INDEX IDX_GW_REV_DEPLOY_STATUS ON AM_GW_REVISION_DEPLOYMENT (STATUS, ACTION);
+CREATE INDEX IDX_ASDC_TENANT_CHANGE ON AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, CHANGE_ID);
+CREATE INDEX IDX_AAL_ORG_NAME ON AM_API_LISTING (ORGANIZATION, API_NAME);
 
 --
@@ -3779,6 +3779,55 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 )
 /
+
+CREATE TABLE AM_SUBSCRIPTION_DATA_CHANGE (
+    CHANGE_ID NUMBER(19) NOT NULL,
+    TENANT_DOMAIN VARCHAR2(255) NOT NULL,
+    EVENT_TYPE VARCHAR2(100) NOT NULL,
+    EVENT BLOB,
+    CHANGED_TIME NUMBER(19) NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+)
+/
+-- Generate ID using sequence and trigger
+CREATE SEQUENCE AM_SUBSCRIPTION_DATA_CHANGE_seq START WITH 1 INCREMENT BY 1 CACHE 20 ORDER
+/
+CREATE OR REPLACE TRIGGER AM_SUBSCRIPTION_DATA_CHANGE_seq_tr
+ BEFORE INSERT ON AM_SUBSCRIPTION_DATA_CHANGE FOR EACH ROW
+ WHEN (NEW.CHANGE_ID IS NULL)
+BEGIN
+ SELECT AM_SUBSCRIPTION_DATA_CHANGE_seq.NEXTVAL INTO :NEW.CHANGE_ID FROM DUAL;
+END;
+/
+
+CREATE TABLE AM_API_LISTING (
+    API_UUID VARCHAR2(256) NOT NULL,
+    ORGANIZATION VARCHAR2(100) NOT NULL,
+    API_TYPE VARCHAR2(10),
+    API_NAME VARCHAR2(256) NOT NULL,
+    API_VERSION VARCHAR2(30) NOT NULL,
+    VERSION_COMPARABLE VARCHAR2(15),
+    CONTEXT VARCHAR2(256),
+    API_PROVIDER VARCHAR2(256),
+    STATUS VARCHAR2(30),
+    VISIBILITY VARCHAR2(30),
+    ENABLE_STORE INTEGER DEFAULT 1,
+    THUMBNAIL_URL VARCHAR2(1024),
+    RATING_TOTAL INTEGER DEFAULT 0,
+    RATING_COUNT INTEGER DEFAULT 0,
+    LISTING_INFO BLOB,
+    UPDATED_TIME NUMBER(19) NOT NULL,
+    PRIMARY KEY (API_UUID)
+)
+/
+
+CREATE TABLE AM_API_LISTING_FILTER (
+    API_UUID VARCHAR2(256) NOT NULL,
+    FILTER_TYPE VARCHAR2(20) NOT NULL,
+    FILTER_VALUE VARCHAR2(255) NOT NULL,
+    PRIMARY KEY (API_UUID, FILTER_TYPE, FILTER_VALUE)
+)
+/
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
@@ -4051,4 +4100,8 @@ create index IDX_IAT_TI_CK on IDN_INVALID_TOKENS (TOKEN_IDENTIFIER, CONSUMER_KEY
 /
 create index IDX_GW_REV_DEPLOY_STATUS on AM_GW_REVISION_DEPLOYMENT (STATUS, ACTION)
 /
+create index IDX_ASDC_TENANT_CHANGE on AM_SUBSCRIPTION_DATA_CHANGE (TENANT_DOMAIN, CHANGE_ID)
+/
+create index IDX_AAL_ORG_NAME on AM_API_LISTING (ORGANIZATION, API_NAME)
+/
 -- Performance indexes end--